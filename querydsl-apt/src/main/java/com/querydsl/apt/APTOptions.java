@@ -56,6 +56,11 @@ public final class APTOptions {
      */
     public static final String QUERYDSL_ENTITY_ACCESSORS = "querydsl.entityAccessors";
 
+    /**
+     * set whether entity field accessors initialize the fields on first access (default: false)
+     */
+    public static final String QUERYDSL_LAZY_ENTITY_ACCESSORS = "querydsl.lazyEntityAccessors";
+
     /**
      * Set whether fields are used as metadata source (default: true)
      */
@@ -96,6 +101,11 @@ public final class APTOptions {
      */
     public static final String QUERYDSL_VARIABLE_NAME_FUNCTION_CLASS = "querydsl.variableNameFunctionClass";
 
+    /**
+     * set whether query types with an unchanged model are left untouched (default: false)
+     */
+    public static final String QUERYDSL_INCREMENTAL = "querydsl.incremental";
+
     private APTOptions() { }
 
 }
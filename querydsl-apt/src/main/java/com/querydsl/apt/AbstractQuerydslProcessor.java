@@ -18,6 +18,7 @@ import java.io.Writer;
 import java.lang.annotation.Annotation;
 import java.util.*;
 
+import javax.annotation.Nullable;
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.SourceVersion;
@@ -44,6 +45,13 @@ import com.querydsl.core.annotations.QueryProjection;
  * {@code AbstractQuerydslProcessor} is the base class for Querydsl annotation processors and
  * contains the main processing logic. The subclasses just provide the configuration.
  *
+ * <p>With the {@link APTOptions#QUERYDSL_INCREMENTAL} option enabled, the fingerprints of the models
+ * of the generated query types are kept in a manifest in the source output location. Query types
+ * whose model is unchanged are neither rendered nor rewritten, if they are still visible to the
+ * compilation, e.g. via the source path or the class path. The option relies on the source output
+ * location being kept between builds; build tools which clean it before each run get no benefit
+ * from it.</p>
+ *
  * @author tiwe
  *
  */
@@ -63,11 +71,23 @@ public abstract class AbstractQuerydslProcessor extends AbstractProcessor {
 
     private Context context;
 
+    @Nullable
+    private SourceManifest manifest;
+
+    private int generated, unchanged;
+
+    private long time;
+
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
         processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Running " + getClass().getSimpleName());
 
-        if (roundEnv.processingOver() || annotations.size() == 0) {
+        if (roundEnv.processingOver()) {
+            finish();
+            return ALLOW_OTHER_PROCESSORS_TO_CLAIM_ANNOTATIONS;
+        }
+
+        if (annotations.size() == 0) {
             return ALLOW_OTHER_PROCESSORS_TO_CLAIM_ANNOTATIONS;
         }
 
@@ -76,8 +96,12 @@ public abstract class AbstractQuerydslProcessor extends AbstractProcessor {
             return ALLOW_OTHER_PROCESSORS_TO_CLAIM_ANNOTATIONS;
         }
 
+        long start = System.currentTimeMillis();
         conf = createConfiguration(roundEnv);
         context = new Context();
+        if (manifest == null && Boolean.valueOf(processingEnv.getOptions().get(APTOptions.QUERYDSL_INCREMENTAL))) {
+            manifest = new SourceManifest(processingEnv.getFiler(), getClass().getName());
+        }
         Set<Class<? extends Annotation>> entityAnnotations = conf.getEntityAnnotations();
         TypeMappings typeMappings = conf.getTypeMappings();
         QueryTypeFactory queryTypeFactory = conf.getQueryTypeFactory();
@@ -93,9 +117,26 @@ public abstract class AbstractQuerydslProcessor extends AbstractProcessor {
         // serialize created types
         serializeMetaTypes();
 
+        time += System.currentTimeMillis() - start;
         return ALLOW_OTHER_PROCESSORS_TO_CLAIM_ANNOTATIONS;
     }
 
+    private void finish() {
+        if (generated + unchanged == 0) {
+            return;
+        }
+        if (manifest != null) {
+            try {
+                manifest.write();
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Kind.WARNING, "Writing the manifest failed: " + e.getMessage());
+            }
+        }
+        processingEnv.getMessager().printMessage(Kind.NOTE, getClass().getSimpleName() + " wrote "
+                + generated + " query types, left " + unchanged + " unchanged query types untouched in "
+                + time + " ms");
+    }
+
     private void processAnnotations() {
         processExclusions();
 
@@ -565,18 +606,33 @@ public abstract class AbstractQuerydslProcessor extends AbstractProcessor {
                     }
                 }
 
+                SerializerConfig serializerConfig = conf.getSerializerConfig(model);
+                String fingerprint = null;
+                if (manifest != null) {
+                    fingerprint = SourceManifest.fingerprint(model, serializerConfig, serializer.getClass());
+                    // the existing query type needs to be visible to the compilation to be reused
+                    if (manifest.isUpToDate(className, fingerprint)
+                            && processingEnv.getElementUtils().getTypeElement(className) != null) {
+                        unchanged++;
+                        continue;
+                    }
+                }
+
                 processingEnv.getMessager().printMessage(Kind.NOTE, "Generating " + className + " for " + elements);
                 JavaFileObject fileObject = processingEnv.getFiler().createSourceFile(className,
                         elements.toArray(new Element[elements.size()]));
                 Writer writer = fileObject.openWriter();
                 try {
-                    SerializerConfig serializerConfig = conf.getSerializerConfig(model);
                     serializer.serialize(model, serializerConfig, new JavaWriter(writer));
                 } finally {
                     if (writer != null) {
                         writer.close();
                     }
                 }
+                generated++;
+                if (manifest != null) {
+                    manifest.put(className, fingerprint);
+                }
 
             } catch (IOException e) {
                 System.err.println(e.getMessage());
@@ -119,6 +119,7 @@ public class DefaultConfiguration implements Configuration {
             }
         }
         boolean entityAccessors = false;
+        boolean lazyEntityAccessors = false;
         boolean listAccessors = false;
         boolean mapAccessors = false;
         boolean createDefaultVariable = true;
@@ -126,6 +127,9 @@ public class DefaultConfiguration implements Configuration {
         if (options.containsKey(QUERYDSL_ENTITY_ACCESSORS)) {
             entityAccessors = Boolean.valueOf(options.get(QUERYDSL_ENTITY_ACCESSORS));
         }
+        if (options.containsKey(QUERYDSL_LAZY_ENTITY_ACCESSORS)) {
+            lazyEntityAccessors = Boolean.valueOf(options.get(QUERYDSL_LAZY_ENTITY_ACCESSORS));
+        }
         if (options.containsKey(QUERYDSL_LIST_ACCESSORS)) {
             listAccessors = Boolean.valueOf(options.get(QUERYDSL_LIST_ACCESSORS));
         }
@@ -213,8 +217,8 @@ public class DefaultConfiguration implements Configuration {
             // do nothing
         }
 
-        defaultSerializerConfig = new SimpleSerializerConfig(entityAccessors, listAccessors,
-                mapAccessors, createDefaultVariable, "");
+        defaultSerializerConfig = new SimpleSerializerConfig(entityAccessors, lazyEntityAccessors,
+                listAccessors, mapAccessors, createDefaultVariable, "");
 
     }
 
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.apt;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.processing.Filer;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import com.google.common.base.Charsets;
+import com.google.common.hash.Hashing;
+import com.mysema.codegen.model.Constructor;
+import com.mysema.codegen.model.Parameter;
+import com.mysema.codegen.model.Type;
+import com.querydsl.codegen.Delegate;
+import com.querydsl.codegen.EntityType;
+import com.querydsl.codegen.Property;
+import com.querydsl.codegen.SerializerConfig;
+import com.querydsl.codegen.SimpleSerializerConfig;
+import com.querydsl.codegen.Supertype;
+
+/**
+ * {@code SourceManifest} keeps the fingerprints of the sources generated by a processor
+ *
+ * <p>The manifest is stored next to the generated sources and is used in incremental mode to
+ * leave query types untouched when their model is unchanged.</p>
+ */
+class SourceManifest {
+
+    private static final String PATH = "META-INF/querydsl/";
+
+    private final Filer filer;
+
+    private final String name;
+
+    private final Map<String, String> fingerprints = new TreeMap<String, String>();
+
+    private boolean modified;
+
+    SourceManifest(Filer filer, String processor) {
+        this.filer = filer;
+        this.name = PATH + processor + ".manifest";
+        load();
+    }
+
+    private void load() {
+        try {
+            FileObject file = filer.getResource(StandardLocation.SOURCE_OUTPUT, "", name);
+            InputStream in = file.openInputStream();
+            try {
+                Properties properties = new Properties();
+                properties.load(in);
+                for (String className : properties.stringPropertyNames()) {
+                    fingerprints.put(className, properties.getProperty(className));
+                }
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            // no manifest yet
+        } catch (IllegalArgumentException e) {
+            // location not supported
+        }
+    }
+
+    /**
+     * Get the fingerprint of the given model
+     *
+     * <p>The fingerprint covers the inputs of the serializer: the type, its supertypes, properties,
+     * delegates, constructors and annotations, the entity fields of the referenced types and the
+     * serializer config.</p>
+     *
+     * @param model model of the query type
+     * @param config serializer config
+     * @param serializer serializer class
+     * @return fingerprint
+     */
+    public static String fingerprint(EntityType model, SerializerConfig config, Class<?> serializer) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(serializer.getName()).append(' ')
+            .append(serializer.getPackage() != null ? serializer.getPackage().getImplementationVersion() : null)
+            .append('\n');
+        builder.append(config.useEntityAccessors()).append(SimpleSerializerConfig.useLazyEntityAccessors(config))
+            .append(config.useListAccessors()).append(config.useMapAccessors())
+            .append(config.createDefaultVariable()).append(' ').append(config.defaultVariableName()).append('\n');
+        appendType(builder, model);
+        builder.append(model.getOriginalCategory()).append(' ').append(model.getModifiedSimpleName())
+            .append(' ').append(model.getUncapSimpleName()).append('\n');
+        appendAnnotations(builder, model.getAnnotations());
+        for (Supertype supertype : model.getSuperTypes()) {
+            builder.append("extends ");
+            appendType(builder, supertype.getEntityType() != null ? supertype.getEntityType() : supertype.getType());
+        }
+        for (Property property : model.getProperties()) {
+            builder.append("property ").append(property.getName()).append(' ').append(property.getEscapedName())
+                .append(' ').append(property.isInherited()).append(' ').append(property.getInits()).append(' ');
+            appendType(builder, property.getType());
+            appendAnnotations(builder, property.getAnnotations());
+        }
+        // delegates, constructors and annotations are kept in hash based collections
+        Set<String> members = new TreeSet<String>();
+        for (Delegate delegate : model.getDelegates()) {
+            StringBuilder member = new StringBuilder("delegate ").append(delegate.getName()).append(' ');
+            appendType(member, delegate.getDelegateType());
+            appendType(member, delegate.getReturnType());
+            appendParameters(member, delegate.getParameters());
+            members.add(member.toString());
+        }
+        for (Constructor constructor : model.getConstructors()) {
+            StringBuilder member = new StringBuilder("constructor ");
+            appendParameters(member, constructor.getParameters());
+            members.add(member.toString());
+        }
+        for (String member : members) {
+            builder.append(member);
+        }
+        return Hashing.sha1().hashString(builder, Charsets.UTF_8).toString();
+    }
+
+    private static void appendType(StringBuilder builder, Type type) {
+        builder.append(type.getCategory()).append(' ').append(type.getGenericName(true));
+        if (type instanceof EntityType) {
+            // the initialization of entity paths depends on the entity fields of the referenced type
+            builder.append(' ').append(((EntityType) type).hasEntityFields());
+        }
+        builder.append('\n');
+    }
+
+    private static void appendAnnotations(StringBuilder builder, Iterable<Annotation> annotations) {
+        Set<String> strings = new TreeSet<String>();
+        for (Annotation annotation : annotations) {
+            strings.add(annotation.toString());
+        }
+        for (String string : strings) {
+            builder.append(string).append('\n');
+        }
+    }
+
+    private static void appendParameters(StringBuilder builder, Iterable<Parameter> parameters) {
+        for (Parameter parameter : parameters) {
+            builder.append(parameter.getName()).append(' ');
+            appendType(builder, parameter.getType());
+        }
+    }
+
+    /**
+     * Get whether the generated source of the given class is up to date
+     *
+     * @param className class name of the generated source
+     * @param fingerprint fingerprint of the current model
+     * @return true, if the source exists and has been generated from a model with the same fingerprint
+     */
+    public boolean isUpToDate(String className, String fingerprint) {
+        return fingerprint.equals(fingerprints.get(className)) && exists(className);
+    }
+
+    private boolean exists(String className) {
+        int index = className.lastIndexOf('.');
+        String packageName = index > -1 ? className.substring(0, index) : "";
+        String simpleName = className.substring(index + 1);
+        try {
+            FileObject file = filer.getResource(StandardLocation.SOURCE_OUTPUT, packageName, simpleName + ".java");
+            return file.getLastModified() > 0;
+        } catch (IOException e) {
+            return false;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Register the fingerprint of a generated source
+     *
+     * @param className class name of the generated source
+     * @param fingerprint fingerprint of the model
+     */
+    public void put(String className, String fingerprint) {
+        modified |= !fingerprint.equals(fingerprints.put(className, fingerprint));
+    }
+
+    /**
+     * Write the manifest, if it has been modified
+     *
+     * @throws IOException
+     */
+    public void write() throws IOException {
+        if (!modified) {
+            return;
+        }
+        FileObject file = filer.createResource(StandardLocation.SOURCE_OUTPUT, "", name);
+        Writer writer = file.openWriter();
+        try {
+            for (Map.Entry<String, String> entry : fingerprints.entrySet()) {
+                writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+            }
+        } finally {
+            writer.close();
+        }
+        modified = false;
+    }
+
+}
@@ -62,7 +62,7 @@ public abstract class AbstractProcessorTest {
         options.add("-processor");
         options.add(processorClass.getName());
         options.add("-sourcepath");
-        options.add("src/test/java");
+        options.add(getSourcePath());
         options.addAll(getAPTOptions());
         options.addAll(classes);
 
@@ -81,4 +81,8 @@ public abstract class AbstractProcessorTest {
         return Collections.emptyList();
     }
 
+    protected String getSourcePath() {
+        return "src/test/java";
+    }
+
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.apt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
+
+public class IncrementalModeTest extends AbstractProcessorTest {
+
+    private static final long MODIFIED = 1000000000000L;
+
+    private final File source = new File("target/incremental-src/com/querydsl/apt/incremental/IncrementalEntity.java");
+
+    private final File qType = new File("target/incremental/com/querydsl/apt/incremental/QIncrementalEntity.java");
+
+    private boolean generatedSourceRoot = true;
+
+    @Override
+    protected Collection<String> getAPTOptions() {
+        return Collections.singletonList("-A" + APTOptions.QUERYDSL_INCREMENTAL + "=true");
+    }
+
+    @Override
+    protected String getSourcePath() {
+        return generatedSourceRoot ? "src/test/java" + File.pathSeparator + "target/incremental" : "src/test/java";
+    }
+
+    private void writeSource(String body) throws IOException {
+        Files.createParentDirs(source);
+        Files.write("package com.querydsl.apt.incremental;\n\n"
+                + "import com.querydsl.core.annotations.QueryEntity;\n\n"
+                + "@QueryEntity\n"
+                + "public class IncrementalEntity {\n" + body + "\n}\n", source, Charsets.UTF_8);
+    }
+
+    @Test
+    public void unchanged_model() throws IOException {
+        writeSource("String name;");
+        process(QuerydslAnnotationProcessor.class, Collections.singletonList(source.getPath()), "incremental");
+        assertTrue(qType.exists());
+        assertTrue(new File("target/incremental/META-INF/querydsl/"
+                + QuerydslAnnotationProcessor.class.getName() + ".manifest").exists());
+        assertTrue(qType.setLastModified(MODIFIED));
+
+        // source is touched, but the model is the same
+        writeSource("String name;");
+        compile(QuerydslAnnotationProcessor.class, Collections.singletonList(source.getPath()), "incremental");
+        assertEquals(MODIFIED, qType.lastModified());
+    }
+
+    @Test
+    public void changed_model() throws IOException {
+        writeSource("String name;");
+        process(QuerydslAnnotationProcessor.class, Collections.singletonList(source.getPath()), "incremental");
+        assertFalse(Files.toString(qType, Charsets.UTF_8).contains("createNumber(\"age\""));
+        assertTrue(qType.setLastModified(MODIFIED));
+
+        writeSource("String name;\n int age;");
+        compile(QuerydslAnnotationProcessor.class, Collections.singletonList(source.getPath()), "incremental");
+        assertTrue(qType.lastModified() != MODIFIED);
+        assertTrue(Files.toString(qType, Charsets.UTF_8).contains("createNumber(\"age\""));
+    }
+
+    @Test
+    public void generated_sources_not_visible() throws IOException {
+        writeSource("String name;");
+        process(QuerydslAnnotationProcessor.class, Collections.singletonList(source.getPath()), "incremental");
+        assertTrue(qType.setLastModified(MODIFIED));
+
+        // the existing query type can't be resolved, so it is generated again
+        generatedSourceRoot = false;
+        compile(QuerydslAnnotationProcessor.class, Collections.singletonList(source.getPath()), "incremental");
+        assertTrue(qType.lastModified() != MODIFIED);
+    }
+
+    @Test
+    public void deleted_query_type() throws IOException {
+        writeSource("String name;");
+        process(QuerydslAnnotationProcessor.class, Collections.singletonList(source.getPath()), "incremental");
+        assertTrue(qType.delete());
+
+        compile(QuerydslAnnotationProcessor.class, Collections.singletonList(source.getPath()), "incremental");
+        assertTrue(qType.exists());
+    }
+
+}
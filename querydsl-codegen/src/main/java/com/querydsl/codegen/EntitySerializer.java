@@ -202,28 +202,61 @@ public class EntitySerializer implements Serializer {
         writer.end();
     }
 
+    /**
+     * Serialize a thread-safe accessor which creates the entity path on first access
+     *
+     * <p>Unlike the eager initialization in the constructor, entity paths which are not covered by the
+     * inits of the query type are created on demand instead of being null. The inits for the property
+     * are passed to the created path, so that nested paths are initialized as before. Concurrent first
+     * accesses may create more than one path, which are equal, and the volatile field publishes them
+     * safely. Inherited properties are created the same way instead of being obtained from the query
+     * type of the supertype, which might not use lazy entity accessors.</p>
+     *
+     * @param model model
+     * @param field entity property
+     * @param writer writer
+     * @throws IOException
+     */
+    protected void lazyEntityAccessor(EntityType model, Property field, CodeWriter writer) throws IOException {
+        Type queryType = typeMappings.getPathType(field.getType(), model, false);
+        String queryTypeName = writer.getRawName(queryType);
+        String name = field.getEscapedName();
+        writer.beginPublicMethod(queryType, name);
+        boolean hasEntityFields = field.getType() instanceof EntityType
+                && ((EntityType) field.getType()).hasEntityFields();
+        writer.line(queryTypeName, " result = this.", name, SEMICOLON);
+        writer.line("if (result == null) {");
+        if (hasEntityFields) {
+            writer.line("    PathInits inits = _inits.isInitialized(\"", field.getName(),
+                    "\") ? _inits.get(\"", field.getName(), "\") : PathInits.DEFAULT;");
+            writer.line("    result = new ", queryTypeName, "(forProperty(\"", field.getName(), "\"), inits);");
+        } else {
+            writer.line("    result = new ", queryTypeName, "(forProperty(\"", field.getName(), "\"));");
+        }
+        writer.line("    this.", name, " = result;");
+        writer.line("}");
+        writer.line(RETURN, "result", SEMICOLON);
+        writer.end();
+    }
+
     protected void entityField(EntityType model, Property field, SerializerConfig config,
             CodeWriter writer) throws IOException {
         Type queryType = typeMappings.getPathType(field.getType(), model, false);
         if (field.isInherited()) {
             writer.line("// inherited");
         }
-        if (config.useEntityAccessors()) {
+        if (useLazyEntityAccessors(config)) {
+            writer.line("protected volatile ", writer.getGenericName(true, queryType), " ", field.getEscapedName(), SEMICOLON);
+            writer.nl();
+        } else if (config.useEntityAccessors()) {
             writer.protectedField(queryType, field.getEscapedName());
         } else {
             writer.publicFinal(queryType, field.getEscapedName());
         }
     }
 
-    protected boolean hasOwnEntityProperties(EntityType model) {
-        if (model.hasEntityFields()) {
-            for (Property property : model.getProperties()) {
-                if (!property.isInherited() && property.getType().getCategory() == TypeCategory.ENTITY) {
-                    return true;
-                }
-            }
-        }
-        return false;
+    protected boolean useLazyEntityAccessors(SerializerConfig config) {
+        return SimpleSerializerConfig.useLazyEntityAccessors(config);
     }
 
     protected void initEntityFields(CodeWriter writer, SerializerConfig config,
@@ -236,6 +269,9 @@ public class EntitySerializer implements Serializer {
                 writer.line("this._super = new " + writer.getRawName(superQueryType) + "(type, metadata, inits);");
             }
         }
+        if (useLazyEntityAccessors(config) && model.hasEntityFields()) {
+            writer.line("this._inits = inits;");
+        }
 
         for (Property field : model.getProperties()) {
             if (field.getType().getCategory() == TypeCategory.ENTITY) {
@@ -250,7 +286,10 @@ public class EntitySerializer implements Serializer {
     protected void initEntityField(CodeWriter writer, SerializerConfig config, EntityType model,
             Property field) throws IOException {
         Type queryType = typeMappings.getPathType(field.getType(), model, false);
-        if (!field.isInherited()) {
+        if (useLazyEntityAccessors(config)) {
+            // initialized on first access
+            return;
+        } else if (!field.isInherited()) {
             boolean hasEntityFields = field.getType() instanceof EntityType
                     && ((EntityType) field.getType()).hasEntityFields();
             writer.line("this." + field.getEscapedName() + ASSIGN,
@@ -281,6 +320,9 @@ public class EntitySerializer implements Serializer {
         if (model.getSuperType() != null && model.getSuperType().getEntityType() != null) {
             introSuper(writer, model);
         }
+        if (useLazyEntityAccessors(config) && model.hasEntityFields()) {
+            writer.privateFinal(PATH_INITS_TYPE, "_inits");
+        }
     }
 
     @SuppressWarnings(UNCHECKED)
@@ -611,6 +653,8 @@ public class EntitySerializer implements Serializer {
                 mapAccessor(model, property, writer);
             } else if (category == TypeCategory.LIST && config.useListAccessors()) {
                 listAccessor(model, property, writer);
+            } else if (category == TypeCategory.ENTITY && useLazyEntityAccessors(config)) {
+                lazyEntityAccessor(model, property, writer);
             } else if (category == TypeCategory.ENTITY && config.useEntityAccessors()) {
                 entityAccessor(model, property, writer);
             }
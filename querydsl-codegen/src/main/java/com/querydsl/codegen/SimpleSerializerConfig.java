@@ -28,13 +28,26 @@ public final class SimpleSerializerConfig implements SerializerConfig {
     public static SerializerConfig getConfig(Config annotation) {
         return new SimpleSerializerConfig(
                 annotation.entityAccessors(),
+                annotation.lazyEntityAccessors(),
                 annotation.listAccessors(),
                 annotation.mapAccessors(),
                 annotation.createDefaultVariable(),
                 annotation.defaultVariableName());
     }
 
-    private final boolean entityAccessors, listAccessors, mapAccessors, createDefaultVariable;
+    /**
+     * Get whether the given config enables lazily initialized entity accessors, which are only
+     * supported by {@code SimpleSerializerConfig}
+     *
+     * @param config serializer config
+     * @return if lazy accessors are used for entity fields
+     */
+    public static boolean useLazyEntityAccessors(SerializerConfig config) {
+        return config instanceof SimpleSerializerConfig
+            && ((SimpleSerializerConfig) config).useLazyEntityAccessors();
+    }
+
+    private final boolean entityAccessors, lazyEntityAccessors, listAccessors, mapAccessors, createDefaultVariable;
 
     private final String defaultVariableName;
 
@@ -44,7 +57,18 @@ public final class SimpleSerializerConfig implements SerializerConfig {
             boolean mapAccessors,
             boolean createDefaultVariable,
             String defaultVariableName) {
+        this(entityAccessors, false, listAccessors, mapAccessors, createDefaultVariable, defaultVariableName);
+    }
+
+    public SimpleSerializerConfig(
+            boolean entityAccessors,
+            boolean lazyEntityAccessors,
+            boolean listAccessors,
+            boolean mapAccessors,
+            boolean createDefaultVariable,
+            String defaultVariableName) {
         this.entityAccessors = entityAccessors;
+        this.lazyEntityAccessors = lazyEntityAccessors;
         this.listAccessors = listAccessors;
         this.mapAccessors = mapAccessors;
         this.createDefaultVariable = createDefaultVariable;
@@ -56,6 +80,15 @@ public final class SimpleSerializerConfig implements SerializerConfig {
         return entityAccessors;
     }
 
+    /**
+     * accessors which initialize entity fields on first access are used
+     *
+     * @return if lazy accessors are used for entity fields
+     */
+    public boolean useLazyEntityAccessors() {
+        return lazyEntityAccessors;
+    }
+
     @Override
     public boolean useListAccessors() {
         return listAccessors;
@@ -3,9 +3,11 @@ package com.querydsl.codegen;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.net.URLClassLoader;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import javax.tools.JavaCompiler;
 import javax.tools.SimpleJavaFileObject;
@@ -21,6 +23,10 @@ public final class CompileUtils {
     private CompileUtils() { }
 
     public static void assertCompiles(String name, String source) {
+        assertCompiles(Collections.singletonMap(name, source));
+    }
+
+    public static void assertCompiles(Map<String, String> sources) {
         URLClassLoader parent = (URLClassLoader) CompileUtils.class.getClassLoader();
         SimpleCompiler compiler = new SimpleCompiler();
         MemFileManager fileManager = new MemFileManager(parent, compiler.getStandardFileManager(null, null, null));
@@ -28,12 +34,15 @@ public final class CompileUtils {
         List<String> compilationOptions = Arrays.asList("-classpath", classpath, "-g:none");
 
         // compile
-        SimpleJavaFileObject javaFileObject = new MemSourceFileObject(name, source);
+        List<SimpleJavaFileObject> javaFileObjects = new ArrayList<SimpleJavaFileObject>();
+        for (Map.Entry<String, String> entry : sources.entrySet()) {
+            javaFileObjects.add(new MemSourceFileObject(entry.getKey(), entry.getValue()));
+        }
         Writer out = new StringWriter();
         JavaCompiler.CompilationTask task = compiler.getTask(out, fileManager, null, compilationOptions, null,
-                Collections.singletonList(javaFileObject));
+                javaFileObjects);
         if (!task.call()) {
-            Assert.fail("Compilation of " + source + " failed.\n" + out.toString());
+            Assert.fail("Compilation of " + sources.values() + " failed.\n" + out.toString());
         }
 
     }
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.codegen;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Constructor;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
+import com.mysema.codegen.JavaWriter;
+import com.mysema.codegen.SimpleCompiler;
+import com.mysema.codegen.model.ClassType;
+import com.mysema.codegen.model.SimpleType;
+import com.mysema.codegen.model.TypeCategory;
+import com.querydsl.core.testutil.Performance;
+import com.querydsl.core.util.FileUtils;
+
+/**
+ * Compares class load time and retained heap of eagerly and lazily initialized query types
+ * for a domain model of {@code DEPTH} levels with {@code FANOUT} entity properties per type
+ */
+@Category(Performance.class)
+public class EntitySerializerPerformanceTest {
+
+    private static final String PACKAGE = "com.querydsl.codegen.performance";
+
+    private static final int DEPTH = 6;
+
+    private static final int FANOUT = 3;
+
+    private static final int INSTANCES = 1000;
+
+    @Test
+    public void eager() throws Exception {
+        run("eager", new SimpleSerializerConfig(false, false, false, false, true, ""));
+    }
+
+    @Test
+    public void lazy() throws Exception {
+        run("lazy", new SimpleSerializerConfig(false, true, false, false, true, ""));
+    }
+
+    private void run(String label, SerializerConfig config) throws Exception {
+        File root = new File("target/performance/" + label);
+        FileUtils.delete(root);
+        File classes = new File(root, "classes");
+        classes.mkdirs();
+        compile(generate(new File(root, "src"), config), classes);
+
+        URLClassLoader classLoader = new URLClassLoader(new URL[]{classes.toURI().toURL()},
+                getClass().getClassLoader());
+        long start = System.nanoTime();
+        Class<?> queryType = Class.forName(PACKAGE + ".QNode0", true, classLoader);
+        long classLoad = System.nanoTime() - start;
+
+        Constructor<?> constructor = queryType.getConstructor(String.class);
+        Object[] instances = new Object[INSTANCES];
+        long before = usedMemory();
+        for (int i = 0; i < INSTANCES; i++) {
+            instances[i] = constructor.newInstance("node" + i);
+        }
+        long retained = (usedMemory() - before) / INSTANCES;
+
+        System.err.println(label + " class load " + (classLoad / 1000) + " us, "
+                + retained + " bytes retained per query type instance");
+        assertEquals(INSTANCES, instances.length);
+    }
+
+    private List<String> generate(File folder, SerializerConfig config) throws IOException {
+        TypeMappings typeMappings = new JavaTypeMappings();
+        QueryTypeFactory queryTypeFactory = new QueryTypeFactoryImpl("Q", "", "");
+        EntitySerializer serializer = new EntitySerializer(typeMappings, Collections.<String>emptySet());
+        File packageFolder = new File(folder, PACKAGE.replace('.', '/'));
+        packageFolder.mkdirs();
+
+        EntityType[] types = new EntityType[DEPTH];
+        for (int i = 0; i < DEPTH; i++) {
+            String name = "Node" + i;
+            types[i] = new EntityType(new SimpleType(TypeCategory.ENTITY, PACKAGE + "." + name, PACKAGE, name, false, false));
+            typeMappings.register(types[i], queryTypeFactory.create(types[i]));
+        }
+
+        List<String> sources = new ArrayList<String>();
+        for (int i = 0; i < DEPTH; i++) {
+            StringBuilder domain = new StringBuilder();
+            domain.append("package " + PACKAGE + ";\n\npublic class Node" + i + " {\n    String name;\n");
+            types[i].addProperty(new Property(types[i], "name", new ClassType(TypeCategory.STRING, String.class)));
+            for (int j = 0; i < DEPTH - 1 && j < FANOUT; j++) {
+                domain.append("    Node" + (i + 1) + " child" + j + ";\n");
+                // the first child is initialized two levels deep like with @QueryInit("*.*")
+                List<String> inits = j == 0 ? Collections.singletonList("*.*") : Collections.<String>emptyList();
+                types[i].addProperty(new Property(types[i], "child" + j, types[i + 1], inits));
+            }
+            domain.append("}\n");
+            sources.add(write(new File(packageFolder, "Node" + i + ".java"), domain.toString()));
+        }
+
+        for (EntityType type : types) {
+            File file = new File(packageFolder, "Q" + type.getSimpleName() + ".java");
+            Writer writer = Files.newWriter(file, Charsets.UTF_8);
+            try {
+                serializer.serialize(type, config, new JavaWriter(writer));
+            } finally {
+                writer.close();
+            }
+            sources.add(file.getPath());
+        }
+        return sources;
+    }
+
+    private String write(File file, String content) throws IOException {
+        Files.write(content, file, Charsets.UTF_8);
+        return file.getPath();
+    }
+
+    private void compile(List<String> sources, File classes) {
+        String classPath = SimpleCompiler.getClassPath((URLClassLoader) getClass().getClassLoader());
+        List<String> options = new ArrayList<String>();
+        options.add("-classpath");
+        options.add(classPath);
+        options.add("-d");
+        options.add(classes.getPath());
+        options.addAll(sources);
+        int result = new SimpleCompiler().run(null, null, null, options.toArray(new String[options.size()]));
+        assertEquals(0, result);
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
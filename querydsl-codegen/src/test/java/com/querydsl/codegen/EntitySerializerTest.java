@@ -13,6 +13,7 @@
  */
 package com.querydsl.codegen;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
@@ -21,6 +22,7 @@ import java.sql.Time;
 import java.util.Collections;
 import java.util.Date;
 import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.junit.Test;
@@ -164,6 +166,70 @@ public class EntitySerializerTest {
         CompileUtils.assertCompiles("QEntity", writer.toString());
     }
 
+    @Test
+    public void lazyEntityAccessors() throws IOException {
+        SimpleType type = new SimpleType(TypeCategory.ENTITY, "Entity", "", "Entity",false,false);
+        EntityType entityType = new EntityType(type);
+        entityType.addProperty(new Property(entityType, "s", new ClassType(TypeCategory.STRING, String.class)));
+        entityType.addProperty(new Property(entityType, "parent", entityType, Collections.singletonList("*")));
+        typeMappings.register(entityType, queryTypeFactory.create(entityType));
+
+        SerializerConfig config = new SimpleSerializerConfig(false, true, false, false, true, "");
+        serializer.serialize(entityType, config, new JavaWriter(writer));
+        String source = writer.toString();
+        assertTrue(source.contains("protected volatile QEntity parent;"));
+        assertTrue(source.contains("this._inits = inits;"));
+        assertFalse(source.contains("synchronized"));
+        assertTrue(source.contains("this.parent = result;"));
+        assertTrue(source.contains("_inits.get(\"parent\")"));
+        assertFalse(source.contains("this.parent = inits.isInitialized"));
+        CompileUtils.assertCompiles("QEntity", source);
+    }
+
+    @Test
+    public void lazyEntityAccessors_inherited() throws IOException {
+        EntityType superType = new EntityType(new SimpleType(TypeCategory.ENTITY, "Entity2", "", "Entity2",false,false));
+        superType.addProperty(new Property(superType, "parent", superType));
+        SimpleType type = new SimpleType(TypeCategory.ENTITY, "Entity", "", "Entity",false,false);
+        Supertype supertype = new Supertype(superType, superType);
+        EntityType entityType = new EntityType(type, Collections.singleton(supertype));
+        entityType.include(supertype);
+        typeMappings.register(superType, queryTypeFactory.create(superType));
+        typeMappings.register(entityType, queryTypeFactory.create(entityType));
+
+        SerializerConfig config = new SimpleSerializerConfig(false, true, false, false, true, "");
+        serializer.serialize(entityType, config, new JavaWriter(writer));
+        String source = writer.toString();
+        assertFalse(source.contains("_super.parent"));
+        assertTrue(source.contains("protected volatile QEntity2 parent;"));
+        assertTrue(source.contains("this._inits = inits;"));
+    }
+
+    @Test
+    public void lazyEntityAccessors_eager_superType() throws IOException {
+        EntityType superType = new EntityType(new SimpleType(TypeCategory.ENTITY, "LazyAnimal", "", "LazyAnimal",false,false));
+        superType.addProperty(new Property(superType, "parent", superType, Collections.singletonList("*")));
+        SimpleType type = new SimpleType(TypeCategory.ENTITY, "LazyCat", "", "LazyCat",false,false);
+        Supertype supertype = new Supertype(superType, superType);
+        EntityType entityType = new EntityType(type, Collections.singleton(supertype));
+        entityType.addProperty(new Property(entityType, "mate", entityType));
+        entityType.include(supertype);
+        typeMappings.register(superType, queryTypeFactory.create(superType));
+        typeMappings.register(entityType, queryTypeFactory.create(entityType));
+
+        StringWriter superWriter = new StringWriter();
+        serializer.serialize(superType, SimpleSerializerConfig.DEFAULT, new JavaWriter(superWriter));
+        SerializerConfig config = new SimpleSerializerConfig(false, true, false, false, true, "");
+        serializer.serialize(entityType, config, new JavaWriter(writer));
+
+        Map<String, String> sources = new LinkedHashMap<String, String>();
+        sources.put("LazyAnimal", "public class LazyAnimal { }");
+        sources.put("LazyCat", "public class LazyCat extends LazyAnimal { }");
+        sources.put("QLazyAnimal", superWriter.toString());
+        sources.put("QLazyCat", writer.toString());
+        CompileUtils.assertCompiles(sources);
+    }
+
     @Test
     public void superType() throws IOException {
         EntityType superType = new EntityType(new SimpleType(TypeCategory.ENTITY, "Entity2", "", "Entity2",false,false));
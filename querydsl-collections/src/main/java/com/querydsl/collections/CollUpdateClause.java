@@ -14,12 +14,15 @@
 package com.querydsl.collections;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
 import com.querydsl.core.dml.UpdateClause;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Path;
+import com.querydsl.core.types.PathType;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.util.BeanMap;
 
@@ -46,19 +49,44 @@ public class CollUpdateClause<T> implements UpdateClause<CollUpdateClause<T>> {
 
     @Override
     public long execute() {
+        // resolve the property chains once for all matches
+        Map<List<String>, Object> updates = new LinkedHashMap<List<String>, Object>(paths.size());
+        for (Map.Entry<Path<?>, Object> entry : paths.entrySet()) {
+            updates.put(getPropertyChain(entry.getKey()), entry.getValue());
+        }
         int rv = 0;
         for (T match : query.fetch()) {
-            BeanMap beanMap = new BeanMap(match);
-            for (Map.Entry<Path<?>,Object> entry : paths.entrySet()) {
-                // TODO : support deep updates as well
-                String propertyName = entry.getKey().getMetadata().getName();
-                beanMap.put(propertyName, entry.getValue());
+            for (Map.Entry<List<String>, Object> entry : updates.entrySet()) {
+                List<String> chain = entry.getKey();
+                Object bean = match;
+                for (int i = 0; i < chain.size() - 1 && bean != null; i++) {
+                    bean = new BeanMap(bean).get(chain.get(i));
+                }
+                // skip updates of properties of null valued intermediate properties
+                if (bean != null) {
+                    new BeanMap(bean).put(chain.get(chain.size() - 1), entry.getValue());
+                }
             }
             rv++;
         }
         return rv;
     }
 
+    private static List<String> getPropertyChain(Path<?> path) {
+        LinkedList<String> chain = new LinkedList<String>();
+        while (path.getMetadata().getParent() != null) {
+            if (path.getMetadata().getPathType() != PathType.PROPERTY) {
+                throw new IllegalArgumentException("Only property paths are supported, got " + path);
+            }
+            chain.addFirst(path.getMetadata().getName());
+            path = path.getMetadata().getParent();
+        }
+        if (chain.isEmpty()) {
+            throw new IllegalArgumentException("Root paths can't be updated, got " + path);
+        }
+        return chain;
+    }
+
     @Override
     public <U> CollUpdateClause<T> set(Path<U> path, U value) {
         paths.put(path, value);
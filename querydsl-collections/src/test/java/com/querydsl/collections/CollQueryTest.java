@@ -18,10 +18,14 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.Test;
 
@@ -32,6 +36,7 @@ import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.core.util.StreamUtils;
 
 public class CollQueryTest extends AbstractQueryTest {
 
@@ -168,4 +173,27 @@ public class CollQueryTest extends AbstractQueryTest {
         query().from(cat, cats).having(cat.name.isNull());
     }
 
+    @Test
+    public void stream() {
+        List<Cat> results = StreamUtils.stream(from(cat, cats).where(cat.name.startsWith("B")).select(cat))
+                .collect(Collectors.<Cat>toList());
+        assertEquals(from(cat, cats).where(cat.name.startsWith("B")).select(cat).fetch(), results);
+    }
+
+    @Test
+    public void stream_lazy() {
+        List<Cat> source = new ArrayList<Cat>(cats);
+        Stream<Cat> stream = StreamUtils.stream(from(cat, source).select(cat));
+        Cat cat = new Cat("Lazy");
+        source.add(cat);
+        assertTrue(stream.collect(Collectors.<Cat>toList()).contains(cat));
+    }
+
+    @Test
+    public void stream_parallel() {
+        List<Integer> ids = StreamUtils.stream(from(cat, cats).orderBy(cat.id.asc()).select(cat.id),
+                Spliterator.SIZED).parallel().collect(Collectors.<Integer>toList());
+        assertEquals(from(cat, cats).orderBy(cat.id.asc()).select(cat.id).fetch(), ids);
+    }
+
 }
@@ -14,6 +14,7 @@
 package com.querydsl.collections;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 import java.util.Arrays;
 import java.util.List;
@@ -35,4 +36,18 @@ public class CollUpdateClauseTest {
         assertEquals("Bobby", cats.get(1).getName());
     }
 
+    @Test
+    public void execute_deep() {
+        QCat cat = QCat.cat;
+        List<Cat> cats = Arrays.asList(new Cat("Ann"), new Cat("Bob"));
+        cats.get(0).setMate(new Cat("Carl"));
+
+        CollUpdateClause<Cat> updateClause = new CollUpdateClause<Cat>(cat, cats);
+        updateClause.set(cat.mate.name, "Charles");
+        assertEquals(2, updateClause.execute());
+
+        assertEquals("Charles", cats.get(0).getMate().getName());
+        assertNull(cats.get(1).getMate());
+    }
+
 }
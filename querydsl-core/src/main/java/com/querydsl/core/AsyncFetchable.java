@@ -0,0 +1,192 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.core;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import org.codehaus.mojo.animal_sniffer.IgnoreJRERequirement;
+
+/**
+ * {@code AsyncFetchable} is the asynchronous companion of {@link Fetchable}
+ *
+ * <p>Each call runs on the given {@link Executor} against a fresh copy of the query bound to a
+ * resource of its own, e.g. a connection or session, which is acquired in the executing thread and
+ * released when the task completes. The count and page queries of {@link #fetchResultsAsync()} are
+ * executed concurrently.</p>
+ *
+ * <p>Requires Java 8 or later.</p>
+ *
+ * @param <T> result type
+ */
+@IgnoreJRERequirement //conditionally included
+public class AsyncFetchable<T> {
+
+    /**
+     * {@code QuerySource} provides the query copies of the tasks and manages their resources
+     *
+     * @param <T> result type
+     * @param <R> resource type
+     */
+    public interface QuerySource<T, R> {
+
+        /**
+         * Acquire a resource for a single task
+         *
+         * @return resource
+         */
+        R acquire();
+
+        /**
+         * Get a copy of the query bound to the given resource
+         *
+         * @param resource resource acquired for the task
+         * @return query copy
+         */
+        Fetchable<T> bind(R resource);
+
+        /**
+         * Release the resource after the task has completed, also on failure
+         *
+         * @param resource resource acquired for the task
+         */
+        void release(R resource);
+
+    }
+
+    private abstract class Task<V> implements Supplier<V> {
+
+        @Override
+        public V get() {
+            return run(source);
+        }
+
+        private <R> V run(QuerySource<T, R> source) {
+            R resource = source.acquire();
+            try {
+                return execute(source.bind(resource));
+            } finally {
+                source.release(resource);
+            }
+        }
+
+        protected abstract V execute(Fetchable<T> query);
+
+    }
+
+    private final QuerySource<T, ?> source;
+
+    private final QueryModifiers modifiers;
+
+    private final Executor executor;
+
+    /**
+     * Create a new AsyncFetchable instance
+     *
+     * @param source source of the query copies, invoked once per task in the executing thread
+     * @param modifiers modifiers of the query
+     * @param executor executor to run the tasks on
+     */
+    public AsyncFetchable(QuerySource<T, ?> source, QueryModifiers modifiers, Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("No executor given");
+        }
+        this.source = source;
+        this.modifiers = modifiers;
+        this.executor = executor;
+    }
+
+    /**
+     * Get the projection as a typed List
+     *
+     * @return future of the results in list form
+     */
+    public CompletableFuture<List<T>> fetchAsync() {
+        return CompletableFuture.supplyAsync(new Task<List<T>>() {
+            @Override
+            protected List<T> execute(Fetchable<T> query) {
+                return query.fetch();
+            }
+        }, executor);
+    }
+
+    /**
+     * Get the first result of the projection or null if no result is found
+     *
+     * @return future of the first result or null
+     */
+    public CompletableFuture<T> fetchFirstAsync() {
+        return CompletableFuture.supplyAsync(new Task<T>() {
+            @Override
+            protected T execute(Fetchable<T> query) {
+                return query.fetchFirst();
+            }
+        }, executor);
+    }
+
+    /**
+     * Get the projection as a unique result or null if no result is found
+     *
+     * <p>The future completes exceptionally with a {@link NonUniqueResultException}, if there is
+     * more than one matching result.</p>
+     *
+     * @return future of the first result or null
+     */
+    public CompletableFuture<T> fetchOneAsync() {
+        return CompletableFuture.supplyAsync(new Task<T>() {
+            @Override
+            protected T execute(Fetchable<T> query) {
+                return query.fetchOne();
+            }
+        }, executor);
+    }
+
+    /**
+     * Get the count of matched elements
+     *
+     * @return future of the row count
+     */
+    public CompletableFuture<Long> fetchCountAsync() {
+        return CompletableFuture.supplyAsync(new Task<Long>() {
+            @Override
+            protected Long execute(Fetchable<T> query) {
+                return query.fetchCount();
+            }
+        }, executor);
+    }
+
+    /**
+     * Get the projection in {@link QueryResults} form
+     *
+     * <p>The count and the page are fetched concurrently in separate tasks.</p>
+     *
+     * @return future of the results
+     */
+    public CompletableFuture<QueryResults<T>> fetchResultsAsync() {
+        return fetchCountAsync().thenCombine(fetchAsync(), new BiFunction<Long, List<T>, QueryResults<T>>() {
+            @Override
+            public QueryResults<T> apply(Long total, List<T> results) {
+                if (total > 0) {
+                    return new QueryResults<T>(results, modifiers, total);
+                } else {
+                    return QueryResults.emptyResults();
+                }
+            }
+        });
+    }
+
+}
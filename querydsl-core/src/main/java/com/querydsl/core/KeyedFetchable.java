@@ -0,0 +1,56 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.core;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import javax.annotation.Nullable;
+
+import com.querydsl.core.types.Path;
+
+/**
+ * {@code KeyedFetchable} defines the lookup of results by a collection of keys
+ *
+ * <p>The keys are looked up in chunks, so that large key collections don't result in oversized
+ * queries. The results are returned in the order of the given keys.</p>
+ *
+ * @param <T> result type
+ */
+public interface KeyedFetchable<T> {
+
+    /**
+     * Get the results for the given keys in the order of the keys
+     *
+     * @param key key path
+     * @param keys key values
+     * @return results
+     */
+    <K> List<T> fetchByKeys(Path<K> key, Collection<? extends K> keys);
+
+    /**
+     * Get the results for the given keys in the order of the keys
+     *
+     * @param key key path
+     * @param keys key values
+     * @param chunkSize maximum amount of keys per executed query
+     * @param executor executor for the concurrent execution of the chunks or null for sequential
+     *                 execution
+     * @return results
+     */
+    <K> List<T> fetchByKeys(Path<K> key, Collection<? extends K> keys, int chunkSize,
+            @Nullable ExecutorService executor);
+
+}
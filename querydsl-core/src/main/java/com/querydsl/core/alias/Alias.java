@@ -21,6 +21,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
@@ -386,6 +387,34 @@ public final class Alias {
         aliasFactory.reset();
     }
 
+    /**
+     * Get the amount of proxy classes generated for alias types
+     *
+     * @return proxy class count
+     */
+    public static long getProxyClassCount() {
+        return aliasFactory.getProxyClassCount();
+    }
+
+    /**
+     * Get the total time spent in the generation of proxy classes for alias types
+     *
+     * @param unit time unit of the result
+     * @return generation time
+     */
+    public static long getProxyClassGenerationTime(TimeUnit unit) {
+        return aliasFactory.getProxyClassGenerationTime(unit);
+    }
+
+    /**
+     * Get the amount of created alias proxy instances
+     *
+     * @return proxy count
+     */
+    public static long getProxyCount() {
+        return aliasFactory.getProxyCount();
+    }
+
     /**
      * Return the default variable
      *
@@ -13,7 +13,10 @@
  */
 package com.querydsl.core.alias;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.Nullable;
 
@@ -27,26 +30,56 @@ import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.PathMetadataFactory;
 
 import net.sf.cglib.proxy.Enhancer;
+import net.sf.cglib.proxy.Factory;
 import net.sf.cglib.proxy.MethodInterceptor;
+import net.sf.cglib.proxy.MethodProxy;
 
 /**
  * {@code AliasFactory} is a factory class for alias creation
  *
+ * <p>One proxy class is generated per aliased type. Proxy instances are created from a cached
+ * prototype of that class with their own {@link PropertyAccessInvocationHandler}.</p>
+ *
  * @author tiwe
  */
 class AliasFactory {
 
+    // used only for the prototype instances, which are never exposed
+    private static final MethodInterceptor PROTOTYPE_HANDLER = new MethodInterceptor() {
+        @Override
+        public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy) throws Throwable {
+            return proxy.invokeSuper(obj, args);
+        }
+    };
+
     private final ThreadLocal<Expression<?>> current = new ThreadLocal<Expression<?>>();
 
     private final PathFactory pathFactory;
 
     private final TypeSystem typeSystem;
 
-    // caches top level paths (class/var as key)
+    private final AtomicLong proxyClassCount = new AtomicLong();
+
+    private final AtomicLong proxyClassGenerationTime = new AtomicLong();
+
+    private final AtomicLong proxyCount = new AtomicLong();
+
+    // caches top level paths (class/var as key), retained as long as their proxies are in use
     private final LoadingCache<Pair<Class<?>,String>, EntityPath<?>> pathCache;
 
+    // caches proxy prototypes per type, a Factory creates instances without class generation
+    private final LoadingCache<Class<?>, Factory> prototypeCache =
+        CacheBuilder.newBuilder().weakKeys().softValues().build(
+            new CacheLoader<Class<?>, Factory>() {
+                @Override
+                public Factory load(Class<?> cl) {
+                    return createPrototype(cl);
+                }
+            });
+
+    // values are weak, so that unreferenced aliases can be collected
     private final LoadingCache<Pair<Class<?>,Expression<?>>, ManagedObject> proxyCache =
-        CacheBuilder.newBuilder().build(
+        CacheBuilder.newBuilder().weakValues().build(
             new CacheLoader<Pair<Class<?>,Expression<?>>,ManagedObject>() {
                 @Override
                 public ManagedObject load(Pair<Class<?>, Expression<?>> input) {
@@ -57,7 +90,7 @@ class AliasFactory {
     public AliasFactory(final PathFactory pathFactory, TypeSystem typeSystem) {
         this.pathFactory = pathFactory;
         this.typeSystem = typeSystem;
-        this.pathCache = CacheBuilder.newBuilder().build(
+        this.pathCache = CacheBuilder.newBuilder().weakValues().build(
             new CacheLoader<Pair<Class<?>, String>, EntityPath<?>>() {
                 @Override
                 public EntityPath<?> load(Pair<Class<?>, String> input) {
@@ -125,6 +158,26 @@ class AliasFactory {
      */
     @SuppressWarnings("unchecked")
     protected <A> A createProxy(Class<A> cl, Expression<?> path) {
+        Factory prototype;
+        try {
+            prototype = prototypeCache.get(cl);
+        } catch (ExecutionException e) {
+            throw new QueryException(e);
+        }
+        // creates one handler per proxy
+        MethodInterceptor handler = new PropertyAccessInvocationHandler(path, this, pathFactory, typeSystem);
+        proxyCount.incrementAndGet();
+        return (A) prototype.newInstance(handler);
+    }
+
+    /**
+     * Generate the proxy class for the given type and create a prototype instance of it
+     *
+     * @param cl type of the proxy
+     * @return prototype instance
+     */
+    private Factory createPrototype(Class<?> cl) {
+        long start = System.nanoTime();
         Enhancer enhancer = new Enhancer();
         enhancer.setClassLoader(AliasFactory.class.getClassLoader());
         if (cl.isInterface()) {
@@ -133,10 +186,39 @@ class AliasFactory {
             enhancer.setSuperclass(cl);
             enhancer.setInterfaces(new Class<?>[] {ManagedObject.class});
         }
-        // creates one handler per proxy
-        MethodInterceptor handler = new PropertyAccessInvocationHandler(path, this, pathFactory, typeSystem);
-        enhancer.setCallback(handler);
-        return (A) enhancer.create();
+        enhancer.setCallback(PROTOTYPE_HANDLER);
+        Factory prototype = (Factory) enhancer.create();
+        proxyClassGenerationTime.addAndGet(System.nanoTime() - start);
+        proxyClassCount.incrementAndGet();
+        return prototype;
+    }
+
+    /**
+     * Get the amount of generated proxy classes
+     *
+     * @return proxy class count
+     */
+    public long getProxyClassCount() {
+        return proxyClassCount.get();
+    }
+
+    /**
+     * Get the total time spent in proxy class generation
+     *
+     * @param unit time unit of the result
+     * @return generation time
+     */
+    public long getProxyClassGenerationTime(TimeUnit unit) {
+        return unit.convert(proxyClassGenerationTime.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the amount of created proxy instances
+     *
+     * @return proxy count
+     */
+    public long getProxyCount() {
+        return proxyCount.get();
     }
 
     /**
@@ -37,6 +37,11 @@ public @interface Config {
      */
     boolean entityAccessors() default false;
 
+    /**
+     * Create thread-safe entity accessors which initialize the entity fields on first access
+     */
+    boolean lazyEntityAccessors() default false;
+
     /**
      * Create accessors for indexed list access
      */
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.core.support;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import javax.annotation.Nullable;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.querydsl.core.QueryException;
+
+/**
+ * {@code KeyedFetcher} provides the chunking and ordering logic of
+ * {@link com.querydsl.core.KeyedFetchable} implementations
+ *
+ * <p>Subclasses fetch the rows of a single chunk and extract the keys of the rows. Duplicate keys
+ * are looked up once and the rows are returned grouped by key in the order of the first occurrence
+ * of each key.</p>
+ *
+ * @param <K> key type
+ * @param <R> row type
+ */
+public abstract class KeyedFetcher<K, R> {
+
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    /**
+     * Fetch the rows for the given keys
+     *
+     * @param keys keys of the chunk
+     * @return rows in any order
+     */
+    protected abstract List<R> fetch(List<K> keys);
+
+    /**
+     * Get the key of the given row in normalized form
+     *
+     * @param row row
+     * @return key
+     */
+    protected abstract Object getKey(R row);
+
+    /**
+     * Get the normalized form of the given key, which is matched against {@link #getKey(Object)}
+     *
+     * @param key key
+     * @return normalized key
+     */
+    protected Object normalize(K key) {
+        return key;
+    }
+
+    /**
+     * Normalize the given numeric value so that keys of different numeric types, such as a
+     * {@code Long} key and an {@code Integer} column value, are matched by their value
+     *
+     * @param value value
+     * @return normalized value
+     */
+    protected static Object normalizeNumber(@Nullable Object value) {
+        if (value instanceof Byte || value instanceof Short || value instanceof Integer) {
+            return Long.valueOf(((Number) value).longValue());
+        } else if (value instanceof BigInteger) {
+            BigInteger integer = (BigInteger) value;
+            return integer.bitLength() < 64 ? (Object) Long.valueOf(integer.longValue()) : integer;
+        } else if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+            if (decimal.signum() == 0) {
+                return Long.valueOf(0);
+            }
+            decimal = decimal.stripTrailingZeros();
+            return decimal.scale() <= 0 ? normalizeNumber(decimal.toBigIntegerExact()) : decimal;
+        } else if (value instanceof Float || value instanceof Double) {
+            double d = ((Number) value).doubleValue();
+            if (Double.isNaN(d) || Double.isInfinite(d)) {
+                return value;
+            }
+            return normalizeNumber(new BigDecimal(d));
+        } else {
+            return value;
+        }
+    }
+
+    /**
+     * Fetch the rows for the given keys
+     *
+     * @param keys keys
+     * @param chunkSize maximum amount of keys per chunk
+     * @param executor executor for the concurrent execution of the chunks or null
+     * @return rows in the order of the keys
+     */
+    public List<R> execute(Collection<? extends K> keys, int chunkSize, @Nullable ExecutorService executor) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive, was " + chunkSize);
+        }
+        Map<Object, K> distinct = Maps.newLinkedHashMap();
+        for (K key : keys) {
+            if (key != null) {
+                Object normalized = normalize(key);
+                if (!distinct.containsKey(normalized)) {
+                    distinct.put(normalized, key);
+                }
+            }
+        }
+        if (distinct.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<List<K>> chunks = Lists.partition(new ArrayList<K>(distinct.values()), chunkSize);
+        List<List<R>> results;
+        if (executor == null || chunks.size() == 1) {
+            results = new ArrayList<List<R>>(chunks.size());
+            for (List<K> chunk : chunks) {
+                results.add(fetch(chunk));
+            }
+        } else {
+            results = fetchConcurrently(chunks, executor);
+        }
+
+        ListMultimap<Object, R> rowsByKey = ArrayListMultimap.create();
+        for (List<R> rows : results) {
+            for (R row : rows) {
+                rowsByKey.put(getKey(row), row);
+            }
+        }
+        List<R> rv = new ArrayList<R>(rowsByKey.size());
+        for (Object key : distinct.keySet()) {
+            rv.addAll(rowsByKey.get(key));
+        }
+        return rv;
+    }
+
+    private List<List<R>> fetchConcurrently(List<List<K>> chunks, ExecutorService executor) {
+        List<Future<List<R>>> futures = new ArrayList<Future<List<R>>>(chunks.size());
+        for (final List<K> chunk : chunks) {
+            futures.add(executor.submit(new Callable<List<R>>() {
+                @Override
+                public List<R> call() {
+                    return fetch(chunk);
+                }
+            }));
+        }
+        List<List<R>> results = new ArrayList<List<R>>(chunks.size());
+        try {
+            for (Future<List<R>> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new QueryException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new QueryException(e.getCause());
+        } finally {
+            if (results.size() < futures.size()) {
+                for (Future<List<R>> future : futures) {
+                    future.cancel(true);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.core.types;
+
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * {@code ExpressionInterner} maps structurally equal expressions to canonical instances
+ *
+ * <p>Operations and templates are interned bottom-up, so that canonical nodes share canonical
+ * arguments. Equality checks between interned trees stop at the first identical argument instead
+ * of comparing the full subtrees, and the structural hash of each node is computed only once.
+ * Paths and constants are interned as they are. Factory expressions, parameters and subqueries
+ * are not interned. DSL expressions are interned via their underlying expressions, so the
+ * canonical instance of a {@code StringPath} is its {@link PathImpl}.</p>
+ *
+ * <p>Canonical instances are referenced weakly, so interning doesn't prevent unused expressions
+ * from being garbage collected.</p>
+ *
+ * <p>Usage:</p>
+ * <pre>
+ * ExpressionInterner interner = new ExpressionInterner();
+ * Predicate predicate = interner.intern(customer.name.eq("Bob"));
+ * </pre>
+ */
+public final class ExpressionInterner {
+
+    private final Interner<Expression<?>> interner = Interners.newWeakInterner();
+
+    private final Visitor<Expression<?>, Void> visitor = new Visitor<Expression<?>, Void>() {
+
+        @Override
+        public Expression<?> visit(Constant<?> expr, Void context) {
+            return interner.intern(expr);
+        }
+
+        @Override
+        public Expression<?> visit(FactoryExpression<?> expr, Void context) {
+            return expr;
+        }
+
+        @Override
+        public Expression<?> visit(Operation<?> expr, Void context) {
+            ImmutableList<Expression<?>> args = internArgs(expr.getArgs());
+            if (args == null) {
+                return interner.intern(expr);
+            } else if (expr instanceof Predicate) {
+                return interner.intern(ExpressionUtils.predicate(expr.getOperator(), args));
+            } else {
+                return interner.intern(ExpressionUtils.operation(expr.getType(), expr.getOperator(), args));
+            }
+        }
+
+        @Override
+        public Expression<?> visit(ParamExpression<?> expr, Void context) {
+            return expr;
+        }
+
+        @Override
+        public Expression<?> visit(Path<?> expr, Void context) {
+            return interner.intern(expr);
+        }
+
+        @Override
+        public Expression<?> visit(SubQueryExpression<?> expr, Void context) {
+            return expr;
+        }
+
+        @Override
+        public Expression<?> visit(TemplateExpression<?> expr, Void context) {
+            ImmutableList<Object> args = internTemplateArgs(expr.getArgs());
+            if (args == null) {
+                return interner.intern(expr);
+            } else if (expr instanceof Predicate) {
+                return interner.intern(ExpressionUtils.predicateTemplate(expr.getTemplate(), args));
+            } else {
+                return interner.intern(ExpressionUtils.template(expr.getType(), expr.getTemplate(), args));
+            }
+        }
+
+    };
+
+    /**
+     * Get the canonical instance of the given expression
+     *
+     * @param expr expression
+     * @return canonical instance, which is equal to the given expression
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Expression<T> intern(Expression<T> expr) {
+        return (Expression<T>) expr.accept(visitor, null);
+    }
+
+    /**
+     * Get the canonical instance of the given predicate
+     *
+     * @param predicate predicate
+     * @return canonical instance, which is equal to the given predicate
+     */
+    public Predicate intern(Predicate predicate) {
+        // boolean paths are backed by non predicate paths
+        Expression<?> rv = predicate.accept(visitor, null);
+        return rv instanceof Predicate ? (Predicate) rv : predicate;
+    }
+
+    /**
+     * Intern the given arguments
+     *
+     * @return interned arguments or null, if the arguments are already canonical
+     */
+    private ImmutableList<Expression<?>> internArgs(List<Expression<?>> args) {
+        Expression<?>[] interned = null;
+        for (int i = 0; i < args.size(); i++) {
+            Expression<?> arg = args.get(i);
+            Expression<?> canonical = arg.accept(visitor, null);
+            if (canonical != arg && interned == null) {
+                interned = args.toArray(new Expression<?>[args.size()]);
+            }
+            if (interned != null) {
+                interned[i] = canonical;
+            }
+        }
+        return interned != null ? ImmutableList.copyOf(interned) : null;
+    }
+
+    private ImmutableList<Object> internTemplateArgs(List<?> args) {
+        Object[] interned = null;
+        for (int i = 0; i < args.size(); i++) {
+            Object arg = args.get(i);
+            if (arg instanceof Expression<?>) {
+                Expression<?> canonical = ((Expression<?>) arg).accept(visitor, null);
+                if (canonical != arg && interned == null) {
+                    interned = args.toArray();
+                }
+                if (interned != null) {
+                    interned[i] = canonical;
+                }
+            }
+        }
+        return interned != null ? ImmutableList.copyOf(interned) : null;
+    }
+
+}
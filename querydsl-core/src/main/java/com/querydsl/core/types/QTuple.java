@@ -130,7 +130,7 @@ public class QTuple extends FactoryExpressionBase<Tuple> {
 
     private final ImmutableList<Expression<?>> args;
 
-    private final ImmutableMap<Expression<?>, Integer> bindings;
+    final ImmutableMap<Expression<?>, Integer> bindings;
 
     /**
      * Create a new QTuple instance
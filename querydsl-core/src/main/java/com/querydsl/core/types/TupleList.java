@@ -0,0 +1,199 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.core.types;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+import javax.annotation.Nullable;
+
+import com.querydsl.core.Tuple;
+
+/**
+ * {@code TupleList} is a compact list of {@link Tuple} rows of a {@link QTuple} projection
+ *
+ * <p>All rows are stored in a single row-major backing array. The elements of the list are
+ * flyweight views of their rows, which are created on access.</p>
+ *
+ * <p>Rows are appended via {@link #addRow()} and {@link #set(int, int, Object)}. The list can't
+ * be modified otherwise.</p>
+ */
+public final class TupleList extends AbstractList<Tuple> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 4346212815004733211L;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final class Row implements Tuple, Serializable {
+
+        private static final long serialVersionUID = -6409613254584101418L;
+
+        private final int offset;
+
+        private Row(int row) {
+            this.offset = row * width;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> T get(int index, Class<T> type) {
+            checkColumn(index);
+            return (T) data[offset + index];
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> T get(Expression<T> expr) {
+            Integer idx = projection.bindings.get(expr);
+            if (idx != null) {
+                return (T) data[offset + idx];
+            } else {
+                return null;
+            }
+        }
+
+        @Override
+        public int size() {
+            return width;
+        }
+
+        @Override
+        public Object[] toArray() {
+            return Arrays.copyOfRange(data, offset, offset + width);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            } else if (obj instanceof Tuple) {
+                Tuple other = (Tuple) obj;
+                if (other.size() != width) {
+                    return false;
+                }
+                for (int i = 0; i < width; i++) {
+                    Object value = data[offset + i];
+                    Object otherValue = other.get(i, Object.class);
+                    if (value == null ? otherValue != null : !value.equals(otherValue)) {
+                        return false;
+                    }
+                }
+                return true;
+            } else {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            int result = 1;
+            for (int i = 0; i < width; i++) {
+                Object value = data[offset + i];
+                result = 31 * result + (value == null ? 0 : value.hashCode());
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(toArray());
+        }
+
+        private Object writeReplace() {
+            return projection.newInstance(toArray());
+        }
+    }
+
+    private final QTuple projection;
+
+    private final int width;
+
+    private Object[] data;
+
+    private int size;
+
+    public TupleList(QTuple projection) {
+        this(projection, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a new TupleList instance
+     *
+     * @param projection tuple projection
+     * @param capacity initial capacity in rows
+     */
+    public TupleList(QTuple projection, int capacity) {
+        this.projection = projection;
+        this.width = projection.getArgs().size();
+        this.data = new Object[Math.max(capacity, 1) * width];
+    }
+
+    /**
+     * Append a row with null values
+     *
+     * @return index of the new row
+     */
+    public int addRow() {
+        int required = (size + 1) * width;
+        if (required > data.length) {
+            int capacity = Math.max(DEFAULT_CAPACITY, size + (size >> 1));
+            data = Arrays.copyOf(data, capacity * width);
+        }
+        modCount++;
+        return size++;
+    }
+
+    /**
+     * Set the value of the given row and column
+     *
+     * @param row row index
+     * @param column column index
+     * @param value value
+     */
+    public void set(int row, int column, @Nullable Object value) {
+        checkRow(row);
+        checkColumn(column);
+        data[row * width + column] = value;
+    }
+
+    @Override
+    public Tuple get(int index) {
+        checkRow(index);
+        return new Row(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public QTuple getProjection() {
+        return projection;
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+        }
+    }
+
+    private void checkColumn(int column) {
+        if (column < 0 || column >= width) {
+            throw new IndexOutOfBoundsException("Column " + column + " of " + width);
+        }
+    }
+
+}
@@ -16,7 +16,6 @@ package com.querydsl.core.types.dsl;
 import java.lang.reflect.AnnotatedElement;
 
 import javax.annotation.Nonnegative;
-import javax.annotation.Nullable;
 
 import com.google.common.primitives.Primitives;
 import com.querydsl.core.types.*;
@@ -37,9 +36,6 @@ public class ArrayPath<A, E> extends SimpleExpression<A> implements Path<A>, Arr
 
     private final PathImpl<A> pathMixin;
 
-    @Nullable
-    private transient volatile NumberExpression<Integer> size;
-
     protected ArrayPath(Class<? super A> type, String variable) {
         this(type, PathMetadataFactory.forVariable(variable));
     }
@@ -93,8 +89,9 @@ public class ArrayPath<A, E> extends SimpleExpression<A> implements Path<A>, Arr
 
     @Override
     public NumberExpression<Integer> size() {
+        NumberExpression<Integer> size = getMemoized(MemoKey.SIZE);
         if (size == null) {
-            size = Expressions.numberOperation(Integer.class, Ops.ARRAY_SIZE, pathMixin);
+            size = memoize(MemoKey.SIZE, Expressions.numberOperation(Integer.class, Ops.ARRAY_SIZE, pathMixin));
         }
         return size;
     }
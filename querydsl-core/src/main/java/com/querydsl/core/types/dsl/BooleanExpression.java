@@ -28,12 +28,6 @@ public abstract class BooleanExpression extends LiteralExpression<Boolean> imple
 
     private static final long serialVersionUID = 3797956062512074164L;
 
-    @Nullable
-    private transient volatile BooleanExpression eqTrue, eqFalse;
-
-    @Nullable
-    private transient volatile BooleanExpression not;
-
     public BooleanExpression(Expression<Boolean> mixin) {
         super(mixin);
     }
@@ -86,9 +80,10 @@ public abstract class BooleanExpression extends LiteralExpression<Boolean> imple
      */
     @Override
     public BooleanExpression not() {
+        BooleanExpression not = getMemoized(MemoKey.NOT);
         if (not == null) {
             // uses this, because it makes unwrapping easier
-            not = Expressions.booleanOperation(Ops.NOT, this);
+            not = memoize(MemoKey.NOT, Expressions.booleanOperation(Ops.NOT, this));
         }
         return not;
     }
@@ -143,13 +138,15 @@ public abstract class BooleanExpression extends LiteralExpression<Boolean> imple
     @Override
     public BooleanExpression eq(Boolean right) {
         if (right) {
+            BooleanExpression eqTrue = getMemoized(MemoKey.EQ_TRUE);
             if (eqTrue == null) {
-                eqTrue = super.eq(true);
+                eqTrue = memoize(MemoKey.EQ_TRUE, super.eq(true));
             }
             return eqTrue;
         } else {
+            BooleanExpression eqFalse = getMemoized(MemoKey.EQ_FALSE);
             if (eqFalse == null) {
-                eqFalse = super.eq(false);
+                eqFalse = memoize(MemoKey.EQ_FALSE, super.eq(false));
             }
             return eqFalse;
         }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.core.types.dsl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.base.Optional;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+/**
+ * {@code CachingPathBuilderValidator} memoizes the results of another {@link PathBuilderValidator}
+ *
+ * <p>The results are cached per parent class, property name and property type. Parent classes
+ * are referenced weakly and the results softly. Cache hits don't allocate any objects.</p>
+ */
+public class CachingPathBuilderValidator implements PathBuilderValidator {
+
+    private static final long serialVersionUID = 3153716587146591416L;
+
+    private final PathBuilderValidator validator;
+
+    private final transient LoadingCache<Class<?>, ConcurrentMap<String, ConcurrentMap<Class<?>, Optional<Class<?>>>>> cache =
+            CacheBuilder.newBuilder().weakKeys().softValues().build(
+                new CacheLoader<Class<?>, ConcurrentMap<String, ConcurrentMap<Class<?>, Optional<Class<?>>>>>() {
+                    @Override
+                    public ConcurrentMap<String, ConcurrentMap<Class<?>, Optional<Class<?>>>> load(Class<?> parent) {
+                        return new ConcurrentHashMap<String, ConcurrentMap<Class<?>, Optional<Class<?>>>>();
+                    }
+                });
+
+    public CachingPathBuilderValidator(PathBuilderValidator validator) {
+        this.validator = validator;
+    }
+
+    @Override
+    public Class<?> validate(Class<?> parent, String property, Class<?> propertyType) {
+        ConcurrentMap<String, ConcurrentMap<Class<?>, Optional<Class<?>>>> properties = cache.getUnchecked(parent);
+        ConcurrentMap<Class<?>, Optional<Class<?>>> types = properties.get(property);
+        if (types == null) {
+            types = new ConcurrentHashMap<Class<?>, Optional<Class<?>>>();
+            ConcurrentMap<Class<?>, Optional<Class<?>>> existing = properties.putIfAbsent(property, types);
+            if (existing != null) {
+                types = existing;
+            }
+        }
+        Optional<Class<?>> result = types.get(propertyType);
+        if (result == null) {
+            result = Optional.<Class<?>>fromNullable(validator.validate(parent, property, propertyType));
+            types.put(propertyType, result);
+        }
+        return result.orNull();
+    }
+
+    private Object readResolve() {
+        return new CachingPathBuilderValidator(validator);
+    }
+
+}
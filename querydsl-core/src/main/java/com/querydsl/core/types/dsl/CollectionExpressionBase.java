@@ -15,8 +15,6 @@ package com.querydsl.core.types.dsl;
 
 import java.util.Collection;
 
-import javax.annotation.Nullable;
-
 import com.querydsl.core.types.*;
 
 /**
@@ -31,12 +29,6 @@ public abstract class CollectionExpressionBase<T extends Collection<E>, E> exten
 
     private static final long serialVersionUID = 691230660037162054L;
 
-    @Nullable
-    private transient volatile BooleanExpression empty;
-
-    @Nullable
-    private transient volatile NumberExpression<Integer> size;
-
     public CollectionExpressionBase(Expression<T> mixin) {
         super(mixin);
     }
@@ -84,8 +76,9 @@ public abstract class CollectionExpressionBase<T extends Collection<E>, E> exten
      * @return this.isEmpty()
      */
     public final BooleanExpression isEmpty() {
+        BooleanExpression empty = getMemoized(MemoKey.EMPTY);
         if (empty == null) {
-            empty = Expressions.booleanOperation(Ops.COL_IS_EMPTY, mixin);
+            empty = memoize(MemoKey.EMPTY, Expressions.booleanOperation(Ops.COL_IS_EMPTY, mixin));
         }
         return empty;
     }
@@ -109,8 +102,9 @@ public abstract class CollectionExpressionBase<T extends Collection<E>, E> exten
      * @return this.size()
      */
     public final NumberExpression<Integer> size() {
+        NumberExpression<Integer> size = getMemoized(MemoKey.SIZE);
         if (size == null) {
-            size = Expressions.numberOperation(Integer.class, Ops.COL_SIZE, mixin);
+            size = memoize(MemoKey.SIZE, Expressions.numberOperation(Integer.class, Ops.COL_SIZE, mixin));
         }
         return size;
     }
@@ -13,8 +13,6 @@
  */
 package com.querydsl.core.types.dsl;
 
-import javax.annotation.Nullable;
-
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
@@ -31,9 +29,6 @@ public abstract class ComparableExpressionBase<T extends Comparable> extends Sim
 
     private static final long serialVersionUID = 1460921109546656911L;
 
-    @Nullable
-    private transient volatile OrderSpecifier<T> asc, desc;
-
     public ComparableExpressionBase(Expression<T> mixin) {
         super(mixin);
     }
@@ -44,8 +39,9 @@ public abstract class ComparableExpressionBase<T extends Comparable> extends Sim
      * @return ascending order by this
      */
     public final OrderSpecifier<T> asc() {
+        OrderSpecifier<T> asc = getMemoized(MemoKey.ASC);
         if (asc == null) {
-            asc = new OrderSpecifier<T>(Order.ASC, mixin);
+            asc = memoize(MemoKey.ASC, new OrderSpecifier<T>(Order.ASC, mixin));
         }
         return asc;
     }
@@ -85,8 +81,9 @@ public abstract class ComparableExpressionBase<T extends Comparable> extends Sim
      * @return descending order by this
      */
     public final OrderSpecifier<T> desc() {
+        OrderSpecifier<T> desc = getMemoized(MemoKey.DESC);
         if (desc == null) {
-            desc = new OrderSpecifier<T>(Order.DESC, mixin);
+            desc = memoize(MemoKey.DESC, new OrderSpecifier<T>(Order.DESC, mixin));
         }
         return desc;
     }
@@ -15,8 +15,6 @@ package com.querydsl.core.types.dsl;
 
 import java.util.Date;
 
-import javax.annotation.Nullable;
-
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.Ops;
@@ -58,15 +56,6 @@ public abstract class DateExpression<T extends Comparable> extends TemporalExpre
         return Expressions.dateOperation(cl, Ops.DateTimeOps.CURRENT_DATE);
     }
 
-    @Nullable
-    private transient volatile NumberExpression<Integer> dayOfMonth, dayOfWeek, dayOfYear;
-
-    @Nullable
-    private transient volatile DateExpression<T> min, max;
-
-    @Nullable
-    private transient volatile NumberExpression<Integer> week, month, year, yearMonth, yearWeek;
-
     public DateExpression(Expression<T> mixin) {
         super(mixin);
     }
@@ -87,8 +76,9 @@ public abstract class DateExpression<T extends Comparable> extends TemporalExpre
      * @return day of month
      */
     public NumberExpression<Integer> dayOfMonth() {
+        NumberExpression<Integer> dayOfMonth = getMemoized(MemoKey.DAY_OF_MONTH);
         if (dayOfMonth == null) {
-            dayOfMonth = Expressions.numberOperation(Integer.class, Ops.DateTimeOps.DAY_OF_MONTH, mixin);
+            dayOfMonth = memoize(MemoKey.DAY_OF_MONTH, Expressions.numberOperation(Integer.class, Ops.DateTimeOps.DAY_OF_MONTH, mixin));
         }
         return dayOfMonth;
     }
@@ -100,8 +90,9 @@ public abstract class DateExpression<T extends Comparable> extends TemporalExpre
      * @return day of week
      */
     public NumberExpression<Integer> dayOfWeek() {
+        NumberExpression<Integer> dayOfWeek = getMemoized(MemoKey.DAY_OF_WEEK);
         if (dayOfWeek == null) {
-            dayOfWeek = Expressions.numberOperation(Integer.class, Ops.DateTimeOps.DAY_OF_WEEK, mixin);
+            dayOfWeek = memoize(MemoKey.DAY_OF_WEEK, Expressions.numberOperation(Integer.class, Ops.DateTimeOps.DAY_OF_WEEK, mixin));
         }
         return dayOfWeek;
     }
@@ -113,8 +104,9 @@ public abstract class DateExpression<T extends Comparable> extends TemporalExpre
      * @return day of year
      */
     public NumberExpression<Integer> dayOfYear() {
+        NumberExpression<Integer> dayOfYear = getMemoized(MemoKey.DAY_OF_YEAR);
         if (dayOfYear == null) {
-            dayOfYear = Expressions.numberOperation(Integer.class, Ops.DateTimeOps.DAY_OF_YEAR, mixin);
+            dayOfYear = memoize(MemoKey.DAY_OF_YEAR, Expressions.numberOperation(Integer.class, Ops.DateTimeOps.DAY_OF_YEAR, mixin));
         }
         return dayOfYear;
     }
@@ -125,8 +117,9 @@ public abstract class DateExpression<T extends Comparable> extends TemporalExpre
      * @return max(this)
      */
     public DateExpression<T> max() {
+        DateExpression<T> max = getMemoized(MemoKey.MAX);
         if (max == null) {
-            max = Expressions.dateOperation(getType(), Ops.AggOps.MAX_AGG, mixin);
+            max = memoize(MemoKey.MAX, Expressions.dateOperation(getType(), Ops.AggOps.MAX_AGG, mixin));
         }
         return max;
     }
@@ -137,8 +130,9 @@ public abstract class DateExpression<T extends Comparable> extends TemporalExpre
      * @return min(this)
      */
     public DateExpression<T> min() {
+        DateExpression<T> min = getMemoized(MemoKey.MIN);
         if (min == null) {
-            min = Expressions.dateOperation(getType(), Ops.AggOps.MIN_AGG, mixin);
+            min = memoize(MemoKey.MIN, Expressions.dateOperation(getType(), Ops.AggOps.MIN_AGG, mixin));
         }
         return min;
     }
@@ -149,8 +143,9 @@ public abstract class DateExpression<T extends Comparable> extends TemporalExpre
      * @return month
      */
     public NumberExpression<Integer> month() {
+        NumberExpression<Integer> month = getMemoized(MemoKey.MONTH);
         if (month == null) {
-            month = Expressions.numberOperation(Integer.class, Ops.DateTimeOps.MONTH, mixin);
+            month = memoize(MemoKey.MONTH, Expressions.numberOperation(Integer.class, Ops.DateTimeOps.MONTH, mixin));
         }
         return month;
     }
@@ -161,8 +156,9 @@ public abstract class DateExpression<T extends Comparable> extends TemporalExpre
      * @return week
      */
     public NumberExpression<Integer> week() {
+        NumberExpression<Integer> week = getMemoized(MemoKey.WEEK);
         if (week == null) {
-            week = Expressions.numberOperation(Integer.class, Ops.DateTimeOps.WEEK,  mixin);
+            week = memoize(MemoKey.WEEK, Expressions.numberOperation(Integer.class, Ops.DateTimeOps.WEEK,  mixin));
         }
         return week;
     }
@@ -173,8 +169,9 @@ public abstract class DateExpression<T extends Comparable> extends TemporalExpre
      * @return year
      */
     public NumberExpression<Integer> year() {
+        NumberExpression<Integer> year = getMemoized(MemoKey.YEAR);
         if (year == null) {
-            year = Expressions.numberOperation(Integer.class, Ops.DateTimeOps.YEAR, mixin);
+            year = memoize(MemoKey.YEAR, Expressions.numberOperation(Integer.class, Ops.DateTimeOps.YEAR, mixin));
         }
         return year;
     }
@@ -185,8 +182,9 @@ public abstract class DateExpression<T extends Comparable> extends TemporalExpre
      * @return year month
      */
     public NumberExpression<Integer> yearMonth() {
+        NumberExpression<Integer> yearMonth = getMemoized(MemoKey.YEAR_MONTH);
         if (yearMonth == null) {
-            yearMonth = Expressions.numberOperation(Integer.class, Ops.DateTimeOps.YEAR_MONTH, mixin);
+            yearMonth = memoize(MemoKey.YEAR_MONTH, Expressions.numberOperation(Integer.class, Ops.DateTimeOps.YEAR_MONTH, mixin));
         }
         return yearMonth;
     }
@@ -197,8 +195,9 @@ public abstract class DateExpression<T extends Comparable> extends TemporalExpre
      * @return year week
      */
     public NumberExpression<Integer> yearWeek() {
+        NumberExpression<Integer> yearWeek = getMemoized(MemoKey.YEAR_WEEK);
         if (yearWeek == null) {
-            yearWeek = Expressions.numberOperation(Integer.class, Ops.DateTimeOps.YEAR_WEEK, mixin);
+            yearWeek = memoize(MemoKey.YEAR_WEEK, Expressions.numberOperation(Integer.class, Ops.DateTimeOps.YEAR_WEEK, mixin));
         }
         return yearWeek;
     }
@@ -15,8 +15,6 @@ package com.querydsl.core.types.dsl;
 
 import java.util.Date;
 
-import javax.annotation.Nullable;
-
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.Ops;
@@ -76,18 +74,6 @@ public abstract class DateTimeExpression<T extends Comparable> extends TemporalE
         return Expressions.dateTimeOperation(cl, Ops.DateTimeOps.CURRENT_TIMESTAMP);
     }
 
-    @Nullable
-    private transient volatile NumberExpression<Integer> dayOfMonth, dayOfWeek, dayOfYear;
-
-    @Nullable
-    private transient volatile NumberExpression<Integer> hours, minutes, seconds, milliseconds;
-
-    @Nullable
-    private transient volatile DateTimeExpression<T> min, max;
-
-    @Nullable
-    private transient volatile NumberExpression<Integer> week, month, year, yearMonth, yearWeek;
-
     public DateTimeExpression(Expression<T> mixin) {
         super(mixin);
     }
@@ -108,8 +94,9 @@ public abstract class DateTimeExpression<T extends Comparable> extends TemporalE
      * @return day of month
      */
     public NumberExpression<Integer> dayOfMonth() {
+        NumberExpression<Integer> dayOfMonth = getMemoized(MemoKey.DAY_OF_MONTH);
         if (dayOfMonth == null) {
-            dayOfMonth = Expressions.numberOperation(Integer.class, Ops.DateTimeOps.DAY_OF_MONTH, mixin);
+            dayOfMonth = memoize(MemoKey.DAY_OF_MONTH, Expressions.numberOperation(Integer.class, Ops.DateTimeOps.DAY_OF_MONTH, mixin));
         }
         return dayOfMonth;
     }
@@ -121,8 +108,9 @@ public abstract class DateTimeExpression<T extends Comparable> extends TemporalE
      * @return day of week
      */
     public NumberExpression<Integer> dayOfWeek() {
+        NumberExpression<Integer> dayOfWeek = getMemoized(MemoKey.DAY_OF_WEEK);
         if (dayOfWeek == null) {
-            dayOfWeek = Expressions.numberOperation(Integer.class, Ops.DateTimeOps.DAY_OF_WEEK, mixin);
+            dayOfWeek = memoize(MemoKey.DAY_OF_WEEK, Expressions.numberOperation(Integer.class, Ops.DateTimeOps.DAY_OF_WEEK, mixin));
         }
         return dayOfWeek;
     }
@@ -134,8 +122,9 @@ public abstract class DateTimeExpression<T extends Comparable> extends TemporalE
      * @return day of year
      */
     public NumberExpression<Integer> dayOfYear() {
+        NumberExpression<Integer> dayOfYear = getMemoized(MemoKey.DAY_OF_YEAR);
         if (dayOfYear == null) {
-            dayOfYear = Expressions.numberOperation(Integer.class, Ops.DateTimeOps.DAY_OF_YEAR, mixin);
+            dayOfYear = memoize(MemoKey.DAY_OF_YEAR, Expressions.numberOperation(Integer.class, Ops.DateTimeOps.DAY_OF_YEAR, mixin));
         }
         return dayOfYear;
     }
@@ -146,8 +135,9 @@ public abstract class DateTimeExpression<T extends Comparable> extends TemporalE
      * @return hour
      */
     public NumberExpression<Integer> hour() {
+        NumberExpression<Integer> hours = getMemoized(MemoKey.HOURS);
         if (hours == null) {
-            hours = Expressions.numberOperation(Integer.class, Ops.DateTimeOps.HOUR, mixin);
+            hours = memoize(MemoKey.HOURS, Expressions.numberOperation(Integer.class, Ops.DateTimeOps.HOUR, mixin));
         }
         return hours;
     }
@@ -158,8 +148,9 @@ public abstract class DateTimeExpression<T extends Comparable> extends TemporalE
      * @return max(this)
      */
     public DateTimeExpression<T> max() {
+        DateTimeExpression<T> max = getMemoized(MemoKey.MAX);
         if (max == null) {
-            max = Expressions.dateTimeOperation(getType(), Ops.AggOps.MAX_AGG, mixin);
+            max = memoize(MemoKey.MAX, Expressions.dateTimeOperation(getType(), Ops.AggOps.MAX_AGG, mixin));
         }
         return max;
     }
@@ -171,8 +162,9 @@ public abstract class DateTimeExpression<T extends Comparable> extends TemporalE
      * @return milli seconds
      */
     public NumberExpression<Integer> milliSecond() {
+        NumberExpression<Integer> milliseconds = getMemoized(MemoKey.MILLISECONDS);
         if (milliseconds == null) {
-            milliseconds = Expressions.numberOperation(Integer.class, Ops.DateTimeOps.MILLISECOND, mixin);
+            milliseconds = memoize(MemoKey.MILLISECONDS, Expressions.numberOperation(Integer.class, Ops.DateTimeOps.MILLISECOND, mixin));
         }
         return milliseconds;
     }
@@ -183,8 +175,9 @@ public abstract class DateTimeExpression<T extends Comparable> extends TemporalE
      * @return min(this)
      */
     public DateTimeExpression<T> min() {
+        DateTimeExpression<T> min = getMemoized(MemoKey.MIN);
         if (min == null) {
-            min = Expressions.dateTimeOperation(getType(), Ops.AggOps.MIN_AGG, mixin);
+            min = memoize(MemoKey.MIN, Expressions.dateTimeOperation(getType(), Ops.AggOps.MIN_AGG, mixin));
         }
         return min;
     }
@@ -195,8 +188,9 @@ public abstract class DateTimeExpression<T extends Comparable> extends TemporalE
      * @return minute
      */
     public NumberExpression<Integer> minute() {
+        NumberExpression<Integer> minutes = getMemoized(MemoKey.MINUTES);
         if (minutes == null) {
-            minutes = Expressions.numberOperation(Integer.class, Ops.DateTimeOps.MINUTE, mixin);
+            minutes = memoize(MemoKey.MINUTES, Expressions.numberOperation(Integer.class, Ops.DateTimeOps.MINUTE, mixin));
         }
         return minutes;
     }
@@ -207,8 +201,9 @@ public abstract class DateTimeExpression<T extends Comparable> extends TemporalE
      * @return month
      */
     public NumberExpression<Integer> month() {
+        NumberExpression<Integer> month = getMemoized(MemoKey.MONTH);
         if (month == null) {
-            month = Expressions.numberOperation(Integer.class, Ops.DateTimeOps.MONTH, mixin);
+            month = memoize(MemoKey.MONTH, Expressions.numberOperation(Integer.class, Ops.DateTimeOps.MONTH, mixin));
         }
         return month;
     }
@@ -219,8 +214,9 @@ public abstract class DateTimeExpression<T extends Comparable> extends TemporalE
      * @return second
      */
     public NumberExpression<Integer> second() {
+        NumberExpression<Integer> seconds = getMemoized(MemoKey.SECONDS);
         if (seconds == null) {
-            seconds = Expressions.numberOperation(Integer.class, Ops.DateTimeOps.SECOND, mixin);
+            seconds = memoize(MemoKey.SECONDS, Expressions.numberOperation(Integer.class, Ops.DateTimeOps.SECOND, mixin));
         }
         return seconds;
     }
@@ -231,8 +227,9 @@ public abstract class DateTimeExpression<T extends Comparable> extends TemporalE
      * @return week
      */
     public NumberExpression<Integer> week() {
+        NumberExpression<Integer> week = getMemoized(MemoKey.WEEK);
         if (week == null) {
-            week = Expressions.numberOperation(Integer.class, Ops.DateTimeOps.WEEK,  mixin);
+            week = memoize(MemoKey.WEEK, Expressions.numberOperation(Integer.class, Ops.DateTimeOps.WEEK,  mixin));
         }
         return week;
     }
@@ -243,8 +240,9 @@ public abstract class DateTimeExpression<T extends Comparable> extends TemporalE
      * @return year
      */
     public NumberExpression<Integer> year() {
+        NumberExpression<Integer> year = getMemoized(MemoKey.YEAR);
         if (year == null) {
-            year = Expressions.numberOperation(Integer.class, Ops.DateTimeOps.YEAR, mixin);
+            year = memoize(MemoKey.YEAR, Expressions.numberOperation(Integer.class, Ops.DateTimeOps.YEAR, mixin));
         }
         return year;
     }
@@ -255,8 +253,9 @@ public abstract class DateTimeExpression<T extends Comparable> extends TemporalE
      * @return year month
      */
     public NumberExpression<Integer> yearMonth() {
+        NumberExpression<Integer> yearMonth = getMemoized(MemoKey.YEAR_MONTH);
         if (yearMonth == null) {
-            yearMonth = Expressions.numberOperation(Integer.class, Ops.DateTimeOps.YEAR_MONTH, mixin);
+            yearMonth = memoize(MemoKey.YEAR_MONTH, Expressions.numberOperation(Integer.class, Ops.DateTimeOps.YEAR_MONTH, mixin));
         }
         return yearMonth;
     }
@@ -267,8 +266,9 @@ public abstract class DateTimeExpression<T extends Comparable> extends TemporalE
      * @return year week
      */
     public NumberExpression<Integer> yearWeek() {
+        NumberExpression<Integer> yearWeek = getMemoized(MemoKey.YEAR_WEEK);
         if (yearWeek == null) {
-            yearWeek = Expressions.numberOperation(Integer.class, Ops.DateTimeOps.YEAR_WEEK, mixin);
+            yearWeek = memoize(MemoKey.YEAR_WEEK, Expressions.numberOperation(Integer.class, Ops.DateTimeOps.YEAR_WEEK, mixin));
         }
         return yearWeek;
     }
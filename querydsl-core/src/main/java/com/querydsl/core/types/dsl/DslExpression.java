@@ -13,6 +13,10 @@
  */
 package com.querydsl.core.types.dsl;
 
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.Ops;
@@ -33,6 +37,10 @@ public abstract class DslExpression<T> implements Expression<T> {
 
     protected final int hashCode;
 
+    // memoized derived expressions as key value pairs, allocated on first use
+    @Nullable
+    private transient volatile Object[] memoized;
+
     public DslExpression(Expression<T> mixin) {
         this.mixin = mixin;
         this.hashCode = mixin.hashCode();
@@ -62,6 +70,50 @@ public abstract class DslExpression<T> implements Expression<T> {
         return as(ExpressionUtils.path(getType(), alias));
     }
 
+    /**
+     * Get the memoized derived expression for the given key
+     *
+     * @param key key of the derived expression
+     * @return derived expression or null, if not yet memoized
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    final <E> E getMemoized(MemoKey key) {
+        Object[] entries = memoized;
+        if (entries != null) {
+            for (int i = 0; i < entries.length; i += 2) {
+                if (entries[i] == key) {
+                    return (E) entries[i + 1];
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Memoize the given derived expression
+     *
+     * <p>The entries are copied on write. Concurrent writes may drop an entry, which is then
+     * created again on the next access.</p>
+     *
+     * @param key key of the derived expression
+     * @param value derived expression
+     * @return the given value
+     */
+    final <E> E memoize(MemoKey key, E value) {
+        Object[] entries = memoized;
+        Object[] newEntries;
+        if (entries == null) {
+            newEntries = new Object[2];
+        } else {
+            newEntries = Arrays.copyOf(entries, entries.length + 2);
+        }
+        newEntries[newEntries.length - 2] = key;
+        newEntries[newEntries.length - 1] = value;
+        memoized = newEntries;
+        return value;
+    }
+
     @Override
     public boolean equals(Object o) { // can be overwritten
         return mixin.equals(o);
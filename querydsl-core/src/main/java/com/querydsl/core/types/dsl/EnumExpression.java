@@ -29,8 +29,6 @@ public abstract class EnumExpression<T extends Enum<T>> extends LiteralExpressio
 
     private static final long serialVersionUID = 8819222316513862829L;
 
-    private transient volatile NumberExpression<Integer> ordinal;
-
     public EnumExpression(Expression<T> mixin) {
         super(mixin);
     }
@@ -51,8 +49,9 @@ public abstract class EnumExpression<T extends Enum<T>> extends LiteralExpressio
      * @return ordinal number
      */
     public NumberExpression<Integer> ordinal() {
+        NumberExpression<Integer> ordinal = getMemoized(MemoKey.ORDINAL);
         if (ordinal == null) {
-            ordinal = Expressions.numberOperation(Integer.class, Ops.ORDINAL, mixin);
+            ordinal = memoize(MemoKey.ORDINAL, Expressions.numberOperation(Integer.class, Ops.ORDINAL, mixin));
         }
         return ordinal;
     }
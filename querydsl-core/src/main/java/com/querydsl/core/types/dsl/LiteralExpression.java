@@ -13,8 +13,6 @@
  */
 package com.querydsl.core.types.dsl;
 
-import javax.annotation.Nullable;
-
 import com.querydsl.core.types.ConstantImpl;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Ops;
@@ -26,9 +24,6 @@ import com.querydsl.core.types.Ops;
  */
 public abstract class LiteralExpression<T extends Comparable> extends ComparableExpression<T> {
 
-    @Nullable
-    private transient volatile StringExpression stringCast;
-
     public LiteralExpression(Expression<T> mixin) {
         super(mixin);
     }
@@ -51,8 +46,9 @@ public abstract class LiteralExpression<T extends Comparable> extends Comparable
      * @return cast expression
      */
     public StringExpression stringValue() {
+        StringExpression stringCast = getMemoized(MemoKey.STRING_CAST);
         if (stringCast == null) {
-            stringCast = Expressions.stringOperation(Ops.STRING_CAST, mixin);
+            stringCast = memoize(MemoKey.STRING_CAST, Expressions.stringOperation(Ops.STRING_CAST, mixin));
         }
         return stringCast;
     }
@@ -15,8 +15,6 @@ package com.querydsl.core.types.dsl;
 
 import java.util.Map;
 
-import javax.annotation.Nullable;
-
 import com.querydsl.core.types.ConstantImpl;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.MapExpression;
@@ -35,12 +33,6 @@ public abstract class MapExpressionBase<K, V, Q extends SimpleExpression<? super
 
     private static final long serialVersionUID = 2856001983312366841L;
 
-    @Nullable
-    private transient volatile NumberExpression<Integer> size;
-
-    @Nullable
-    private transient volatile BooleanExpression empty;
-
     public MapExpressionBase(Expression<Map<K, V>> mixin) {
         super(mixin);
     }
@@ -130,8 +122,9 @@ public abstract class MapExpressionBase<K, V, Q extends SimpleExpression<? super
      * @return this.isEmpty()
      */
     public final BooleanExpression isEmpty() {
+        BooleanExpression empty = getMemoized(MemoKey.EMPTY);
         if (empty == null) {
-            empty = Expressions.booleanOperation(Ops.MAP_IS_EMPTY, mixin);
+            empty = memoize(MemoKey.EMPTY, Expressions.booleanOperation(Ops.MAP_IS_EMPTY, mixin));
         }
         return empty;
     }
@@ -151,8 +144,9 @@ public abstract class MapExpressionBase<K, V, Q extends SimpleExpression<? super
      * @return this.size()
      */
     public final NumberExpression<Integer> size() {
+        NumberExpression<Integer> size = getMemoized(MemoKey.SIZE);
         if (size == null) {
-            size = Expressions.numberOperation(Integer.class, Ops.MAP_SIZE, mixin);
+            size = memoize(MemoKey.SIZE, Expressions.numberOperation(Integer.class, Ops.MAP_SIZE, mixin));
         }
         return size;
     }
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.core.types.dsl;
+
+/**
+ * {@code MemoKey} identifies the memoized derived expressions of {@link DslExpression} instances
+ */
+enum MemoKey {
+    ABS,
+    ASC,
+    AVG,
+    CEIL,
+    COUNT,
+    COUNT_DISTINCT,
+    DAY_OF_MONTH,
+    DAY_OF_WEEK,
+    DAY_OF_YEAR,
+    DESC,
+    EMPTY,
+    EQ_FALSE,
+    EQ_TRUE,
+    FLOOR,
+    HOURS,
+    ISEMPTY,
+    ISNOTNULL,
+    ISNULL,
+    LENGTH,
+    LOWER,
+    MAX,
+    MILLISECONDS,
+    MIN,
+    MINUTES,
+    MONTH,
+    NEGATION,
+    NOT,
+    ORDINAL,
+    ROUND,
+    SECONDS,
+    SIZE,
+    SQRT,
+    STRING_CAST,
+    SUM,
+    TRIM,
+    UPPER,
+    WEEK,
+    YEAR,
+    YEAR_MONTH,
+    YEAR_WEEK
+}
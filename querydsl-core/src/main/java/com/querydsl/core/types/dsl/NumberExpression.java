@@ -71,18 +71,6 @@ public abstract class NumberExpression<T extends Number & Comparable<?>> extends
         return Constants.RANDOM;
     }
 
-    @Nullable
-    private transient volatile NumberExpression<T> abs, sum, min, max, floor, ceil, round;
-
-    @Nullable
-    private transient volatile NumberExpression<Double> avg, sqrt;
-
-    @Nullable
-    private transient volatile NumberExpression<T> negation;
-
-    @Nullable
-    private transient volatile StringExpression stringCast;
-
     public NumberExpression(Expression<T> mixin) {
         super(mixin);
     }
@@ -104,8 +92,9 @@ public abstract class NumberExpression<T extends Number & Comparable<?>> extends
      * @return string representation
      */
     public StringExpression stringValue() {
+        StringExpression stringCast = getMemoized(MemoKey.STRING_CAST);
         if (stringCast == null) {
-            stringCast = Expressions.stringOperation(Ops.STRING_CAST, mixin);
+            stringCast = memoize(MemoKey.STRING_CAST, Expressions.stringOperation(Ops.STRING_CAST, mixin));
         }
         return stringCast;
     }
@@ -118,8 +107,9 @@ public abstract class NumberExpression<T extends Number & Comparable<?>> extends
      * @return abs(this)
      */
     public NumberExpression<T> abs() {
+        NumberExpression<T> abs = getMemoized(MemoKey.ABS);
         if (abs == null) {
-            abs = Expressions.numberOperation(getType(), MathOps.ABS, mixin);
+            abs = memoize(MemoKey.ABS, Expressions.numberOperation(getType(), MathOps.ABS, mixin));
         }
         return abs;
     }
@@ -156,8 +146,9 @@ public abstract class NumberExpression<T extends Number & Comparable<?>> extends
      *  @return avg(this)
      */
     public NumberExpression<Double> avg() {
+        NumberExpression<Double> avg = getMemoized(MemoKey.AVG);
         if (avg == null) {
-            avg = Expressions.numberOperation(Double.class, Ops.AggOps.AVG_AGG, mixin);
+            avg = memoize(MemoKey.AVG, Expressions.numberOperation(Double.class, Ops.AggOps.AVG_AGG, mixin));
         }
         return avg;
     }
@@ -198,8 +189,9 @@ public abstract class NumberExpression<T extends Number & Comparable<?>> extends
      * @see java.lang.Math#ceil(double)
      */
     public NumberExpression<T> ceil() {
+        NumberExpression<T> ceil = getMemoized(MemoKey.CEIL);
         if (ceil == null) {
-            ceil = Expressions.numberOperation(getType(), MathOps.CEIL, mixin);
+            ceil = memoize(MemoKey.CEIL, Expressions.numberOperation(getType(), MathOps.CEIL, mixin));
         }
         return ceil;
     }
@@ -275,8 +267,9 @@ public abstract class NumberExpression<T extends Number & Comparable<?>> extends
      * @see java.lang.Math#floor(double)
      */
     public NumberExpression<T> floor() {
+        NumberExpression<T> floor = getMemoized(MemoKey.FLOOR);
         if (floor == null) {
-            floor = Expressions.numberOperation(getType(), MathOps.FLOOR, mixin);
+            floor = memoize(MemoKey.FLOOR, Expressions.numberOperation(getType(), MathOps.FLOOR, mixin));
         }
         return floor;
     }
@@ -605,8 +598,9 @@ public abstract class NumberExpression<T extends Number & Comparable<?>> extends
      */
     @SuppressWarnings("unchecked")
     public NumberExpression<T> max() {
+        NumberExpression<T> max = getMemoized(MemoKey.MAX);
         if (max == null) {
-            max = Expressions.numberOperation(getType(), Ops.AggOps.MAX_AGG, mixin);
+            max = memoize(MemoKey.MAX, Expressions.numberOperation(getType(), Ops.AggOps.MAX_AGG, mixin));
         }
         return max;
     }
@@ -620,8 +614,9 @@ public abstract class NumberExpression<T extends Number & Comparable<?>> extends
      */
     @SuppressWarnings("unchecked")
     public NumberExpression<T> min() {
+        NumberExpression<T> min = getMemoized(MemoKey.MIN);
         if (min == null) {
-            min = Expressions.numberOperation(getType(), Ops.AggOps.MIN_AGG, mixin);
+            min = memoize(MemoKey.MIN, Expressions.numberOperation(getType(), Ops.AggOps.MIN_AGG, mixin));
         }
         return min;
     }
@@ -678,8 +673,9 @@ public abstract class NumberExpression<T extends Number & Comparable<?>> extends
      * @return this * -1
      */
     public NumberExpression<T> negate() {
+        NumberExpression<T> negation = getMemoized(MemoKey.NEGATION);
         if (negation == null) {
-            negation = Expressions.numberOperation(getType(), Ops.NEGATE, mixin);
+            negation = memoize(MemoKey.NEGATION, Expressions.numberOperation(getType(), Ops.NEGATE, mixin));
         }
         return negation;
     }
@@ -694,8 +690,9 @@ public abstract class NumberExpression<T extends Number & Comparable<?>> extends
      * @see java.lang.Math#round(float)
      */
     public NumberExpression<T> round() {
+        NumberExpression<T> round = getMemoized(MemoKey.ROUND);
         if (round == null) {
-            round = Expressions.numberOperation(getType(), MathOps.ROUND, mixin);
+            round = memoize(MemoKey.ROUND, Expressions.numberOperation(getType(), MathOps.ROUND, mixin));
         }
         return round;
     }
@@ -720,8 +717,9 @@ public abstract class NumberExpression<T extends Number & Comparable<?>> extends
      * @return sqrt(this)
      */
     public NumberExpression<Double> sqrt() {
+        NumberExpression<Double> sqrt = getMemoized(MemoKey.SQRT);
         if (sqrt == null) {
-            sqrt = Expressions.numberOperation(Double.class, MathOps.SQRT, mixin);
+            sqrt = memoize(MemoKey.SQRT, Expressions.numberOperation(Double.class, MathOps.SQRT, mixin));
         }
         return sqrt;
     }
@@ -758,8 +756,9 @@ public abstract class NumberExpression<T extends Number & Comparable<?>> extends
      * @return sum(this)
      */
     public NumberExpression<T> sum() {
+        NumberExpression<T> sum = getMemoized(MemoKey.SUM);
         if (sum == null) {
-            sum = Expressions.numberOperation(getType(), Ops.AggOps.SUM_AGG, mixin);
+            sum = memoize(MemoKey.SUM, Expressions.numberOperation(getType(), Ops.AggOps.SUM_AGG, mixin));
         }
         return sum;
     }
@@ -14,7 +14,6 @@
 package com.querydsl.core.types.dsl;
 
 import java.lang.reflect.Array;
-import java.util.AbstractMap.SimpleEntry;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -45,7 +44,9 @@ public class PathBuilder<T> extends EntityPathBase<T> {
 
     private static final long serialVersionUID = -1666357914232685088L;
 
-    private final ConcurrentHashMap<SimpleEntry<String, Class<?>>, PathBuilder<?>> properties = new ConcurrentHashMap<SimpleEntry<String, Class<?>>, PathBuilder<?>>();
+    // paths by property name and requested type, lookups don't allocate key objects
+    private final ConcurrentHashMap<String, ConcurrentHashMap<Class<?>, PathBuilder<?>>> properties
+            = new ConcurrentHashMap<String, ConcurrentHashMap<Class<?>, PathBuilder<?>>>();
 
     private final ConcurrentHashMap<Path<?>, Object> propertyMetadata = new ConcurrentHashMap<Path<?>, Object>();
 
@@ -126,17 +127,8 @@ public class PathBuilder<T> extends EntityPathBase<T> {
      * @param property property name
      * @return property path
      */
-    @SuppressWarnings("unchecked")
     public PathBuilder<Object> get(String property) {
-        SimpleEntry<String, Class<?>> entry = new SimpleEntry<String, Class<?>>(property, Object.class);
-        PathBuilder<Object> path = (PathBuilder<Object>) properties.get(entry);
-        PathBuilder<?> existingPath = null;
-        if (path == null) {
-            Class<?> vtype = validate(property, Object.class);
-            path = new PathBuilder<Object>(vtype, forProperty(property), validator);
-            existingPath = properties.putIfAbsent(entry, path);
-        }
-        return existingPath == null ? path : (PathBuilder<Object>) existingPath;
+        return get(property, Object.class);
     }
 
     /**
@@ -149,13 +141,20 @@ public class PathBuilder<T> extends EntityPathBase<T> {
      */
     @SuppressWarnings("unchecked")
     public <A> PathBuilder<A> get(String property, Class<A> type) {
-        SimpleEntry<String, Class<?>> entry = new SimpleEntry<String, Class<?>>(property, type);
-        PathBuilder<A> path = (PathBuilder<A>) properties.get(entry);
+        ConcurrentHashMap<Class<?>, PathBuilder<?>> paths = properties.get(property);
+        if (paths == null) {
+            paths = new ConcurrentHashMap<Class<?>, PathBuilder<?>>(4);
+            ConcurrentHashMap<Class<?>, PathBuilder<?>> existingPaths = properties.putIfAbsent(property, paths);
+            if (existingPaths != null) {
+                paths = existingPaths;
+            }
+        }
+        PathBuilder<A> path = (PathBuilder<A>) paths.get(type);
         PathBuilder<?> existingPath = null;
         if (path == null) {
             Class<? extends A> vtype = validate(property, type);
             path = new PathBuilder<A>(vtype, forProperty(property), validator);
-            existingPath = properties.putIfAbsent(entry, path);
+            existingPath = paths.putIfAbsent(type, path);
         }
         return existingPath == null ? path : (PathBuilder<A>) existingPath;
     }
@@ -45,7 +45,7 @@ public interface PathBuilderValidator extends Serializable {
         }
     };
 
-    PathBuilderValidator FIELDS = new PathBuilderValidator() {
+    PathBuilderValidator FIELDS = new CachingPathBuilderValidator(new PathBuilderValidator() {
         @Override
         public Class<?> validate(Class<?> parent, String property, Class<?> propertyType) {
             while (!parent.equals(Object.class)) {
@@ -64,9 +64,9 @@ public interface PathBuilderValidator extends Serializable {
             }
             return null;
         }
-    };
+    });
 
-    PathBuilderValidator PROPERTIES = new PathBuilderValidator() {
+    PathBuilderValidator PROPERTIES = new CachingPathBuilderValidator(new PathBuilderValidator() {
         @Override
         public Class<?> validate(Class<?> parent, String property, Class<?> propertyType) {
             Method getter = BeanUtils.getAccessor("get", property, parent);
@@ -85,6 +85,6 @@ public interface PathBuilderValidator extends Serializable {
                 return null;
             }
         }
-    };
+    });
 
 }
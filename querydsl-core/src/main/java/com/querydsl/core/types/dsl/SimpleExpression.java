@@ -15,8 +15,6 @@ package com.querydsl.core.types.dsl;
 
 import java.util.Collection;
 
-import javax.annotation.Nullable;
-
 import com.google.common.collect.ImmutableList;
 import com.querydsl.core.types.*;
 
@@ -31,15 +29,6 @@ public abstract class SimpleExpression<T> extends DslExpression<T> {
 
     private static final long serialVersionUID = -4405387187738167105L;
 
-    @Nullable
-    private transient volatile NumberExpression<Long> count;
-
-    @Nullable
-    private transient volatile NumberExpression<Long> countDistinct;
-
-    @Nullable
-    private transient volatile BooleanExpression isnull, isnotnull;
-
     public SimpleExpression(Expression<T> mixin) {
         super(mixin);
     }
@@ -71,8 +60,9 @@ public abstract class SimpleExpression<T> extends DslExpression<T> {
      * @return this is not null
      */
     public BooleanExpression isNotNull() {
+        BooleanExpression isnotnull = getMemoized(MemoKey.ISNOTNULL);
         if (isnotnull == null) {
-            isnotnull = Expressions.booleanOperation(Ops.IS_NOT_NULL, mixin);
+            isnotnull = memoize(MemoKey.ISNOTNULL, Expressions.booleanOperation(Ops.IS_NOT_NULL, mixin));
         }
         return isnotnull;
     }
@@ -83,8 +73,9 @@ public abstract class SimpleExpression<T> extends DslExpression<T> {
      * @return this is null
      */
     public BooleanExpression isNull() {
+        BooleanExpression isnull = getMemoized(MemoKey.ISNULL);
         if (isnull == null) {
-            isnull = Expressions.booleanOperation(Ops.IS_NULL, mixin);
+            isnull = memoize(MemoKey.ISNULL, Expressions.booleanOperation(Ops.IS_NULL, mixin));
         }
         return isnull;
     }
@@ -95,8 +86,9 @@ public abstract class SimpleExpression<T> extends DslExpression<T> {
      * @return count(this)
      */
     public NumberExpression<Long> count() {
+        NumberExpression<Long> count = getMemoized(MemoKey.COUNT);
         if (count == null) {
-            count = Expressions.numberOperation(Long.class, Ops.AggOps.COUNT_AGG, mixin);
+            count = memoize(MemoKey.COUNT, Expressions.numberOperation(Long.class, Ops.AggOps.COUNT_AGG, mixin));
         }
         return count;
     }
@@ -108,8 +100,9 @@ public abstract class SimpleExpression<T> extends DslExpression<T> {
      * @return count(distinct this)
      */
     public NumberExpression<Long> countDistinct() {
+        NumberExpression<Long> countDistinct = getMemoized(MemoKey.COUNT_DISTINCT);
         if (countDistinct == null) {
-            countDistinct = Expressions.numberOperation(Long.class, Ops.AggOps.COUNT_DISTINCT_AGG, mixin);
+            countDistinct = memoize(MemoKey.COUNT_DISTINCT, Expressions.numberOperation(Long.class, Ops.AggOps.COUNT_DISTINCT_AGG, mixin));
         }
         return countDistinct;
     }
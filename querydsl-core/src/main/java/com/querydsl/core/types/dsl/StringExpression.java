@@ -13,8 +13,6 @@
  */
 package com.querydsl.core.types.dsl;
 
-import javax.annotation.Nullable;
-
 import com.querydsl.core.types.*;
 
 /**
@@ -27,18 +25,6 @@ public abstract class StringExpression extends LiteralExpression<String> {
 
     private static final long serialVersionUID = 1536955079961023361L;
 
-    @Nullable
-    private transient volatile NumberExpression<Integer> length;
-
-    @Nullable
-    private transient volatile StringExpression lower, trim, upper;
-
-    @Nullable
-    private transient volatile StringExpression min, max;
-
-    @Nullable
-    private transient volatile BooleanExpression isempty;
-
     public StringExpression(Expression<String> mixin) {
         super(mixin);
     }
@@ -317,8 +303,9 @@ public abstract class StringExpression extends LiteralExpression<String> {
      * @see java.lang.String#isEmpty()
      */
     public BooleanExpression isEmpty() {
+        BooleanExpression isempty = getMemoized(MemoKey.ISEMPTY);
         if (isempty == null) {
-            isempty = Expressions.booleanOperation(Ops.STRING_IS_EMPTY, mixin);
+            isempty = memoize(MemoKey.ISEMPTY, Expressions.booleanOperation(Ops.STRING_IS_EMPTY, mixin));
         }
         return isempty;
     }
@@ -344,8 +331,9 @@ public abstract class StringExpression extends LiteralExpression<String> {
      * @see java.lang.String#length()
      */
     public NumberExpression<Integer> length() {
+        NumberExpression<Integer> length = getMemoized(MemoKey.LENGTH);
         if (length == null) {
-            length = Expressions.numberOperation(Integer.class, Ops.STRING_LENGTH, mixin);
+            length = memoize(MemoKey.LENGTH, Expressions.numberOperation(Integer.class, Ops.STRING_LENGTH, mixin));
         }
         return length;
     }
@@ -504,8 +492,9 @@ public abstract class StringExpression extends LiteralExpression<String> {
      * @see java.lang.String#toLowerCase()
      */
     public StringExpression lower() {
+        StringExpression lower = getMemoized(MemoKey.LOWER);
         if (lower == null) {
-            lower = Expressions.stringOperation(Ops.LOWER, mixin);
+            lower = memoize(MemoKey.LOWER, Expressions.stringOperation(Ops.LOWER, mixin));
         }
         return lower;
     }
@@ -550,8 +539,9 @@ public abstract class StringExpression extends LiteralExpression<String> {
      * @return max(this)
      */
     public StringExpression max() {
+        StringExpression max = getMemoized(MemoKey.MAX);
         if (max == null) {
-            max = Expressions.stringOperation(Ops.AggOps.MAX_AGG, mixin);
+            max = memoize(MemoKey.MAX, Expressions.stringOperation(Ops.AggOps.MAX_AGG, mixin));
         }
         return max;
     }
@@ -564,8 +554,9 @@ public abstract class StringExpression extends LiteralExpression<String> {
      * @return min(this)
      */
     public StringExpression min() {
+        StringExpression min = getMemoized(MemoKey.MIN);
         if (min == null) {
-            min = Expressions.stringOperation(Ops.AggOps.MIN_AGG, mixin);
+            min = memoize(MemoKey.MIN, Expressions.stringOperation(Ops.AggOps.MIN_AGG, mixin));
         }
         return min;
     }
@@ -818,8 +809,9 @@ public abstract class StringExpression extends LiteralExpression<String> {
      * @see java.lang.String#trim()
      */
     public StringExpression trim() {
+        StringExpression trim = getMemoized(MemoKey.TRIM);
         if (trim == null) {
-            trim = Expressions.stringOperation(Ops.TRIM, mixin);
+            trim = memoize(MemoKey.TRIM, Expressions.stringOperation(Ops.TRIM, mixin));
         }
         return trim;
     }
@@ -833,8 +825,9 @@ public abstract class StringExpression extends LiteralExpression<String> {
      * @see java.lang.String#toUpperCase()
      */
     public StringExpression upper() {
+        StringExpression upper = getMemoized(MemoKey.UPPER);
         if (upper == null) {
-            upper = Expressions.stringOperation(Ops.UPPER, mixin);
+            upper = memoize(MemoKey.UPPER, Expressions.stringOperation(Ops.UPPER, mixin));
         }
         return upper;
     }
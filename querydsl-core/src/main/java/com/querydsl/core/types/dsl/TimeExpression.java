@@ -15,8 +15,6 @@ package com.querydsl.core.types.dsl;
 
 import java.sql.Time;
 
-import javax.annotation.Nullable;
-
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.Ops;
@@ -37,9 +35,6 @@ public abstract class TimeExpression<T extends Comparable> extends TemporalExpre
         private static final TimeExpression<Time> CURRENT_TIME = currentTime(Time.class);
     }
 
-    @Nullable
-    private transient volatile NumberExpression<Integer> hours, minutes, seconds, milliseconds;
-
     public TimeExpression(Expression<T> mixin) {
         super(mixin);
     }
@@ -60,8 +55,9 @@ public abstract class TimeExpression<T extends Comparable> extends TemporalExpre
      * @return hour
      */
     public NumberExpression<Integer> hour() {
+        NumberExpression<Integer> hours = getMemoized(MemoKey.HOURS);
         if (hours == null) {
-            hours = Expressions.numberOperation(Integer.class, Ops.DateTimeOps.HOUR, mixin);
+            hours = memoize(MemoKey.HOURS, Expressions.numberOperation(Integer.class, Ops.DateTimeOps.HOUR, mixin));
         }
         return hours;
     }
@@ -72,8 +68,9 @@ public abstract class TimeExpression<T extends Comparable> extends TemporalExpre
      * @return minute
      */
     public NumberExpression<Integer> minute() {
+        NumberExpression<Integer> minutes = getMemoized(MemoKey.MINUTES);
         if (minutes == null) {
-            minutes = Expressions.numberOperation(Integer.class, Ops.DateTimeOps.MINUTE, mixin);
+            minutes = memoize(MemoKey.MINUTES, Expressions.numberOperation(Integer.class, Ops.DateTimeOps.MINUTE, mixin));
         }
         return minutes;
     }
@@ -84,8 +81,9 @@ public abstract class TimeExpression<T extends Comparable> extends TemporalExpre
      * @return second
      */
     public NumberExpression<Integer> second() {
+        NumberExpression<Integer> seconds = getMemoized(MemoKey.SECONDS);
         if (seconds == null) {
-            seconds = Expressions.numberOperation(Integer.class, Ops.DateTimeOps.SECOND, mixin);
+            seconds = memoize(MemoKey.SECONDS, Expressions.numberOperation(Integer.class, Ops.DateTimeOps.SECOND, mixin));
         }
         return seconds;
     }
@@ -97,8 +95,9 @@ public abstract class TimeExpression<T extends Comparable> extends TemporalExpre
      * @return milli second
      */
     public NumberExpression<Integer> milliSecond() {
+        NumberExpression<Integer> milliseconds = getMemoized(MemoKey.MILLISECONDS);
         if (milliseconds == null) {
-            milliseconds = Expressions.numberOperation(Integer.class, Ops.DateTimeOps.MILLISECOND, mixin);
+            milliseconds = memoize(MemoKey.MILLISECONDS, Expressions.numberOperation(Integer.class, Ops.DateTimeOps.MILLISECOND, mixin));
         }
         return milliseconds;
     }
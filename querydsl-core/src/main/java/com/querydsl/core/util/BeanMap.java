@@ -15,10 +15,6 @@
  */
 package com.querydsl.core.util;
 
-import java.beans.BeanInfo;
-import java.beans.IntrospectionException;
-import java.beans.Introspector;
-import java.beans.PropertyDescriptor;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -45,9 +41,9 @@ public class BeanMap extends AbstractMap<String, Object> implements Cloneable {
 
     private transient Object bean;
 
-    private transient Map<String, Method> readMethods = new HashMap<String, Method>();
-    private transient Map<String, Method> writeMethods = new HashMap<String, Method>();
-    private transient Map<String, Class<?>> types = new HashMap<String, Class<?>>();
+    private transient Map<String, Method> readMethods = Collections.emptyMap();
+    private transient Map<String, Method> writeMethods = Collections.emptyMap();
+    private transient Map<String, Class<?>> types = Collections.emptyMap();
 
     /**
      * An empty array.  Used to invoke accessors via reflection.
@@ -525,9 +521,9 @@ public class BeanMap extends AbstractMap<String, Object> implements Cloneable {
      * Does introspection to find properties.
      */
     protected void reinitialise() {
-        readMethods.clear();
-        writeMethods.clear();
-        types.clear();
+        readMethods = Collections.emptyMap();
+        writeMethods = Collections.emptyMap();
+        types = Collections.emptyMap();
         initialise();
     }
 
@@ -536,33 +532,11 @@ public class BeanMap extends AbstractMap<String, Object> implements Cloneable {
             return;
         }
 
-        Class<?> beanClass = getBean().getClass();
-        try {
-            //BeanInfo beanInfo = Introspector.getBeanInfo( bean, null );
-            BeanInfo beanInfo = Introspector.getBeanInfo(beanClass);
-            PropertyDescriptor[] propertyDescriptors = beanInfo.getPropertyDescriptors();
-            if (propertyDescriptors != null) {
-                for (int i = 0; i < propertyDescriptors.length; i++) {
-                    PropertyDescriptor propertyDescriptor = propertyDescriptors[i];
-                    if (propertyDescriptor != null) {
-                        String name = propertyDescriptor.getName();
-                        Method readMethod = propertyDescriptor.getReadMethod();
-                        Method writeMethod = propertyDescriptor.getWriteMethod();
-                        Class<?> aType = propertyDescriptor.getPropertyType();
-
-                        if (readMethod != null) {
-                            readMethods.put(name, readMethod);
-                        }
-                        if (writeMethods != null) {
-                            writeMethods.put(name, writeMethod);
-                        }
-                        types.put(name, aType);
-                    }
-                }
-            }
-        } catch (IntrospectionException e) {
-
-        }
+        // introspection results are shared between all maps of the same bean class
+        BeanProperties properties = BeanProperties.of(getBean().getClass());
+        readMethods = properties.getReadMethods();
+        writeMethods = properties.getWriteMethods();
+        types = properties.getTypes();
     }
 
     /**
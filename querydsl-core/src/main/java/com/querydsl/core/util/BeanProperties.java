@@ -0,0 +1,141 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.core.util;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * {@code BeanProperties} provides the JavaBeans properties of a class
+ *
+ * <p>The introspection results are cached per class. Classes are referenced weakly and the
+ * results softly, so that the cache doesn't prevent class loaders from being collected.</p>
+ */
+@Immutable
+public final class BeanProperties {
+
+    private static final LoadingCache<Class<?>, BeanProperties> cache = CacheBuilder.newBuilder()
+            .weakKeys()
+            .softValues()
+            .build(new CacheLoader<Class<?>, BeanProperties>() {
+                @Override
+                public BeanProperties load(Class<?> beanClass) {
+                    return new BeanProperties(beanClass);
+                }
+            });
+
+    /**
+     * Get the properties of the given class
+     *
+     * @param beanClass bean class
+     * @return properties
+     */
+    public static BeanProperties of(Class<?> beanClass) {
+        return cache.getUnchecked(beanClass);
+    }
+
+    private final Class<?> beanClass;
+
+    private final ImmutableMap<String, Method> readMethods;
+
+    private final ImmutableMap<String, Method> writeMethods;
+
+    private final ImmutableMap<String, Class<?>> types;
+
+    private BeanProperties(Class<?> beanClass) {
+        this.beanClass = beanClass;
+        ImmutableMap.Builder<String, Method> readMethods = ImmutableMap.builder();
+        ImmutableMap.Builder<String, Method> writeMethods = ImmutableMap.builder();
+        ImmutableMap.Builder<String, Class<?>> types = ImmutableMap.builder();
+        try {
+            BeanInfo beanInfo = Introspector.getBeanInfo(beanClass);
+            PropertyDescriptor[] propertyDescriptors = beanInfo.getPropertyDescriptors();
+            if (propertyDescriptors != null) {
+                for (PropertyDescriptor propertyDescriptor : propertyDescriptors) {
+                    if (propertyDescriptor != null) {
+                        String name = propertyDescriptor.getName();
+                        if (propertyDescriptor.getReadMethod() != null) {
+                            readMethods.put(name, propertyDescriptor.getReadMethod());
+                        }
+                        if (propertyDescriptor.getWriteMethod() != null) {
+                            writeMethods.put(name, propertyDescriptor.getWriteMethod());
+                        }
+                        if (propertyDescriptor.getPropertyType() != null) {
+                            types.put(name, propertyDescriptor.getPropertyType());
+                        }
+                    }
+                }
+            }
+        } catch (IntrospectionException e) {
+            // no properties
+        }
+        this.readMethods = readMethods.build();
+        this.writeMethods = writeMethods.build();
+        this.types = types.build();
+    }
+
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    /**
+     * Get the names of the readable properties
+     *
+     * @return property names
+     */
+    public Set<String> getReadableProperties() {
+        return readMethods.keySet();
+    }
+
+    @Nullable
+    public Method getReadMethod(String name) {
+        return readMethods.get(name);
+    }
+
+    @Nullable
+    public Method getWriteMethod(String name) {
+        return writeMethods.get(name);
+    }
+
+    @Nullable
+    public Class<?> getType(String name) {
+        return types.get(name);
+    }
+
+    Map<String, Method> getReadMethods() {
+        return readMethods;
+    }
+
+    Map<String, Method> getWriteMethods() {
+        return writeMethods;
+    }
+
+    Map<String, Class<?>> getTypes() {
+        return types;
+    }
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.core.util;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.codehaus.mojo.animal_sniffer.IgnoreJRERequirement;
+
+import com.mysema.commons.lang.CloseableIterator;
+import com.querydsl.core.Fetchable;
+import com.querydsl.core.types.SubQueryExpression;
+
+/**
+ * {@code StreamUtils} provides {@link Stream} views of queries and query result iterators
+ *
+ * <p>The underlying iterator is closed when the stream is closed, and also as soon as it has been
+ * exhausted, but only once. Requires Java 8 or later, which is why the query classes don't expose
+ * streams themselves.</p>
+ *
+ * <p>Usage:</p>
+ * <pre>
+ * try (Stream&lt;Cat&gt; cats = StreamUtils.stream(query.from(cat).select(cat))) {
+ *     ...
+ * }
+ * </pre>
+ */
+@IgnoreJRERequirement //conditionally included
+public final class StreamUtils {
+
+    private static final class ClosingIterator<T> implements Iterator<T>, Runnable {
+
+        private final CloseableIterator<T> iterator;
+
+        private boolean closed;
+
+        ClosingIterator(CloseableIterator<T> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (closed) {
+                return false;
+            } else if (iterator.hasNext()) {
+                return true;
+            } else {
+                run();
+                return false;
+            }
+        }
+
+        @Override
+        public T next() {
+            return iterator.next();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public synchronized void run() {
+            if (!closed) {
+                closed = true;
+                iterator.close();
+            }
+        }
+
+    }
+
+    @IgnoreJRERequirement
+    private static final class QueryResults<T> implements Supplier<Spliterator<T>>, Runnable {
+
+        private final Fetchable<T> query;
+
+        private final int characteristics;
+
+        private ClosingIterator<T> iterator;
+
+        QueryResults(Fetchable<T> query, int characteristics) {
+            this.query = query;
+            this.characteristics = characteristics;
+        }
+
+        @Override
+        public synchronized Spliterator<T> get() {
+            if ((characteristics & Spliterator.SIZED) != 0) {
+                return query.fetch().spliterator();
+            }
+            iterator = new ClosingIterator<T>(query.iterate());
+            return Spliterators.spliteratorUnknownSize(iterator, characteristics);
+        }
+
+        @Override
+        public synchronized void run() {
+            if (iterator != null) {
+                iterator.run();
+            }
+        }
+
+    }
+
+    /**
+     * Get the projection of the given query as a sequential stream backed by {@link Fetchable#iterate()}
+     *
+     * <p>The query is executed when the terminal operation of the stream starts. The stream is
+     * ordered, if the query has an order by.</p>
+     *
+     * @param query query
+     * @param <T> result type
+     * @return stream
+     */
+    public static <T> Stream<T> stream(Fetchable<T> query) {
+        boolean ordered = query instanceof SubQueryExpression
+                && !((SubQueryExpression<?>) query).getMetadata().getOrderBy().isEmpty();
+        return stream(query, ordered ? Spliterator.ORDERED : 0);
+    }
+
+    /**
+     * Get the projection of the given query as a sequential stream backed by {@link Fetchable#iterate()}
+     *
+     * <p>The query is executed when the terminal operation of the stream starts. If
+     * {@link Spliterator#SIZED} is requested, the results are fetched into a list instead, so
+     * that the stream is sized and splits evenly for parallel processing. This is meant for
+     * queries which are evaluated in memory anyway, such as collection queries.</p>
+     *
+     * @param query query
+     * @param characteristics characteristics of the spliterator
+     * @param <T> result type
+     * @return stream
+     */
+    public static <T> Stream<T> stream(Fetchable<T> query, int characteristics) {
+        if ((characteristics & Spliterator.SIZED) != 0) {
+            // the characteristics of list spliterators
+            characteristics = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+        QueryResults<T> results = new QueryResults<T>(query, characteristics);
+        return StreamSupport.stream(results, characteristics, false).onClose(results);
+    }
+
+    /**
+     * Create a sequential stream of unknown size for the given iterator
+     *
+     * @param iterator iterator
+     * @param characteristics characteristics of the spliterator
+     * @param <T> element type
+     * @return stream
+     */
+    public static <T> Stream<T> stream(CloseableIterator<T> iterator, int characteristics) {
+        ClosingIterator<T> it = new ClosingIterator<T>(iterator);
+        return stream(Spliterators.spliteratorUnknownSize(it, characteristics), it);
+    }
+
+    /**
+     * Create a sequential stream of known size for the given iterator
+     *
+     * @param iterator iterator
+     * @param size amount of elements
+     * @param characteristics characteristics of the spliterator
+     * @param <T> element type
+     * @return stream
+     */
+    public static <T> Stream<T> stream(CloseableIterator<T> iterator, long size, int characteristics) {
+        ClosingIterator<T> it = new ClosingIterator<T>(iterator);
+        return stream(Spliterators.spliterator(it, size, characteristics), it);
+    }
+
+    private static <T> Stream<T> stream(Spliterator<T> spliterator, Runnable closeHandler) {
+        return StreamSupport.stream(spliterator, false).onClose(closeHandler);
+    }
+
+    private StreamUtils() { }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.core;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.mysema.commons.lang.CloseableIterator;
+import com.mysema.commons.lang.IteratorAdapter;
+
+public class AsyncFetchableTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    private final AtomicInteger copies = new AtomicInteger();
+
+    private final AtomicInteger released = new AtomicInteger();
+
+    private CountDownLatch latch = new CountDownLatch(0);
+
+    private class ListQuery implements Fetchable<Integer> {
+
+        private final List<Integer> list;
+
+        ListQuery(List<Integer> list) {
+            this.list = list;
+        }
+
+        private void await() {
+            latch.countDown();
+            try {
+                latch.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        public List<Integer> fetch() {
+            await();
+            return list;
+        }
+
+        @Override
+        public Integer fetchFirst() {
+            return list.isEmpty() ? null : list.get(0);
+        }
+
+        @Override
+        public Integer fetchOne() {
+            if (list.size() > 1) {
+                throw new NonUniqueResultException();
+            }
+            return fetchFirst();
+        }
+
+        @Override
+        public CloseableIterator<Integer> iterate() {
+            return new IteratorAdapter<Integer>(list.iterator());
+        }
+
+        @Override
+        public QueryResults<Integer> fetchResults() {
+            return new QueryResults<Integer>(list, QueryModifiers.EMPTY, list.size());
+        }
+
+        @Override
+        public long fetchCount() {
+            await();
+            return list.size();
+        }
+
+    }
+
+    private AsyncFetchable<Integer> async(final List<Integer> list) {
+        return new AsyncFetchable<Integer>(new AsyncFetchable.QuerySource<Integer, List<Integer>>() {
+            @Override
+            public List<Integer> acquire() {
+                copies.incrementAndGet();
+                return list;
+            }
+
+            @Override
+            public Fetchable<Integer> bind(List<Integer> resource) {
+                return new ListQuery(resource);
+            }
+
+            @Override
+            public void release(List<Integer> resource) {
+                released.incrementAndGet();
+            }
+        }, new QueryModifiers(2L, 0L), executor);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void fetchAsync() throws Exception {
+        assertEquals(Arrays.asList(1, 2), async(Arrays.asList(1, 2)).fetchAsync().get());
+        assertEquals(1, copies.get());
+        assertEquals(1, released.get());
+    }
+
+    @Test
+    public void fetchFirstAsync() throws Exception {
+        assertEquals(Integer.valueOf(1), async(Arrays.asList(1, 2)).fetchFirstAsync().get());
+    }
+
+    @Test
+    public void fetchOneAsync() throws Exception {
+        try {
+            async(Arrays.asList(1, 2)).fetchOneAsync().get();
+            fail("Expected exception");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof NonUniqueResultException);
+        }
+        // released also on failure
+        assertEquals(1, released.get());
+    }
+
+    @Test
+    public void fetchCountAsync() throws Exception {
+        assertEquals(Long.valueOf(3), async(Arrays.asList(1, 2, 3)).fetchCountAsync().get());
+    }
+
+    @Test
+    public void fetchResultsAsync() throws Exception {
+        // count and page block until both have been started
+        latch = new CountDownLatch(2);
+        QueryResults<Integer> results = async(Arrays.asList(1, 2)).fetchResultsAsync().get(5, TimeUnit.SECONDS);
+        assertEquals(Arrays.asList(1, 2), results.getResults());
+        assertEquals(2, results.getTotal());
+        assertEquals(2L, results.getLimit());
+        assertEquals(2, copies.get());
+        assertEquals(2, released.get());
+    }
+
+    @Test
+    public void fetchResultsAsync_empty() throws Exception {
+        QueryResults<Integer> results = async(Collections.<Integer>emptyList()).fetchResultsAsync().get();
+        assertTrue(results.isEmpty());
+        assertEquals(0, results.getTotal());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void executor_required() {
+        new AsyncFetchable<Integer>(null, QueryModifiers.EMPTY, null);
+    }
+
+}
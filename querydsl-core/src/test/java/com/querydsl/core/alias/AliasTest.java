@@ -14,6 +14,7 @@
 package com.querydsl.core.alias;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static com.querydsl.core.alias.Alias.$;
 
 import org.junit.Test;
@@ -66,6 +67,19 @@ public class AliasTest {
         assertEquals("domainType.gender", $(domainType.getGender()).toString());
     }
 
+    @Test
+    public void proxyClass_shared() {
+        AliasFactory aliasFactory = new AliasFactory(new DefaultPathFactory(), new DefaultTypeSystem());
+        DomainType domainType1 = aliasFactory.createAliasForVariable(DomainType.class, "domainType1");
+        DomainType domainType2 = aliasFactory.createAliasForVariable(DomainType.class, "domainType2");
+        assertSame(domainType1.getClass(), domainType2.getClass());
+        assertSame(domainType1, aliasFactory.createAliasForVariable(DomainType.class, "domainType1"));
+        assertEquals("domainType1", domainType1.toString());
+        assertEquals("domainType2", domainType2.toString());
+        assertEquals(1, aliasFactory.getProxyClassCount());
+        assertEquals(2, aliasFactory.getProxyCount());
+    }
+
     @Test
     public void getAny() {
         DomainType domainType = Alias.alias(DomainType.class);
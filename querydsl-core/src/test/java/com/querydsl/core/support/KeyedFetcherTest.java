@@ -0,0 +1,130 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.core.support;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+public class KeyedFetcherTest {
+
+    private static class Fetcher extends KeyedFetcher<Integer, String> {
+
+        private final List<List<Integer>> chunks = Collections.synchronizedList(Lists.<List<Integer>>newArrayList());
+
+        @Override
+        protected List<String> fetch(List<Integer> keys) {
+            chunks.add(keys);
+            List<String> rows = Lists.newArrayList();
+            // reverse order and no row for 4
+            for (Integer key : Lists.reverse(keys)) {
+                if (key != 4) {
+                    rows.add(key + "a");
+                    rows.add(key + "b");
+                }
+            }
+            return rows;
+        }
+
+        @Override
+        protected Object getKey(String row) {
+            return Integer.valueOf(row.substring(0, row.length() - 1));
+        }
+
+    }
+
+    private final Fetcher fetcher = new Fetcher();
+
+    @Test
+    public void ordered() {
+        assertEquals(Arrays.asList("3a", "3b", "1a", "1b", "2a", "2b"),
+                fetcher.execute(Arrays.asList(3, 1, 4, 2), 2, null));
+        assertEquals(Arrays.asList(Arrays.asList(3, 1), Arrays.asList(4, 2)), fetcher.chunks);
+    }
+
+    @Test
+    public void duplicates_and_nulls() {
+        assertEquals(Arrays.asList("2a", "2b", "1a", "1b"),
+                fetcher.execute(Arrays.asList(2, null, 1, 2), 10, null));
+        assertEquals(1, fetcher.chunks.size());
+    }
+
+    @Test
+    public void empty() {
+        assertEquals(Collections.emptyList(), fetcher.execute(Collections.<Integer>emptyList(), 10, null));
+        assertEquals(0, fetcher.chunks.size());
+    }
+
+    @Test
+    public void concurrent() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Integer> keys = Lists.newArrayList();
+            List<String> expected = Lists.newArrayList();
+            for (int i = 10; i < 100; i++) {
+                keys.add(i);
+                expected.add(i + "a");
+                expected.add(i + "b");
+            }
+            assertEquals(expected, fetcher.execute(keys, 7, executor));
+            assertEquals(13, fetcher.chunks.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void concurrent_failure() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            new Fetcher() {
+                @Override
+                protected List<String> fetch(List<Integer> keys) {
+                    throw new IllegalStateException();
+                }
+            }.execute(Arrays.asList(1, 2, 3), 1, executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void illegal_chunkSize() {
+        fetcher.execute(Arrays.asList(1), 0, null);
+    }
+
+    @Test
+    public void normalizeNumber() {
+        Object key = KeyedFetcher.normalizeNumber(1L);
+        assertEquals(key, KeyedFetcher.normalizeNumber(1));
+        assertEquals(key, KeyedFetcher.normalizeNumber((short) 1));
+        assertEquals(key, KeyedFetcher.normalizeNumber(BigInteger.ONE));
+        assertEquals(key, KeyedFetcher.normalizeNumber(new BigDecimal("1.00")));
+        assertEquals(key, KeyedFetcher.normalizeNumber(1.0));
+        assertEquals(KeyedFetcher.normalizeNumber(new BigDecimal("1.5")), KeyedFetcher.normalizeNumber(1.5f));
+        assertEquals("1", KeyedFetcher.normalizeNumber("1"));
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.core.types;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+
+public class ExpressionInternerTest {
+
+    private final ExpressionInterner interner = new ExpressionInterner();
+
+    private final StringPath str = Expressions.stringPath("str");
+
+    private final NumberPath<Integer> num = Expressions.numberPath(Integer.class, "num");
+
+    @Test
+    public void operation() {
+        Predicate first = interner.intern(str.eq("a").and(num.gt(1)));
+        Predicate second = interner.intern(str.eq("a").and(num.gt(1)));
+        assertSame(first, second);
+        assertEquals(str.eq("a").and(num.gt(1)), first);
+    }
+
+    @Test
+    public void shared_arguments() {
+        Operation<?> first = (Operation<?>) interner.intern(str.eq("a").and(num.gt(1)));
+        Operation<?> second = (Operation<?>) interner.intern(str.eq("a").or(num.gt(2)));
+        assertNotSame(first, second);
+        assertSame(first.getArg(0), second.getArg(0));
+    }
+
+    @Test
+    public void path() {
+        Expression<String> canonical = interner.intern(str);
+        assertEquals(str, canonical);
+        assertSame(canonical, interner.intern(Expressions.stringPath("str")));
+    }
+
+    @Test
+    public void template() {
+        Expression<?> first = interner.intern(Expressions.stringTemplate("lower({0})", Expressions.stringPath("str")));
+        Expression<?> second = interner.intern(Expressions.stringTemplate("lower({0})", str));
+        assertSame(first, second);
+        assertSame(interner.intern(str), ((TemplateExpression<?>) first).getArg(0));
+    }
+
+    @Test
+    public void predicate_template() {
+        Predicate first = interner.intern(Expressions.booleanTemplate("{0} is valid", Expressions.stringPath("str")));
+        Predicate second = interner.intern(Expressions.booleanTemplate("{0} is valid", str));
+        assertSame(first, second);
+    }
+
+    @Test
+    public void subQuery_and_factoryExpression() {
+        Expression<?> projection = Projections.tuple(str, num);
+        assertSame(projection, interner.intern(projection));
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.core.types;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.testutil.Serialization;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+
+public class TupleListTest {
+
+    StringPath str = Expressions.stringPath("str");
+    NumberPath<Integer> num = Expressions.numberPath(Integer.class, "num");
+    QTuple projection = new QTuple(str, num);
+
+    private TupleList create(int rows) {
+        TupleList list = new TupleList(projection, 1);
+        for (int i = 0; i < rows; i++) {
+            int row = list.addRow();
+            list.set(row, 0, "s" + i);
+            list.set(row, 1, i);
+        }
+        return list;
+    }
+
+    @Test
+    public void get() {
+        TupleList list = create(100);
+        assertEquals(100, list.size());
+        Tuple tuple = list.get(42);
+        assertEquals("s42", tuple.get(str));
+        assertEquals(Integer.valueOf(42), tuple.get(num));
+        assertEquals(Integer.valueOf(42), tuple.get(1, Integer.class));
+        assertNull(tuple.get(Expressions.stringPath("other")));
+        assertEquals(2, tuple.size());
+        assertArrayEquals(new Object[]{"s42", 42}, tuple.toArray());
+    }
+
+    @Test
+    public void null_values() {
+        TupleList list = new TupleList(projection);
+        list.addRow();
+        assertNull(list.get(0).get(str));
+        assertEquals(Arrays.asList(projection.newInstance(null, null)), list);
+    }
+
+    @Test
+    public void equals_and_hashCode() {
+        TupleList list = create(2);
+        Tuple tuple = projection.newInstance("s1", 1);
+        assertEquals(tuple, list.get(1));
+        assertEquals(list.get(1), tuple);
+        assertEquals(tuple.hashCode(), list.get(1).hashCode());
+        assertFalse(list.get(0).equals(list.get(1)));
+        assertEquals(Arrays.asList(projection.newInstance("s0", 0), tuple), list);
+    }
+
+    @Test
+    public void serialize() throws Exception {
+        TupleList list = create(3);
+        assertEquals(list, Serialization.serialize(list));
+        Tuple tuple = Serialization.serialize(list.get(2));
+        assertEquals(list.get(2), tuple);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void add() {
+        create(1).add(projection.newInstance("a", 1));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void get_column_out_of_bounds() {
+        create(2).get(0).get(2, Object.class);
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.core.types.dsl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import org.junit.Test;
+import org.openjdk.jol.info.ClassLayout;
+
+import com.querydsl.core.domain.QCat;
+
+public class MemoryFootprintTest {
+
+    private static long instanceSize(Class<?> cl) {
+        return ClassLayout.parseClass(cl).instanceSize();
+    }
+
+    private static int declaredInstanceFields(Class<?> cl) {
+        int count = 0;
+        for (Field field : cl.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Test
+    public void paths() {
+        long size = instanceSize(SimplePath.class);
+        for (Class<?> cl : new Class<?>[]{BooleanPath.class, ComparablePath.class, DatePath.class,
+                DateTimePath.class, EnumPath.class, NumberPath.class, StringPath.class, TimePath.class}) {
+            assertEquals(cl.getSimpleName(), size, instanceSize(cl));
+        }
+    }
+
+    @Test
+    public void operations() {
+        long size = instanceSize(SimpleOperation.class);
+        for (Class<?> cl : new Class<?>[]{BooleanOperation.class, ComparableOperation.class, DateOperation.class,
+                DateTimeOperation.class, EnumOperation.class, NumberOperation.class, StringOperation.class,
+                TimeOperation.class}) {
+            assertEquals(cl.getSimpleName(), size, instanceSize(cl));
+        }
+    }
+
+    @Test
+    public void dslExpression() {
+        // mixin, hashCode and the memoization table
+        assertEquals(3, declaredInstanceFields(DslExpression.class));
+        for (Class<?> cl : new Class<?>[]{SimpleExpression.class, ComparableExpressionBase.class,
+                ComparableExpression.class, LiteralExpression.class, TemporalExpression.class,
+                BooleanExpression.class, DateExpression.class, DateTimeExpression.class, EnumExpression.class,
+                NumberExpression.class, StringExpression.class, TimeExpression.class}) {
+            assertEquals(cl.getSimpleName(), 0, declaredInstanceFields(cl));
+        }
+    }
+
+    @Test
+    public void generatedType() {
+        // at most one reference per property on top of the entity path
+        long bound = instanceSize(EntityPathBase.class) + 8 * declaredInstanceFields(QCat.class);
+        assertTrue(instanceSize(QCat.class) + " > " + bound, instanceSize(QCat.class) <= bound);
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.core.types.dsl;
+
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.testutil.Benchmark;
+import com.querydsl.core.testutil.Performance;
+import com.querydsl.core.testutil.Runner;
+
+@Ignore
+@Category(Performance.class)
+public class PathBuilderPerformanceTest {
+
+    private static void dynamicFilter(final PathBuilderValidator validator) throws Exception {
+        Runner.run("dynamic filter " + validator.getClass().getSimpleName(), new Benchmark() {
+            @Override
+            public void run(int times) throws Exception {
+                for (int i = 0; i < times; i++) {
+                    // a new builder per request, as for user defined filters
+                    PathBuilder<User> user = new PathBuilder<User>(User.class, "user", validator);
+                    BooleanBuilder filter = new BooleanBuilder();
+                    filter.and(user.getString("firstName").eq("Bob"));
+                    filter.and(user.getString("lastName").startsWith("S"));
+                    filter.and(user.getString("username").isNotNull());
+                    filter.and(user.getEnum("gender", Gender.class).eq(Gender.MALE));
+                }
+            }
+        });
+    }
+
+    @Test
+    public void defaults() throws Exception {
+        dynamicFilter(PathBuilderValidator.DEFAULT);
+    }
+
+    @Test
+    public void fields() throws Exception {
+        dynamicFilter(PathBuilderValidator.FIELDS);
+    }
+
+    @Test
+    public void properties() throws Exception {
+        dynamicFilter(PathBuilderValidator.PROPERTIES);
+    }
+
+}
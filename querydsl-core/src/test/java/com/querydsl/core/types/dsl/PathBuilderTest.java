@@ -112,6 +112,15 @@ public class PathBuilderTest {
         entity.getTime("time", Time.class);
     }
 
+    @Test
+    public void get_cached() {
+        PathBuilder<User> entity = new PathBuilder<User>(User.class, "entity");
+        assertSame(entity.get("name"), entity.get("name"));
+        assertSame(entity.get("name"), entity.get("name", Object.class));
+        assertSame(entity.get("name", String.class), entity.get("name", String.class));
+        assertNotSame(entity.get("name"), entity.get("name", String.class));
+    }
+
     @Test
     public void calling_get_with_the_same_name_and_different_types_returns_correct_type() {
             PathBuilder<User> entity = new PathBuilder<User>(User.class, "entity");
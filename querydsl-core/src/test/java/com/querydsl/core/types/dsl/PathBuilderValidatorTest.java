@@ -5,6 +5,7 @@ import static org.junit.Assert.assertNull;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 
@@ -56,6 +57,25 @@ public class PathBuilderValidatorTest {
         assertNull(PathBuilderValidator.FIELDS.validate(ExtendedProject.class, "name", String.class));
     }
 
+    @Test
+    public void caching() {
+        final AtomicInteger calls = new AtomicInteger();
+        PathBuilderValidator validator = new CachingPathBuilderValidator(new PathBuilderValidator() {
+            @Override
+            public Class<?> validate(Class<?> parent, String property, Class<?> propertyType) {
+                calls.incrementAndGet();
+                return property.equals("name") ? propertyType : null;
+            }
+        });
+        assertEquals(String.class, validator.validate(Customer.class, "name", String.class));
+        assertEquals(String.class, validator.validate(Customer.class, "name", String.class));
+        assertEquals(1, calls.get());
+        assertEquals(Object.class, validator.validate(Customer.class, "name", Object.class));
+        assertNull(validator.validate(Customer.class, "other", String.class));
+        assertNull(validator.validate(Customer.class, "other", String.class));
+        assertEquals(3, calls.get());
+    }
+
     @Test
     public void properties() {
         assertNull(PathBuilderValidator.PROPERTIES.validate(Customer.class, "name", String.class));
@@ -14,6 +14,7 @@
 package com.querydsl.core.types.dsl;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import java.lang.reflect.Method;
 import java.sql.Time;
@@ -32,6 +33,18 @@ public class SimpleExpressionTest {
 
     enum ExampleEnum { A, B }
 
+    @Test
+    public void memoized() {
+        NumberPath<Integer> num = Expressions.numberPath(Integer.class, "num");
+        assertSame(num.count(), num.count());
+        assertSame(num.isNull(), num.isNull());
+        assertSame(num.abs(), num.abs());
+        assertSame(num.asc(), num.asc());
+        assertEquals("count(num)", num.count().toString());
+        assertEquals("num is null", num.isNull().toString());
+        assertEquals("abs(num)", num.abs().toString());
+    }
+
     @Test
     public void as_usage() {
         SimpleExpression<String> str = new StringPath("str");
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.core.util;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class BeanPropertiesTest {
+
+    @Test
+    public void cached() {
+        assertSame(BeanProperties.of(Entity.class), BeanProperties.of(Entity.class));
+    }
+
+    @Test
+    public void properties() {
+        BeanProperties properties = BeanProperties.of(Entity.class);
+        assertEquals(4, properties.getReadableProperties().size());
+        assertNotNull(properties.getReadMethod("firstName"));
+        assertNotNull(properties.getWriteMethod("firstName"));
+        assertEquals(int.class, properties.getType("id"));
+    }
+
+    @Test
+    public void readOnly() {
+        BeanProperties properties = BeanProperties.of(Entity.class);
+        assertNotNull(properties.getReadMethod("class"));
+        assertNull(properties.getWriteMethod("class"));
+    }
+
+    @Test
+    public void unknown() {
+        BeanProperties properties = BeanProperties.of(Entity.class);
+        assertNull(properties.getReadMethod("unknown"));
+        assertNull(properties.getType("unknown"));
+    }
+
+}
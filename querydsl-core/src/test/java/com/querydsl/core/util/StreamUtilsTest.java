@@ -0,0 +1,142 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.core.util;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import com.mysema.commons.lang.CloseableIterator;
+import com.querydsl.core.Fetchable;
+import com.querydsl.core.support.DummyFetchable;
+
+public class StreamUtilsTest {
+
+    private int closed;
+
+    private CloseableIterator<String> iterator(String... values) {
+        final Iterator<String> it = Arrays.asList(values).iterator();
+        return new CloseableIterator<String>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public String next() {
+                return it.next();
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void close() {
+                closed++;
+            }
+        };
+    }
+
+    @Test
+    public void closed_when_exhausted() {
+        Stream<String> stream = StreamUtils.stream(iterator("a", "b"), Spliterator.ORDERED);
+        assertEquals(Arrays.asList("a", "b"), stream.collect(Collectors.<String>toList()));
+        assertEquals(1, closed);
+        stream.close();
+        assertEquals(1, closed);
+    }
+
+    @Test
+    public void closed_on_close() {
+        Stream<String> stream = StreamUtils.stream(iterator("a", "b", "c"), 0);
+        assertEquals(Arrays.asList("a"), stream.limit(1).collect(Collectors.<String>toList()));
+        assertEquals(0, closed);
+        stream.close();
+        assertEquals(1, closed);
+    }
+
+    @Test
+    public void query_executed_on_terminal_operation() {
+        final int[] executions = new int[1];
+        Fetchable<String> query = new DummyFetchable<String>(Collections.<String>emptyList()) {
+            @Override
+            public CloseableIterator<String> iterate() {
+                executions[0]++;
+                return iterator("a", "b");
+            }
+        };
+        Stream<String> stream = StreamUtils.stream(query);
+        assertEquals(0, executions[0]);
+        assertEquals(Arrays.asList("a", "b"), stream.collect(Collectors.<String>toList()));
+        assertEquals(1, executions[0]);
+        assertEquals(1, closed);
+    }
+
+    @Test
+    public void query_closed_on_close() {
+        Fetchable<String> query = new DummyFetchable<String>(Collections.<String>emptyList()) {
+            @Override
+            public CloseableIterator<String> iterate() {
+                return iterator("a", "b", "c");
+            }
+        };
+        Stream<String> stream = StreamUtils.stream(query);
+        assertEquals("a", stream.findFirst().get());
+        stream.close();
+        assertEquals(1, closed);
+    }
+
+    @Test
+    public void query_sized() {
+        final int[] executions = new int[1];
+        Fetchable<String> query = new DummyFetchable<String>(Arrays.asList("a", "b", "c", "d")) {
+            @Override
+            public List<String> fetch() {
+                executions[0]++;
+                return super.fetch();
+            }
+        };
+        Spliterator<String> spliterator = StreamUtils.stream(query, Spliterator.SIZED).spliterator();
+        assertEquals(0, executions[0]);
+        assertEquals(4, spliterator.getExactSizeIfKnown());
+        assertNotNull(spliterator.trySplit());
+        assertEquals(1, executions[0]);
+    }
+
+    @Test
+    public void sized() {
+        Stream<String> stream = StreamUtils.stream(iterator("a", "b", "c"), 3, Spliterator.ORDERED);
+        Spliterator<String> spliterator = stream.spliterator();
+        assertEquals(3, spliterator.getExactSizeIfKnown());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+    }
+
+    @Test
+    public void parallel() {
+        List<String> values = StreamUtils.stream(iterator("a", "b", "c"), 3, Spliterator.ORDERED)
+                .parallel().collect(Collectors.<String>toList());
+        assertEquals(Arrays.asList("a", "b", "c"), values);
+    }
+
+}
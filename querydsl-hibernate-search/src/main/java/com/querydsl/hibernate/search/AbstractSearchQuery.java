@@ -15,11 +15,15 @@ package com.querydsl.hibernate.search;
 
 import java.util.List;
 
+import javax.annotation.Nullable;
+
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.hibernate.Session;
 import org.hibernate.search.FullTextQuery;
 import org.hibernate.search.FullTextSession;
 import org.hibernate.search.Search;
+import org.hibernate.search.indexes.IndexReaderAccessor;
 
 import com.mysema.commons.lang.CloseableIterator;
 import com.mysema.commons.lang.IteratorAdapter;
@@ -29,6 +33,7 @@ import com.querydsl.core.types.EntityPath;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.ParamExpression;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.lucene3.LuceneQueryCache;
 import com.querydsl.lucene3.LuceneSerializer;
 
 /**
@@ -47,6 +52,9 @@ public abstract class AbstractSearchQuery<T, Q extends AbstractSearchQuery<T,Q>>
 
     private final FullTextSession session;
 
+    @Nullable
+    private LuceneQueryCache queryCache;
+
     @SuppressWarnings("unchecked")
     public AbstractSearchQuery(FullTextSession session, EntityPath<T> path) {
         this.queryMixin = new QueryMixin<Q>((Q) this);
@@ -68,7 +76,11 @@ public abstract class AbstractSearchQuery<T, Q extends AbstractSearchQuery<T,Q>>
     private FullTextQuery createQuery(boolean forCount) {
         QueryMetadata metadata = queryMixin.getMetadata();
         org.apache.lucene.search.Query query;
-        if (metadata.getWhere() != null) {
+        if (metadata.getWhere() != null && queryCache != null) {
+            validateCache();
+            query = queryCache.getQuery(serializer, metadata.getWhere(), metadata,
+                    !metadata.getOrderBy().isEmpty());
+        } else if (metadata.getWhere() != null) {
             query = serializer.toQuery(metadata.getWhere(), metadata);
         } else {
             query = new MatchAllDocsQuery();
@@ -95,6 +107,30 @@ public abstract class AbstractSearchQuery<T, Q extends AbstractSearchQuery<T,Q>>
         return fullTextQuery;
     }
 
+    private void validateCache() {
+        IndexReaderAccessor readers = session.getSearchFactory().getIndexReaderAccessor();
+        IndexReader reader = readers.open(path.getType());
+        try {
+            queryCache.validate(reader);
+        } finally {
+            readers.close(reader);
+        }
+    }
+
+    /**
+     * Reuse the serialized Lucene queries of the given cache
+     *
+     * <p>The cache is validated against the index readers of the entity type before each query,
+     * so that its cached filters are dropped after index updates.</p>
+     *
+     * @param cache query cache
+     * @return the current object
+     */
+    @SuppressWarnings("unchecked")
+    public Q cache(LuceneQueryCache cache) {
+        this.queryCache = cache;
+        return (Q) this;
+    }
 
     @Override
     public Q distinct() {
@@ -27,6 +27,7 @@ import com.querydsl.core.NonUniqueResultException;
 import com.querydsl.core.QueryResults;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.lucene3.LuceneQueryCache;
 
 public class SearchQueryTest extends AbstractQueryTest {
 
@@ -66,6 +67,16 @@ public class SearchQueryTest extends AbstractQueryTest {
         assertEquals(1, query().where(filter).fetchCount());
     }
 
+    @Test
+    public void count_cached() {
+        LuceneQueryCache cache = new LuceneQueryCache(10, 1);
+        BooleanExpression filter = user.emailAddress.eq("bob@example.com");
+        assertEquals(1, query().cache(cache).where(filter).fetchCount());
+        assertEquals(1, query().cache(cache).where(filter).fetchCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
     @Test
     public void uniqueResult() {
         BooleanExpression filter = user.emailAddress.eq("bob@example.com");
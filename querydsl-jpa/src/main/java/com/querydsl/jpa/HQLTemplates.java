@@ -102,7 +102,11 @@ public class HQLTemplates extends JPQLTemplates {
     @Override
     public boolean wrapConstant(Object constant) {
         // related : https://hibernate.onjira.com/browse/HHH-6913
-        Class<?> type = constant.getClass();
+        return wrapParam(constant.getClass());
+    }
+
+    @Override
+    public boolean wrapParam(Class<?> type) {
         return type.isArray() || Collection.class.isAssignableFrom(type);
     }
 
@@ -0,0 +1,394 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.jpa;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.primitives.Longs;
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.types.*;
+import com.querydsl.core.types.dsl.Param;
+
+/**
+ * {@code JPQLBatch} collects the batch items of JPQL update and delete clauses and groups them
+ * into multi row statements
+ *
+ * <p>Consecutive items, which are restricted via a single {@code property = constant} condition on
+ * the same property of the entity and which update the same properties, are merged into one
+ * statement, which selects the rows via {@code property in ?1}. Properties with the same value in
+ * all merged items are assigned as such, properties with differing constant values are assigned
+ * via {@code case when property = ?2 then ?3 ... else current value end}. Items which can't be
+ * merged are executed as they are.</p>
+ *
+ * <p>The merged statements use parameters instead of constants, so that each statement shape is
+ * rendered once and executed once per chunk with the bindings of the chunk.</p>
+ */
+public final class JPQLBatch {
+
+    public static final int DEFAULT_CHUNK_SIZE = 100;
+
+    /**
+     * {@code Statement} is a statement shape of a batch with the bindings of its chunks
+     */
+    public static final class Statement {
+
+        private final QueryMetadata metadata;
+
+        @Nullable
+        private final Map<Path<?>, Expression<?>> updates;
+
+        private final List<Map<ParamExpression<?>, Object>> bindings;
+
+        Statement(QueryMetadata metadata, @Nullable Map<Path<?>, Expression<?>> updates,
+                List<Map<ParamExpression<?>, Object>> bindings) {
+            this.metadata = metadata;
+            this.updates = updates;
+            this.bindings = bindings;
+        }
+
+        public QueryMetadata getMetadata() {
+            return metadata;
+        }
+
+        /**
+         * Get the updates of the statement
+         *
+         * @return updates or null for delete statements
+         */
+        @Nullable
+        public Map<Path<?>, Expression<?>> getUpdates() {
+            return updates;
+        }
+
+        /**
+         * Get the parameter bindings, one per chunk
+         *
+         * @return bindings
+         */
+        public List<Map<ParamExpression<?>, Object>> getBindings() {
+            return bindings;
+        }
+
+    }
+
+    /**
+     * {@code Executor} creates and executes the queries of the batch statements
+     *
+     * @param <Q> query type
+     */
+    public interface Executor<Q> {
+
+        /**
+         * Create a serializer for the rendering of a statement
+         *
+         * @return serializer
+         */
+        JPQLSerializer createSerializer();
+
+        /**
+         * Create a query for the given rendered statement
+         *
+         * @param queryString JPQL statement
+         * @return query
+         */
+        Q createQuery(String queryString);
+
+        /**
+         * Bind the given constants and parameters to the query and execute it
+         *
+         * @param query query
+         * @param constants constants to labels of the statement
+         * @param params parameter bindings of a chunk
+         * @return affected row count
+         */
+        long executeUpdate(Q query, Map<Object, String> constants, Map<ParamExpression<?>, Object> params);
+
+    }
+
+    private final List<QueryMetadata> metadata = Lists.newArrayList();
+
+    private final List<Map<Path<?>, Expression<?>>> updates = Lists.newArrayList();
+
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    /**
+     * Add the given item to the batch
+     *
+     * @param md metadata of the item
+     * @param updates updates of the item or null for deletes
+     */
+    public void add(QueryMetadata md, @Nullable Map<Path<?>, Expression<?>> updates) {
+        this.metadata.add(md);
+        this.updates.add(updates != null ? ImmutableMap.copyOf(updates) : null);
+    }
+
+    /**
+     * Get the amount of items in the batch
+     *
+     * @return item count
+     */
+    public int size() {
+        return metadata.size();
+    }
+
+    public void clear() {
+        metadata.clear();
+        updates.clear();
+    }
+
+    /**
+     * Set the maximum amount of rows per merged statement execution
+     *
+     * @param chunkSize chunk size
+     */
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive, was " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Group the items of the batch into statements
+     *
+     * @return statements in execution order
+     */
+    public List<Statement> getStatements() {
+        List<Statement> rv = Lists.newArrayList();
+        int start = 0;
+        while (start < metadata.size()) {
+            Path<?> key = getKey(metadata.get(start));
+            int end = start + 1;
+            if (key != null) {
+                Set<Object> ids = Sets.newHashSet();
+                ids.add(getId(start));
+                while (end < metadata.size() && isMergeable(start, end, key, ids)) {
+                    ids.add(getId(end));
+                    end++;
+                }
+            }
+            if (end - start > 1) {
+                merge(start, end, key, rv);
+            } else {
+                QueryMetadata md = metadata.get(start);
+                rv.add(new Statement(md, updates.get(start),
+                        Collections.<Map<ParamExpression<?>, Object>>singletonList(md.getParams())));
+            }
+            start = end;
+        }
+        return rv;
+    }
+
+    /**
+     * Execute the statements of the batch
+     *
+     * <p>Each statement is rendered once and executed once per chunk.</p>
+     *
+     * @param executor executor of the statements
+     * @param <Q> query type
+     * @return affected row counts, one per executed chunk
+     */
+    public <Q> long[] execute(Executor<Q> executor) {
+        List<Long> rv = Lists.newArrayList();
+        for (Statement statement : getStatements()) {
+            JPQLSerializer serializer = executor.createSerializer();
+            if (statement.getUpdates() != null) {
+                serializer.serializeForUpdate(statement.getMetadata(), statement.getUpdates());
+            } else {
+                serializer.serializeForDelete(statement.getMetadata());
+            }
+            Map<Object, String> constants = serializer.getConstantToLabel();
+
+            Q query = executor.createQuery(serializer.toString());
+            for (Map<ParamExpression<?>, Object> params : statement.getBindings()) {
+                rv.add(executor.executeUpdate(query, constants, params));
+            }
+        }
+        return Longs.toArray(rv);
+    }
+
+    /**
+     * Get the sum of the given row counts
+     *
+     * @param counts row counts
+     * @return total row count
+     */
+    public static long sum(long[] counts) {
+        long rv = 0;
+        for (long count : counts) {
+            rv += count;
+        }
+        return rv;
+    }
+
+    @Nullable
+    private static Path<?> getKey(QueryMetadata md) {
+        Predicate where = md.getWhere();
+        if (md.getJoins().size() == 1 && md.getParams().isEmpty()
+                && where instanceof Operation && ((Operation<?>) where).getOperator() == Ops.EQ) {
+            Operation<?> operation = (Operation<?>) where;
+            if (operation.getArg(0) instanceof Path && operation.getArg(1) instanceof Constant) {
+                Path<?> path = (Path<?>) operation.getArg(0);
+                Path<?> parent = path.getMetadata().getParent();
+                if (parent != null && parent.equals(md.getJoins().get(0).getTarget())) {
+                    return path;
+                }
+            }
+        }
+        return null;
+    }
+
+    private Object getId(int index) {
+        Operation<?> operation = (Operation<?>) metadata.get(index).getWhere();
+        return ((Constant<?>) operation.getArg(1)).getConstant();
+    }
+
+    private boolean isMergeable(int start, int index, Path<?> key, Set<Object> ids) {
+        if (!key.equals(getKey(metadata.get(index))) || ids.contains(getId(index))) {
+            return false;
+        }
+        Map<Path<?>, Expression<?>> first = updates.get(start);
+        Map<Path<?>, Expression<?>> other = updates.get(index);
+        if (first == null || other == null) {
+            return first == other;
+        } else if (!ImmutableList.copyOf(first.keySet()).equals(ImmutableList.copyOf(other.keySet()))) {
+            return false;
+        } else if (first.containsKey(key)) {
+            // the predicates only reference the key, so an item could match the rows updated by
+            // an earlier item, e.g. set name = 'Y' where name = 'X', set name = 'Z' where name = 'Y'
+            return false;
+        }
+        // values need to be either the same or constants
+        for (Map.Entry<Path<?>, Expression<?>> entry : first.entrySet()) {
+            Expression<?> value = other.get(entry.getKey());
+            if (!value.equals(entry.getValue())
+                && !(value instanceof Constant && entry.getValue() instanceof Constant)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void merge(int start, int end, Path<?> key, List<Statement> rv) {
+        Param<Object> idsParam = new Param<Object>(Collection.class, "_ids");
+        List<Path<?>> varying = Lists.newArrayList();
+        if (updates.get(start) != null) {
+            for (Map.Entry<Path<?>, Expression<?>> entry : updates.get(start).entrySet()) {
+                for (int i = start + 1; i < end; i++) {
+                    if (!entry.getValue().equals(updates.get(i).get(entry.getKey()))) {
+                        varying.add(entry.getKey());
+                        break;
+                    }
+                }
+            }
+        }
+
+        QueryMetadata md = metadata.get(start).clone();
+        md.clearWhere();
+        md.addWhere(ExpressionUtils.predicate(Ops.IN, key, idsParam));
+
+        if (varying.isEmpty()) {
+            // same values, only the ids differ
+            List<Map<ParamExpression<?>, Object>> bindings = Lists.newArrayList();
+            for (int from = start; from < end; from += chunkSize) {
+                int to = Math.min(end, from + chunkSize);
+                List<Object> ids = Lists.newArrayListWithCapacity(to - from);
+                for (int i = from; i < to; i++) {
+                    ids.add(getId(i));
+                }
+                bindings.add(ImmutableMap.<ParamExpression<?>, Object>of(idsParam, ids));
+            }
+            rv.add(new Statement(md, updates.get(start), bindings));
+
+        } else {
+            // full chunks share the same shape, the last one might be shorter
+            Statement statement = null;
+            int rows = 0;
+            for (int from = start; from < end; from += chunkSize) {
+                int to = Math.min(end, from + chunkSize);
+                if (to - from != rows) {
+                    rows = to - from;
+                    statement = createCaseStatement(md, updates.get(start), varying, key, rows);
+                    rv.add(statement);
+                }
+                statement.getBindings().add(bind(varying, key, idsParam, from, to));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Statement createCaseStatement(QueryMetadata md, Map<Path<?>, Expression<?>> first,
+            List<Path<?>> varying, Path<?> key, int rows) {
+        Map<Path<?>, Expression<?>> caseUpdates = Maps.newLinkedHashMap();
+        for (Map.Entry<Path<?>, Expression<?>> entry : first.entrySet()) {
+            Path<?> path = entry.getKey();
+            int index = varying.indexOf(path);
+            if (index > -1) {
+                Class<Object> type = (Class<Object>) path.getType();
+                Expression<Object> last = ExpressionUtils.operation(type, Ops.CASE_ELSE, path);
+                for (int row = rows - 1; row >= 0; row--) {
+                    last = ExpressionUtils.operation(type, Ops.CASE_WHEN,
+                            ExpressionUtils.predicate(Ops.EQ, key, keyParam(key, row)),
+                            valueParam(path, index, row), last);
+                }
+                caseUpdates.put(path, ExpressionUtils.operation(type, Ops.CASE, last));
+            } else {
+                caseUpdates.put(path, entry.getValue());
+            }
+        }
+        return new Statement(md, caseUpdates, Lists.<Map<ParamExpression<?>, Object>>newArrayList());
+    }
+
+    private Map<ParamExpression<?>, Object> bind(List<Path<?>> varying, Path<?> key,
+            Param<Object> idsParam, int from, int to) {
+        Map<ParamExpression<?>, Object> bindings = Maps.newHashMap();
+        List<Object> ids = Lists.newArrayListWithCapacity(to - from);
+        for (int i = from; i < to; i++) {
+            int row = i - from;
+            Object id = getId(i);
+            ids.add(id);
+            bindings.put(keyParam(key, row), id);
+            for (int j = 0; j < varying.size(); j++) {
+                Path<?> path = varying.get(j);
+                bindings.put(valueParam(path, j, row), ((Constant<?>) updates.get(i).get(path)).getConstant());
+            }
+        }
+        bindings.put(idsParam, ids);
+        return bindings;
+    }
+
+    private static Param<Object> keyParam(Path<?> key, int row) {
+        return new Param<Object>(key.getType(), "_id" + row);
+    }
+
+    private static Param<Object> valueParam(Path<?> path, int index, int row) {
+        return new Param<Object>(path.getType(), "_value" + index + "_" + row);
+    }
+
+}
@@ -341,6 +341,10 @@ public class JPQLSerializer extends SerializerBase<JPQLSerializer> {
 
     @Override
     public Void visit(ParamExpression<?> param, Void context) {
+        boolean wrap = templates.wrapParam(param.getType());
+        if (wrap) {
+            append("(");
+        }
         append("?");
         if (!getConstantToLabel().containsKey(param)) {
             final String paramLabel = String.valueOf(getConstantToLabel().size() + 1);
@@ -349,6 +353,9 @@ public class JPQLSerializer extends SerializerBase<JPQLSerializer> {
         } else {
             append(getConstantToLabel().get(param));
         }
+        if (wrap) {
+            append(")");
+        }
         return null;
     }
 
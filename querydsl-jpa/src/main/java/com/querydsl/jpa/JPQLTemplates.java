@@ -186,6 +186,10 @@ public class JPQLTemplates extends Templates {
         return false;
     }
 
+    public boolean wrapParam(Class<?> type) {
+        return false;
+    }
+
     public boolean isWithForOn() {
         return false;
     }
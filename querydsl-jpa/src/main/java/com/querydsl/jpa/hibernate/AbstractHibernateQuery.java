@@ -29,9 +29,11 @@ import com.mysema.commons.lang.CloseableIterator;
 import com.querydsl.core.*;
 import com.querydsl.core.NonUniqueResultException;
 import com.querydsl.core.QueryException;
+import com.querydsl.core.types.EntityPath;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.FactoryExpression;
 import com.querydsl.core.types.Path;
+import com.querydsl.core.types.SubQueryExpression;
 import com.querydsl.jpa.*;
 
 /**
@@ -54,6 +56,11 @@ public abstract class AbstractHibernateQuery<T, Q extends AbstractHibernateQuery
 
     protected int fetchSize = 0;
 
+    protected int bulkReadBatchSize = 0;
+
+    @Nullable
+    protected CacheMode cacheMode;
+
     protected final Map<Path<?>,LockMode> lockModes = new HashMap<Path<?>,LockMode>();
 
     @Nullable
@@ -98,6 +105,10 @@ public abstract class AbstractHibernateQuery<T, Q extends AbstractHibernateQuery
     }
 
     private Query createQuery(@Nullable QueryModifiers modifiers, boolean forCount) {
+        return createQuery(modifiers, forCount, false);
+    }
+
+    private Query createQuery(@Nullable QueryModifiers modifiers, boolean forCount, boolean rawRows) {
         JPQLSerializer serializer = serialize(forCount);
         String queryString = serializer.toString();
         logQuery(queryString, serializer.getConstantToLabel());
@@ -121,6 +132,9 @@ public abstract class AbstractHibernateQuery<T, Q extends AbstractHibernateQuery
         if (readOnly != null) {
             query.setReadOnly(readOnly);
         }
+        if (cacheMode != null) {
+            query.setCacheMode(cacheMode);
+        }
         for (Map.Entry<Path<?>, LockMode> entry : lockModes.entrySet()) {
             query.setLockMode(entry.getKey().toString(), entry.getValue());
         }
@@ -141,7 +155,7 @@ public abstract class AbstractHibernateQuery<T, Q extends AbstractHibernateQuery
 
         // set transformer, if necessary
         Expression<?> projection = getMetadata().getProjection();
-        if (!forCount && projection instanceof FactoryExpression) {
+        if (!forCount && !rawRows && projection instanceof FactoryExpression) {
             query.setResultTransformer(new FactoryExpressionTransformer((FactoryExpression<?>) projection));
         }
         return query;
@@ -159,14 +173,44 @@ public abstract class AbstractHibernateQuery<T, Q extends AbstractHibernateQuery
     @Override
     public CloseableIterator<T> iterate() {
         try {
-            Query query = createQuery();
+            Expression<?> projection = getMetadata().getProjection();
+            boolean rawRows = isBulkProjection(projection);
+            Query query = createQuery(getMetadata().getModifiers(), false, rawRows);
             ScrollableResults results = query.scroll(ScrollMode.FORWARD_ONLY);
+            if (bulkReadBatchSize > 0) {
+                if (rawRows) {
+                    // no entities are loaded into the persistence context
+                    return new BulkResultsIterator<T>(results, (FactoryExpression<?>) projection,
+                            null, bulkReadBatchSize);
+                } else {
+                    Session hibernateSession = session instanceof DefaultSessionHolder
+                            ? ((DefaultSessionHolder) session).getSession() : null;
+                    return new BulkResultsIterator<T>(results, null, hibernateSession, bulkReadBatchSize);
+                }
+            }
             return new ScrollableResultsIterator<T>(results);
         } finally {
             reset();
         }
     }
 
+    /**
+     * Returns true, if the projection can be created directly from the rows in bulk read mode,
+     * which is the case for factory expressions over non-entity arguments
+     */
+    private boolean isBulkProjection(@Nullable Expression<?> projection) {
+        if (bulkReadBatchSize == 0 || !(projection instanceof FactoryExpression)) {
+            return false;
+        }
+        for (Expression<?> arg : ((FactoryExpression<?>) projection).getArgs()) {
+            if (arg instanceof EntityPath || arg instanceof FactoryExpression
+                    || arg instanceof SubQueryExpression) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<T> fetch() {
@@ -264,6 +308,44 @@ public abstract class AbstractHibernateQuery<T, Q extends AbstractHibernateQuery
         return (Q) this;
     }
 
+    /**
+     * Enable the bulk read mode for {@link #iterate()}.
+     *
+     * <p>The rows are fetched in batches of the given size, the entities are loaded read-only
+     * and the second level cache is ignored. The entities returned in a batch are evicted from
+     * the session after the batch and when the iterator is closed, together with the entities
+     * loaded via their associations, such as eager and fetch joined associations, so that they
+     * don't accumulate in the persistence context. Entities returned from earlier batches are
+     * detached and changes to them are not persisted. Entities which were in the session before
+     * the iteration started are not affected.</p>
+     *
+     * <p>Projections of non-entity expressions via {@link FactoryExpression} instances,
+     * such as constructor expressions and beans, are created directly from the rows without
+     * entity hydration.</p>
+     *
+     * @param batchSize batch size
+     * @return the current object
+     */
+    @SuppressWarnings("unchecked")
+    public Q setBulkRead(int batchSize) {
+        this.bulkReadBatchSize = batchSize;
+        this.fetchSize = batchSize;
+        this.readOnly = true;
+        this.cacheMode = CacheMode.IGNORE;
+        return (Q) this;
+    }
+
+    /**
+     * Set the cache mode for this query.
+     * @param cacheMode the cache mode
+     * @return the current object
+     */
+    @SuppressWarnings("unchecked")
+    public Q setCacheMode(CacheMode cacheMode) {
+        this.cacheMode = cacheMode;
+        return (Q) this;
+    }
+
     /**
      * Set a fetchJoin size for the underlying JDBC query.
      * @param fetchSize the fetchJoin size
@@ -342,7 +424,9 @@ public abstract class AbstractHibernateQuery<T, Q extends AbstractHibernateQuery
     }
 
     protected void clone(Q query) {
+        bulkReadBatchSize = query.bulkReadBatchSize;
         cacheable = query.cacheable;
+        cacheMode = query.cacheMode;
         cacheRegion = query.cacheRegion;
         fetchSize = query.fetchSize;
         flushMode = query.flushMode;
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.jpa.hibernate;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import org.hibernate.Hibernate;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.metadata.ClassMetadata;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.Type;
+
+import com.mysema.commons.lang.CloseableIterator;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.FactoryExpression;
+
+/**
+ * {@code BulkResultsIterator} iterates over forward only results in bulk read mode
+ *
+ * <p>If a session is given, the entities returned in a batch of rows are evicted from its
+ * persistence context after the batch and when the iterator is closed, so that they can be garbage
+ * collected. The entities and proxies reachable from them via loaded associations, such as eagerly
+ * or fetch joined associations, are evicted as well. Entities which were in the session before the
+ * iteration started and their pending changes are not affected. If a projection is given,
+ * the raw rows are passed to it directly instead of using a result transformer.</p>
+ *
+ * @param <T> result type
+ */
+class BulkResultsIterator<T> implements CloseableIterator<T> {
+
+    private final ScrollableResults results;
+
+    @Nullable
+    private final FactoryExpression<?> projection;
+
+    @Nullable
+    private final Session session;
+
+    private final int batchSize;
+
+    private final List<Object> batch = new ArrayList<Object>();
+
+    @Nullable
+    private final Set<Object> existingKeys;
+
+    private long rows;
+
+    @Nullable
+    private Boolean hasNext;
+
+    public BulkResultsIterator(ScrollableResults results, @Nullable FactoryExpression<?> projection,
+            @Nullable Session session, int batchSize) {
+        this.results = results;
+        this.projection = projection;
+        this.session = session;
+        this.batchSize = batchSize;
+        // the statistics return a live view of the keys
+        this.existingKeys = session != null
+                ? new HashSet<Object>(session.getStatistics().getEntityKeys()) : null;
+    }
+
+    @Override
+    public void close() {
+        results.close();
+        if (session != null) {
+            evictBatch();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (hasNext == null) {
+            // the rows of the previous batch have been processed by now
+            if (session != null && rows > 0 && rows % batchSize == 0) {
+                evictBatch();
+            }
+            hasNext = results.next();
+        }
+        return hasNext;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (hasNext()) {
+            hasNext = null;
+            rows++;
+            if (projection != null) {
+                Object[] row = results.get();
+                if (projection.getArgs().size() < row.length) {
+                    Object[] shortened = new Object[projection.getArgs().size()];
+                    System.arraycopy(row, 0, shortened, 0, shortened.length);
+                    row = shortened;
+                }
+                return (T) projection.newInstance(row);
+            } else {
+                Object row = results.get(0);
+                if (session != null) {
+                    batch.add(row);
+                }
+                return (T) row;
+            }
+        } else {
+            throw new NoSuchElementException();
+        }
+    }
+
+    private void evictBatch() {
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+        LinkedList<Object> pending = new LinkedList<Object>();
+        for (Object row : batch) {
+            if (row instanceof Tuple) {
+                pending.addAll(Arrays.asList(((Tuple) row).toArray()));
+            } else {
+                pending.add(row);
+            }
+        }
+        batch.clear();
+
+        // collect the loaded graph first, since evict cascades only along mapped cascades
+        List<Object> evicted = new ArrayList<Object>();
+        while (!pending.isEmpty()) {
+            Object value = pending.removeFirst();
+            if (value == null || !visited.add(value) || !session.contains(value)) {
+                continue;
+            }
+            if (value instanceof HibernateProxy) {
+                LazyInitializer initializer = ((HibernateProxy) value).getHibernateLazyInitializer();
+                if (!isExisting(initializer.getEntityName(), initializer.getIdentifier())) {
+                    evicted.add(value);
+                    if (!initializer.isUninitialized()) {
+                        pending.add(initializer.getImplementation());
+                    }
+                }
+            } else {
+                String entityName = session.getEntityName(value);
+                if (!isExisting(entityName, session.getIdentifier(value))) {
+                    evicted.add(value);
+                    addAssociations(value, entityName, pending);
+                }
+            }
+        }
+        for (Object entity : evicted) {
+            if (session.contains(entity)) {
+                session.evict(entity);
+            }
+        }
+    }
+
+    private boolean isExisting(String entityName, Serializable id) {
+        SessionImplementor implementor = (SessionImplementor) session;
+        EntityKey key = implementor.generateEntityKey(id,
+                implementor.getFactory().getEntityPersister(entityName));
+        return existingKeys.contains(key);
+    }
+
+    private void addAssociations(Object entity, String entityName, List<Object> pending) {
+        ClassMetadata metadata = session.getSessionFactory().getClassMetadata(entityName);
+        Type[] types = metadata.getPropertyTypes();
+        Object[] values = metadata.getPropertyValues(entity);
+        for (int i = 0; i < types.length; i++) {
+            Object value = values[i];
+            if (value == null) {
+                continue;
+            } else if (types[i].isEntityType()) {
+                pending.add(value);
+            } else if (types[i].isCollectionType() && Hibernate.isInitialized(value)
+                    && isEntityCollection((CollectionType) types[i])) {
+                if (value instanceof Map) {
+                    pending.addAll(((Map<?, ?>) value).values());
+                } else if (value instanceof Collection) {
+                    pending.addAll((Collection<?>) value);
+                }
+            }
+        }
+    }
+
+    private boolean isEntityCollection(CollectionType type) {
+        return type.getElementType(((SessionImplementor) session).getFactory()).isEntityType();
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+}
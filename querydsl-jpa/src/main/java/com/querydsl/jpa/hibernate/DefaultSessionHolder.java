@@ -41,4 +41,8 @@ public class DefaultSessionHolder implements SessionHolder {
         return session.createSQLQuery(queryString);
     }
 
+    Session getSession() {
+        return session;
+    }
+
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.jpa.hibernate;
+
+import java.util.Map;
+
+import org.hibernate.LockMode;
+import org.hibernate.Query;
+
+import com.querydsl.core.types.ParamExpression;
+import com.querydsl.core.types.Path;
+import com.querydsl.jpa.JPQLBatch;
+import com.querydsl.jpa.JPQLSerializer;
+import com.querydsl.jpa.JPQLTemplates;
+
+/**
+ * {@code HibernateBatchExecutor} executes the batch statements of the Hibernate update and delete
+ * clauses
+ */
+final class HibernateBatchExecutor implements JPQLBatch.Executor<Query> {
+
+    private final SessionHolder session;
+
+    private final JPQLTemplates templates;
+
+    private final Map<Path<?>, LockMode> lockModes;
+
+    HibernateBatchExecutor(SessionHolder session, JPQLTemplates templates, Map<Path<?>, LockMode> lockModes) {
+        this.session = session;
+        this.templates = templates;
+        this.lockModes = lockModes;
+    }
+
+    @Override
+    public JPQLSerializer createSerializer() {
+        return new JPQLSerializer(templates, null);
+    }
+
+    @Override
+    public Query createQuery(String queryString) {
+        Query query = session.createQuery(queryString);
+        for (Map.Entry<Path<?>, LockMode> entry : lockModes.entrySet()) {
+            query.setLockMode(entry.getKey().toString(), entry.getValue());
+        }
+        return query;
+    }
+
+    @Override
+    public long executeUpdate(Query query, Map<Object, String> constants, Map<ParamExpression<?>, Object> params) {
+        HibernateUtil.setConstants(query, constants, params);
+        return query.executeUpdate();
+    }
+
+}
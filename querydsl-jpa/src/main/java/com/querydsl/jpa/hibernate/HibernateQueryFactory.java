@@ -13,10 +13,16 @@
  */
 package com.querydsl.jpa.hibernate;
 
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nullable;
 import javax.inject.Provider;
 
 import org.hibernate.Session;
+import org.hibernate.SessionFactory;
 
+import com.querydsl.core.AsyncFetchable;
+import com.querydsl.core.Fetchable;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.EntityPath;
 import com.querydsl.core.types.Expression;
@@ -37,6 +43,9 @@ public class HibernateQueryFactory implements JPQLQueryFactory {
 
     private final Provider<Session> session;
 
+    @Nullable
+    private Executor executor;
+
     public HibernateQueryFactory(Session session) {
         this(HQLTemplates.DEFAULT, session);
     }
@@ -120,4 +129,65 @@ public class HibernateQueryFactory implements JPQLQueryFactory {
         return new HibernateQuery<Void>(session.get(), templates);
     }
 
+    /**
+     * Create a new query in bulk read mode
+     *
+     * @param batchSize batch size for fetching and clearing the session
+     * @return query
+     * @see AbstractHibernateQuery#setBulkRead(int)
+     */
+    public HibernateQuery<?> bulkQuery(int batchSize) {
+        return query().setBulkRead(batchSize);
+    }
+
+    /**
+     * Set the executor to be used for asynchronous query execution
+     *
+     * <p>Each task runs against a new session opened via the session factory of this
+     * factory's session and closes it when the task completes. The session of this factory
+     * itself is never closed by asynchronous execution.</p>
+     *
+     * @param executor executor to use
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Get the asynchronous companion of the given query
+     *
+     * <p>The query is copied when this method is invoked, and every fetch is executed on the
+     * executor of this factory against a further copy bound to a new session, which is opened
+     * from the session factory of this factory's session and closed after the fetch. Requires
+     * Java 8 or later.</p>
+     *
+     * @param query query to execute asynchronously
+     * @param <T> type of the projection
+     * @return async fetchable
+     * @throws IllegalStateException if no executor has been set
+     */
+    public <T> AsyncFetchable<T> async(AbstractHibernateQuery<T, ?> query) {
+        if (executor == null) {
+            throw new IllegalStateException("No executor set");
+        }
+        final AbstractHibernateQuery<T, ?> snapshot = query.clone();
+        final SessionFactory sessionFactory = session.get().getSessionFactory();
+        return new AsyncFetchable<T>(new AsyncFetchable.QuerySource<T, Session>() {
+            @Override
+            public Session acquire() {
+                return sessionFactory.openSession();
+            }
+
+            @Override
+            public Fetchable<T> bind(Session session) {
+                return snapshot.clone(session);
+            }
+
+            @Override
+            public void release(Session session) {
+                session.close();
+            }
+        }, snapshot.getMetadata().getModifiers(), executor);
+    }
+
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.jpa.impl;
+
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.Query;
+
+import com.querydsl.core.types.ParamExpression;
+import com.querydsl.jpa.JPQLBatch;
+import com.querydsl.jpa.JPQLSerializer;
+import com.querydsl.jpa.JPQLTemplates;
+
+/**
+ * {@code JPABatchExecutor} executes the batch statements of the JPA update and delete clauses
+ */
+final class JPABatchExecutor implements JPQLBatch.Executor<Query> {
+
+    private final EntityManager entityManager;
+
+    private final JPQLTemplates templates;
+
+    @Nullable
+    private final LockModeType lockMode;
+
+    JPABatchExecutor(EntityManager entityManager, JPQLTemplates templates, @Nullable LockModeType lockMode) {
+        this.entityManager = entityManager;
+        this.templates = templates;
+        this.lockMode = lockMode;
+    }
+
+    @Override
+    public JPQLSerializer createSerializer() {
+        return new JPQLSerializer(templates, entityManager);
+    }
+
+    @Override
+    public Query createQuery(String queryString) {
+        Query query = entityManager.createQuery(queryString);
+        if (lockMode != null) {
+            query.setLockMode(lockMode);
+        }
+        return query;
+    }
+
+    @Override
+    public long executeUpdate(Query query, Map<Object, String> constants, Map<ParamExpression<?>, Object> params) {
+        JPAUtil.setConstants(query, constants, params);
+        return query.executeUpdate();
+    }
+
+}
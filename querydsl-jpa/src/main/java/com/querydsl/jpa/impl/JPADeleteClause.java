@@ -26,6 +26,7 @@ import com.querydsl.core.support.QueryMixin;
 import com.querydsl.core.types.EntityPath;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.jpa.JPAQueryMixin;
+import com.querydsl.jpa.JPQLBatch;
 import com.querydsl.jpa.JPQLSerializer;
 import com.querydsl.jpa.JPQLTemplates;
 
@@ -37,7 +38,11 @@ import com.querydsl.jpa.JPQLTemplates;
  */
 public class JPADeleteClause implements DeleteClause<JPADeleteClause> {
 
-    private final QueryMixin<?> queryMixin = new JPAQueryMixin<Void>();
+    private final EntityPath<?> entity;
+
+    private QueryMixin<?> queryMixin = new JPAQueryMixin<Void>();
+
+    private final JPQLBatch batch = new JPQLBatch();
 
     private final EntityManager entityManager;
 
@@ -53,11 +58,68 @@ public class JPADeleteClause implements DeleteClause<JPADeleteClause> {
     public JPADeleteClause(EntityManager entityManager, EntityPath<?> entity, JPQLTemplates templates) {
         this.entityManager = entityManager;
         this.templates = templates;
+        this.entity = entity;
+        queryMixin.addJoin(JoinType.DEFAULT, entity);
+    }
+
+    /**
+     * Add the current state of bindings as a batch item
+     *
+     * @return the current object
+     */
+    public JPADeleteClause addBatch() {
+        batch.add(queryMixin.getMetadata(), null);
+        queryMixin = new JPAQueryMixin<Void>();
+        queryMixin.addJoin(JoinType.DEFAULT, entity);
+        return this;
+    }
+
+    /**
+     * Clear the internal state of the clause
+     */
+    public void clear() {
+        batch.clear();
+        queryMixin = new JPAQueryMixin<Void>();
         queryMixin.addJoin(JoinType.DEFAULT, entity);
     }
 
+    /**
+     * Get the amount of batch items
+     *
+     * @return batch item count
+     */
+    public int getBatchCount() {
+        return batch.size();
+    }
+
+    /**
+     * Set the maximum amount of batch items per executed statement
+     *
+     * @param chunkSize chunk size
+     * @return the current object
+     */
+    public JPADeleteClause setChunkSize(int chunkSize) {
+        batch.setChunkSize(chunkSize);
+        return this;
+    }
+
+    /**
+     * Execute the batch items
+     *
+     * <p>Structurally identical items are merged into multi row statements, see
+     * {@link JPQLBatch}. Each statement is rendered once and executed in chunks.</p>
+     *
+     * @return affected row counts, one per executed chunk
+     */
+    public long[] executeBatch() {
+        return batch.execute(new JPABatchExecutor(entityManager, templates, lockMode));
+    }
+
     @Override
     public long execute() {
+        if (batch.size() > 0) {
+            return JPQLBatch.sum(executeBatch());
+        }
         JPQLSerializer serializer = new JPQLSerializer(templates, entityManager);
         serializer.serializeForDelete(queryMixin.getMetadata());
         Map<Object,String> constants = serializer.getConstantToLabel();
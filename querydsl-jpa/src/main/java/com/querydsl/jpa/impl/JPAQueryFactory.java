@@ -13,10 +13,15 @@
  */
 package com.querydsl.jpa.impl;
 
+import java.util.concurrent.Executor;
+
 import javax.annotation.Nullable;
 import javax.inject.Provider;
 import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
 
+import com.querydsl.core.AsyncFetchable;
+import com.querydsl.core.Fetchable;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.EntityPath;
 import com.querydsl.core.types.Expression;
@@ -37,6 +42,9 @@ public class JPAQueryFactory implements JPQLQueryFactory  {
 
     private final Provider<EntityManager> entityManager;
 
+    @Nullable
+    private Executor executor;
+
     public JPAQueryFactory(final EntityManager entityManager) {
         this.entityManager = new Provider<EntityManager>() {
             @Override
@@ -139,4 +147,58 @@ public class JPAQueryFactory implements JPQLQueryFactory  {
         }
     }
 
+    /**
+     * Set the executor to be used for asynchronous query execution
+     *
+     * <p>Each task runs against a new entity manager created via the entity manager factory
+     * of this factory's entity manager and closes it when the task completes. The entity
+     * manager of this factory itself is never closed by asynchronous execution.</p>
+     *
+     * @param executor executor to use
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Get the asynchronous companion of the given query
+     *
+     * <p>The query is copied when this method is invoked, and every fetch is executed on the
+     * executor of this factory against a further copy bound to a new entity manager, which is
+     * created from the entity manager factory of this factory's entity manager and closed after
+     * the fetch. Requires Java 8 or later.</p>
+     *
+     * @param query query to execute asynchronously
+     * @param <T> type of the projection
+     * @return async fetchable
+     * @throws IllegalStateException if no executor has been set
+     */
+    public <T> AsyncFetchable<T> async(AbstractJPAQuery<T, ?> query) {
+        if (executor == null) {
+            throw new IllegalStateException("No executor set");
+        }
+        final AbstractJPAQuery<T, ?> snapshot = query.clone();
+        final EntityManagerFactory emf = entityManager.get().getEntityManagerFactory();
+        return new AsyncFetchable<T>(new AsyncFetchable.QuerySource<T, EntityManager>() {
+            @Override
+            public EntityManager acquire() {
+                return emf.createEntityManager();
+            }
+
+            @Override
+            public Fetchable<T> bind(EntityManager em) {
+                if (templates != null) {
+                    return snapshot.clone(em, templates);
+                } else {
+                    return snapshot.clone(em);
+                }
+            }
+
+            @Override
+            public void release(EntityManager em) {
+                em.close();
+            }
+        }, snapshot.getMetadata().getModifiers(), executor);
+    }
+
 }
@@ -31,6 +31,7 @@ import com.querydsl.core.types.Path;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.JPAQueryMixin;
+import com.querydsl.jpa.JPQLBatch;
 import com.querydsl.jpa.JPQLSerializer;
 import com.querydsl.jpa.JPQLTemplates;
 
@@ -42,10 +43,14 @@ import com.querydsl.jpa.JPQLTemplates;
  */
 public class JPAUpdateClause implements UpdateClause<JPAUpdateClause> {
 
-    private final QueryMixin<?> queryMixin = new JPAQueryMixin<Void>();
+    private final EntityPath<?> entity;
+
+    private QueryMixin<?> queryMixin = new JPAQueryMixin<Void>();
 
     private final Map<Path<?>, Expression<?>> updates = Maps.newLinkedHashMap();
 
+    private final JPQLBatch batch = new JPQLBatch();
+
     private final EntityManager entityManager;
 
     private final JPQLTemplates templates;
@@ -60,11 +65,70 @@ public class JPAUpdateClause implements UpdateClause<JPAUpdateClause> {
     public JPAUpdateClause(EntityManager em, EntityPath<?> entity, JPQLTemplates templates) {
         this.entityManager = em;
         this.templates = templates;
+        this.entity = entity;
+        queryMixin.addJoin(JoinType.DEFAULT, entity);
+    }
+
+    /**
+     * Add the current state of bindings as a batch item
+     *
+     * @return the current object
+     */
+    public JPAUpdateClause addBatch() {
+        batch.add(queryMixin.getMetadata(), updates);
+        updates.clear();
+        queryMixin = new JPAQueryMixin<Void>();
+        queryMixin.addJoin(JoinType.DEFAULT, entity);
+        return this;
+    }
+
+    /**
+     * Clear the internal state of the clause
+     */
+    public void clear() {
+        batch.clear();
+        updates.clear();
+        queryMixin = new JPAQueryMixin<Void>();
         queryMixin.addJoin(JoinType.DEFAULT, entity);
     }
 
+    /**
+     * Get the amount of batch items
+     *
+     * @return batch item count
+     */
+    public int getBatchCount() {
+        return batch.size();
+    }
+
+    /**
+     * Set the maximum amount of batch items per executed statement
+     *
+     * @param chunkSize chunk size
+     * @return the current object
+     */
+    public JPAUpdateClause setChunkSize(int chunkSize) {
+        batch.setChunkSize(chunkSize);
+        return this;
+    }
+
+    /**
+     * Execute the batch items
+     *
+     * <p>Structurally identical items are merged into multi row statements, see
+     * {@link JPQLBatch}. Each statement is rendered once and executed in chunks.</p>
+     *
+     * @return affected row counts, one per executed chunk
+     */
+    public long[] executeBatch() {
+        return batch.execute(new JPABatchExecutor(entityManager, templates, lockMode));
+    }
+
     @Override
     public long execute() {
+        if (batch.size() > 0) {
+            return JPQLBatch.sum(executeBatch());
+        }
         JPQLSerializer serializer = new JPQLSerializer(templates, entityManager);
         serializer.serializeForUpdate(queryMixin.getMetadata(), updates);
         Map<Object,String> constants = serializer.getConstantToLabel();
@@ -138,7 +202,7 @@ public class JPAUpdateClause implements UpdateClause<JPAUpdateClause> {
 
     @Override
     public boolean isEmpty() {
-        return updates.isEmpty();
+        return updates.isEmpty() && batch.size() == 0;
     }
 
 }
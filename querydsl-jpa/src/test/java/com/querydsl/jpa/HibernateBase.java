@@ -16,7 +16,9 @@ package com.querydsl.jpa;
 import static org.junit.Assert.*;
 
 import java.io.IOException;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.hibernate.LockMode;
 import org.hibernate.Session;
@@ -32,6 +34,7 @@ import com.querydsl.core.Tuple;
 import com.querydsl.core.types.EntityPath;
 import com.querydsl.core.types.Expression;
 import com.querydsl.jpa.domain.Cat;
+import com.querydsl.jpa.domain.Company;
 import com.querydsl.jpa.domain.QCat;
 import com.querydsl.jpa.domain.QGroup;
 import com.querydsl.jpa.hibernate.DefaultSessionHolder;
@@ -139,6 +142,72 @@ public class HibernateBase extends AbstractJPATest implements HibernateTest {
         rows.close();
     }
 
+    @Test
+    public void bulkRead() {
+        session.flush();
+        session.clear();
+        long count = query().from(cat).select(cat).fetchCount();
+        CloseableIterator<Cat> cats = query().from(cat).select(cat).setBulkRead(2).iterate();
+        Cat first = cats.next();
+        int rows = 1;
+        while (cats.hasNext()) {
+            assertNotNull(cats.next());
+            rows++;
+        }
+        // the first batch has been cleared from the session
+        assertFalse(session.contains(first));
+        cats.close();
+        assertEquals(count, rows);
+        // the last batch and the eagerly loaded associations have been evicted as well
+        assertEquals(0, session.getStatistics().getEntityCount());
+    }
+
+    @Test
+    public void bulkRead_keeps_unrelated_changes() {
+        Company company = (Company) session.get(Company.class, 1);
+        company.officialName = "Bulk";
+        CloseableIterator<Cat> cats = query().from(cat).select(cat).setBulkRead(2).iterate();
+        while (cats.hasNext()) {
+            assertNotNull(cats.next());
+        }
+        cats.close();
+        // only the entities of the iterated batches are evicted
+        assertTrue(session.contains(company));
+        assertTrue(session.isDirty());
+    }
+
+    @Test
+    public void bulkRead_fetchJoin() {
+        session.flush();
+        session.clear();
+        QCat kitten = new QCat("kitten");
+        long count = query().from(cat).innerJoin(cat.kittens, kitten).select(cat).distinct().fetchCount();
+        CloseableIterator<Cat> cats = query().from(cat).innerJoin(cat.kittens, kitten).fetchJoin()
+                .select(cat).setBulkRead(2).iterate();
+        Set<Integer> ids = new HashSet<Integer>();
+        while (cats.hasNext()) {
+            Cat next = cats.next();
+            assertFalse(next.getKittens().isEmpty());
+            ids.add(next.getId());
+        }
+        cats.close();
+        assertEquals(count, ids.size());
+        assertEquals(0, session.getStatistics().getEntityCount());
+        assertEquals(0, session.getStatistics().getCollectionCount());
+    }
+
+    @Test
+    public void bulkRead_projection() {
+        CloseableIterator<Tuple> rows = query().from(cat).select(cat.id, cat.name).setBulkRead(2).iterate();
+        assertTrue(rows.hasNext());
+        while (rows.hasNext()) {
+            Tuple row = rows.next();
+            assertEquals(2, row.size());
+            assertNotNull(row.get(cat.id));
+        }
+        rows.close();
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     public void createQuery() {
@@ -13,12 +13,17 @@
  */
 package com.querydsl.jpa;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
+import java.util.concurrent.Executor;
+
 import javax.inject.Provider;
 
 import org.easymock.EasyMock;
+import org.hibernate.Query;
 import org.hibernate.Session;
+import org.hibernate.SessionFactory;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -45,6 +50,11 @@ public class HibernateQueryFactoryTest {
         assertNotNull(queryFactory.query());
     }
 
+    @Test
+    public void bulkQuery() {
+        assertNotNull(queryFactory.bulkQuery(100));
+    }
+
     @Test
     public void from() {
         assertNotNull(queryFactory.from(QAnimal.animal));
@@ -60,4 +70,30 @@ public class HibernateQueryFactoryTest {
         assertNotNull(queryFactory.update(QAnimal.animal));
     }
 
+    @Test
+    public void async_closes_opened_sessions_only() throws Exception {
+        final Session session = EasyMock.createMock(Session.class);
+        SessionFactory sessionFactory = EasyMock.createMock(SessionFactory.class);
+        Session opened = EasyMock.createNiceMock(Session.class);
+        Query query = EasyMock.createNiceMock(Query.class);
+        EasyMock.expect(session.getSessionFactory()).andReturn(sessionFactory);
+        EasyMock.expect(sessionFactory.openSession()).andReturn(opened);
+        EasyMock.expect(opened.createQuery(EasyMock.<String>anyObject())).andReturn(query);
+        EasyMock.expect(query.uniqueResult()).andReturn(3L);
+        EasyMock.expect(opened.close()).andReturn(null);
+        EasyMock.replay(session, sessionFactory, opened, query);
+
+        HibernateQueryFactory factory = new HibernateQueryFactory(session);
+        factory.setExecutor(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                command.run();
+            }
+        });
+        assertEquals(Long.valueOf(3L), factory.async(factory.selectFrom(QAnimal.animal))
+                .fetchCountAsync().get());
+
+        EasyMock.verify(session, sessionFactory, opened, query);
+    }
+
 }
@@ -13,6 +13,7 @@
  */
 package com.querydsl.jpa;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static com.querydsl.jpa.Constants.*;
 import static org.junit.Assert.assertNotNull;
@@ -140,6 +141,36 @@ public class IntegrationBase extends ParsingTest implements HibernateTest {
         assertEquals(1, amount);
     }
 
+    @Test
+    public void update_batch() {
+        session.save(new Cat("Bob",10));
+        session.save(new Cat("Steve",11));
+        session.save(new Cat("Tom",12));
+
+        QCat cat = QCat.cat;
+        HibernateUpdateClause update = update(cat).setChunkSize(2);
+        update.set(cat.name, "Bobby").where(cat.id.eq(10)).addBatch();
+        update.set(cat.name, "Stevie").where(cat.id.eq(11)).addBatch();
+        update.set(cat.name, "Tommy").where(cat.id.eq(12)).addBatch();
+        assertEquals(3, update.getBatchCount());
+        assertArrayEquals(new long[]{2, 1}, update.executeBatch());
+
+        assertEquals(1L, query().from(cat).where(cat.name.eq("Stevie")).fetchCount());
+        assertEquals(1L, query().from(cat).where(cat.name.eq("Tommy")).fetchCount());
+    }
+
+    @Test
+    public void delete_batch() {
+        session.save(new Cat("Bob",10));
+        session.save(new Cat("Steve",11));
+
+        QCat cat = QCat.cat;
+        HibernateDeleteClause delete = delete(cat);
+        delete.where(cat.id.eq(10)).addBatch();
+        delete.where(cat.id.eq(11)).addBatch();
+        assertEquals(2, delete.execute());
+    }
+
     @Test
     public void delete() {
         session.save(new Cat("Bob",10));
@@ -13,14 +13,19 @@
  */
 package com.querydsl.jpa;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
+import java.util.Collections;
 import java.util.Date;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import javax.inject.Provider;
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
+import javax.persistence.Parameter;
+import javax.persistence.Query;
 
 import org.easymock.EasyMock;
 import org.junit.Before;
@@ -135,4 +140,34 @@ public class JPAQueryFactoryTest {
         EasyMock.verify(mock, factoryMock);
     }
 
+    @Test
+    public void async_closes_created_entity_managers_only() throws Exception {
+        EntityManager created = EasyMock.createMock(EntityManager.class);
+        Query query = EasyMock.createNiceMock(Query.class);
+        EasyMock.expect(mock.getEntityManagerFactory()).andReturn(factoryMock);
+        EasyMock.expect(factoryMock.createEntityManager()).andReturn(created);
+        EasyMock.expect(created.createQuery(EasyMock.<String>anyObject())).andReturn(query);
+        EasyMock.expect(query.getParameters()).andReturn(Collections.<Parameter<?>>emptySet());
+        EasyMock.expect(query.getSingleResult()).andReturn(3L);
+        created.close();
+        EasyMock.replay(mock, factoryMock, created, query);
+
+        queryFactory.setExecutor(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                command.run();
+            }
+        });
+        QAnimal animal = QAnimal.animal;
+        assertEquals(Long.valueOf(3L), queryFactory.async(queryFactory.selectFrom(animal))
+                .fetchCountAsync().get());
+
+        EasyMock.verify(mock, factoryMock, created, query);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void async_without_executor() {
+        queryFactory.async(queryFactory.selectFrom(QAnimal.animal));
+    }
+
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.jpa;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.querydsl.core.DefaultQueryMetadata;
+import com.querydsl.core.JoinType;
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.domain.QCat;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.ParamExpression;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.Expressions;
+
+public class JPQLBatchTest {
+
+    private static final QCat cat = QCat.cat;
+
+    private final JPQLBatch batch = new JPQLBatch();
+
+    private static QueryMetadata metadata(Predicate where) {
+        QueryMetadata md = new DefaultQueryMetadata();
+        md.addJoin(JoinType.DEFAULT, cat);
+        md.addWhere(where);
+        return md;
+    }
+
+    private static Map<Path<?>, Expression<?>> updates(String name, boolean alive) {
+        return ImmutableMap.<Path<?>, Expression<?>>of(
+                cat.name, Expressions.constant(name),
+                cat.alive, Expressions.constant(alive));
+    }
+
+    private static String serialize(JPQLBatch.Statement statement) {
+        JPQLSerializer serializer = new JPQLSerializer(HQLTemplates.DEFAULT);
+        if (statement.getUpdates() != null) {
+            serializer.serializeForUpdate(statement.getMetadata(), statement.getUpdates());
+        } else {
+            serializer.serializeForDelete(statement.getMetadata());
+        }
+        return serializer.toString();
+    }
+
+    @Test
+    public void same_values() {
+        batch.setChunkSize(2);
+        for (int i = 1; i <= 3; i++) {
+            batch.add(metadata(cat.id.eq(i)), updates("Bob", true));
+        }
+        List<JPQLBatch.Statement> statements = batch.getStatements();
+        assertEquals(1, statements.size());
+        assertEquals("update Cat cat\nset cat.name = ?1, cat.alive = ?2\nwhere cat.id in (?3)",
+                serialize(statements.get(0)));
+        List<Map<ParamExpression<?>, Object>> bindings = statements.get(0).getBindings();
+        assertEquals(2, bindings.size());
+        assertEquals(Arrays.<Object>asList(Arrays.asList(1, 2)), ImmutableList.copyOf(bindings.get(0).values()));
+        assertEquals(Arrays.<Object>asList(Arrays.asList(3)), ImmutableList.copyOf(bindings.get(1).values()));
+    }
+
+    @Test
+    public void different_values() {
+        batch.setChunkSize(2);
+        for (int i = 1; i <= 3; i++) {
+            batch.add(metadata(cat.id.eq(i)), updates("Bob" + i, true));
+        }
+        List<JPQLBatch.Statement> statements = batch.getStatements();
+        assertEquals(2, statements.size());
+        assertEquals("update Cat cat\n" +
+                "set cat.name = case when (cat.id = ?1) then ?2 when (cat.id = ?3) then ?4 else cat.name end, cat.alive = ?5\n" +
+                "where cat.id in (?6)", serialize(statements.get(0)));
+        assertEquals("update Cat cat\n" +
+                "set cat.name = case when (cat.id = ?1) then ?2 else cat.name end, cat.alive = ?3\n" +
+                "where cat.id in (?4)", serialize(statements.get(1)));
+        assertEquals(1, statements.get(0).getBindings().size());
+        assertEquals(5, statements.get(0).getBindings().get(0).size());
+        assertEquals(1, statements.get(1).getBindings().size());
+        assertEquals(3, statements.get(1).getBindings().get(0).size());
+    }
+
+    @Test
+    public void not_mergeable() {
+        batch.add(metadata(cat.id.eq(1)), updates("Bob", true));
+        batch.add(metadata(cat.name.eq("Steve")), updates("Bob", true));
+        batch.add(metadata(cat.id.eq(2)), updates("Bob", true));
+        // same id twice
+        batch.add(metadata(cat.id.eq(2)), updates("Bobby", true));
+        List<JPQLBatch.Statement> statements = batch.getStatements();
+        assertEquals(4, statements.size());
+        assertEquals("update Cat cat\nset cat.name = ?1, cat.alive = ?2\nwhere cat.id = ?3",
+                serialize(statements.get(0)));
+    }
+
+    @Test
+    public void not_mergeable_updated_key() {
+        batch.add(metadata(cat.name.eq("X")), updates("Y", true));
+        batch.add(metadata(cat.name.eq("Y")), updates("Z", true));
+        List<JPQLBatch.Statement> statements = batch.getStatements();
+        assertEquals(2, statements.size());
+        assertEquals("update Cat cat\nset cat.name = ?1, cat.alive = ?2\nwhere cat.name = ?3",
+                serialize(statements.get(0)));
+        assertEquals("update Cat cat\nset cat.name = ?1, cat.alive = ?2\nwhere cat.name = ?3",
+                serialize(statements.get(1)));
+    }
+
+    @Test
+    public void delete() {
+        batch.add(metadata(cat.id.eq(1)), null);
+        batch.add(metadata(cat.id.eq(2)), null);
+        List<JPQLBatch.Statement> statements = batch.getStatements();
+        assertEquals(1, statements.size());
+        assertEquals("delete from Cat cat\nwhere cat.id in (?1)", serialize(statements.get(0)));
+        assertEquals(1, statements.get(0).getBindings().size());
+    }
+
+    @Test
+    public void execute() {
+        batch.setChunkSize(2);
+        for (int i = 1; i <= 3; i++) {
+            batch.add(metadata(cat.id.eq(i)), null);
+        }
+        final List<String> queries = Lists.newArrayList();
+        long[] counts = batch.execute(new JPQLBatch.Executor<String>() {
+            @Override
+            public JPQLSerializer createSerializer() {
+                return new JPQLSerializer(HQLTemplates.DEFAULT);
+            }
+
+            @Override
+            public String createQuery(String queryString) {
+                queries.add(queryString);
+                return queryString;
+            }
+
+            @Override
+            public long executeUpdate(String query, Map<Object, String> constants,
+                    Map<ParamExpression<?>, Object> params) {
+                return ((List<?>) params.values().iterator().next()).size();
+            }
+        });
+        assertEquals(Arrays.asList("delete from Cat cat\nwhere cat.id in (?1)"), queries);
+        assertArrayEquals(new long[]{2, 1}, counts);
+        assertEquals(3, JPQLBatch.sum(counts));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setChunkSize_illegal() {
+        batch.setChunkSize(0);
+    }
+
+}
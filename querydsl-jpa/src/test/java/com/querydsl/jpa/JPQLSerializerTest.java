@@ -17,6 +17,7 @@ import static com.querydsl.jpa.JPAExpressions.selectOne;
 import static org.junit.Assert.assertEquals;
 
 import java.util.Arrays;
+import java.util.Collection;
 
 import org.junit.Test;
 
@@ -26,11 +27,14 @@ import com.querydsl.core.QueryMetadata;
 import com.querydsl.core.domain.QCat;
 import com.querydsl.core.types.EntityPath;
 import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Ops;
 import com.querydsl.core.types.Path;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.EntityPathBase;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.Param;
 import com.querydsl.jpa.domain.JobFunction;
 import com.querydsl.jpa.domain.Location;
 import com.querydsl.jpa.domain.QDomesticCat;
@@ -181,6 +185,14 @@ public class JPQLSerializerTest {
         assertEquals("id in (?1)", serializer.toString());
     }
 
+    @Test
+    public void in_param() {
+        JPQLSerializer serializer = new JPQLSerializer(HQLTemplates.DEFAULT);
+        serializer.handle(ExpressionUtils.predicate(Ops.IN, Expressions.numberPath(Integer.class, "id"),
+                new Param<Collection>(Collection.class, "ids")));
+        assertEquals("id in (?1)", serializer.toString());
+    }
+
     @Test
     public void not_in() {
         JPQLSerializer serializer = new JPQLSerializer(HQLTemplates.DEFAULT);
@@ -0,0 +1,286 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.lucene3;
+
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.*;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.util.ReaderUtil;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.types.*;
+
+/**
+ * {@code LuceneQueryCache} caches the Lucene queries serialized from Querydsl predicates
+ *
+ * <p>Predicates are split into their top level conjuncts, which are serialized once per serializer
+ * and parameter bindings. The serialized conjuncts are combined as required clauses, so that they
+ * keep contributing to the relevance score. Only for queries with an explicit sort, where the score
+ * isn't used, conjuncts which have been used at least {@code minFrequency} times are wrapped into a
+ * {@link CachingWrapperFilter}, so that their matching documents are computed once per index
+ * segment.</p>
+ *
+ * <p>The cached filters are dropped, when a query runs against an index reader of a different
+ * generation, see {@link #validate(IndexReader)}. A cache should therefore be used for a single
+ * index. Within a generation, filters are cached per segment and recached on deletions.</p>
+ *
+ * <p>Usage:</p>
+ * <pre>
+ * LuceneQueryCache cache = new LuceneQueryCache(1000);
+ * List&lt;Document&gt; documents = new LuceneQuery(searcher).cache(cache)
+ *     .where(doc.year.between(1800, 2000), doc.publisher.eq("Penguin"))
+ *     .fetch();
+ * </pre>
+ */
+public class LuceneQueryCache {
+
+    public static final int DEFAULT_MIN_FREQUENCY = 5;
+
+    private static final class Key {
+
+        private final LuceneSerializer serializer;
+
+        private final Expression<?> predicate;
+
+        private final Map<ParamExpression<?>, Object> params;
+
+        private final int hashCode;
+
+        private Key(LuceneSerializer serializer, Expression<?> predicate, Map<ParamExpression<?>, Object> params) {
+            this.serializer = serializer;
+            this.predicate = predicate;
+            this.params = params;
+            this.hashCode = 31 * (31 * System.identityHashCode(serializer) + predicate.hashCode()) + params.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            } else if (o instanceof Key) {
+                Key other = (Key) o;
+                return serializer == other.serializer && predicate.equals(other.predicate)
+                    && params.equals(other.params);
+            } else {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+    private final class Entry {
+
+        final Query query;
+
+        final AtomicInteger uses = new AtomicInteger();
+
+        @Nullable
+        volatile Query filtered;
+
+        Entry(Query query) {
+            this.query = query;
+        }
+
+        Query get(boolean sorted) {
+            if (uses.incrementAndGet() < minFrequency || !sorted) {
+                return query;
+            }
+            Query rv = filtered;
+            if (rv == null) {
+                rv = new ConstantScoreQuery(new CachingWrapperFilter(new QueryWrapperFilter(query),
+                        CachingWrapperFilter.DeletesMode.RECACHE));
+                filtered = rv;
+            }
+            return rv;
+        }
+
+        void reset() {
+            uses.set(0);
+            filtered = null;
+        }
+
+    }
+
+    private final Cache<Key, Entry> cache;
+
+    private final int minFrequency;
+
+    private final AtomicLong hits = new AtomicLong(), misses = new AtomicLong(), invalidations = new AtomicLong();
+
+    // weakly held segment keys of the reader of the previous call, guarded by this
+    @Nullable
+    private List<WeakReference<Object>> generation;
+
+    public LuceneQueryCache(long maximumSize) {
+        this(maximumSize, DEFAULT_MIN_FREQUENCY);
+    }
+
+    /**
+     * Create a new LuceneQueryCache instance
+     *
+     * @param maximumSize maximum amount of cached conjuncts
+     * @param minFrequency amount of uses after which a conjunct is used as a cached filter
+     *        in sorted queries
+     */
+    public LuceneQueryCache(long maximumSize, int minFrequency) {
+        if (minFrequency < 1) {
+            throw new IllegalArgumentException("minFrequency must be at least 1, but was " + minFrequency);
+        }
+        this.cache = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+        this.minFrequency = minFrequency;
+    }
+
+    /**
+     * Get the Lucene query for the given predicate
+     *
+     * @param serializer serializer
+     * @param predicate predicate
+     * @param metadata query metadata
+     * @param sorted whether the results are ordered by an explicit sort instead of by relevance
+     * @return query
+     */
+    public Query getQuery(LuceneSerializer serializer, Predicate predicate, QueryMetadata metadata,
+            boolean sorted) {
+        Map<ParamExpression<?>, Object> params = metadata.getParams().isEmpty()
+                ? Collections.<ParamExpression<?>, Object>emptyMap()
+                : new HashMap<ParamExpression<?>, Object>(metadata.getParams());
+        List<Expression<?>> conjuncts = new ArrayList<Expression<?>>();
+        flatten(predicate, conjuncts);
+        if (conjuncts.size() == 1) {
+            return getEntry(serializer, conjuncts.get(0), params, metadata).get(sorted);
+        }
+        BooleanQuery rv = new BooleanQuery();
+        for (Expression<?> conjunct : conjuncts) {
+            rv.add(getEntry(serializer, conjunct, params, metadata).get(sorted), Occur.MUST);
+        }
+        return rv;
+    }
+
+    private Entry getEntry(LuceneSerializer serializer, Expression<?> conjunct,
+            Map<ParamExpression<?>, Object> params, QueryMetadata metadata) {
+        Key key = new Key(serializer, conjunct, params);
+        Entry entry = cache.getIfPresent(key);
+        if (entry != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+            entry = new Entry(serializer.toQuery(conjunct, metadata));
+            Entry existing = cache.asMap().putIfAbsent(key, entry);
+            if (existing != null) {
+                entry = existing;
+            }
+        }
+        return entry;
+    }
+
+    private static void flatten(Expression<?> expr, List<Expression<?>> conjuncts) {
+        if (expr instanceof Operation && ((Operation<?>) expr).getOperator() == Ops.AND) {
+            for (Expression<?> arg : ((Operation<?>) expr).getArgs()) {
+                flatten(arg, conjuncts);
+            }
+        } else {
+            conjuncts.add(expr);
+        }
+    }
+
+    /**
+     * Drop the cached filters, if the given reader is of a different generation than the reader
+     * of the previous call
+     *
+     * @param reader index reader
+     */
+    public void validate(IndexReader reader) {
+        List<IndexReader> leaves = new ArrayList<IndexReader>();
+        ReaderUtil.gatherSubReaders(leaves, reader);
+        List<Object> current = new ArrayList<Object>(2 * leaves.size());
+        for (IndexReader leaf : leaves) {
+            current.add(leaf.getCoreCacheKey());
+            current.add(leaf.getDeletesCacheKey());
+        }
+        synchronized (this) {
+            if (!isGeneration(current)) {
+                if (generation != null) {
+                    invalidate();
+                }
+                generation = new ArrayList<WeakReference<Object>>(current.size());
+                for (Object key : current) {
+                    generation.add(new WeakReference<Object>(key));
+                }
+            }
+        }
+    }
+
+    private boolean isGeneration(List<Object> keys) {
+        if (generation == null || generation.size() != keys.size()) {
+            return false;
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            if (generation.get(i).get() != keys.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Drop all cached filters and reset the usage counts of the conjuncts
+     */
+    public void invalidate() {
+        for (Entry entry : cache.asMap().values()) {
+            entry.reset();
+        }
+        invalidations.incrementAndGet();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Get the amount of times the cached filters have been dropped
+     *
+     * @return invalidation count
+     */
+    public long getInvalidationCount() {
+        return invalidations.get();
+    }
+
+    /**
+     * Get the amount of cached conjuncts
+     *
+     * @return size
+     */
+    public long getSize() {
+        return cache.size();
+    }
+
+}
@@ -17,6 +17,7 @@ import static org.easymock.EasyMock.*;
 import static org.junit.Assert.*;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -32,6 +33,9 @@ import org.apache.lucene.document.NumericField;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.DuplicateFilter;
 import org.apache.lucene.search.Filter;
 import org.apache.lucene.search.IndexSearcher;
@@ -43,11 +47,13 @@ import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import com.querydsl.core.DefaultQueryMetadata;
 import com.querydsl.core.NonUniqueResultException;
 import com.querydsl.core.QueryException;
 import com.querydsl.core.QueryModifiers;
 import com.querydsl.core.QueryResults;
 import com.querydsl.core.types.ParamNotSetException;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.core.types.dsl.Param;
@@ -122,9 +128,13 @@ public class LuceneQueryTest {
     }
 
     private IndexWriter createWriter(RAMDirectory idx) throws Exception {
+        return createWriter(idx, IndexWriterConfig.OpenMode.CREATE);
+    }
+
+    private IndexWriter createWriter(RAMDirectory idx, IndexWriterConfig.OpenMode mode) throws Exception {
         IndexWriterConfig config = new IndexWriterConfig(Version.LUCENE_31,
                 new StandardAnalyzer(Version.LUCENE_30))
-            .setOpenMode(IndexWriterConfig.OpenMode.CREATE);
+            .setOpenMode(mode);
         return new IndexWriter(idx, config);
     }
 
@@ -143,6 +153,57 @@ public class LuceneQueryTest {
         assertEquals(4, query.fetchCount());
     }
 
+    @Test
+    public void cache() {
+        LuceneSerializer serializer = new LuceneSerializer(true, true);
+        LuceneQueryCache cache = new LuceneQueryCache(100, 2);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(2, new LuceneQuery(serializer, searcher).cache(cache)
+                    .where(year.between(1900, 2000), gross.gt(50.0)).fetchCount());
+        }
+        assertEquals(2, cache.getMissCount());
+        assertEquals(4, cache.getHitCount());
+        assertEquals(2, cache.getSize());
+    }
+
+    @Test
+    public void cache_invalidation() throws Exception {
+        LuceneSerializer serializer = new LuceneSerializer(true, true);
+        LuceneQueryCache cache = new LuceneQueryCache(100, 1);
+        assertEquals(3, new LuceneQuery(serializer, searcher).cache(cache)
+                .where(year.between(1900, 2000)).fetchCount());
+        assertEquals(0, cache.getInvalidationCount());
+
+        writer = createWriter(idx, IndexWriterConfig.OpenMode.APPEND);
+        writer.addDocument(createDocument("Nineteen Eighty-Four", "George Orwell",
+                "Big Brother is watching you", 1949, 5.00));
+        writer.close();
+        IndexReader reader = IndexReader.open(idx);
+        try {
+            assertEquals(4, new LuceneQuery(serializer, new IndexSearcher(reader)).cache(cache)
+                    .where(year.between(1900, 2000)).fetchCount());
+            assertEquals(1, cache.getInvalidationCount());
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Test
+    public void cache_keeps_scoring_clauses() {
+        LuceneSerializer serializer = new LuceneSerializer(true, true);
+        LuceneQueryCache cache = new LuceneQueryCache(100, 1);
+        Predicate predicate = year.between(1900, 2000).and(gross.gt(50.0));
+        BooleanQuery scoring = (BooleanQuery) cache.getQuery(serializer, predicate,
+                new DefaultQueryMetadata(), false);
+        for (BooleanClause clause : scoring.clauses()) {
+            assertFalse(clause.getQuery() instanceof ConstantScoreQuery);
+        }
+        // the score isn't used for sorted results
+        BooleanQuery sorted = (BooleanQuery) cache.getQuery(serializer, predicate,
+                new DefaultQueryMetadata(), true);
+        assertTrue(sorted.clauses().get(0).getQuery() instanceof ConstantScoreQuery);
+    }
+
     @Test
     public void exists() {
         assertTrue(query.where(title.eq("Jurassic Park")).fetchCount() > 0);
@@ -189,6 +250,24 @@ public class LuceneQueryTest {
         assertEquals(3, query.where(year.in(1990, 1864)).fetchCount());
     }
 
+    @Test
+    public void fetchByKeys() {
+        List<Document> documents = query.fetchByKeys(year, Arrays.asList(1954, 1864, 2000, 1990), 2, null);
+        assertEquals(4, documents.size());
+        assertEquals("1954", documents.get(0).get("year"));
+        assertEquals("1864", documents.get(1).get("year"));
+        assertEquals("1990", documents.get(2).get("year"));
+        assertEquals("1990", documents.get(3).get("year"));
+    }
+
+    @Test
+    public void fetchByKeys_phrase() {
+        List<Document> documents = query.fetchByKeys(title, Arrays.asList("Nummisuutarit", "Jurassic Park"));
+        assertEquals(2, documents.size());
+        assertEquals("Nummisuutarit", documents.get(0).get("title"));
+        assertEquals("Jurassic Park", documents.get(1).get("title"));
+    }
+
     @Test
     public void in_toString() {
         assertEquals("year:`____F year:`____H", query.where(year.in(1990, 1864)).toString());
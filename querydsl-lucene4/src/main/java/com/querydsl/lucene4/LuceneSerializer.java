@@ -21,6 +21,7 @@ import java.util.regex.Pattern;
 import javax.annotation.Nullable;
 
 import org.apache.lucene.index.Term;
+import org.apache.lucene.queries.TermsFilter;
 import org.apache.lucene.queryparser.classic.QueryParser;
 import org.apache.lucene.search.*;
 import org.apache.lucene.search.BooleanClause.Occur;
@@ -238,6 +239,39 @@ public class LuceneSerializer {
         return bq;
     }
 
+    /**
+     * Create a query for documents which have one of the given values in the field of the given path
+     *
+     * <p>The values are matched with a single terms filter instead of a boolean clause per value,
+     * unless a value is split into several terms.</p>
+     *
+     * @param path path
+     * @param values values
+     * @param metadata query metadata
+     * @return query
+     */
+    protected Query terms(Path<?> path, Collection<?> values, QueryMetadata metadata) {
+        if (values.isEmpty()) {
+            return new BooleanQuery();
+        }
+        String field = toField(path);
+        boolean numeric = Number.class.isAssignableFrom(path.getType());
+        List<Term> terms = new ArrayList<Term>(values.size());
+        for (Object value : values) {
+            if (numeric) {
+                terms.add(new Term(field, convertNumber((Number) value)));
+            } else {
+                String[] str = convert(path, value);
+                if (str.length > 1) {
+                    // phrases need positional matching
+                    return in(ExpressionUtils.predicate(Ops.IN, path, ConstantImpl.create(values)), metadata, false);
+                }
+                terms.add(new Term(field, str[0]));
+            }
+        }
+        return new ConstantScoreQuery(new TermsFilter(terms));
+    }
+
     protected Query notIn(Operation<?> operation, QueryMetadata metadata, boolean ignoreCase) {
         BooleanQuery bq = new BooleanQuery();
         bq.add(new BooleanClause(in(operation, metadata, false), Occur.MUST_NOT));
@@ -15,13 +15,17 @@ package com.querydsl.lucene5;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import javax.annotation.Nullable;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.sandbox.queries.DuplicateFilter;
 import org.apache.lucene.search.BooleanClause.Occur;
 import org.apache.lucene.search.*;
@@ -34,6 +38,7 @@ import com.mysema.commons.lang.CloseableIterator;
 import com.mysema.commons.lang.EmptyCloseableIterator;
 import com.mysema.commons.lang.IteratorAdapter;
 import com.querydsl.core.*;
+import com.querydsl.core.support.KeyedFetcher;
 import com.querydsl.core.support.QueryMixin;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.ParamExpression;
@@ -52,7 +57,7 @@ import com.querydsl.core.types.Predicate;
  *            concrete subtype of querydsl
  */
 public abstract class AbstractLuceneQuery<T, Q extends AbstractLuceneQuery<T, Q>>
-        implements SimpleQuery<Q>, Fetchable<T> {
+        implements SimpleQuery<Q>, Fetchable<T>, KeyedFetchable<T> {
 
     private final QueryMixin<Q> queryMixin;
 
@@ -73,6 +78,9 @@ public abstract class AbstractLuceneQuery<T, Q extends AbstractLuceneQuery<T, Q>
     @Nullable
     private Sort querySort;
 
+    @Nullable
+    private LuceneQueryCache queryCache;
+
     @SuppressWarnings("unchecked")
     public AbstractLuceneQuery(LuceneSerializer serializer,
             IndexSearcher searcher, Function<Document, T> transformer) {
@@ -114,8 +122,7 @@ public abstract class AbstractLuceneQuery<T, Q extends AbstractLuceneQuery<T, Q>
         if (queryMixin.getMetadata().getWhere() == null) {
             originalQuery = new MatchAllDocsQuery();
         } else {
-            originalQuery = serializer.toQuery(queryMixin.getMetadata()
-                    .getWhere(), queryMixin.getMetadata());
+            originalQuery = toQuery(queryMixin.getMetadata().getWhere());
         }
         Filter filter = getFilter();
         if (filter != null) {
@@ -130,6 +137,28 @@ public abstract class AbstractLuceneQuery<T, Q extends AbstractLuceneQuery<T, Q>
         return returnedQuery;
     }
 
+    private Query toQuery(Predicate predicate) {
+        if (queryCache != null) {
+            queryCache.validate(searcher.getIndexReader());
+            boolean sorted = querySort != null || !queryMixin.getMetadata().getOrderBy().isEmpty();
+            return queryCache.getQuery(serializer, predicate,
+                    queryMixin.getMetadata(), sorted);
+        }
+        return serializer.toQuery(predicate, queryMixin.getMetadata());
+    }
+
+    /**
+     * Reuse the serialized Lucene queries of the given cache
+     *
+     * @param cache query cache
+     * @return the current object
+     */
+    @SuppressWarnings("unchecked")
+    public Q cache(LuceneQueryCache cache) {
+        this.queryCache = cache;
+        return (Q) this;
+    }
+
     /**
      * Create a filter for constraints defined in this querydsl
      *
@@ -296,6 +325,88 @@ public abstract class AbstractLuceneQuery<T, Q extends AbstractLuceneQuery<T, Q>
                 .getModifiers(), innerCount());
     }
 
+    @Override
+    public <K> List<T> fetchByKeys(Path<K> key, Collection<? extends K> keys) {
+        int chunkSize = Math.min(KeyedFetcher.DEFAULT_CHUNK_SIZE, BooleanQuery.getMaxClauseCount());
+        return fetchByKeys(key, keys, chunkSize, null);
+    }
+
+    /**
+     * Get the results for the given keys in the order of the keys
+     *
+     * <p>Each chunk is matched with a single terms query on the key field, which is combined with
+     * the constraints of this query. Limit, offset and order of the query are ignored.</p>
+     *
+     * @param key key path
+     * @param keys key values
+     * @param chunkSize maximum amount of keys per executed search
+     * @param executor executor for the concurrent execution of the chunks or null
+     * @return results
+     */
+    @Override
+    public <K> List<T> fetchByKeys(final Path<K> key, Collection<? extends K> keys, int chunkSize,
+            @Nullable ExecutorService executor) {
+        try {
+            if (maxDoc() == 0) {
+                return Collections.emptyList();
+            }
+        } catch (IOException e) {
+            throw new QueryException(e);
+        }
+        final QueryMetadata metadata = queryMixin.getMetadata();
+        final String field = serializer.toField(key);
+        final Query constraints = createQuery();
+        final Set<String> fields;
+        if (fieldsToLoad != null) {
+            fields = new HashSet<String>(fieldsToLoad);
+            fields.add(field);
+        } else {
+            fields = null;
+        }
+
+        List<Document> documents = new KeyedFetcher<K, Document>() {
+            @Override
+            protected List<Document> fetch(List<K> chunk) {
+                BooleanQuery query = new BooleanQuery();
+                query.add(constraints, Occur.MUST);
+                query.add(serializer.terms(key, chunk, metadata), Occur.FILTER);
+                try {
+                    TopDocs topDocs = searcher.search(query, chunk.size());
+                    if (topDocs.totalHits > topDocs.scoreDocs.length) {
+                        topDocs = searcher.search(query, topDocs.totalHits);
+                    }
+                    List<Document> rv = new ArrayList<Document>(topDocs.scoreDocs.length);
+                    for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                        rv.add(fields != null ? searcher.doc(scoreDoc.doc, fields) : searcher.doc(scoreDoc.doc));
+                    }
+                    return rv;
+                } catch (IOException e) {
+                    throw new QueryException(e);
+                }
+            }
+
+            @Override
+            protected Object getKey(Document row) {
+                IndexableField value = row.getField(field);
+                if (value == null) {
+                    return null;
+                }
+                return value.numericValue() != null ? value.numericValue().toString() : value.stringValue();
+            }
+
+            @Override
+            protected Object normalize(K value) {
+                return value.toString();
+            }
+        }.execute(keys, chunkSize, executor);
+
+        List<T> rv = new ArrayList<T>(documents.size());
+        for (Document document : documents) {
+            rv.add(transformer.apply(document));
+        }
+        return rv;
+    }
+
     @Override
     public Q offset(long offset) {
         return queryMixin.offset(offset);
@@ -14,10 +14,15 @@
 package com.querydsl.maven;
 
 import java.io.File;
+import java.io.PrintWriter;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.util.Comparator;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
 
 import org.apache.maven.artifact.manager.WagonManager;
 import org.apache.maven.plugin.AbstractMojo;
@@ -336,6 +341,20 @@ public class AbstractMetaDataExportMojo extends AbstractMojo {
      */
     private boolean exportInverseForeignKeys;
 
+    /**
+     * switch to read columns and keys with schema wide metadata calls
+     *
+     * @parameter default-value=false
+     */
+    private boolean bulkMetadata;
+
+    /**
+     * amount of connections and threads used to read the table metadata concurrently
+     *
+     * @parameter default-value=1
+     */
+    private int parallelism = 1;
+
     /**
      * override default column order (default: alphabetical)
      *
@@ -436,6 +455,8 @@ public class AbstractMetaDataExportMojo extends AbstractMojo {
             exporter.setExportForeignKeys(exportForeignKeys);
             exporter.setExportDirectForeignKeys(exportDirectForeignKeys);
             exporter.setExportInverseForeignKeys(exportInverseForeignKeys);
+            exporter.setBulkMetadata(bulkMetadata);
+            exporter.setParallelism(parallelism);
             exporter.setSpatial(spatial);
 
             if (imports != null && imports.length > 0) {
@@ -533,14 +554,20 @@ public class AbstractMetaDataExportMojo extends AbstractMojo {
                     throw new MojoExecutionException("Missing password from server " + server);
                 }
             }
-            Connection conn = DriverManager.getConnection(jdbcUrl, user, password);
-            try {
-                exporter.export(conn.getMetaData());
-            } finally {
-                if (conn != null) {
-                    conn.close();
+            if (parallelism > 1) {
+                exporter.export(new DriverManagerDataSource(jdbcUrl, user, password));
+            } else {
+                Connection conn = DriverManager.getConnection(jdbcUrl, user, password);
+                try {
+                    exporter.export(conn.getMetaData());
+                } finally {
+                    if (conn != null) {
+                        conn.close();
+                    }
                 }
             }
+        } catch (IllegalArgumentException e) {
+            throw new MojoExecutionException(e.getMessage(), e);
         } catch (ClassNotFoundException e) {
             throw new MojoExecutionException(e.getMessage(), e);
         } catch (SQLException e) {
@@ -685,8 +712,79 @@ public class AbstractMetaDataExportMojo extends AbstractMojo {
         this.skip = skip;
     }
 
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
     private static String emptyIfSetToBlank(String value) {
         boolean setToBlank = value == null || value.equalsIgnoreCase("BLANK");
         return setToBlank ? "" : value;
     }
+
+    /**
+     * Data source which obtains the connections for the parallel export from the driver manager
+     */
+    private static final class DriverManagerDataSource implements DataSource {
+
+        private final String url, user, password;
+
+        private PrintWriter logWriter;
+
+        private int loginTimeout;
+
+        DriverManagerDataSource(String url, String user, String password) {
+            this.url = url;
+            this.user = user;
+            this.password = password;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return DriverManager.getConnection(url, user, password);
+        }
+
+        @Override
+        public Connection getConnection(String user, String password) throws SQLException {
+            return DriverManager.getConnection(url, user, password);
+        }
+
+        @Override
+        public PrintWriter getLogWriter() {
+            return logWriter;
+        }
+
+        @Override
+        public void setLogWriter(PrintWriter out) {
+            this.logWriter = out;
+        }
+
+        @Override
+        public void setLoginTimeout(int seconds) {
+            this.loginTimeout = seconds;
+        }
+
+        @Override
+        public int getLoginTimeout() {
+            return loginTimeout;
+        }
+
+        // Java 7
+        public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+            throw new SQLFeatureNotSupportedException();
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> iface) throws SQLException {
+            if (iface.isInstance(this)) {
+                return iface.cast(this);
+            }
+            throw new SQLException("Not a wrapper for " + iface.getName());
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> iface) {
+            return iface.isInstance(this);
+        }
+
+    }
 }
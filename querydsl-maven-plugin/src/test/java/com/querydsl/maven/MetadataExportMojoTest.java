@@ -18,8 +18,11 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.DriverManager;
 import java.util.Collections;
 
+import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.project.MavenProject;
 import org.junit.Before;
 import org.junit.Ignore;
@@ -193,4 +196,27 @@ public class MetadataExportMojoTest {
         assertEquals(Collections.singletonList("target/export13"), project.getCompileSourceRoots());
         assertTrue(new File("target/export13").exists());
     }
+
+    @Test
+    public void executeWithParallelism() throws Exception {
+        // keeps the in-memory database open
+        Connection conn = DriverManager.getConnection(url, "sa", "");
+        try {
+            conn.createStatement().execute("create table PARALLEL_TEST (ID int primary key)");
+            mojo.setTargetFolder("target/export14");
+            mojo.setParallelism(2);
+            mojo.execute();
+        } finally {
+            conn.close();
+        }
+
+        assertTrue(new File("target/export14/com/example/QParallelTest.java").exists());
+    }
+
+    @Test(expected = MojoExecutionException.class)
+    public void executeWithInvalidParallelism() throws Exception {
+        mojo.setTargetFolder("target/export15");
+        mojo.setParallelism(0);
+        mojo.execute();
+    }
 }
@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import javax.annotation.Nullable;
 
@@ -26,6 +27,7 @@ import com.google.common.collect.Multimap;
 import com.mongodb.*;
 import com.mysema.commons.lang.CloseableIterator;
 import com.querydsl.core.*;
+import com.querydsl.core.support.KeyedFetcher;
 import com.querydsl.core.support.QueryMixin;
 import com.querydsl.core.types.*;
 import com.querydsl.core.types.dsl.CollectionPathBase;
@@ -39,7 +41,8 @@ import com.querydsl.core.types.dsl.CollectionPathBase;
  * @param <K> result type
  * @param <Q> concrete subtype
  */
-public abstract class AbstractMongodbQuery<K, Q extends AbstractMongodbQuery<K, Q>> implements SimpleQuery<Q>, Fetchable<K> {
+public abstract class AbstractMongodbQuery<K, Q extends AbstractMongodbQuery<K, Q>> implements SimpleQuery<Q>,
+        Fetchable<K>, KeyedFetchable<K> {
 
     @SuppressWarnings("serial")
     private static class NoResults extends RuntimeException { }
@@ -233,6 +236,7 @@ public abstract class AbstractMongodbQuery<K, Q extends AbstractMongodbQuery<K,
 
             @Override
             public void close() {
+                cursor.close();
             }
         };
     }
@@ -394,6 +398,95 @@ public abstract class AbstractMongodbQuery<K, Q extends AbstractMongodbQuery<K,
         }
     }
 
+    @Override
+    public <P> List<K> fetchByKeys(Path<P> key, Collection<? extends P> keys) {
+        return fetchByKeys(key, keys, KeyedFetcher.DEFAULT_CHUNK_SIZE, null);
+    }
+
+    /**
+     * Get the results for the given keys in the order of the keys
+     *
+     * <p>Each chunk is fetched with a {@code $in} query. Limit, offset and order of the query are
+     * ignored. Numeric keys are matched by value, so {@code Long} keys can be used for an
+     * {@code Integer} field.</p>
+     *
+     * @param key key path
+     * @param keys key values
+     * @param chunkSize maximum amount of keys per executed query
+     * @param executor executor for the concurrent execution of the chunks or null
+     * @return results
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <P> List<K> fetchByKeys(final Path<P> key, Collection<? extends P> keys, int chunkSize,
+            @Nullable ExecutorService executor) {
+        QueryMetadata metadata = queryMixin.getMetadata();
+        final Predicate filter;
+        try {
+            filter = createFilter(metadata);
+        } catch (NoResults ex) {
+            return Collections.emptyList();
+        }
+        final String field = (String) serializer.handle(key);
+        Expression<?> projection = metadata.getProjection();
+        if (projection instanceof FactoryExpression) {
+            // load the key field as well
+            List<Expression<?>> args = new ArrayList<Expression<?>>(((FactoryExpression<?>) projection).getArgs());
+            args.add(key);
+            projection = Projections.tuple(args.toArray(new Expression<?>[args.size()]));
+        }
+        final Expression<?> fields = projection;
+
+        List<DBObject> rows = new KeyedFetcher<P, DBObject>() {
+            @Override
+            protected List<DBObject> fetch(List<P> chunk) {
+                List<Object> values = new ArrayList<Object>(chunk.size());
+                for (P value : chunk) {
+                    values.add(serializer.convert(key, ConstantImpl.create(value)));
+                }
+                Predicate where = ExpressionUtils.allOf(filter, ExpressionUtils.in((Path<Object>) key, values));
+                DBCursor cursor = createCursor(collection, where, fields,
+                        QueryModifiers.EMPTY, Collections.<OrderSpecifier<?>>emptyList());
+                try {
+                    return cursor.toArray();
+                } finally {
+                    cursor.close();
+                }
+            }
+
+            @Override
+            protected Object getKey(DBObject row) {
+                return normalizeNumber(getValue(row, field));
+            }
+
+            @Override
+            protected Object normalize(P value) {
+                return normalizeNumber(serializer.convert(key, ConstantImpl.create(value)));
+            }
+        }.execute(keys, chunkSize, executor);
+
+        List<K> rv = new ArrayList<K>(rows.size());
+        for (DBObject row : rows) {
+            rv.add(transformer.apply(row));
+        }
+        return rv;
+    }
+
+    @Nullable
+    private static Object getValue(DBObject row, String field) {
+        Object value = row;
+        int start = 0;
+        while (value instanceof DBObject) {
+            int end = field.indexOf('.', start);
+            if (end < 0) {
+                return ((DBObject) value).get(field.substring(start));
+            }
+            value = ((DBObject) value).get(field.substring(start, end));
+            start = end + 1;
+        }
+        return null;
+    }
+
     private DBObject createQuery(@Nullable Predicate predicate) {
         if (predicate != null) {
             return (DBObject) serializer.handle(predicate);
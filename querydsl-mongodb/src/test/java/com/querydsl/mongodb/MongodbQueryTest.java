@@ -36,6 +36,7 @@ import com.querydsl.core.QueryResults;
 import com.querydsl.core.testutil.MongoDB;
 import com.querydsl.core.types.EntityPath;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Path;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.ListPath;
 import com.querydsl.core.types.dsl.StringPath;
@@ -127,6 +128,14 @@ public class MongodbQueryTest {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void fetchByKeys_mixed_numbers() {
+        Path<Number> age = (Path) user.age;
+        List<User> results = query(user).fetchByKeys(age, Arrays.<Number>asList(40L, 20, 30L));
+        assertEquals(asList(u3, u1, u2), results);
+    }
+
     @Test
     public void between() {
         assertQuery(user.age.between(20, 30), u2, u1);
@@ -21,6 +21,7 @@ import java.util.Map;
 
 import javax.annotation.Nullable;
 
+import com.google.common.base.Function;
 import com.mysema.codegen.model.SimpleType;
 import com.mysema.codegen.model.Type;
 import com.querydsl.sql.SchemaAndTable;
@@ -50,6 +51,8 @@ public class KeyDataFactory {
 
     private static final int FK_PARENT_SCHEMA_NAME = 2;
 
+    private static final int PK_TABLE_NAME = 3;
+
     private static final int PK_COLUMN_NAME = 4;
 
     private static final int PK_NAME = 6;
@@ -75,83 +78,188 @@ public class KeyDataFactory {
         Map<String,InverseForeignKeyData> inverseForeignKeyData = new HashMap<String,InverseForeignKeyData>();
         try {
             while (foreignKeys.next()) {
-                String name = foreignKeys.getString(FK_NAME);
-                String parentColumnName = namingStrategy.normalizeColumnName(foreignKeys.getString(FK_PARENT_COLUMN_NAME));
-                String foreignSchemaName = namingStrategy.normalizeSchemaName(foreignKeys.getString(FK_FOREIGN_SCHEMA_NAME));
-                String foreignTableName = namingStrategy.normalizeTableName(foreignKeys.getString(FK_FOREIGN_TABLE_NAME));
-                String foreignColumn = namingStrategy.normalizeColumnName(foreignKeys.getString(FK_FOREIGN_COLUMN_NAME));
-                if (name == null || name.isEmpty()) {
-                    name = tableName + "_" + foreignTableName + "_IFK";
-                }
+                addExportedKey(foreignKeys, tableName, inverseForeignKeyData);
+            }
+            return inverseForeignKeyData;
+        } finally {
+            foreignKeys.close();
+        }
+    }
 
-                InverseForeignKeyData data = inverseForeignKeyData.get(name);
-                if (data == null) {
-                    data = new InverseForeignKeyData(name, foreignSchemaName,
-                            foreignTableName, createType(foreignSchemaName, foreignTableName));
-                    inverseForeignKeyData.put(name, data);
+    /**
+     * Get the exported keys of all tables of the given schema grouped by table name
+     *
+     * @param md database metadata
+     * @param catalog catalog
+     * @param schema schema
+     * @param tableNames normalization of the table names used in default key names
+     * @return exported keys by table name
+     * @throws SQLException if the driver doesn't support schema wide calls
+     */
+    public Map<String, Map<String, InverseForeignKeyData>> getExportedKeys(DatabaseMetaData md,
+            String catalog, String schema, Function<String, String> tableNames) throws SQLException {
+        ResultSet foreignKeys = md.getExportedKeys(catalog, schema, null);
+        Map<String, Map<String, InverseForeignKeyData>> rv = new HashMap<String, Map<String, InverseForeignKeyData>>();
+        try {
+            while (foreignKeys.next()) {
+                String tableName = foreignKeys.getString(FK_PARENT_TABLE_NAME);
+                Map<String, InverseForeignKeyData> inverseForeignKeyData = rv.get(tableName);
+                if (inverseForeignKeyData == null) {
+                    inverseForeignKeyData = new HashMap<String, InverseForeignKeyData>();
+                    rv.put(tableName, inverseForeignKeyData);
                 }
-                data.add(parentColumnName, foreignColumn);
+                addExportedKey(foreignKeys, tableNames.apply(tableName), inverseForeignKeyData);
             }
-            return inverseForeignKeyData;
+            return rv;
         } finally {
             foreignKeys.close();
         }
     }
 
+    private void addExportedKey(ResultSet foreignKeys, String tableName,
+            Map<String, InverseForeignKeyData> inverseForeignKeyData) throws SQLException {
+        String name = foreignKeys.getString(FK_NAME);
+        String parentColumnName = namingStrategy.normalizeColumnName(foreignKeys.getString(FK_PARENT_COLUMN_NAME));
+        String foreignSchemaName = namingStrategy.normalizeSchemaName(foreignKeys.getString(FK_FOREIGN_SCHEMA_NAME));
+        String foreignTableName = namingStrategy.normalizeTableName(foreignKeys.getString(FK_FOREIGN_TABLE_NAME));
+        String foreignColumn = namingStrategy.normalizeColumnName(foreignKeys.getString(FK_FOREIGN_COLUMN_NAME));
+        if (name == null || name.isEmpty()) {
+            name = tableName + "_" + foreignTableName + "_IFK";
+        }
+
+        InverseForeignKeyData data = inverseForeignKeyData.get(name);
+        if (data == null) {
+            data = new InverseForeignKeyData(name, foreignSchemaName,
+                    foreignTableName, createType(foreignSchemaName, foreignTableName));
+            inverseForeignKeyData.put(name, data);
+        }
+        data.add(parentColumnName, foreignColumn);
+    }
+
     public Map<String, ForeignKeyData> getImportedKeys(DatabaseMetaData md,
             String catalog, String schema, String tableName) throws SQLException {
         ResultSet foreignKeys = md.getImportedKeys(catalog, schema, tableName);
         Map<String,ForeignKeyData> foreignKeyData = new HashMap<String,ForeignKeyData>();
         try {
             while (foreignKeys.next()) {
-                String name = foreignKeys.getString(FK_NAME);
-                String parentSchemaName = namingStrategy.normalizeSchemaName(foreignKeys.getString(FK_PARENT_SCHEMA_NAME));
-                String parentTableName = namingStrategy.normalizeTableName(foreignKeys.getString(FK_PARENT_TABLE_NAME));
-                String parentColumnName = namingStrategy.normalizeColumnName(foreignKeys.getString(FK_PARENT_COLUMN_NAME));
-                String foreignColumn = namingStrategy.normalizeColumnName(foreignKeys.getString(FK_FOREIGN_COLUMN_NAME));
-                if (name == null || name.isEmpty()) {
-                    name = tableName + "_" + parentTableName + "_FK";
-                }
+                addImportedKey(foreignKeys, tableName, foreignKeyData);
+            }
+            return foreignKeyData;
+        } finally {
+            foreignKeys.close();
+        }
+    }
 
-                ForeignKeyData data = foreignKeyData.get(name);
-                if (data == null) {
-                    data = new ForeignKeyData(name, parentSchemaName, parentTableName,
-                            createType(parentSchemaName, parentTableName));
-                    foreignKeyData.put(name, data);
+    /**
+     * Get the imported keys of all tables of the given schema grouped by table name
+     *
+     * @param md database metadata
+     * @param catalog catalog
+     * @param schema schema
+     * @param tableNames normalization of the table names used in default key names
+     * @return imported keys by table name
+     * @throws SQLException if the driver doesn't support schema wide calls
+     */
+    public Map<String, Map<String, ForeignKeyData>> getImportedKeys(DatabaseMetaData md,
+            String catalog, String schema, Function<String, String> tableNames) throws SQLException {
+        ResultSet foreignKeys = md.getImportedKeys(catalog, schema, null);
+        Map<String, Map<String, ForeignKeyData>> rv = new HashMap<String, Map<String, ForeignKeyData>>();
+        try {
+            while (foreignKeys.next()) {
+                String tableName = foreignKeys.getString(FK_FOREIGN_TABLE_NAME);
+                Map<String, ForeignKeyData> foreignKeyData = rv.get(tableName);
+                if (foreignKeyData == null) {
+                    foreignKeyData = new HashMap<String, ForeignKeyData>();
+                    rv.put(tableName, foreignKeyData);
                 }
-                data.add(foreignColumn, parentColumnName);
+                addImportedKey(foreignKeys, tableNames.apply(tableName), foreignKeyData);
             }
-            return foreignKeyData;
+            return rv;
         } finally {
             foreignKeys.close();
         }
     }
 
+    private void addImportedKey(ResultSet foreignKeys, String tableName,
+            Map<String, ForeignKeyData> foreignKeyData) throws SQLException {
+        String name = foreignKeys.getString(FK_NAME);
+        String parentSchemaName = namingStrategy.normalizeSchemaName(foreignKeys.getString(FK_PARENT_SCHEMA_NAME));
+        String parentTableName = namingStrategy.normalizeTableName(foreignKeys.getString(FK_PARENT_TABLE_NAME));
+        String parentColumnName = namingStrategy.normalizeColumnName(foreignKeys.getString(FK_PARENT_COLUMN_NAME));
+        String foreignColumn = namingStrategy.normalizeColumnName(foreignKeys.getString(FK_FOREIGN_COLUMN_NAME));
+        if (name == null || name.isEmpty()) {
+            name = tableName + "_" + parentTableName + "_FK";
+        }
+
+        ForeignKeyData data = foreignKeyData.get(name);
+        if (data == null) {
+            data = new ForeignKeyData(name, parentSchemaName, parentTableName,
+                    createType(parentSchemaName, parentTableName));
+            foreignKeyData.put(name, data);
+        }
+        data.add(foreignColumn, parentColumnName);
+    }
+
     public Map<String, PrimaryKeyData> getPrimaryKeys(DatabaseMetaData md,
             String catalog, String schema, String tableName) throws SQLException {
         ResultSet primaryKeys = md.getPrimaryKeys(catalog, schema, tableName);
         Map<String,PrimaryKeyData> primaryKeyData = new HashMap<String,PrimaryKeyData>();
         try {
             while (primaryKeys.next()) {
-                String name = primaryKeys.getString(PK_NAME);
-                String columnName = primaryKeys.getString(PK_COLUMN_NAME);
-                if (name == null || name.isEmpty()) {
-                    name = tableName + "_PK";
-                }
+                addPrimaryKey(primaryKeys, tableName, primaryKeyData);
+            }
+            return primaryKeyData;
+        } finally {
+            primaryKeys.close();
+        }
+    }
 
-                PrimaryKeyData data = primaryKeyData.get(name);
-                if (data == null) {
-                    data = new PrimaryKeyData(name);
-                    primaryKeyData.put(name, data);
+    /**
+     * Get the primary keys of all tables of the given schema grouped by table name
+     *
+     * @param md database metadata
+     * @param catalog catalog
+     * @param schema schema
+     * @param tableNames normalization of the table names used in default key names
+     * @return primary keys by table name
+     * @throws SQLException if the driver doesn't support schema wide calls
+     */
+    public Map<String, Map<String, PrimaryKeyData>> getPrimaryKeys(DatabaseMetaData md,
+            String catalog, String schema, Function<String, String> tableNames) throws SQLException {
+        ResultSet primaryKeys = md.getPrimaryKeys(catalog, schema, null);
+        Map<String, Map<String, PrimaryKeyData>> rv = new HashMap<String, Map<String, PrimaryKeyData>>();
+        try {
+            while (primaryKeys.next()) {
+                String tableName = primaryKeys.getString(PK_TABLE_NAME);
+                Map<String, PrimaryKeyData> primaryKeyData = rv.get(tableName);
+                if (primaryKeyData == null) {
+                    primaryKeyData = new HashMap<String, PrimaryKeyData>();
+                    rv.put(tableName, primaryKeyData);
                 }
-                data.add(columnName);
+                addPrimaryKey(primaryKeys, tableNames.apply(tableName), primaryKeyData);
             }
-            return primaryKeyData;
+            return rv;
         } finally {
             primaryKeys.close();
         }
     }
 
+    private void addPrimaryKey(ResultSet primaryKeys, String tableName,
+            Map<String, PrimaryKeyData> primaryKeyData) throws SQLException {
+        String name = primaryKeys.getString(PK_NAME);
+        String columnName = primaryKeys.getString(PK_COLUMN_NAME);
+        if (name == null || name.isEmpty()) {
+            name = tableName + "_PK";
+        }
+
+        PrimaryKeyData data = primaryKeyData.get(name);
+        if (data == null) {
+            data = new PrimaryKeyData(name);
+            primaryKeyData.put(name, data);
+        }
+        data.add(columnName);
+    }
+
     private Type createType(@Nullable String schemaName, String table) {
         SchemaAndTable schemaAndTable = new SchemaAndTable(schemaName, table);
         String packageName = this.packageName;
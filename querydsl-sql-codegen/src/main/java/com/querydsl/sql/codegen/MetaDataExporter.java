@@ -17,18 +17,25 @@ import java.io.File;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.nio.charset.Charset;
+import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.*;
 
 import javax.annotation.Nullable;
+import javax.sql.DataSource;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Function;
+import com.google.common.base.Objects;
+import com.google.common.base.Throwables;
+import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ListMultimap;
 import com.google.common.io.Files;
 import com.mysema.codegen.CodeWriter;
 import com.mysema.codegen.JavaWriter;
@@ -123,6 +130,17 @@ public class MetaDataExporter {
     @Nullable
     private String tableTypesToExport;
 
+    private boolean bulkMetadata = false;
+
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    private final Function<String, String> tableNames = new Function<String, String>() {
+        @Override
+        public String apply(String input) {
+            return normalize(input);
+        }
+    };
+
     public MetaDataExporter() { }
 
     protected EntityType createEntityType(SchemaAndTable schemaAndTable,
@@ -181,6 +199,92 @@ public class MetaDataExporter {
      * @throws SQLException
      */
     public void export(DatabaseMetaData md) throws SQLException {
+        List<Table> tables = initialize(md);
+        Map<Schema, SchemaMetaData> bulk = readBulkMetaData(md, tables);
+        for (Table table : tables) {
+            readTable(md, table, bulk.get(table.schema));
+            serialize(table);
+        }
+    }
+
+    /**
+     * Export the tables based on the metadata of the given data source
+     *
+     * <p>The table metadata is read concurrently over {@code parallelism} connections of the
+     * data source. The sources are written afterwards on the calling thread.</p>
+     *
+     * @param dataSource data source
+     * @throws SQLException
+     */
+    public void export(final DataSource dataSource) throws SQLException {
+        final List<Table> tables;
+        Connection conn = dataSource.getConnection();
+        try {
+            tables = initialize(conn.getMetaData());
+        } finally {
+            conn.close();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            // schema wide metadata, one schema per task
+            final Map<Schema, SchemaMetaData> bulk = new ConcurrentHashMap<Schema, SchemaMetaData>();
+            if (bulkMetadata) {
+                List<Future<?>> futures = new ArrayList<Future<?>>();
+                for (final Schema schema : getSchemas(tables)) {
+                    futures.add(executor.submit(new Callable<Void>() {
+                        @Override
+                        public Void call() throws SQLException {
+                            Connection conn = dataSource.getConnection();
+                            try {
+                                SchemaMetaData data = readSchemaMetaData(conn.getMetaData(), schema);
+                                if (data != null) {
+                                    bulk.put(schema, data);
+                                }
+                            } finally {
+                                conn.close();
+                            }
+                            return null;
+                        }
+                    }));
+                }
+                await(futures);
+            }
+
+            // table metadata, one connection per worker
+            final Queue<Table> queue = new ConcurrentLinkedQueue<Table>(tables);
+            List<Future<?>> futures = new ArrayList<Future<?>>();
+            for (int i = 0; i < Math.min(parallelism, tables.size()); i++) {
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws SQLException {
+                        Connection conn = dataSource.getConnection();
+                        try {
+                            DatabaseMetaData md = conn.getMetaData();
+                            Table table;
+                            while ((table = queue.poll()) != null) {
+                                readTable(md, table, bulk.get(table.schema));
+                            }
+                        } finally {
+                            conn.close();
+                        }
+                        return null;
+                    }
+                }));
+            }
+            await(futures);
+
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // sources, on a single thread as the serializers and type mappings are shared
+        for (Table table : tables) {
+            serialize(table);
+        }
+    }
+
+    private List<Table> initialize(DatabaseMetaData md) throws SQLException {
         if (beanPackageName == null) {
             beanPackageName =  module.getPackageName();
         }
@@ -244,20 +348,26 @@ public class MetaDataExporter {
             tables = ImmutableList.copyOf(tableNamePattern.split(","));
         }
 
+        List<Table> rv = new ArrayList<Table>();
         for (String schema : schemas) {
             schema = schema != null ? schema.trim() : null;
             for (String table : tables) {
                 table = table != null ? table.trim() : null;
-                handleTables(md, schema, table, typesArray);
+                handleTables(md, schema, table, typesArray, rv);
             }
         }
+        return rv;
     }
 
-    private void handleTables(DatabaseMetaData md, String schemaPattern, String tablePattern, String[] types) throws SQLException {
+    private void handleTables(DatabaseMetaData md, String schemaPattern, String tablePattern,
+            String[] types, List<Table> rv) throws SQLException {
         ResultSet tables = md.getTables(null, schemaPattern, tablePattern, types);
         try {
             while (tables.next()) {
-                handleTable(md, tables);
+                Table table = handleTable(tables);
+                if (table != null) {
+                    rv.add(table);
+                }
             }
         } finally {
             tables.close();
@@ -268,15 +378,15 @@ public class MetaDataExporter {
         return classes;
     }
 
-    private void handleColumn(EntityType classModel, String tableName, ResultSet columns) throws SQLException {
-        String columnName = normalize(columns.getString("COLUMN_NAME"));
+    private void handleColumn(EntityType classModel, String tableName, ColumnRow columns) {
+        String columnName = normalize(columns.name);
         String normalizedColumnName = namingStrategy.normalizeColumnName(columnName);
-        int columnType = columns.getInt("DATA_TYPE");
-        String typeName = columns.getString("TYPE_NAME");
-        Number columnSize = (Number) columns.getObject("COLUMN_SIZE");
-        Number columnDigits = (Number) columns.getObject("DECIMAL_DIGITS");
-        int columnIndex = columns.getInt("ORDINAL_POSITION");
-        int nullable = columns.getInt("NULLABLE");
+        int columnType = columns.dataType;
+        String typeName = columns.typeName;
+        Number columnSize = columns.size;
+        Number columnDigits = columns.digits;
+        int columnIndex = columns.ordinalPosition;
+        int nullable = columns.nullable;
 
         String propertyName = namingStrategy.getPropertyName(normalizedColumnName, classModel);
         Class<?> clazz = configuration.getJavaType(columnType,
@@ -314,7 +424,7 @@ public class MetaDataExporter {
             if (nullable == DatabaseMetaData.columnNoNulls) {
                 property.addAnnotation(new NotNullImpl());
             }
-            int size = columns.getInt("COLUMN_SIZE");
+            int size = columnSize != null ? columnSize.intValue() : 0;
             if (size > 0 && clazz.equals(String.class)) {
                 property.addAnnotation(new SizeImpl(0, size));
             }
@@ -322,11 +432,13 @@ public class MetaDataExporter {
         classModel.addProperty(property);
     }
 
-    private void handleTable(DatabaseMetaData md, ResultSet tables) throws SQLException {
+    @Nullable
+    private Table handleTable(ResultSet tables) throws SQLException {
         String catalog = tables.getString("TABLE_CAT");
         String schema = tables.getString("TABLE_SCHEM");
         String schemaName = normalize(tables.getString("TABLE_SCHEM"));
-        String tableName = normalize(tables.getString("TABLE_NAME"));
+        String rawTableName = tables.getString("TABLE_NAME");
+        String tableName = normalize(rawTableName);
 
         String normalizedSchemaName = namingStrategy.normalizeSchemaName(schemaName);
         String normalizedTableName = namingStrategy.normalizeTableName(tableName);
@@ -335,16 +447,26 @@ public class MetaDataExporter {
             normalizedSchemaName, normalizedTableName);
 
         if (!namingStrategy.shouldGenerateClass(schemaAndTable)) {
-            return;
+            return null;
         }
 
         String className = namingStrategy.getClassName(schemaAndTable);
         EntityType classModel = createEntityType(schemaAndTable, className);
+        return new Table(new Schema(catalog, schema), rawTableName, tableName, schemaAndTable, classModel);
+    }
+
+    private void readTable(DatabaseMetaData md, Table table, @Nullable SchemaMetaData bulk) throws SQLException {
+        String catalog = table.schema.catalog;
+        String schema = table.schema.schema;
+        String tableName = table.tableName;
+        SchemaAndTable schemaAndTable = table.schemaAndTable;
+        EntityType classModel = table.classModel;
 
         if (exportPrimaryKeys) {
             // collect primary keys
-            Map<String,PrimaryKeyData> primaryKeyData = keyDataFactory
-                    .getPrimaryKeys(md, catalog, schema, tableName);
+            Map<String,PrimaryKeyData> primaryKeyData = bulk != null && bulk.primaryKeys != null
+                    ? bulk.getPrimaryKeys(table.rawTable)
+                    : keyDataFactory.getPrimaryKeys(md, catalog, schema, tableName);
             if (!primaryKeyData.isEmpty()) {
                 classModel.getData().put(PrimaryKeyData.class, primaryKeyData.values());
             }
@@ -353,10 +475,11 @@ public class MetaDataExporter {
         if (exportForeignKeys) {
             if (exportDirectForeignKeys) {
                 // collect foreign keys
-                Map<String,ForeignKeyData> foreignKeyData = keyDataFactory
-                        .getImportedKeys(md, catalog, schema, tableName);
+                Map<String,ForeignKeyData> foreignKeyData = bulk != null && bulk.importedKeys != null
+                        ? bulk.getImportedKeys(table.rawTable)
+                        : keyDataFactory.getImportedKeys(md, catalog, schema, tableName);
                 if (!foreignKeyData.isEmpty()) {
-                    Collection<ForeignKeyData> foreignKeysToGenerate = new HashSet<ForeignKeyData>();
+                    Collection<ForeignKeyData> foreignKeysToGenerate = new LinkedHashSet<ForeignKeyData>();
                     for (ForeignKeyData fkd : foreignKeyData.values()) {
                         if (namingStrategy.shouldGenerateForeignKey(schemaAndTable, fkd)) {
                             foreignKeysToGenerate.add(fkd);
@@ -371,8 +494,9 @@ public class MetaDataExporter {
 
             if (exportInverseForeignKeys) {
                 // collect inverse foreign keys
-                Map<String,InverseForeignKeyData> inverseForeignKeyData = keyDataFactory
-                        .getExportedKeys(md, catalog, schema, tableName);
+                Map<String,InverseForeignKeyData> inverseForeignKeyData = bulk != null && bulk.exportedKeys != null
+                        ? bulk.getExportedKeys(table.rawTable)
+                        : keyDataFactory.getExportedKeys(md, catalog, schema, tableName);
                 if (!inverseForeignKeyData.isEmpty()) {
                     classModel.getData().put(InverseForeignKeyData.class, inverseForeignKeyData.values());
                 }
@@ -380,19 +504,119 @@ public class MetaDataExporter {
         }
 
         // collect columns
-        ResultSet columns = md.getColumns(catalog, schema, tableName.replace("/", "//"), null);
+        if (bulk != null) {
+            for (ColumnRow column : bulk.getColumns(table.rawTable)) {
+                handleColumn(classModel, tableName, column);
+            }
+        } else {
+            ResultSet columns = md.getColumns(catalog, schema, tableName.replace("/", "//"), null);
+            try {
+                while (columns.next()) {
+                    handleColumn(classModel, tableName, new ColumnRow(columns));
+                }
+            } finally {
+                columns.close();
+            }
+        }
+    }
+
+    private Map<Schema, SchemaMetaData> readBulkMetaData(DatabaseMetaData md, List<Table> tables)
+            throws SQLException {
+        Map<Schema, SchemaMetaData> rv = new HashMap<Schema, SchemaMetaData>();
+        if (bulkMetadata) {
+            for (Schema schema : getSchemas(tables)) {
+                SchemaMetaData data = readSchemaMetaData(md, schema);
+                if (data != null) {
+                    rv.put(schema, data);
+                }
+            }
+        }
+        return rv;
+    }
+
+    private static Set<Schema> getSchemas(List<Table> tables) {
+        Set<Schema> schemas = new LinkedHashSet<Schema>();
+        for (Table table : tables) {
+            schemas.add(table.schema);
+        }
+        return schemas;
+    }
+
+    /**
+     * Read the keys and columns of all tables of the given schema with one call each
+     *
+     * <p>Schema wide calls are not supported by all drivers, they either fail or return no rows.
+     * In both cases the columns or keys are read per table.</p>
+     *
+     * @param md database metadata
+     * @param schema catalog and schema
+     * @return schema metadata or null, if the driver doesn't support schema wide calls
+     */
+    @Nullable
+    private SchemaMetaData readSchemaMetaData(DatabaseMetaData md, Schema schema) {
+        String catalog = schema.catalog;
+        String schemaName = schema.schema;
+        SchemaMetaData data = new SchemaMetaData();
         try {
-            while (columns.next()) {
-                handleColumn(classModel, tableName, columns);
+            ResultSet columns = md.getColumns(catalog, schemaName, null, null);
+            try {
+                while (columns.next()) {
+                    if (schema.equals(new Schema(columns.getString("TABLE_CAT"), columns.getString("TABLE_SCHEM")))) {
+                        ColumnRow column = new ColumnRow(columns);
+                        data.columns.put(column.tableName, column);
+                    }
+                }
+            } finally {
+                columns.close();
             }
-        } finally {
-            columns.close();
+        } catch (SQLException e) {
+            logger.info("Schema wide metadata not supported, falling back to table metadata: " + e.getMessage());
+            return null;
         }
+        if (data.columns.isEmpty()) {
+            logger.info("Schema wide metadata returned no columns, falling back to table metadata");
+            return null;
+        }
+        try {
+            if (exportPrimaryKeys) {
+                data.primaryKeys = nullIfEmpty(keyDataFactory.getPrimaryKeys(md, catalog, schemaName, tableNames));
+            }
+            if (exportForeignKeys && exportDirectForeignKeys) {
+                data.importedKeys = nullIfEmpty(keyDataFactory.getImportedKeys(md, catalog, schemaName, tableNames));
+            }
+            if (exportForeignKeys && exportInverseForeignKeys) {
+                data.exportedKeys = nullIfEmpty(keyDataFactory.getExportedKeys(md, catalog, schemaName, tableNames));
+            }
+        } catch (SQLException e) {
+            logger.info("Schema wide key metadata not supported, falling back to table metadata: " + e.getMessage());
+        }
+        logger.info("Read metadata of schema " + schemaName);
+        return data;
+    }
+
+    @Nullable
+    private static <K, V> Map<K, V> nullIfEmpty(Map<K, V> map) {
+        return map.isEmpty() ? null : map;
+    }
 
-        // serialize model
-        serialize(classModel, schemaAndTable);
+    private void serialize(Table table) {
+        serialize(table.classModel, table.schemaAndTable);
 
-        logger.info("Exported " + tableName + " successfully");
+        logger.info("Exported " + table.tableName + " successfully");
+    }
+
+    private static void await(List<Future<?>> futures) throws SQLException {
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(e);
+        } catch (ExecutionException e) {
+            Throwables.propagateIfPossible(e.getCause(), SQLException.class);
+            throw new RuntimeException(e.getCause());
+        }
     }
 
     private String normalize(String str) {
@@ -774,4 +998,144 @@ public class MetaDataExporter {
         this.tableTypesToExport = tableTypesToExport;
     }
 
+    /**
+     * Set whether the keys and columns should be read with one metadata call per schema
+     * instead of one call per table. Will revert to per table calls, if the driver doesn't
+     * support schema wide calls
+     *
+     * @param bulkMetadata
+     */
+    public void setBulkMetadata(boolean bulkMetadata) {
+        this.bulkMetadata = bulkMetadata;
+    }
+
+    /**
+     * Set the amount of connections and threads used by {@link #export(DataSource)}
+     *
+     * @param parallelism (default: amount of available processors)
+     * @throws IllegalArgumentException if parallelism is not positive
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive, was " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Catalog and schema of a table as reported by the driver
+     */
+    private static final class Schema {
+
+        @Nullable
+        private final String catalog, schema;
+
+        Schema(@Nullable String catalog, @Nullable String schema) {
+            this.catalog = catalog;
+            this.schema = schema;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            } else if (o instanceof Schema) {
+                Schema other = (Schema) o;
+                return Objects.equal(catalog, other.catalog) && Objects.equal(schema, other.schema);
+            } else {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(catalog, schema);
+        }
+
+    }
+
+    /**
+     * Table to be exported
+     */
+    private static final class Table {
+
+        private final Schema schema;
+
+        private final String rawTable, tableName;
+
+        private final SchemaAndTable schemaAndTable;
+
+        private final EntityType classModel;
+
+        Table(Schema schema, String rawTable, String tableName, SchemaAndTable schemaAndTable,
+                EntityType classModel) {
+            this.schema = schema;
+            this.rawTable = rawTable;
+            this.tableName = tableName;
+            this.schemaAndTable = schemaAndTable;
+            this.classModel = classModel;
+        }
+
+    }
+
+    /**
+     * Column row of {@link DatabaseMetaData#getColumns(String, String, String, String)}
+     */
+    private static final class ColumnRow {
+
+        private final String tableName, name, typeName;
+
+        private final int dataType, ordinalPosition, nullable;
+
+        @Nullable
+        private final Number size, digits;
+
+        ColumnRow(ResultSet columns) throws SQLException {
+            tableName = columns.getString("TABLE_NAME");
+            name = columns.getString("COLUMN_NAME");
+            dataType = columns.getInt("DATA_TYPE");
+            typeName = columns.getString("TYPE_NAME");
+            size = (Number) columns.getObject("COLUMN_SIZE");
+            digits = (Number) columns.getObject("DECIMAL_DIGITS");
+            ordinalPosition = columns.getInt("ORDINAL_POSITION");
+            nullable = columns.getInt("NULLABLE");
+        }
+
+    }
+
+    /**
+     * Keys and columns of a schema grouped by table name, keys are null if they need to
+     * be read per table
+     */
+    private static final class SchemaMetaData {
+
+        @Nullable
+        private Map<String, Map<String, PrimaryKeyData>> primaryKeys;
+
+        @Nullable
+        private Map<String, Map<String, ForeignKeyData>> importedKeys;
+
+        @Nullable
+        private Map<String, Map<String, InverseForeignKeyData>> exportedKeys;
+
+        private final ListMultimap<String, ColumnRow> columns = ArrayListMultimap.create();
+
+        Map<String, PrimaryKeyData> getPrimaryKeys(String table) {
+            return primaryKeys.containsKey(table) ? primaryKeys.get(table) : Collections.<String, PrimaryKeyData>emptyMap();
+        }
+
+        Map<String, ForeignKeyData> getImportedKeys(String table) {
+            return importedKeys.containsKey(table) ? importedKeys.get(table) : Collections.<String, ForeignKeyData>emptyMap();
+        }
+
+        Map<String, InverseForeignKeyData> getExportedKeys(String table) {
+            return exportedKeys.containsKey(table) ? exportedKeys.get(table) : Collections.<String, InverseForeignKeyData>emptyMap();
+        }
+
+        List<ColumnRow> getColumns(String table) {
+            return columns.get(table);
+        }
+
+    }
+
 }
@@ -18,19 +18,26 @@ import static org.junit.Assert.*;
 import java.io.File;
 import java.io.IOException;
 import java.sql.*;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 import javax.tools.JavaCompiler;
 
+import org.h2.jdbcx.JdbcDataSource;
 import org.junit.*;
 import org.junit.rules.TemporaryFolder;
 
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
 import com.mysema.codegen.SimpleCompiler;
 import com.querydsl.codegen.BeanSerializer;
 import com.querydsl.core.util.FileUtils;
 
 public class MetaDataExporterTest {
 
+    private static String url;
+
     private static Connection connection;
 
     private boolean clean = true;
@@ -49,7 +56,7 @@ public class MetaDataExporterTest {
     @BeforeClass
     public static void setUpClass() throws ClassNotFoundException, SQLException {
         Class.forName("org.h2.Driver");
-        String url = "jdbc:h2:mem:testdb" + System.currentTimeMillis();
+        url = "jdbc:h2:mem:testdb" + System.currentTimeMillis();
         connection = DriverManager.getConnection(url, "sa", "");
         createTables(connection);
     }
@@ -231,6 +238,65 @@ public class MetaDataExporterTest {
         assertFalse(new File(folder.getRoot(), "test/QDefinstance.java").exists());
     }
 
+    @Test
+    public void bulk_metadata() throws SQLException, IOException {
+        File expected = new File(folder.getRoot(), "expected");
+        MetaDataExporter exporter = new MetaDataExporter();
+        exporter.setSchemaPattern("PUBLIC");
+        exporter.setPackageName("test");
+        exporter.setTargetFolder(expected);
+        exporter.export(metadata);
+
+        File actual = new File(folder.getRoot(), "actual");
+        exporter = new MetaDataExporter();
+        exporter.setSchemaPattern("PUBLIC");
+        exporter.setPackageName("test");
+        exporter.setTargetFolder(actual);
+        exporter.setBulkMetadata(true);
+        exporter.export(metadata);
+
+        assertEquals(readSources(expected), readSources(actual));
+    }
+
+    @Test
+    public void parallel_export() throws SQLException, IOException {
+        File expected = new File(folder.getRoot(), "expected");
+        MetaDataExporter exporter = new MetaDataExporter();
+        exporter.setSchemaPattern("PUBLIC");
+        exporter.setPackageName("test");
+        exporter.setTargetFolder(expected);
+        exporter.export(metadata);
+
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL(url);
+        dataSource.setUser("sa");
+        dataSource.setPassword("");
+
+        File actual = new File(folder.getRoot(), "actual");
+        exporter = new MetaDataExporter();
+        exporter.setSchemaPattern("PUBLIC");
+        exporter.setPackageName("test");
+        exporter.setTargetFolder(actual);
+        exporter.setBulkMetadata(true);
+        exporter.setParallelism(4);
+        exporter.export(dataSource);
+
+        assertEquals(readSources(expected), readSources(actual));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parallelism_not_positive() {
+        new MetaDataExporter().setParallelism(0);
+    }
+
+    private static Map<String, String> readSources(File folder) throws IOException {
+        Map<String, String> sources = new HashMap<String, String>();
+        for (File file : new File(folder, "test").listFiles()) {
+            sources.put(file.getName(), Files.toString(file, Charsets.UTF_8));
+        }
+        return sources;
+    }
+
     @Test
     public void minimal_configuration_with_suffix() throws SQLException {
         MetaDataExporter exporter = new MetaDataExporter();
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.spatial;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.geolatte.geom.ByteBuffer;
+import org.geolatte.geom.ByteOrder;
+import org.geolatte.geom.Geometry;
+import org.geolatte.geom.codec.*;
+
+/**
+ * {@code GeometryCodecs} provides the PostGIS dialect WKB and WKT codecs used by the spatial types
+ *
+ * <p>The geolatte codecs keep parsing state and are not thread-safe, so one instance of each codec is
+ * kept per thread instead of creating a new one for every converted value. The codecs of a thread
+ * are kept until they are dropped explicitly via {@link #remove()}, e.g. when a pooled thread is
+ * returned to a pool that outlives the application.</p>
+ *
+ * <p>The list based methods decode a whole column in one go. They are used by the types of this
+ * package when results are read column by column via
+ * {@link com.querydsl.sql.AbstractSQLQuery#fetchColumns()}, e.g. for geometry columns or
+ * projections of {@code ST_AsBinary} or {@code ST_AsText} of a
+ * {@link com.querydsl.spatial.GeometryExpression}.</p>
+ */
+public final class GeometryCodecs {
+
+    static final class Codecs {
+
+        private WkbDecoder wkbDecoder;
+
+        private WkbEncoder wkbEncoder;
+
+        private WktDecoder wktDecoder;
+
+        private WktEncoder wktEncoder;
+
+        WkbDecoder getWkbDecoder() {
+            if (wkbDecoder == null) {
+                wkbDecoder = Wkb.newDecoder(Wkb.Dialect.POSTGIS_EWKB_1);
+            }
+            return wkbDecoder;
+        }
+
+        WkbEncoder getWkbEncoder() {
+            if (wkbEncoder == null) {
+                wkbEncoder = Wkb.newEncoder(Wkb.Dialect.POSTGIS_EWKB_1);
+            }
+            return wkbEncoder;
+        }
+
+        WktDecoder getWktDecoder() {
+            if (wktDecoder == null) {
+                wktDecoder = Wkt.newDecoder(Wkt.Dialect.POSTGIS_EWKT_1);
+            }
+            return wktDecoder;
+        }
+
+        WktEncoder getWktEncoder() {
+            if (wktEncoder == null) {
+                wktEncoder = Wkt.newEncoder(Wkt.Dialect.POSTGIS_EWKT_1);
+            }
+            return wktEncoder;
+        }
+
+    }
+
+    private static final ThreadLocal<Codecs> CODECS = new ThreadLocal<Codecs>() {
+        @Override
+        protected Codecs initialValue() {
+            return new Codecs();
+        }
+    };
+
+    static Codecs codecs() {
+        return CODECS.get();
+    }
+
+    /**
+     * Remove the codecs of the current thread
+     */
+    public static void remove() {
+        CODECS.remove();
+    }
+
+    /**
+     * Decode the given WKB or EWKB bytes
+     *
+     * @param bytes wkb bytes
+     * @return geometry
+     */
+    public static Geometry decodeWkb(byte[] bytes) {
+        return codecs().getWkbDecoder().decode(ByteBuffer.from(bytes));
+    }
+
+    /**
+     * Decode the WKB or EWKB bytes following a header of the given length
+     *
+     * @param bytes header and wkb bytes
+     * @param offset length of the header
+     * @return geometry
+     */
+    public static Geometry decodeWkb(byte[] bytes, int offset) {
+        if (offset == 0) {
+            return decodeWkb(bytes);
+        }
+        // the geolatte decoders rewind the buffer, so the header needs to be cut off
+        byte[] wkb = new byte[bytes.length - offset];
+        System.arraycopy(bytes, offset, wkb, 0, wkb.length);
+        return decodeWkb(wkb);
+    }
+
+    /**
+     * Decode the given WKB or EWKB values
+     *
+     * @param values wkb values, may contain nulls
+     * @return geometries in the order of the values, nulls for null values
+     */
+    public static List<Geometry> decodeWkb(List<byte[]> values) {
+        WkbDecoder decoder = codecs().getWkbDecoder();
+        List<Geometry> rv = new ArrayList<Geometry>(values.size());
+        for (byte[] value : values) {
+            rv.add(value != null ? decoder.decode(ByteBuffer.from(value)) : null);
+        }
+        return rv;
+    }
+
+    /**
+     * Encode the given geometry as EWKB
+     *
+     * @param geometry geometry
+     * @param byteOrder byte order
+     * @return ewkb bytes
+     */
+    public static byte[] encodeWkb(Geometry geometry, ByteOrder byteOrder) {
+        return codecs().getWkbEncoder().encode(geometry, byteOrder).toByteArray();
+    }
+
+    /**
+     * Decode the given WKT or EWKT string
+     *
+     * @param wkt wkt string
+     * @return geometry
+     */
+    public static Geometry decodeWkt(String wkt) {
+        return codecs().getWktDecoder().decode(wkt);
+    }
+
+    /**
+     * Decode the given WKT or EWKT values
+     *
+     * @param values wkt values, may contain nulls
+     * @return geometries in the order of the values, nulls for null values
+     */
+    public static List<Geometry> decodeWkt(List<String> values) {
+        WktDecoder decoder = codecs().getWktDecoder();
+        List<Geometry> rv = new ArrayList<Geometry>(values.size());
+        for (String value : values) {
+            rv.add(value != null ? decoder.decode(value) : null);
+        }
+        return rv;
+    }
+
+    /**
+     * Encode the given geometry as EWKT
+     *
+     * @param geometry geometry
+     * @return ewkt string
+     */
+    public static String encodeWkt(Geometry geometry) {
+        return codecs().getWktEncoder().encode(geometry);
+    }
+
+    private GeometryCodecs() { }
+
+}
@@ -17,20 +17,17 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.List;
 
 import javax.annotation.Nullable;
 
-import org.geolatte.geom.ByteBuffer;
 import org.geolatte.geom.ByteOrder;
 import org.geolatte.geom.Geometry;
-import org.geolatte.geom.codec.Wkb;
-import org.geolatte.geom.codec.WkbDecoder;
-import org.geolatte.geom.codec.WkbEncoder;
-import org.geolatte.geom.codec.Wkt;
 
 import com.querydsl.sql.types.AbstractType;
+import com.querydsl.sql.types.BatchType;
 
-class GeometryWkbType extends AbstractType<Geometry> {
+class GeometryWkbType extends AbstractType<Geometry> implements BatchType<Geometry> {
 
     public static final GeometryWkbType NDR = new GeometryWkbType(ByteOrder.NDR);
 
@@ -53,23 +50,32 @@ class GeometryWkbType extends AbstractType<Geometry> {
     public Geometry getValue(ResultSet rs, int startIndex) throws SQLException {
         byte[] bytes = rs.getBytes(startIndex);
         if (bytes != null) {
-            WkbDecoder decoder = Wkb.newDecoder(Wkb.Dialect.POSTGIS_EWKB_1);
-            return decoder.decode(ByteBuffer.from(bytes));
+            return GeometryCodecs.decodeWkb(bytes);
         } else {
             return null;
         }
     }
 
+    @Override
+    @Nullable
+    public Object getRawValue(ResultSet rs, int startIndex) throws SQLException {
+        return rs.getBytes(startIndex);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<Geometry> convert(List<?> values) {
+        return GeometryCodecs.decodeWkb((List<byte[]>) values);
+    }
+
     @Override
     public void setValue(PreparedStatement st, int startIndex, Geometry value) throws SQLException {
-        WkbEncoder encoder = Wkb.newEncoder(Wkb.Dialect.POSTGIS_EWKB_1);
-        ByteBuffer buffer = encoder.encode(value, byteOrder);
-        st.setBytes(startIndex, buffer.toByteArray());
+        st.setBytes(startIndex, GeometryCodecs.encodeWkb(value, byteOrder));
     }
 
     @Override
     public String getLiteral(Geometry geometry) {
-        return "'" + Wkt.newEncoder(Wkt.Dialect.POSTGIS_EWKT_1).encode(geometry) + "'";
+        return "'" + GeometryCodecs.encodeWkt(geometry) + "'";
     }
 
 }
@@ -18,7 +18,6 @@ import java.sql.*;
 import javax.annotation.Nullable;
 
 import org.geolatte.geom.Geometry;
-import org.geolatte.geom.codec.Wkt;
 
 import com.querydsl.sql.types.AbstractType;
 
@@ -41,7 +40,7 @@ class GeometryWktClobType extends AbstractType<Geometry> {
         Clob clob = rs.getClob(startIndex);
         String str = clob != null ? clob.getSubString(1, (int) clob.length()) : null;
         if (str != null) {
-            return Wkt.newDecoder(Wkt.Dialect.POSTGIS_EWKT_1).decode(str);
+            return GeometryCodecs.decodeWkt(str);
         } else {
             return null;
         }
@@ -49,13 +48,13 @@ class GeometryWktClobType extends AbstractType<Geometry> {
 
     @Override
     public void setValue(PreparedStatement st, int startIndex, Geometry value) throws SQLException {
-        String str = Wkt.newEncoder(Wkt.Dialect.POSTGIS_EWKT_1).encode(value);
+        String str = GeometryCodecs.encodeWkt(value);
         st.setString(startIndex, str);
     }
 
     @Override
     public String getLiteral(Geometry geometry) {
-        return "'" + Wkt.newEncoder(Wkt.Dialect.POSTGIS_EWKT_1).encode(geometry) + "'";
+        return "'" + GeometryCodecs.encodeWkt(geometry) + "'";
     }
 
 }
@@ -17,15 +17,16 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.List;
 
 import javax.annotation.Nullable;
 
 import org.geolatte.geom.Geometry;
-import org.geolatte.geom.codec.Wkt;
 
 import com.querydsl.sql.types.AbstractType;
+import com.querydsl.sql.types.BatchType;
 
-class GeometryWktType extends AbstractType<Geometry> {
+class GeometryWktType extends AbstractType<Geometry> implements BatchType<Geometry> {
 
     public static final GeometryWktType DEFAULT = new GeometryWktType();
 
@@ -43,20 +44,32 @@ class GeometryWktType extends AbstractType<Geometry> {
     public Geometry getValue(ResultSet rs, int startIndex) throws SQLException {
         String str = rs.getString(startIndex);
         if (str != null) {
-            return Wkt.newDecoder(Wkt.Dialect.POSTGIS_EWKT_1).decode(str);
+            return GeometryCodecs.decodeWkt(str);
         } else {
             return null;
         }
     }
 
+    @Override
+    @Nullable
+    public Object getRawValue(ResultSet rs, int startIndex) throws SQLException {
+        return rs.getString(startIndex);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<Geometry> convert(List<?> values) {
+        return GeometryCodecs.decodeWkt((List<String>) values);
+    }
+
     @Override
     public void setValue(PreparedStatement st, int startIndex, Geometry value) throws SQLException {
-        String str = Wkt.newEncoder(Wkt.Dialect.POSTGIS_EWKT_1).encode(value);
+        String str = GeometryCodecs.encodeWkt(value);
         st.setString(startIndex, str);
     }
 
     @Override
     public String getLiteral(Geometry geometry) {
-        return "'" + Wkt.newEncoder(Wkt.Dialect.POSTGIS_EWKT_1).encode(geometry) + "'";
+        return "'" + GeometryCodecs.encodeWkt(geometry) + "'";
     }
 }
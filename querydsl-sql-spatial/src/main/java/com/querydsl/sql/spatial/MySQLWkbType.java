@@ -20,13 +20,8 @@ import java.sql.Types;
 
 import javax.annotation.Nullable;
 
-import org.geolatte.geom.ByteBuffer;
 import org.geolatte.geom.ByteOrder;
 import org.geolatte.geom.Geometry;
-import org.geolatte.geom.codec.Wkb;
-import org.geolatte.geom.codec.WkbDecoder;
-import org.geolatte.geom.codec.WkbEncoder;
-import org.geolatte.geom.codec.Wkt;
 
 import com.querydsl.sql.types.AbstractType;
 
@@ -50,12 +45,9 @@ class MySQLWkbType extends AbstractType<Geometry> {
     public Geometry getValue(ResultSet rs, int startIndex) throws SQLException {
         byte[] bytes = rs.getBytes(startIndex);
         if (bytes != null) {
-            byte[] wkb = new byte[bytes.length - 4];
-            System.arraycopy(bytes, 4, wkb, 0, wkb.length);
             int srid = bytes[3] << 24 | (bytes[2] & 0xff) << 16 | (bytes[1] & 0xff) << 8 | (bytes[0] & 0xff);
             // TODO make sure srid is set
-            WkbDecoder decoder = Wkb.newDecoder(Wkb.Dialect.POSTGIS_EWKB_1);
-            return decoder.decode(ByteBuffer.from(wkb));
+            return GeometryCodecs.decodeWkb(bytes, 4);
         } else {
             return null;
         }
@@ -63,12 +55,10 @@ class MySQLWkbType extends AbstractType<Geometry> {
 
     @Override
     public void setValue(PreparedStatement st, int startIndex, Geometry value) throws SQLException {
-        WkbEncoder encoder = Wkb.newEncoder(Wkb.Dialect.POSTGIS_EWKB_1);
-        ByteBuffer buffer = encoder.encode(value, byteOrder);
+        byte[] wkb = GeometryCodecs.encodeWkb(value, byteOrder);
         int srid = value.getSRID();
 
         // prepend srid into first 4 bytes
-        byte[] wkb = buffer.toByteArray();
         byte[] bytes = new byte[wkb.length + 4];
         bytes[3] = (byte) ((srid >> 24) & 0xFF);
         bytes[2] = (byte) ((srid >> 16) & 0xFF);
@@ -81,7 +71,7 @@ class MySQLWkbType extends AbstractType<Geometry> {
 
     @Override
     public String getLiteral(Geometry geometry) {
-        String str = Wkt.newEncoder(Wkt.Dialect.POSTGIS_EWKT_1).encode(geometry);
+        String str = GeometryCodecs.encodeWkt(geometry);
         if (geometry.getSRID() > -1) {
             return "GeomFromText('" + str + "', " + geometry.getSRID() + ")";
         } else {
@@ -21,7 +21,6 @@ import java.sql.Types;
 import javax.annotation.Nullable;
 
 import org.geolatte.geom.Geometry;
-import org.geolatte.geom.codec.Wkt;
 import org.postgis.PGgeometry;
 
 import com.querydsl.sql.types.AbstractType;
@@ -54,7 +53,7 @@ class PGgeometryType extends AbstractType<Geometry> {
 
     @Override
     public String getLiteral(Geometry geometry) {
-        return "'" + Wkt.newEncoder(Wkt.Dialect.POSTGIS_EWKT_1).encode(geometry) + "'";
+        return "'" + GeometryCodecs.encodeWkt(geometry) + "'";
     }
 
 }
@@ -22,7 +22,6 @@ import java.sql.Types;
 import javax.annotation.Nullable;
 
 import org.geolatte.geom.Geometry;
-import org.geolatte.geom.codec.Wkt;
 
 import com.querydsl.sql.types.AbstractType;
 
@@ -68,7 +67,7 @@ class SQLServerGeometryType extends AbstractType<Geometry> {
 
     @Override
     public String getLiteral(Geometry geometry) {
-        String str = Wkt.newEncoder(Wkt.Dialect.POSTGIS_EWKT_1).encode(geometry);
+        String str = GeometryCodecs.encodeWkt(geometry);
         if (geometry.getSRID() > -1) {
             return "geometry::STGeomFromText('" + str + "', " + geometry.getSRID() + ")";
         } else {
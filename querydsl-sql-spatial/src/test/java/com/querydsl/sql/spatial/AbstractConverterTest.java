@@ -3,6 +3,7 @@ package com.querydsl.sql.spatial;
 import java.util.List;
 
 import org.geolatte.geom.*;
+import org.geolatte.geom.codec.Wkb;
 import org.geolatte.geom.codec.Wkt;
 import org.geolatte.geom.crs.CrsId;
 
@@ -76,4 +77,19 @@ public abstract class AbstractConverterTest {
         return data;
     }
 
+    protected List<Geometry> getWkbGeometries() {
+        List<Geometry> data = Lists.newArrayList();
+        for (Geometry geometry : getGeometries()) {
+            // geolatte fails to decode the wkb of some multi line strings
+            try {
+                Wkb.newDecoder(Wkb.Dialect.POSTGIS_EWKB_1).decode(ByteBuffer.from(
+                        Wkb.newEncoder(Wkb.Dialect.POSTGIS_EWKB_1).encode(geometry, ByteOrder.NDR).toByteArray()));
+                data.add(geometry);
+            } catch (ClassCastException e) {
+                continue;
+            }
+        }
+        return data;
+    }
+
 }
@@ -0,0 +1,119 @@
+package com.querydsl.sql.spatial;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.geolatte.geom.ByteBuffer;
+import org.geolatte.geom.ByteOrder;
+import org.geolatte.geom.Geometry;
+import org.geolatte.geom.codec.Wkb;
+import org.geolatte.geom.codec.Wkt;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.querydsl.core.testutil.Benchmark;
+import com.querydsl.core.testutil.Performance;
+import com.querydsl.core.testutil.Runner;
+
+@Category(Performance.class)
+public class GeometryCodecsPerformanceTest extends AbstractConverterTest {
+
+    private final List<byte[]> wkb = new ArrayList<byte[]>();
+
+    private final List<String> wkt = new ArrayList<String>();
+
+    public GeometryCodecsPerformanceTest() {
+        for (Geometry geometry : getWkbGeometries()) {
+            wkb.add(GeometryCodecs.encodeWkb(geometry, ByteOrder.NDR));
+            wkt.add(GeometryCodecs.encodeWkt(geometry));
+        }
+    }
+
+    @Test
+    public void wkb_newDecoder() throws Exception {
+        Runner.run("wkb new decoder", new Benchmark() {
+            @Override
+            public void run(int times) throws Exception {
+                for (int i = 0; i < times; i++) {
+                    Wkb.newDecoder(Wkb.Dialect.POSTGIS_EWKB_1).decode(ByteBuffer.from(wkb.get(i % wkb.size())));
+                }
+            }
+        });
+    }
+
+    @Test
+    public void wkb_cachedDecoder() throws Exception {
+        Runner.run("wkb cached decoder", new Benchmark() {
+            @Override
+            public void run(int times) throws Exception {
+                for (int i = 0; i < times; i++) {
+                    GeometryCodecs.decodeWkb(wkb.get(i % wkb.size()));
+                }
+            }
+        });
+    }
+
+    @Test
+    public void wkb_batch() throws Exception {
+        Runner.run("wkb batch", new Benchmark() {
+            @Override
+            public void run(int times) throws Exception {
+                for (int i = 0; i < times; i += wkb.size()) {
+                    GeometryCodecs.decodeWkb(wkb);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void wkt_newDecoder() throws Exception {
+        Runner.run("wkt new decoder", new Benchmark() {
+            @Override
+            public void run(int times) throws Exception {
+                for (int i = 0; i < times; i++) {
+                    Wkt.newDecoder(Wkt.Dialect.POSTGIS_EWKT_1).decode(wkt.get(i % wkt.size()));
+                }
+            }
+        });
+    }
+
+    @Test
+    public void wkt_cachedDecoder() throws Exception {
+        Runner.run("wkt cached decoder", new Benchmark() {
+            @Override
+            public void run(int times) throws Exception {
+                for (int i = 0; i < times; i++) {
+                    GeometryCodecs.decodeWkt(wkt.get(i % wkt.size()));
+                }
+            }
+        });
+    }
+
+    @Test
+    public void wkb_newEncoder() throws Exception {
+        final List<Geometry> geometries = getGeometries();
+        Runner.run("wkb new encoder", new Benchmark() {
+            @Override
+            public void run(int times) throws Exception {
+                for (int i = 0; i < times; i++) {
+                    Wkb.newEncoder(Wkb.Dialect.POSTGIS_EWKB_1)
+                        .encode(geometries.get(i % geometries.size()), ByteOrder.NDR).toByteArray();
+                }
+            }
+        });
+    }
+
+    @Test
+    public void wkb_cachedEncoder() throws Exception {
+        final List<Geometry> geometries = getGeometries();
+        Runner.run("wkb cached encoder", new Benchmark() {
+            @Override
+            public void run(int times) throws Exception {
+                for (int i = 0; i < times; i++) {
+                    GeometryCodecs.encodeWkb(geometries.get(i % geometries.size()), ByteOrder.NDR);
+                }
+            }
+        });
+    }
+
+}
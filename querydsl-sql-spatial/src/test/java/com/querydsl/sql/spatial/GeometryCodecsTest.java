@@ -0,0 +1,81 @@
+package com.querydsl.sql.spatial;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.geolatte.geom.ByteOrder;
+import org.geolatte.geom.Geometry;
+import org.junit.Test;
+
+public class GeometryCodecsTest extends AbstractConverterTest {
+
+    @Test
+    public void wkb_roundTrip() {
+        for (Geometry geometry : getWkbGeometries()) {
+            assertEquals(geometry, GeometryCodecs.decodeWkb(GeometryCodecs.encodeWkb(geometry, ByteOrder.NDR)));
+            assertEquals(geometry, GeometryCodecs.decodeWkb(GeometryCodecs.encodeWkb(geometry, ByteOrder.XDR)));
+        }
+    }
+
+    @Test
+    public void wkb_offset() {
+        for (Geometry geometry : getWkbGeometries()) {
+            byte[] wkb = GeometryCodecs.encodeWkb(geometry, ByteOrder.NDR);
+            byte[] bytes = new byte[wkb.length + 4];
+            System.arraycopy(wkb, 0, bytes, 4, wkb.length);
+            assertEquals(geometry, GeometryCodecs.decodeWkb(bytes, 4));
+        }
+    }
+
+    @Test
+    public void wkt_roundTrip() {
+        for (Geometry geometry : getGeometries()) {
+            assertEquals(geometry, GeometryCodecs.decodeWkt(GeometryCodecs.encodeWkt(geometry)));
+        }
+    }
+
+    @Test
+    public void batch() {
+        List<Geometry> geometries = getWkbGeometries();
+        List<byte[]> wkb = new ArrayList<byte[]>();
+        List<String> wkt = new ArrayList<String>();
+        for (Geometry geometry : geometries) {
+            wkb.add(GeometryCodecs.encodeWkb(geometry, ByteOrder.NDR));
+            wkt.add(GeometryCodecs.encodeWkt(geometry));
+        }
+        wkb.add(null);
+        wkt.add(null);
+
+        List<Geometry> fromWkb = GeometryCodecs.decodeWkb(wkb);
+        List<Geometry> fromWkt = GeometryCodecs.decodeWkt(wkt);
+        assertEquals(geometries, fromWkb.subList(0, geometries.size()));
+        assertEquals(geometries, fromWkt.subList(0, geometries.size()));
+        assertNull(fromWkb.get(geometries.size()));
+        assertNull(fromWkt.get(geometries.size()));
+    }
+
+    @Test
+    public void codecs_are_reused() {
+        GeometryCodecs.Codecs codecs = GeometryCodecs.codecs();
+        GeometryCodecs.decodeWkt(GeometryCodecs.encodeWkt(getGeometries().get(0)));
+        System.gc();
+        assertSame(codecs, GeometryCodecs.codecs());
+        GeometryCodecs.remove();
+        assertNotSame(codecs, GeometryCodecs.codecs());
+    }
+
+    @Test
+    public void remove() {
+        Geometry geometry = getGeometries().get(0);
+        String wkt = GeometryCodecs.encodeWkt(geometry);
+        GeometryCodecs.remove();
+        assertEquals(geometry, GeometryCodecs.decodeWkt(wkt));
+        GeometryCodecs.remove();
+    }
+
+}
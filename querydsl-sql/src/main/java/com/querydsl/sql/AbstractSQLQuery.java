@@ -18,10 +18,14 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import javax.annotation.Nullable;
 import javax.inject.Provider;
@@ -33,12 +37,17 @@ import org.slf4j.MDC;
 import com.google.common.collect.ImmutableList;
 import com.mysema.commons.lang.CloseableIterator;
 import com.querydsl.core.*;
+import com.querydsl.core.support.KeyedFetcher;
 import com.querydsl.core.support.QueryMixin;
 import com.querydsl.core.types.*;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.SimpleExpression;
 import com.querydsl.core.types.dsl.Wildcard;
 import com.querydsl.core.util.ResultSetAdapter;
+import com.querydsl.sql.columnar.ColumnarReader;
+import com.querydsl.sql.columnar.ColumnarResult;
+import com.querydsl.sql.routing.RoutingConnectionProvider;
+import com.querydsl.sql.types.Type;
 
 /**
  * {@code AbstractSQLQuery} is the base type for SQL query implementations
@@ -48,7 +57,8 @@ import com.querydsl.core.util.ResultSetAdapter;
  *
  * @author tiwe
  */
-public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> extends ProjectableSQLQuery<T, Q> {
+public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> extends ProjectableSQLQuery<T, Q>
+        implements KeyedFetchable<T> {
 
     protected static final String PARENT_CONTEXT = AbstractSQLQuery.class.getName() + "#PARENT_CONTEXT";
 
@@ -62,6 +72,16 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
     @Nullable
     private Connection conn;
 
+    // routed read of the current execution
+    @Nullable
+    private RoutingConnectionProvider.Read read;
+
+    // in lists staged by the current execution
+    @Nullable
+    private StagedInLists stagedInLists;
+
+    private int tempInListOffset;
+
     protected SQLListeners listeners;
 
     protected boolean useLiterals;
@@ -72,6 +92,8 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
 
     private SQLListenerContext parentContext;
 
+    private boolean mdcPopulated;
+
     private StatementOptions statementOptions = StatementOptions.DEFAULT;
 
     public AbstractSQLQuery(@Nullable Connection conn, Configuration configuration) {
@@ -198,9 +220,28 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
     protected SQLSerializer createSerializer() {
         SQLSerializer serializer = new SQLSerializer(configuration);
         serializer.setUseLiterals(useLiterals);
+        serializer.setUseBoundInLists(true);
+        // replicas may reject the creation of temporary tables
+        serializer.setUseTempInLists(!isRoutedRead());
+        serializer.setTempInListOffset(tempInListOffset);
         return serializer;
     }
 
+    /**
+     * Serialize this query for a combined execution with other queries
+     *
+     * @param tempInListOffset number of the first temporary table of this query
+     * @return serializer
+     */
+    SQLSerializer serialize(int tempInListOffset) {
+        this.tempInListOffset = tempInListOffset;
+        try {
+            return serialize(false);
+        } finally {
+            this.tempInListOffset = 0;
+        }
+    }
+
     @Nullable
     private <U> U get(ResultSet rs, Expression<?> expr, int i, Class<U> type) throws SQLException {
         return configuration.get(rs, expr instanceof Path ? (Path<?>) expr : null, i, type);
@@ -215,9 +256,12 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
      *
      * @param connection the database connection
      * @param metadata   the meta data for that context
-     * @return the newly started context
+     * @return the newly started context or {@link SQLListenerContextImpl#DISABLED}, if no listeners are registered
      */
     protected SQLListenerContextImpl startContext(Connection connection, QueryMetadata metadata) {
+        if (listeners.isEmpty()) {
+            return SQLListenerContextImpl.DISABLED;
+        }
         SQLListenerContextImpl context = new SQLListenerContextImpl(metadata, connection);
         if (parentContext != null) {
             context.setData(PARENT_CONTEXT, parentContext);
@@ -243,7 +287,21 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
      * @param context the listener context to end
      */
     protected void endContext(SQLListenerContext context) {
-        listeners.end(context);
+        try {
+            StagedInLists inLists = detachInLists();
+            if (inLists != null) {
+                inLists.drop();
+            }
+        } finally {
+            try {
+                listeners.end(context);
+            } finally {
+                RoutingConnectionProvider.Read executionRead = detachRead();
+                if (executionRead != null) {
+                    executionRead.release();
+                }
+            }
+        }
     }
 
     /**
@@ -285,7 +343,7 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
             constants = serializer.getConstants();
 
             listeners.prePrepare(context);
-            final PreparedStatement stmt = getPreparedStatement(queryString);
+            final PreparedStatement stmt = getPreparedStatement(serializer, queryString);
             setParameters(stmt, constants, serializer.getConstantPaths(), getMetadata().getParams());
             context.addPreparedStatement(stmt);
             listeners.prepared(context);
@@ -293,6 +351,8 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
             listeners.preExecute(context);
             final ResultSet rs = stmt.executeQuery();
             listeners.executed(context);
+            final RoutingConnectionProvider.Read resultsRead = detachRead();
+            final StagedInLists resultsInLists = detachInLists();
 
             return new ResultSetAdapter(rs) {
                 @Override
@@ -300,9 +360,21 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
                     try {
                         super.close();
                     } finally {
-                        stmt.close();
-                        reset();
-                        endContext(context);
+                        try {
+                            stmt.close();
+                        } finally {
+                            try {
+                                if (resultsInLists != null) {
+                                    resultsInLists.drop();
+                                }
+                                reset();
+                                endContext(context);
+                            } finally {
+                                if (resultsRead != null) {
+                                    resultsRead.release();
+                                }
+                            }
+                        }
                     }
                 }
             };
@@ -314,7 +386,11 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
         }
     }
 
-    private PreparedStatement getPreparedStatement(String queryString) throws SQLException {
+    private PreparedStatement getPreparedStatement(SQLSerializer serializer, String queryString) throws SQLException {
+        if (!serializer.getTempInLists().isEmpty()) {
+            createTempInLists(connection(), serializer);
+            stagedInLists = new StagedInLists(connection(), serializer.getTempInLists());
+        }
         PreparedStatement statement = connection().prepareStatement(queryString);
         if (statementOptions.getFetchSize() != null) {
             statement.setFetchSize(statementOptions.getFetchSize());
@@ -331,6 +407,107 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
         return statement;
     }
 
+    /**
+     * Create and fill the temporary tables of the in lists which were staged by the serializer
+     *
+     * <p>If the creation fails, the tables created so far are dropped again.</p>
+     *
+     * @param conn connection
+     * @param serializer serializer
+     * @throws SQLException
+     */
+    void createTempInLists(Connection conn, SQLSerializer serializer) throws SQLException {
+        SQLTemplates templates = configuration.getTemplates();
+        List<SQLSerializer.TempInList> created = new ArrayList<SQLSerializer.TempInList>();
+        boolean success = false;
+        try {
+            for (SQLSerializer.TempInList list : serializer.getTempInLists()) {
+                Statement stmt = conn.createStatement();
+                try {
+                    stmt.executeUpdate(templates.getCreateTempTable() + list.table
+                            + " (v " + configuration.getTypeNameForCast(list.type) + ")");
+                    created.add(list);
+                    stmt.executeUpdate(templates.getDelete() + "from " + list.table);
+                } finally {
+                    stmt.close();
+                }
+                PreparedStatement insert = conn.prepareStatement(
+                        templates.getInsertInto() + list.table + templates.getValues() + "(?)");
+                try {
+                    for (Object value : list.values) {
+                        configuration.set(insert, null, 1, value);
+                        insert.addBatch();
+                    }
+                    insert.executeBatch();
+                } finally {
+                    insert.close();
+                }
+            }
+            success = true;
+        } finally {
+            if (!success) {
+                dropTempInLists(conn, created);
+            }
+        }
+    }
+
+    /**
+     * Drop the given temporary tables
+     *
+     * <p>Failures are only logged, since the statement itself has already been executed.</p>
+     *
+     * @param conn connection
+     * @param lists staged in lists
+     */
+    void dropTempInLists(Connection conn, List<SQLSerializer.TempInList> lists) {
+        String drop = configuration.getTemplates().getDropTempTable();
+        for (SQLSerializer.TempInList list : lists) {
+            try {
+                Statement stmt = conn.createStatement();
+                try {
+                    stmt.executeUpdate(drop + list.table);
+                } finally {
+                    stmt.close();
+                }
+            } catch (SQLException e) {
+                logger.warn("Failed to drop " + list.table, e);
+            }
+        }
+    }
+
+    /**
+     * Detach the staged in lists from the current execution, so that they are dropped only when
+     * the results have been closed
+     *
+     * @return staged in lists or null, if none were staged
+     */
+    @Nullable
+    private StagedInLists detachInLists() {
+        StagedInLists rv = stagedInLists;
+        stagedInLists = null;
+        return rv;
+    }
+
+    /**
+     * Temporary tables of in lists together with the connection they were created on
+     */
+    private final class StagedInLists {
+
+        private final Connection conn;
+
+        private final List<SQLSerializer.TempInList> lists;
+
+        StagedInLists(Connection conn, List<SQLSerializer.TempInList> lists) {
+            this.conn = conn;
+            this.lists = lists;
+        }
+
+        void drop() {
+            dropTempInLists(conn, lists);
+        }
+
+    }
+
     protected Configuration getConfiguration() {
         return configuration;
     }
@@ -361,7 +538,7 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
             constants = serializer.getConstants();
 
             listeners.prePrepare(context);
-            final PreparedStatement stmt = getPreparedStatement(queryString);
+            final PreparedStatement stmt = getPreparedStatement(serializer, queryString);
             setParameters(stmt, constants, serializer.getConstantPaths(), metadata.getParams());
             context.addPreparedStatement(stmt);
             listeners.prepared(context);
@@ -369,23 +546,24 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
             listeners.preExecute(context);
             final ResultSet rs = stmt.executeQuery();
             listeners.executed(context);
+            final SQLDetailedListener listener = iterationListener(context);
 
             if (expr == null) {
-                return new SQLResultIterator<T>(configuration, stmt, rs, listeners, context) {
+                return new SQLResultIterator<T>(configuration, stmt, rs, listener, context) {
                     @Override
                     public T produceNext(ResultSet rs) throws Exception {
                         return (T) rs.getObject(1);
                     }
                 };
             } else if (expr instanceof FactoryExpression) {
-                return new SQLResultIterator<T>(configuration, stmt, rs, listeners, context) {
+                return new SQLResultIterator<T>(configuration, stmt, rs, listener, context) {
                     @Override
                     public T produceNext(ResultSet rs) throws Exception {
                         return newInstance((FactoryExpression<T>) expr, rs, 0);
                     }
                 };
             } else if (expr.equals(Wildcard.all)) {
-                return new SQLResultIterator<T>(configuration, stmt, rs, listeners, context) {
+                return new SQLResultIterator<T>(configuration, stmt, rs, listener, context) {
                     @Override
                     public T produceNext(ResultSet rs) throws Exception {
                         Object[] rv = new Object[rs.getMetaData().getColumnCount()];
@@ -396,7 +574,7 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
                     }
                 };
             } else {
-                return new SQLResultIterator<T>(configuration, stmt, rs, listeners, context) {
+                return new SQLResultIterator<T>(configuration, stmt, rs, listener, context) {
                     @Override
                     public T produceNext(ResultSet rs) throws Exception {
                         return get(rs, expr, 1, expr.getType());
@@ -410,16 +588,53 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
             throw configuration.translate(queryString, constants, e);
         } catch (RuntimeException e) {
             logger.error("Caught " + e.getClass().getName() + " for " + queryString);
+            StagedInLists inLists = detachInLists();
+            if (inLists != null) {
+                inLists.drop();
+            }
             throw e;
         } finally {
             reset();
         }
     }
 
-    @SuppressWarnings("unchecked")
-    @Override
-    public List<T> fetch() {
-        Expression<T> expr = (Expression<T>) queryMixin.getMetadata().getProjection();
+    /**
+     * Reads the result set of {@link #execute(ResultReader)}
+     *
+     * @param <R> result type
+     */
+    private abstract class ResultReader<R> {
+
+        /**
+         * Get the cached results of the rendered query
+         *
+         * @return cached results or null
+         */
+        @Nullable
+        R getCached(SQLSerializer serializer, String queryString, List<Object> constants) throws SQLException {
+            return null;
+        }
+
+        abstract R read(ResultSet rs) throws SQLException, IllegalAccessException,
+                InvocationTargetException, InstantiationException;
+
+        abstract int size(R results);
+
+        /**
+         * Called with the results read from the result set
+         */
+        void completed(R results) { }
+
+    }
+
+    /**
+     * Render, prepare and execute the query with listener notifications and read the results
+     *
+     * @param reader reader of the results
+     * @param <R> result type
+     * @return results
+     */
+    private <R> R execute(ResultReader<R> reader) {
         SQLListenerContextImpl context = startContext(connection(), queryMixin.getMetadata());
         String queryString = null;
         List<Object> constants = ImmutableList.of();
@@ -435,8 +650,16 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
             listeners.notifyQuery(queryMixin.getMetadata());
             constants = serializer.getConstants();
 
+            R cached = reader.getCached(serializer, queryString, constants);
+            if (cached != null) {
+                if (context != SQLListenerContextImpl.DISABLED) {
+                    context.setData(SQLListenerContext.ROW_COUNT, Long.valueOf(reader.size(cached)));
+                }
+                return cached;
+            }
+
             listeners.prePrepare(context);
-            final PreparedStatement stmt = getPreparedStatement(queryString);
+            final PreparedStatement stmt = getPreparedStatement(serializer, queryString);
             try {
                 setParameters(stmt, constants, serializer.getConstantPaths(), queryMixin.getMetadata().getParams());
                 context.addPreparedStatement(stmt);
@@ -446,57 +669,27 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
                 final ResultSet rs = stmt.executeQuery();
                 listeners.executed(context);
                 try {
-                    lastCell = null;
-                    final List<T> rv = new ArrayList<T>();
-                    if (expr instanceof FactoryExpression) {
-                        FactoryExpression<T> fe = (FactoryExpression<T>) expr;
-                        while (rs.next()) {
-                            if (getLastCell) {
-                                lastCell = rs.getObject(fe.getArgs().size() + 1);
-                                getLastCell = false;
-                            }
-                            rv.add(newInstance(fe, rs, 0));
-                        }
-                    } else if (expr.equals(Wildcard.all)) {
-                        while (rs.next()) {
-                            Object[] row = new Object[rs.getMetaData().getColumnCount()];
-                            if (getLastCell) {
-                                lastCell = rs.getObject(row.length);
-                                getLastCell = false;
-                            }
-                            for (int i = 0; i < row.length; i++) {
-                                row[i] = rs.getObject(i + 1);
-                            }
-                            rv.add((T) row);
-                        }
-                    } else {
-                        while (rs.next()) {
-                            if (getLastCell) {
-                                lastCell = rs.getObject(2);
-                                getLastCell = false;
-                            }
-                            rv.add(get(rs, expr, 1, expr.getType()));
-                        }
+                    final R rv = reader.read(rs);
+                    if (context != SQLListenerContextImpl.DISABLED) {
+                        context.setData(SQLListenerContext.ROW_COUNT, Long.valueOf(reader.size(rv)));
                     }
+                    reader.completed(rv);
                     return rv;
-                } catch (IllegalAccessException e) {
-                    onException(context, e);
-                    throw new QueryException(e);
-                } catch (InvocationTargetException e) {
-                    onException(context,e);
-                    throw new QueryException(e);
-                } catch (InstantiationException e) {
-                    onException(context,e);
-                    throw new QueryException(e);
-                } catch (SQLException e) {
-                    onException(context,e);
-                    throw configuration.translate(queryString, constants, e);
                 } finally {
                     rs.close();
                 }
             } finally {
                 stmt.close();
             }
+        } catch (IllegalAccessException e) {
+            onException(context, e);
+            throw new QueryException(e);
+        } catch (InvocationTargetException e) {
+            onException(context, e);
+            throw new QueryException(e);
+        } catch (InstantiationException e) {
+            onException(context, e);
+            throw new QueryException(e);
         } catch (SQLException e) {
             onException(context, e);
             throw configuration.translate(queryString, constants, e);
@@ -506,6 +699,165 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
         }
     }
 
+    @Override
+    public List<T> fetch() {
+        return execute(new ResultReader<List<T>>() {
+            @Nullable
+            private SQLResultCache.Key cacheKey;
+
+            @Override
+            List<T> getCached(SQLSerializer serializer, String queryString, List<Object> constants)
+                    throws SQLException {
+                if (isCacheable() && serializer.getTempInLists().isEmpty() && connection().getAutoCommit()) {
+                    cacheKey = configuration.getResultCache().createKey(queryMixin.getMetadata(), queryString,
+                            resolveParams(constants, queryMixin.getMetadata().getParams()));
+                    return cacheKey != null ? configuration.getResultCache().<T>get(cacheKey) : null;
+                }
+                return null;
+            }
+
+            @Override
+            List<T> read(ResultSet rs) throws SQLException, IllegalAccessException,
+                    InvocationTargetException, InstantiationException {
+                lastCell = null;
+                return AbstractSQLQuery.this.read(rs);
+            }
+
+            @Override
+            int size(List<T> results) {
+                return results.size();
+            }
+
+            @Override
+            void completed(List<T> results) {
+                if (cacheKey != null) {
+                    configuration.getResultCache().put(cacheKey, results);
+                }
+            }
+        });
+    }
+
+    @Override
+    public <K> List<T> fetchByKeys(Path<K> key, Collection<? extends K> keys) {
+        int listMaxSize = configuration.getTemplates().getListMaxSize();
+        int chunkSize = KeyedFetcher.DEFAULT_CHUNK_SIZE;
+        if (listMaxSize > 0 && listMaxSize < chunkSize) {
+            chunkSize = listMaxSize;
+        }
+        return fetchByKeys(key, keys, chunkSize, null);
+    }
+
+    /**
+     * Get the results for the given keys in the order of the keys
+     *
+     * <p>The chunks are restricted via {@code key in (...)}, which is serialized according to the
+     * {@link InListStrategy} of the templates. The chunks are executed concurrently only if the
+     * query obtains its connections from a provider, otherwise the executor is ignored. The order
+     * by of the query is not applied to the chunks and queries with a limit or offset are
+     * rejected. Numeric keys are matched by value, so {@code Long} keys can be used for an
+     * {@code Integer} key column.</p>
+     *
+     * @param key key path
+     * @param keys key values
+     * @param chunkSize maximum amount of keys per executed query
+     * @param executor executor for the concurrent execution of the chunks or null
+     * @return results
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <K> List<T> fetchByKeys(final Path<K> key, Collection<? extends K> keys, int chunkSize,
+            @Nullable ExecutorService executor) {
+        Expression<?> projection = queryMixin.getMetadata().getProjection();
+        if (projection == null || projection.equals(Wildcard.all)) {
+            throw new IllegalArgumentException("Unsupported projection " + projection);
+        }
+        if (queryMixin.getMetadata().getModifiers().isRestricting()) {
+            throw new IllegalStateException("limit and offset are not supported with fetchByKeys");
+        }
+        final FactoryExpression<T> factory = projection instanceof FactoryExpression
+                ? (FactoryExpression<T>) projection : null;
+        List<Expression<?>> args = new ArrayList<Expression<?>>();
+        if (factory != null) {
+            args.addAll(factory.getArgs());
+        } else {
+            args.add(projection);
+        }
+        // select the key only if it isn't part of the projection
+        final boolean keyAdded = !args.contains(key);
+        if (keyAdded) {
+            args.add(0, key);
+        }
+        final int keyIndex = args.indexOf(key);
+        final QTuple keyed = Projections.tuple(args.toArray(new Expression<?>[args.size()]));
+
+        List<Tuple> rows = new KeyedFetcher<K, Tuple>() {
+            @Override
+            protected List<Tuple> fetch(List<K> chunk) {
+                Q query = AbstractSQLQuery.this.clone();
+                query.where(ExpressionUtils.in(key, chunk));
+                // the rows are regrouped by key, so the ordering is of no use
+                query.queryMixin.getMetadata().clearOrderBy();
+                query.queryMixin.setProjection(keyed);
+                return (List<Tuple>) query.fetch();
+            }
+
+            @Override
+            protected Object getKey(Tuple row) {
+                return normalizeNumber(row.get(keyIndex, Object.class));
+            }
+
+            @Override
+            protected Object normalize(K value) {
+                return normalizeNumber(value);
+            }
+        }.execute(keys, chunkSize, conn == null && connProvider != null ? executor : null);
+
+        List<T> rv = new ArrayList<T>(rows.size());
+        for (Tuple row : rows) {
+            Object[] values = row.toArray();
+            if (keyAdded) {
+                values = Arrays.copyOfRange(values, 1, values.length);
+            }
+            rv.add(factory != null ? factory.newInstance(values) : (T) values[0]);
+        }
+        return rv;
+    }
+
+    /**
+     * Get the projection as column vectors instead of row objects
+     *
+     * <p>Numeric and string columns are stored in primitive arrays and dictionary encoded
+     * string vectors, which avoids the creation of row objects and boxed values for large
+     * analytic results.</p>
+     *
+     * @return columnar result
+     */
+    public ColumnarResult fetchColumns() {
+        Expression<?> projection = queryMixin.getMetadata().getProjection();
+        List<Expression<?>> exprs = projection instanceof FactoryExpression
+                ? ((FactoryExpression<?>) projection).getArgs()
+                : ImmutableList.<Expression<?>>of(projection);
+        List<Type<?>> types = new ArrayList<Type<?>>(exprs.size());
+        for (Expression<?> expr : exprs) {
+            if (expr instanceof FactoryExpression || expr.equals(Wildcard.all)) {
+                throw new IllegalArgumentException("Unsupported columnar projection " + expr);
+            }
+            types.add(configuration.getType(expr instanceof Path ? (Path<?>) expr : null, expr.getType()));
+        }
+        final ColumnarReader reader = new ColumnarReader(exprs, types);
+        return execute(new ResultReader<ColumnarResult>() {
+            @Override
+            ColumnarResult read(ResultSet rs) throws SQLException {
+                return reader.read(rs);
+            }
+
+            @Override
+            int size(ColumnarResult results) {
+                return results.size();
+            }
+        });
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public QueryResults<T> fetchResults() {
@@ -566,8 +918,98 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
         cleanupMDC();
     }
 
+    /**
+     * Read the rows of the given result set into a list
+     *
+     * @param rs result set positioned before the first row
+     * @return results
+     */
+    @SuppressWarnings("unchecked")
+    List<T> read(ResultSet rs) throws SQLException, IllegalAccessException,
+            InvocationTargetException, InstantiationException {
+        Expression<T> expr = (Expression<T>) queryMixin.getMetadata().getProjection();
+        if (configuration.getCompactTuples() && isCompactTuple(expr)) {
+            return (List<T>) readTuples(rs, (QTuple) expr);
+        }
+        final List<T> rv = new ArrayList<T>();
+        if (expr instanceof FactoryExpression) {
+            FactoryExpression<T> fe = (FactoryExpression<T>) expr;
+            while (rs.next()) {
+                if (getLastCell) {
+                    lastCell = rs.getObject(fe.getArgs().size() + 1);
+                    getLastCell = false;
+                }
+                rv.add(newInstance(fe, rs, 0));
+            }
+        } else if (expr.equals(Wildcard.all)) {
+            while (rs.next()) {
+                Object[] row = new Object[rs.getMetaData().getColumnCount()];
+                if (getLastCell) {
+                    lastCell = rs.getObject(row.length);
+                    getLastCell = false;
+                }
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = rs.getObject(i + 1);
+                }
+                rv.add((T) row);
+            }
+        } else {
+            while (rs.next()) {
+                if (getLastCell) {
+                    lastCell = rs.getObject(2);
+                    getLastCell = false;
+                }
+                rv.add(get(rs, expr, 1, expr.getType()));
+            }
+        }
+        return rv;
+    }
+
+    private static boolean isCompactTuple(Expression<?> expr) {
+        if (!(expr instanceof QTuple)) {
+            return false;
+        }
+        for (Expression<?> arg : ((QTuple) expr).getArgs()) {
+            if (arg instanceof FactoryExpression) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private TupleList readTuples(ResultSet rs, QTuple projection) throws SQLException {
+        List<Expression<?>> args = projection.getArgs();
+        TupleList rv = new TupleList(projection);
+        while (rs.next()) {
+            if (getLastCell) {
+                lastCell = rs.getObject(args.size() + 1);
+                getLastCell = false;
+            }
+            int row = rv.addRow();
+            for (int i = 0; i < args.size(); i++) {
+                Expression<?> arg = args.get(i);
+                rv.set(row, i, get(rs, arg, i + 1, arg.getType()));
+            }
+        }
+        return rv;
+    }
+
     protected void setParameters(PreparedStatement stmt, List<?> objects, List<Path<?>> constantPaths,
             Map<ParamExpression<?>, ?> params) {
+        setParameters(stmt, objects, constantPaths, params, 0);
+    }
+
+    /**
+     * Set the parameters of the given statement starting after the given offset
+     *
+     * @param stmt statement
+     * @param objects constants
+     * @param constantPaths paths of the constants
+     * @param params parameter bindings
+     * @param offset amount of parameters preceding the bindings of this query
+     */
+    protected void setParameters(PreparedStatement stmt, List<?> objects, List<Path<?>> constantPaths,
+            Map<ParamExpression<?>, ?> params, int offset) {
         if (objects.size() != constantPaths.size()) {
             throw new IllegalArgumentException("Expected " + objects.size() +
                     " paths, but got " + constantPaths.size());
@@ -581,7 +1023,7 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
                     }
                     o = params.get(o);
                 }
-                set(stmt, constantPaths.get(i), i + 1, o);
+                set(stmt, constantPaths.get(i), offset + i + 1, o);
             } catch (SQLException e) {
                 throw configuration.translate(e);
             }
@@ -606,7 +1048,7 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
             constants = serializer.getConstants();
             listeners.prePrepare(context);
 
-            stmt = getPreparedStatement(queryString);
+            stmt = getPreparedStatement(serializer, queryString);
             setParameters(stmt, constants, serializer.getConstantPaths(), getMetadata().getParams());
 
             context.addPreparedStatement(stmt);
@@ -640,23 +1082,104 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
         }
     }
 
+    private static List<Object> resolveParams(List<Object> constants, Map<ParamExpression<?>, ?> params) {
+        List<Object> rv = new ArrayList<Object>(constants.size());
+        for (Object o : constants) {
+            if (o instanceof ParamExpression) {
+                if (!params.containsKey(o)) {
+                    throw new ParamNotSetException((ParamExpression<?>) o);
+                }
+                o = params.get(o);
+            }
+            rv.add(o);
+        }
+        return rv;
+    }
+
+    private boolean isCacheable() {
+        return configuration.getResultCache() != null && union == null && !getLastCell && !isLocking();
+    }
+
+    private boolean isLocking() {
+        Set<QueryFlag> flags = queryMixin.getMetadata().getFlags();
+        SQLTemplates templates = configuration.getTemplates();
+        return flags.contains(templates.getForUpdateFlag()) || flags.contains(templates.getForShareFlag());
+    }
+
     protected void logQuery(String queryString, Collection<Object> parameters) {
         if (logger.isDebugEnabled()) {
             String normalizedQuery = queryString.replace('\n', ' ');
             MDC.put(MDC_QUERY, normalizedQuery);
             MDC.put(MDC_PARAMETERS, String.valueOf(parameters));
+            mdcPopulated = true;
             logger.debug(normalizedQuery);
         }
     }
 
     protected void cleanupMDC() {
-        MDC.remove(MDC_QUERY);
-        MDC.remove(MDC_PARAMETERS);
+        if (mdcPopulated) {
+            MDC.remove(MDC_QUERY);
+            MDC.remove(MDC_PARAMETERS);
+            mdcPopulated = false;
+        }
+    }
+
+    /**
+     * Detach the routed read from the current execution, so that it stays in use until the results
+     * have been closed
+     *
+     * @return read or null, if the execution isn't routed
+     */
+    @Nullable
+    private RoutingConnectionProvider.Read detachRead() {
+        RoutingConnectionProvider.Read rv = read;
+        read = null;
+        return rv;
+    }
+
+    @Nullable
+    private SQLDetailedListener iterationListener(SQLListenerContextImpl context) {
+        final SQLDetailedListener listener = context != SQLListenerContextImpl.DISABLED ? listeners : null;
+        final RoutingConnectionProvider.Read iterationRead = detachRead();
+        final StagedInLists iterationInLists = detachInLists();
+        if (iterationRead == null && iterationInLists == null) {
+            return listener;
+        }
+        return new SQLBaseListener() {
+            @Override
+            public void end(SQLListenerContext context) {
+                try {
+                    if (iterationInLists != null) {
+                        iterationInLists.drop();
+                    }
+                } finally {
+                    try {
+                        if (listener != null) {
+                            listener.end(context);
+                        }
+                    } finally {
+                        if (iterationRead != null) {
+                            iterationRead.release();
+                        }
+                    }
+                }
+            }
+        };
+    }
+
+    private boolean isRoutedRead() {
+        return connProvider instanceof RoutingConnectionProvider && !isLocking();
     }
 
     private Connection connection() {
         if (conn == null) {
-            if (connProvider != null) {
+            if (isRoutedRead()) {
+                // the read is bound to the current execution only and released at its end
+                if (read == null) {
+                    read = ((RoutingConnectionProvider) connProvider).read();
+                }
+                return read.getConnection();
+            } else if (connProvider != null) {
                 conn = connProvider.get();
             } else {
                 throw new IllegalStateException("No connection provided");
@@ -682,6 +1205,9 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
         super.clone(query);
         this.useLiterals = query.useLiterals;
         this.listeners = new SQLListeners(query.listeners);
+        if (conn == null) {
+            this.connProvider = ((AbstractSQLQuery<?, ?>) query).connProvider;
+        }
     }
 
     @Override
@@ -699,4 +1225,8 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
     public void setStatementOptions(StatementOptions statementOptions) {
         this.statementOptions = statementOptions;
     }
+
+    StatementOptions getStatementOptions() {
+        return statementOptions;
+    }
 }
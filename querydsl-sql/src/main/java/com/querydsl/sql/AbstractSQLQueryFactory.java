@@ -14,9 +14,14 @@
 package com.querydsl.sql;
 
 import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.Executor;
 
+import javax.annotation.Nullable;
 import javax.inject.Provider;
 
+import com.querydsl.core.AsyncFetchable;
+import com.querydsl.core.Fetchable;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Path;
@@ -40,6 +45,9 @@ public abstract class AbstractSQLQueryFactory<Q extends SQLCommonQuery<?>> imple
 
     protected final Provider<Connection> connection;
 
+    @Nullable
+    private Executor executor;
+
     public AbstractSQLQueryFactory(Configuration configuration, Provider<Connection> connProvider) {
         this.configuration = configuration;
         this.connection = connProvider;
@@ -91,6 +99,68 @@ public abstract class AbstractSQLQueryFactory<Q extends SQLCommonQuery<?>> imple
         return connection.get();
     }
 
+    /**
+     * Set the executor to be used for asynchronous query execution
+     *
+     * <p>The executor could e.g. be a thread-per-task executor on virtual threads. Each task obtains
+     * its own connection from the connection provider of this factory, so the provider needs to be
+     * able to hand out connections to concurrent callers, e.g. via a pooled {@code DataSource}.
+     * The connection is closed when the task completes.</p>
+     *
+     * @param executor executor to use
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Get the asynchronous companion of the given query
+     *
+     * <p>The query is copied when this method is invoked, and every fetch is executed on the
+     * executor of this factory against a further copy bound to a connection of this factory,
+     * which is closed after the fetch. Requires Java 8 or later.</p>
+     *
+     * @param query query to execute asynchronously
+     * @param <T> type of the projection
+     * @return async fetchable
+     * @throws IllegalStateException if no executor has been set
+     */
+    public <T> AsyncFetchable<T> async(AbstractSQLQuery<T, ?> query) {
+        if (executor == null) {
+            throw new IllegalStateException("No executor set");
+        }
+        final AbstractSQLQuery<T, ?> snapshot = query.clone((Connection) null);
+        return new AsyncFetchable<T>(new AsyncFetchable.QuerySource<T, Connection>() {
+            @Override
+            public Connection acquire() {
+                return connection.get();
+            }
+
+            @Override
+            public Fetchable<T> bind(Connection conn) {
+                return snapshot.clone(conn);
+            }
+
+            @Override
+            public void release(Connection conn) {
+                try {
+                    conn.close();
+                } catch (SQLException e) {
+                    throw configuration.translate(e);
+                }
+            }
+        }, snapshot.getMetadata().getModifiers(), executor);
+    }
+
+    /**
+     * Create a new batch for executing independent queries in a single round trip
+     *
+     * @return query batch
+     */
+    public SQLQueryBatch queryBatch() {
+        return new SQLQueryBatch(connection.get(), configuration);
+    }
+
     /**
      * Create a new SQL query with the given projection
      *
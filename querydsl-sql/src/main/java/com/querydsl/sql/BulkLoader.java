@@ -0,0 +1,194 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql;
+
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Blob;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import com.google.common.base.Joiner;
+import com.querydsl.core.types.Path;
+
+/**
+ * {@code BulkLoader} streams rows into a table through the native bulk load protocol of a database
+ *
+ * <p>Rows are written in the tab separated text format shared by PostgreSQL's {@code COPY FROM STDIN}
+ * and MySQL's {@code LOAD DATA LOCAL INFILE}: fields are separated by tabs, rows are terminated by
+ * newlines, {@code \N} denotes null and backslash, tab, newline and carriage return are escaped
+ * with a backslash. Binary columns are not supported by default, since the text format has no
+ * encoding for them; batches containing them are executed as regular batches.</p>
+ *
+ * @see PostgreSQLCopyLoader
+ * @see MySQLLoadDataLoader
+ */
+public abstract class BulkLoader {
+
+    public static final char FIELD_SEPARATOR = '\t';
+
+    public static final char ROW_SEPARATOR = '\n';
+
+    public static final String NULL = "\\N";
+
+    /**
+     * Serialize the bulk load statement for the given table and columns
+     *
+     * @param entity target table
+     * @param columns target columns in the order of the streamed fields
+     * @param context serializer to append to
+     */
+    public abstract void serialize(RelationalPath<?> entity, List<Path<?>> columns, SQLSerializer context);
+
+    /**
+     * Execute the given bulk load statement and stream the given data to the database
+     *
+     * @param connection connection to use
+     * @param statement bulk load statement
+     * @param data rows in the text format
+     * @return the amount of loaded rows
+     * @throws SQLException
+     */
+    public abstract long load(Connection connection, String statement, InputStream data) throws SQLException;
+
+    /**
+     * Get whether the values of the given column can be streamed by this loader
+     *
+     * @param column target column
+     * @return true, if supported
+     */
+    public boolean isSupported(Path<?> column) {
+        return !isStreamed(column.getType()) && !isBinary(column);
+    }
+
+    /**
+     * Get whether the given column is declared as a binary column
+     *
+     * @param column column
+     * @return true, if binary
+     */
+    protected static boolean isBinary(Path<?> column) {
+        if (byte[].class.equals(column.getType())) {
+            return true;
+        }
+        ColumnMetadata metadata = ColumnMetadata.getColumnMetadata(column);
+        if (metadata.hasJdbcType()) {
+            switch (metadata.getJdbcType()) {
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+            case Types.BLOB:
+                return true;
+            default:
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get whether values of the given type are bound as LOBs or streams
+     *
+     * @param type java type
+     * @return true, if streamed
+     */
+    protected static boolean isStreamed(Class<?> type) {
+        return Blob.class.isAssignableFrom(type) || InputStream.class.isAssignableFrom(type);
+    }
+
+    /**
+     * Append the given value as a field to the given row
+     *
+     * @param row row to append to
+     * @param value value bound through the {@link com.querydsl.sql.types.Type} conversions
+     */
+    public void appendValue(StringBuilder row, @Nullable Object value) {
+        if (value == null) {
+            row.append(NULL);
+        } else if (value instanceof Boolean) {
+            appendBoolean(row, (Boolean) value);
+        } else if (value instanceof byte[]) {
+            appendBytes(row, (byte[]) value);
+        } else {
+            appendEscaped(row, value.toString());
+        }
+    }
+
+    protected void appendBoolean(StringBuilder row, boolean value) {
+        row.append(value ? '1' : '0');
+    }
+
+    protected void appendBytes(StringBuilder row, byte[] value) {
+        throw new UnsupportedOperationException("Binary values are not supported by " + getClass().getSimpleName());
+    }
+
+    protected void appendEscaped(StringBuilder row, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '\\': row.append("\\\\"); break;
+            case '\t': row.append("\\t"); break;
+            case '\n': row.append("\\n"); break;
+            case '\r': row.append("\\r"); break;
+            default: row.append(c);
+            }
+        }
+    }
+
+    /**
+     * Load the first available class of the given names
+     *
+     * @param names fully qualified class names
+     * @return class
+     * @throws SQLException if none of the classes is available
+     */
+    protected static Class<?> loadClass(String... names) throws SQLException {
+        for (String name : names) {
+            try {
+                return Class.forName(name);
+            } catch (ClassNotFoundException e) {
+                // try next
+            }
+        }
+        throw new SQLException("None of the driver classes " + Joiner.on(", ").join(names) + " is available");
+    }
+
+    /**
+     * Invoke the given driver method and unwrap SQLExceptions thrown by it
+     *
+     * @param method method to invoke
+     * @param target target object
+     * @param args arguments
+     * @return the method result
+     * @throws SQLException
+     */
+    protected static Object invoke(Method method, Object target, Object... args) throws SQLException {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            throw new SQLException(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new SQLException(e);
+        }
+    }
+
+}
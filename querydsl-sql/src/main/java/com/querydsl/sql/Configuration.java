@@ -64,6 +64,11 @@ public final class Configuration {
 
     private boolean useLiterals = false;
 
+    private boolean compactTuples = false;
+
+    @Nullable
+    private SQLResultCache resultCache;
+
     /**
      * Create a new Configuration instance
      *
@@ -241,7 +246,7 @@ public final class Configuration {
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
-    private <T> Type<T> getType(@Nullable Path<?> path, Class<T> clazz) {
+    <T> Type<T> getType(@Nullable Path<?> path, Class<T> clazz) {
         if (hasTableColumnTypes && path != null && !clazz.equals(Null.class)
                 && path.getMetadata().getParent() instanceof RelationalPath) {
             String table = ((RelationalPath) path.getMetadata().getParent()).getTableName();
@@ -477,6 +482,56 @@ public final class Configuration {
         return listeners;
     }
 
+    /**
+     * Get the result cache
+     *
+     * @return result cache or null, if none is set
+     */
+    @Nullable
+    public SQLResultCache getResultCache() {
+        return resultCache;
+    }
+
+    /**
+     * Set the result cache to be used for queries (default: none)
+     *
+     * <p>The cache is also registered as a listener to be notified of DML operations and
+     * replaces the previously set cache as a listener.</p>
+     *
+     * @param resultCache result cache or null for none
+     */
+    public void setResultCache(@Nullable SQLResultCache resultCache) {
+        if (this.resultCache != null) {
+            listeners.remove(this.resultCache);
+        }
+        this.resultCache = resultCache;
+        if (resultCache != null) {
+            listeners.add(resultCache);
+        }
+    }
+
+    /**
+     * Get whether tuple results are stored in a compact row store
+     *
+     * @return true, if compact tuples are used
+     */
+    public boolean getCompactTuples() {
+        return compactTuples;
+    }
+
+    /**
+     * Set whether tuple results of fetch are stored in a compact row store (default: false)
+     *
+     * <p>When enabled, multi column projections are fetched into a {@link com.querydsl.core.types.TupleList}, which keeps
+     * all rows in one backing array and returns flyweight tuple views. The returned lists are
+     * read-only.</p>
+     *
+     * @param compactTuples true for compact tuples
+     */
+    public void setCompactTuples(boolean compactTuples) {
+        this.compactTuples = compactTuples;
+    }
+
     /**
      * Get whether literals are serialized or prepared statement bindings are used
      *
@@ -51,12 +51,16 @@ public class H2Templates extends SQLTemplates {
         setMaxLimit(2 ^ 31);
         setLimitRequired(true);
         setCountDistinctMultipleColumns(true);
+        setCreateTempTable("create local temporary table if not exists ");
 
         setPrecedence(Precedence.ARITH_LOW + 1, Ops.CONCAT);
         setPrecedence(Precedence.COMPARISON, Ops.EQ, Ops.EQ_IGNORE_CASE, Ops.NE);
 
         add(Ops.MOD, "{0} % {1}", Precedence.ARITH_HIGH);
 
+        add(SQLOps.IN_ARRAY, "{0} in (select x from table(x {2s} = {1}))", Precedence.COMPARISON);
+        add(SQLOps.NOT_IN_ARRAY, "{0} not in (select x from table(x {2s} = {1}))", Precedence.COMPARISON);
+
         add(Ops.MathOps.ROUND, "round({0},0)");
         add(Ops.TRIM, "trim(both from {0})");
 
@@ -66,6 +66,9 @@ public class HSQLDBTemplates extends SQLTemplates {
 
         add(SQLOps.NEXTVAL, "next value for {0s}");
 
+        add(SQLOps.IN_ARRAY, "{0} in (unnest({1}))", Precedence.COMPARISON);
+        add(SQLOps.NOT_IN_ARRAY, "{0} not in (unnest({1}))", Precedence.COMPARISON);
+
         add(Ops.MathOps.POWER, "power({0},{1s})");
         add(Ops.MathOps.ROUND, "round({0},0)");
         add(Ops.MathOps.LN, "log({0})");
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql;
+
+/**
+ * {@code InListStrategy} defines how {@code in} and {@code not in} conditions with collection
+ * constants are serialized
+ *
+ * @see SQLTemplates.Builder#inListStrategy(InListStrategy)
+ */
+public enum InListStrategy {
+
+    /**
+     * One parameter per element
+     */
+    EXPAND,
+
+    /**
+     * One parameter per element, the amount of parameters is padded to the next power of two by
+     * repeating the last element, so that the amount of distinct SQL strings stays small
+     */
+    PADDED,
+
+    /**
+     * A single array parameter, if the templates and the element type support it, otherwise
+     * {@link #EXPAND}
+     */
+    ARRAY
+
+}
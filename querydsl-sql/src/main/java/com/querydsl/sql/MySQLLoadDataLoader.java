@@ -0,0 +1,56 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql;
+
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import com.querydsl.core.types.Path;
+
+/**
+ * {@code MySQLLoadDataLoader} loads rows via {@code LOAD DATA LOCAL INFILE} using the
+ * local infile stream support of MySQL Connector/J
+ *
+ * <p>The driver is accessed reflectively, so that it is not required at compile time. The
+ * connection needs to be opened with {@code allowLoadLocalInfile=true}.</p>
+ */
+public class MySQLLoadDataLoader extends BulkLoader {
+
+    @Override
+    public void serialize(RelationalPath<?> entity, List<Path<?>> columns, SQLSerializer context) {
+        // the file name is ignored, since the data is provided as a stream
+        context.serializeForBulkLoad("load data local infile 'stdin' into table ", entity,
+                " character set utf8", columns, "");
+    }
+
+    @Override
+    public long load(Connection connection, String statement, InputStream data) throws SQLException {
+        Class<?> statementType = loadClass("com.mysql.cj.jdbc.JdbcStatement", "com.mysql.jdbc.Statement");
+        Statement stmt = connection.createStatement();
+        try {
+            Method setStream = statementType.getMethod("setLocalInfileInputStream", InputStream.class);
+            invoke(setStream, stmt.unwrap(statementType), data);
+            return stmt.executeUpdate(statement);
+        } catch (NoSuchMethodException e) {
+            throw new SQLException(e);
+        } finally {
+            stmt.close();
+        }
+    }
+
+}
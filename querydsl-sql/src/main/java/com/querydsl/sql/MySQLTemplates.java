@@ -66,6 +66,7 @@ public class MySQLTemplates extends SQLTemplates {
 
         setForShareSupported(true);
         setForShareFlag(new QueryFlag(Position.END, LOCK_IN_SHARE_MODE));
+        setBulkLoader(new MySQLLoadDataLoader());
 
         setPrecedence(Precedence.COMPARISON, Ops.EQ, Ops.EQ_IGNORE_CASE, Ops.NE);
         setPrecedence(Precedence.CASE, Ops.BETWEEN);
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql;
+
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import com.querydsl.core.types.Path;
+
+/**
+ * {@code PostgreSQLCopyLoader} loads rows via {@code COPY ... FROM STDIN} using the
+ * {@code CopyManager} of the PostgreSQL JDBC driver
+ *
+ * <p>The driver is accessed reflectively, so that it is not required at compile time.</p>
+ */
+public class PostgreSQLCopyLoader extends BulkLoader {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    @Override
+    public void serialize(RelationalPath<?> entity, List<Path<?>> columns, SQLSerializer context) {
+        context.serializeForBulkLoad("copy ", entity, "", columns, " from stdin");
+    }
+
+    @Override
+    public long load(Connection connection, String statement, InputStream data) throws SQLException {
+        Class<?> pgConnectionType = loadClass("org.postgresql.PGConnection");
+        Object pgConnection = connection.unwrap(pgConnectionType);
+        try {
+            Object copyManager = invoke(pgConnectionType.getMethod("getCopyAPI"), pgConnection);
+            Method copyIn = copyManager.getClass().getMethod("copyIn", String.class, InputStream.class);
+            return ((Number) invoke(copyIn, copyManager, statement, data)).longValue();
+        } catch (NoSuchMethodException e) {
+            throw new SQLException(e);
+        }
+    }
+
+    @Override
+    public boolean isSupported(Path<?> column) {
+        // binary values are streamed in the bytea hex format
+        return !isStreamed(column.getType());
+    }
+
+    @Override
+    protected void appendBoolean(StringBuilder row, boolean value) {
+        row.append(value ? 't' : 'f');
+    }
+
+    @Override
+    protected void appendBytes(StringBuilder row, byte[] value) {
+        // bytea hex format, the backslash is escaped for the text format
+        row.append("\\\\x");
+        for (byte b : value) {
+            row.append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+        }
+    }
+
+}
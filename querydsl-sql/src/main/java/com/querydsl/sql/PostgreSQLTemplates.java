@@ -56,6 +56,9 @@ public class PostgreSQLTemplates extends SQLTemplates {
         setSupportsUnquotedReservedWordsAsIdentifier(true);
 
         setForShareSupported(true);
+        setMultipleStatementsSupported(true);
+        setBulkLoader(new PostgreSQLCopyLoader());
+        setCreateTempTable("create temporary table if not exists ");
 
         setPrecedence(Precedence.COMPARISON - 3, Ops.IS_NULL, Ops.IS_NOT_NULL);
         setPrecedence(Precedence.COMPARISON - 2, Ops.CONCAT, Ops.MATCHES);
@@ -69,6 +72,9 @@ public class PostgreSQLTemplates extends SQLTemplates {
 
         add(Ops.MOD, "{0} % {1}", Precedence.ARITH_HIGH);
 
+        add(SQLOps.IN_ARRAY, "{0} = any({1})", Precedence.COMPARISON);
+        add(SQLOps.NOT_IN_ARRAY, "{0} <> all({1})", Precedence.COMPARISON);
+
         // String
         add(Ops.MATCHES, "{0} ~ {1}");
         add(Ops.INDEX_OF, "strpos({0},{1})-1", Precedence.ARITH_LOW);
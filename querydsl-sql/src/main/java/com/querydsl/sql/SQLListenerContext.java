@@ -24,6 +24,13 @@ import com.querydsl.core.QueryMetadata;
  * SQLDetailedListener} callback method
  */
 public interface SQLListenerContext {
+
+    /**
+     * Data key of the amount of rows read by a query, available as a {@link Long} when the
+     * query ends
+     */
+    String ROW_COUNT = "querydsl.rowCount";
+
     /**
      * The context getData is a general purpose place that listeners can place objects.  It allows listeners to pass
      * context between themselves during callbacks.
@@ -16,11 +16,13 @@ package com.querydsl.sql;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.querydsl.core.EmptyMetadata;
 import com.querydsl.core.QueryMetadata;
 
 /**
@@ -30,13 +32,39 @@ import com.querydsl.core.QueryMetadata;
  * class directly
  */
 public class SQLListenerContextImpl implements SQLListenerContext {
-    private final Map<String, Object> contextMap;
+
+    /**
+     * Shared context which ignores all updates, used when no listeners are registered
+     */
+    public static final SQLListenerContextImpl DISABLED = new SQLListenerContextImpl(EmptyMetadata.DEFAULT) {
+        @Override
+        public void addSQL(String sql) { }
+
+        @Override
+        public void setEntity(RelationalPath<?> entity) { }
+
+        @Override
+        public void setConnection(Connection connection) { }
+
+        @Override
+        public void setException(Exception exception) { }
+
+        @Override
+        public void addPreparedStatement(PreparedStatement preparedStatement) { }
+
+        @Override
+        public void setData(String dataKey, Object value) { }
+    };
+
+    // the collections are created lazily, since most contexts are seen only by a few listeners
+
+    private Map<String, Object> contextMap;
 
     private final QueryMetadata md;
 
-    private final List<String> sqlStatements;
+    private List<String> sqlStatements;
 
-    private final List<PreparedStatement> preparedStatements;
+    private List<PreparedStatement> preparedStatements;
 
     private RelationalPath<?> entity;
 
@@ -45,9 +73,6 @@ public class SQLListenerContextImpl implements SQLListenerContext {
     private Exception exception;
 
     public SQLListenerContextImpl(final QueryMetadata metadata, final Connection connection, final RelationalPath<?> entity) {
-        this.contextMap = Maps.newHashMap();
-        this.preparedStatements = Lists.newArrayList();
-        this.sqlStatements = Lists.newArrayList();
         this.md = metadata;
         this.connection = connection;
         this.entity = entity;
@@ -62,6 +87,9 @@ public class SQLListenerContextImpl implements SQLListenerContext {
     }
 
     public void addSQL(final String sql) {
+        if (sqlStatements == null) {
+            sqlStatements = Lists.newArrayListWithCapacity(1);
+        }
         this.sqlStatements.add(sql);
     }
 
@@ -78,6 +106,9 @@ public class SQLListenerContextImpl implements SQLListenerContext {
     }
 
     public void addPreparedStatement(final PreparedStatement preparedStatement) {
+        if (preparedStatements == null) {
+            preparedStatements = Lists.newArrayListWithCapacity(1);
+        }
         this.preparedStatements.add(preparedStatement);
     }
 
@@ -93,12 +124,12 @@ public class SQLListenerContextImpl implements SQLListenerContext {
 
     @Override
     public String getSQL() {
-        return sqlStatements.isEmpty() ? null : sqlStatements.get(0);
+        return sqlStatements == null ? null : sqlStatements.get(0);
     }
 
     @Override
     public Collection<String> getSQLStatements() {
-        return sqlStatements;
+        return sqlStatements == null ? Collections.<String>emptyList() : sqlStatements;
     }
 
     @Override
@@ -113,21 +144,24 @@ public class SQLListenerContextImpl implements SQLListenerContext {
 
     @Override
     public Collection<PreparedStatement> getPreparedStatements() {
-        return preparedStatements;
+        return preparedStatements == null ? Collections.<PreparedStatement>emptyList() : preparedStatements;
     }
 
     @Override
     public PreparedStatement getPreparedStatement() {
-        return preparedStatements.isEmpty() ? null : preparedStatements.get(0);
+        return preparedStatements == null ? null : preparedStatements.get(0);
     }
 
     @Override
     public Object getData(final String dataKey) {
-        return contextMap.get(dataKey);
+        return contextMap == null ? null : contextMap.get(dataKey);
     }
 
     @Override
     public void setData(final String dataKey, final Object value) {
+        if (contextMap == null) {
+            contextMap = Maps.newHashMap();
+        }
         contextMap.put(dataKey, value);
     }
 
@@ -140,8 +174,10 @@ public class SQLListenerContextImpl implements SQLListenerContext {
                 .append(" entity:").append(entity)
                 .append(" exception:").append(exception);
 
-        for (Map.Entry<String, Object> entry : contextMap.entrySet()) {
-            sb.append(" [").append(entry.getKey()).append(":").append(entry.getValue()).append("]");
+        if (contextMap != null) {
+            for (Map.Entry<String, Object> entry : contextMap.entrySet()) {
+                sb.append(" [").append(entry.getKey()).append(":").append(entry.getValue()).append("]");
+            }
         }
         return sb.toString();
     }
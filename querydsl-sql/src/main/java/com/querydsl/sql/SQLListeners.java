@@ -13,6 +13,8 @@
  */
 package com.querydsl.sql;
 
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -36,13 +38,23 @@ import com.querydsl.sql.dml.SQLUpdateBatch;
  */
 public class SQLListeners implements SQLDetailedListener {
 
+    private static final SQLDetailedListener[] EMPTY = new SQLDetailedListener[0];
+
     @Nullable
     private final SQLDetailedListener parent;
 
-    private final Set<SQLDetailedListener> listeners = Sets.newLinkedHashSet();
+    @Nullable
+    private Set<SQLDetailedListener> listeners;
+
+    // copy of listeners for allocation free dispatch
+    private SQLDetailedListener[] listenerArray = EMPTY;
 
     public SQLListeners(SQLListener parent) {
-        this.parent = new SQLListenerAdapter(parent);
+        if (parent instanceof SQLListeners) {
+            this.parent = (SQLListeners) parent;
+        } else {
+            this.parent = new SQLListenerAdapter(parent);
+        }
     }
 
     public SQLListeners() {
@@ -51,14 +63,55 @@ public class SQLListeners implements SQLDetailedListener {
 
     public void add(SQLListener listener) {
         if (listener instanceof SQLListeners) {
-            for (SQLListener l : ((SQLListeners) listener).listeners) {
+            for (SQLListener l : ((SQLListeners) listener).listenerArray) {
                 add(l);
             }
-        } else if (listener instanceof SQLDetailedListener) {
+            return;
+        }
+        if (listeners == null) {
+            listeners = Sets.newLinkedHashSet();
+        }
+        if (listener instanceof SQLDetailedListener) {
             listeners.add((SQLDetailedListener) listener);
         } else {
             listeners.add(new SQLListenerAdapter(listener));
         }
+        listenerArray = listeners.toArray(new SQLDetailedListener[listeners.size()]);
+    }
+
+    /**
+     * Remove the given listener
+     *
+     * @param listener listener to remove
+     */
+    public void remove(SQLListener listener) {
+        if (listeners == null) {
+            return;
+        }
+        Iterator<SQLDetailedListener> it = listeners.iterator();
+        while (it.hasNext()) {
+            SQLDetailedListener l = it.next();
+            if (l.equals(listener) || (l instanceof SQLListenerAdapter
+                    && ((SQLListenerAdapter) l).getSqlListener().equals(listener))) {
+                it.remove();
+            }
+        }
+        listenerArray = listeners.toArray(new SQLDetailedListener[listeners.size()]);
+    }
+
+    /**
+     * Get whether no listeners are registered, either directly or via the parent listeners
+     *
+     * @return true, if notifications can be skipped
+     */
+    public boolean isEmpty() {
+        if (listenerArray.length > 0) {
+            return false;
+        } else if (parent instanceof SQLListeners) {
+            return ((SQLListeners) parent).isEmpty();
+        } else {
+            return parent == null;
+        }
     }
 
     @Override
@@ -66,7 +119,7 @@ public class SQLListeners implements SQLDetailedListener {
         if (parent != null) {
             parent.notifyQuery(md);
         }
-        for (SQLListener listener : listeners) {
+        for (SQLListener listener : listenerArray) {
             listener.notifyQuery(md);
         }
     }
@@ -76,7 +129,7 @@ public class SQLListeners implements SQLDetailedListener {
         if (parent != null) {
             parent.notifyDelete(entity, md);
         }
-        for (SQLListener listener : listeners) {
+        for (SQLListener listener : listenerArray) {
             listener.notifyDelete(entity, md);
         }
     }
@@ -86,7 +139,7 @@ public class SQLListeners implements SQLDetailedListener {
         if (parent != null) {
             parent.notifyDeletes(entity, batches);
         }
-        for (SQLListener listener : listeners) {
+        for (SQLListener listener : listenerArray) {
             listener.notifyDeletes(entity, batches);
         }
     }
@@ -97,7 +150,7 @@ public class SQLListeners implements SQLDetailedListener {
         if (parent != null) {
             parent.notifyMerge(entity, md, keys, columns, values, subQuery);
         }
-        for (SQLListener listener : listeners) {
+        for (SQLListener listener : listenerArray) {
             listener.notifyMerge(entity, md, keys, columns, values, subQuery);
         }
     }
@@ -107,7 +160,7 @@ public class SQLListeners implements SQLDetailedListener {
         if (parent != null) {
             parent.notifyMerges(entity, md, batches);
         }
-        for (SQLListener listener : listeners) {
+        for (SQLListener listener : listenerArray) {
             listener.notifyMerges(entity, md, batches);
         }
     }
@@ -118,7 +171,7 @@ public class SQLListeners implements SQLDetailedListener {
         if (parent != null) {
             parent.notifyInsert(entity, md, columns, values, subQuery);
         }
-        for (SQLListener listener : listeners) {
+        for (SQLListener listener : listenerArray) {
             listener.notifyInsert(entity, md, columns, values, subQuery);
         }
     }
@@ -129,7 +182,7 @@ public class SQLListeners implements SQLDetailedListener {
         if (parent != null) {
             parent.notifyInserts(entity, md, batches);
         }
-        for (SQLListener listener : listeners) {
+        for (SQLListener listener : listenerArray) {
             listener.notifyInserts(entity, md, batches);
         }
     }
@@ -140,7 +193,7 @@ public class SQLListeners implements SQLDetailedListener {
         if (parent != null) {
             parent.notifyUpdate(entity, md, updates);
         }
-        for (SQLListener listener : listeners) {
+        for (SQLListener listener : listenerArray) {
             listener.notifyUpdate(entity, md, updates);
         }
     }
@@ -150,7 +203,7 @@ public class SQLListeners implements SQLDetailedListener {
         if (parent != null) {
             parent.notifyUpdates(entity, batches);
         }
-        for (SQLListener listener : listeners) {
+        for (SQLListener listener : listenerArray) {
             listener.notifyUpdates(entity, batches);
         }
     }
@@ -161,7 +214,7 @@ public class SQLListeners implements SQLDetailedListener {
         if (parent != null) {
             parent.start(context);
         }
-        for (SQLDetailedListener listener : listeners) {
+        for (SQLDetailedListener listener : listenerArray) {
             listener.start(context);
         }
     }
@@ -171,7 +224,7 @@ public class SQLListeners implements SQLDetailedListener {
         if (parent != null) {
             parent.preRender(context);
         }
-        for (SQLDetailedListener listener : listeners) {
+        for (SQLDetailedListener listener : listenerArray) {
             listener.preRender(context);
         }
     }
@@ -181,7 +234,7 @@ public class SQLListeners implements SQLDetailedListener {
         if (parent != null) {
             parent.rendered(context);
         }
-        for (SQLDetailedListener listener : listeners) {
+        for (SQLDetailedListener listener : listenerArray) {
             listener.rendered(context);
         }
     }
@@ -191,7 +244,7 @@ public class SQLListeners implements SQLDetailedListener {
         if (parent != null) {
             parent.prePrepare(context);
         }
-        for (SQLDetailedListener listener : listeners) {
+        for (SQLDetailedListener listener : listenerArray) {
             listener.prePrepare(context);
         }
     }
@@ -201,7 +254,7 @@ public class SQLListeners implements SQLDetailedListener {
         if (parent != null) {
             parent.prepared(context);
         }
-        for (SQLDetailedListener listener : listeners) {
+        for (SQLDetailedListener listener : listenerArray) {
             listener.prepared(context);
         }
     }
@@ -211,7 +264,7 @@ public class SQLListeners implements SQLDetailedListener {
         if (parent != null) {
             parent.preExecute(context);
         }
-        for (SQLDetailedListener listener : listeners) {
+        for (SQLDetailedListener listener : listenerArray) {
             listener.preExecute(context);
         }
     }
@@ -221,7 +274,7 @@ public class SQLListeners implements SQLDetailedListener {
         if (parent != null) {
             parent.executed(context);
         }
-        for (SQLDetailedListener listener : listeners) {
+        for (SQLDetailedListener listener : listenerArray) {
             listener.executed(context);
         }
     }
@@ -231,7 +284,7 @@ public class SQLListeners implements SQLDetailedListener {
         if (parent != null) {
             parent.end(context);
         }
-        for (SQLDetailedListener listener : listeners) {
+        for (SQLDetailedListener listener : listenerArray) {
             listener.end(context);
         }
     }
@@ -241,13 +294,13 @@ public class SQLListeners implements SQLDetailedListener {
         if (parent != null) {
             parent.exception(context);
         }
-        for (SQLDetailedListener listener : listeners) {
+        for (SQLDetailedListener listener : listenerArray) {
             listener.exception(context);
         }
     }
 
     public Set<SQLDetailedListener> getListeners() {
-        return listeners;
+        return listeners != null ? Collections.unmodifiableSet(listeners) : Collections.<SQLDetailedListener>emptySet();
     }
 
 }
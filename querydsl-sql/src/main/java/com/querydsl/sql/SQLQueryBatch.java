@@ -0,0 +1,218 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql;
+
+import java.lang.reflect.InvocationTargetException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.Lists;
+import com.querydsl.core.EmptyMetadata;
+import com.querydsl.core.QueryException;
+
+/**
+ * {@code SQLQueryBatch} executes a group of independent queries in a single round trip
+ *
+ * <p>The queries are rendered as one multi statement SQL string, if the templates declare support
+ * for multiple statements and the driver supports multiple result sets. Otherwise the queries are
+ * executed one after the other.</p>
+ *
+ * <p>Usage:</p>
+ * <pre>
+ * List&lt;List&lt;?&gt;&gt; results = queryFactory.queryBatch()
+ *     .add(queryFactory.select(customer.name).from(customer).where(customer.id.eq(id)))
+ *     .add(queryFactory.select(order.id).from(order).where(order.customerId.eq(id)))
+ *     .fetch();
+ * </pre>
+ */
+public class SQLQueryBatch {
+
+    private static final Logger logger = LoggerFactory.getLogger(SQLQueryBatch.class);
+
+    private final Connection connection;
+
+    private final Configuration configuration;
+
+    private final List<AbstractSQLQuery<?, ?>> queries = Lists.newArrayList();
+
+    public SQLQueryBatch(Connection connection, Configuration configuration) {
+        this.connection = connection;
+        this.configuration = configuration;
+    }
+
+    /**
+     * Add the given query to the batch
+     *
+     * @param query query
+     * @return the current object
+     */
+    public SQLQueryBatch add(AbstractSQLQuery<?, ?> query) {
+        queries.add(query);
+        return this;
+    }
+
+    /**
+     * Get the amount of queries in this batch
+     *
+     * @return query count
+     */
+    public int size() {
+        return queries.size();
+    }
+
+    /**
+     * Execute the queries and get the results
+     *
+     * @return results of the queries in the order they were added
+     */
+    public List<List<?>> fetch() {
+        if (queries.isEmpty()) {
+            return Collections.emptyList();
+        } else if (queries.size() > 1 && isMultipleStatementsSupported()) {
+            return fetchCombined();
+        } else {
+            return fetchSequential();
+        }
+    }
+
+    private boolean isMultipleStatementsSupported() {
+        try {
+            return configuration.getTemplates().isMultipleStatementsSupported()
+                && connection.getMetaData().supportsMultipleResultSets();
+        } catch (SQLException e) {
+            throw configuration.translate(e);
+        }
+    }
+
+    private List<List<?>> fetchSequential() {
+        List<List<?>> rv = new ArrayList<List<?>>(queries.size());
+        for (AbstractSQLQuery<?, ?> query : queries) {
+            rv.add(query.clone(connection).fetch());
+        }
+        return rv;
+    }
+
+    private List<List<?>> fetchCombined() {
+        SQLListeners listeners = new SQLListeners(configuration.getListeners());
+        SQLListenerContextImpl context = listeners.isEmpty() ? SQLListenerContextImpl.DISABLED
+                : new SQLListenerContextImpl(EmptyMetadata.DEFAULT, connection);
+        List<SQLSerializer> serializers = new ArrayList<SQLSerializer>(queries.size());
+        List<Object> constants = new ArrayList<Object>();
+        String queryString = null;
+        try {
+            listeners.start(context);
+            listeners.preRender(context);
+            StringBuilder sql = new StringBuilder();
+            int tempInLists = 0;
+            for (AbstractSQLQuery<?, ?> query : queries) {
+                // number the temporary tables across the batch
+                SQLSerializer serializer = query.serialize(tempInLists);
+                tempInLists += serializer.getTempInLists().size();
+                serializers.add(serializer);
+                constants.addAll(serializer.getConstants());
+                if (sql.length() > 0) {
+                    sql.append(";\n");
+                }
+                sql.append(serializer.toString());
+                context.addSQL(serializer.toString());
+            }
+            queryString = sql.toString();
+            if (logger.isDebugEnabled()) {
+                logger.debug(queryString.replace('\n', ' '));
+            }
+            listeners.rendered(context);
+            for (AbstractSQLQuery<?, ?> query : queries) {
+                listeners.notifyQuery(query.getMetadata());
+            }
+
+            listeners.prePrepare(context);
+            for (int i = 0; i < queries.size(); i++) {
+                queries.get(i).createTempInLists(connection, serializers.get(i));
+            }
+            PreparedStatement stmt = connection.prepareStatement(queryString);
+            try {
+                int offset = 0;
+                for (int i = 0; i < queries.size(); i++) {
+                    SQLSerializer serializer = serializers.get(i);
+                    queries.get(i).setParameters(stmt, serializer.getConstants(), serializer.getConstantPaths(),
+                            queries.get(i).getMetadata().getParams(), offset);
+                    offset += serializer.getConstants().size();
+                }
+                context.addPreparedStatement(stmt);
+                listeners.prepared(context);
+
+                listeners.preExecute(context);
+                boolean isResultSet = stmt.execute();
+                listeners.executed(context);
+                List<List<?>> rv = new ArrayList<List<?>>(queries.size());
+                for (AbstractSQLQuery<?, ?> query : queries) {
+                    // skip update counts
+                    while (!isResultSet) {
+                        if (stmt.getUpdateCount() == -1) {
+                            throw new QueryException("Expected " + queries.size() + " result sets, but got " + rv.size());
+                        }
+                        isResultSet = stmt.getMoreResults();
+                    }
+                    ResultSet rs = stmt.getResultSet();
+                    try {
+                        rv.add(query.read(rs));
+                    } finally {
+                        rs.close();
+                    }
+                    isResultSet = stmt.getMoreResults();
+                }
+                return rv;
+            } finally {
+                stmt.close();
+            }
+        } catch (IllegalAccessException e) {
+            onException(listeners, context, e);
+            throw new QueryException(e);
+        } catch (InvocationTargetException e) {
+            onException(listeners, context, e);
+            throw new QueryException(e);
+        } catch (InstantiationException e) {
+            onException(listeners, context, e);
+            throw new QueryException(e);
+        } catch (SQLException e) {
+            onException(listeners, context, e);
+            throw configuration.translate(queryString, constants, e);
+        } catch (RuntimeException e) {
+            onException(listeners, context, e);
+            throw e;
+        } finally {
+            try {
+                for (int i = 0; i < serializers.size(); i++) {
+                    queries.get(i).dropTempInLists(connection, serializers.get(i).getTempInLists());
+                }
+            } finally {
+                listeners.end(context);
+            }
+        }
+    }
+
+    private void onException(SQLListeners listeners, SQLListenerContextImpl context, Exception e) {
+        context.setException(e);
+        listeners.exception(context);
+    }
+
+}
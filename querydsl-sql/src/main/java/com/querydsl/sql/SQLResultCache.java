@@ -0,0 +1,391 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
+import com.querydsl.core.JoinExpression;
+import com.querydsl.core.QueryFlag;
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.types.*;
+import com.querydsl.sql.dml.SQLInsertBatch;
+import com.querydsl.sql.dml.SQLMergeBatch;
+import com.querydsl.sql.dml.SQLUpdateBatch;
+
+/**
+ * {@code SQLResultCache} caches the results of {@link AbstractSQLQuery#fetch()} calls for queries
+ * which read only from the cached tables
+ *
+ * <p>Cached results are keyed by the rendered SQL and the bound constants. Since the cache is also a
+ * {@link SQLListener}, inserts, updates, deletes and merges on a cached table executed via the DML
+ * clauses of the same {@link Configuration} invalidate the results depending on that table.
+ * Changes done by other means are only picked up after the entry has expired.</p>
+ *
+ * <p>Usage:</p>
+ * <pre>
+ * configuration.setResultCache(new SQLResultCache(1000, 10, TimeUnit.MINUTES,
+ *     QCountry.country, QCurrency.currency));
+ * </pre>
+ */
+public class SQLResultCache extends SQLBaseListener {
+
+    /**
+     * Cache key of a query execution
+     */
+    public static final class Key {
+
+        private final String sql;
+
+        private final List<Object> constants;
+
+        private final int hashCode;
+
+        // table generations at the time the key was created
+        private final AtomicLong[] counters;
+
+        private final long[] generations;
+
+        private Key(String sql, List<Object> constants, AtomicLong[] counters) {
+            this.sql = sql;
+            this.constants = new ArrayList<Object>(constants);
+            this.hashCode = 31 * sql.hashCode() + this.constants.hashCode();
+            this.counters = counters;
+            this.generations = new long[counters.length];
+            for (int i = 0; i < counters.length; i++) {
+                generations[i] = counters[i].get();
+            }
+        }
+
+        private boolean isValid() {
+            for (int i = 0; i < counters.length; i++) {
+                if (counters[i].get() != generations[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            } else if (o instanceof Key) {
+                Key other = (Key) o;
+                return sql.equals(other.sql) && constants.equals(other.constants);
+            } else {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return sql + " " + constants;
+        }
+
+    }
+
+    private static final class Entry {
+
+        final Key key;
+
+        final List<?> results;
+
+        Entry(Key key, List<?> results) {
+            this.key = key;
+            this.results = results;
+        }
+
+    }
+
+    private final Cache<Key, Entry> cache;
+
+    private final Map<SchemaAndTable, AtomicLong> tables;
+
+    private final AtomicLong hits = new AtomicLong(), misses = new AtomicLong(), invalidations = new AtomicLong();
+
+    /**
+     * Create a new SQLResultCache instance
+     *
+     * @param maximumSize maximum amount of cached results
+     * @param ttl time to live of cached results
+     * @param unit time unit of ttl
+     * @param tables tables whose query results may be cached
+     */
+    public SQLResultCache(long maximumSize, long ttl, TimeUnit unit, RelationalPath<?>... tables) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl, unit)
+                .build();
+        ImmutableMap.Builder<SchemaAndTable, AtomicLong> builder = ImmutableMap.builder();
+        Set<SchemaAndTable> seen = Sets.newHashSet();
+        for (RelationalPath<?> table : tables) {
+            if (seen.add(table.getSchemaAndTable())) {
+                builder.put(table.getSchemaAndTable(), new AtomicLong());
+            }
+        }
+        this.tables = builder.build();
+    }
+
+    /**
+     * Create a cache key for the given query
+     *
+     * @param metadata query metadata
+     * @param sql rendered SQL
+     * @param constants bound constants
+     * @return cache key or null, if the query reads from other than the cached tables
+     */
+    @Nullable
+    public Key createKey(QueryMetadata metadata, String sql, List<Object> constants) {
+        Set<SchemaAndTable> used = Sets.newHashSet();
+        if (!collect(metadata, used) || used.isEmpty()) {
+            return null;
+        }
+        AtomicLong[] counters = new AtomicLong[used.size()];
+        int i = 0;
+        for (SchemaAndTable table : used) {
+            counters[i] = tables.get(table);
+            if (counters[i++] == null) {
+                return null;
+            }
+        }
+        return new Key(sql, constants, counters);
+    }
+
+    /**
+     * Get the cached results for the given key
+     *
+     * @param key cache key
+     * @return copy of the cached results or null, if no valid results are cached
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public <T> List<T> get(Key key) {
+        Entry entry = cache.getIfPresent(key);
+        if (entry != null) {
+            if (entry.key.isValid()) {
+                hits.incrementAndGet();
+                return new ArrayList<T>((List<T>) entry.results);
+            }
+            cache.asMap().remove(key, entry);
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Cache the results for the given key
+     *
+     * <p>The results are not cached, if any of the involved tables has been modified after
+     * the key has been created.</p>
+     *
+     * @param key cache key
+     * @param results query results
+     */
+    public void put(Key key, List<?> results) {
+        if (key.isValid()) {
+            cache.put(key, new Entry(key, new ArrayList<Object>(results)));
+        }
+    }
+
+    /**
+     * Invalidate the cached results which depend on the given table
+     *
+     * @param table table
+     */
+    public void invalidate(RelationalPath<?> table) {
+        if (bump(table)) {
+            invalidations.incrementAndGet();
+        }
+    }
+
+    /**
+     * Invalidate all cached results
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private boolean bump(@Nullable RelationalPath<?> table) {
+        AtomicLong counter = table != null ? tables.get(table.getSchemaAndTable()) : null;
+        if (counter != null) {
+            counter.incrementAndGet();
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Get the amount of DML operations which invalidated cached results
+     *
+     * @return invalidation count
+     */
+    public long getInvalidationCount() {
+        return invalidations.get();
+    }
+
+    /**
+     * Get the amount of cached results, including invalidated results which haven't been evicted yet
+     *
+     * @return size
+     */
+    public long getSize() {
+        return cache.size();
+    }
+
+    @Override
+    public void notifyDelete(RelationalPath<?> entity, QueryMetadata md) {
+        invalidate(entity);
+    }
+
+    @Override
+    public void notifyDeletes(RelationalPath<?> entity, List<QueryMetadata> batches) {
+        invalidate(entity);
+    }
+
+    @Override
+    public void notifyMerge(RelationalPath<?> entity, QueryMetadata md, List<Path<?>> keys,
+                            List<Path<?>> columns, List<Expression<?>> values, SubQueryExpression<?> subQuery) {
+        invalidate(entity);
+    }
+
+    @Override
+    public void notifyMerges(RelationalPath<?> entity, QueryMetadata md, List<SQLMergeBatch> batches) {
+        invalidate(entity);
+    }
+
+    @Override
+    public void notifyInsert(RelationalPath<?> entity, QueryMetadata md, List<Path<?>> columns,
+                             List<Expression<?>> values, SubQueryExpression<?> subQuery) {
+        invalidate(entity);
+    }
+
+    @Override
+    public void notifyInserts(RelationalPath<?> entity, QueryMetadata md, List<SQLInsertBatch> batches) {
+        invalidate(entity);
+    }
+
+    @Override
+    public void notifyUpdate(RelationalPath<?> entity, QueryMetadata md, Map<Path<?>, Expression<?>> updates) {
+        invalidate(entity);
+    }
+
+    @Override
+    public void notifyUpdates(RelationalPath<?> entity, List<SQLUpdateBatch> batches) {
+        invalidate(entity);
+    }
+
+    @Override
+    public void end(SQLListenerContext context) {
+        // the notify methods are called before the statement is executed, so results read
+        // concurrently with the execution are discarded here
+        bump(context.getEntity());
+    }
+
+    private static boolean collect(QueryMetadata md, Set<SchemaAndTable> used) {
+        for (QueryFlag flag : md.getFlags()) {
+            if (flag.getPosition() == QueryFlag.Position.WITH) {
+                // common table expressions
+                return false;
+            }
+        }
+        for (JoinExpression join : md.getJoins()) {
+            Expression<?> target = join.getTarget();
+            if (target instanceof Operation && ((Operation<?>) target).getOperator() == Ops.ALIAS) {
+                target = ((Operation<?>) target).getArg(0);
+            }
+            if (target instanceof Path) {
+                if (target instanceof RelationalPath) {
+                    used.add(((RelationalPath<?>) target).getSchemaAndTable());
+                } else {
+                    return false;
+                }
+            } else if (target instanceof Operation || target instanceof SubQueryExpression) {
+                if (!collect(target, used)) {
+                    return false;
+                }
+            } else {
+                // table functions
+                return false;
+            }
+            if (join.getCondition() != null && !collect(join.getCondition(), used)) {
+                return false;
+            }
+        }
+        boolean rv = collect(md.getProjection(), used) && collect(md.getWhere(), used)
+                && collect(md.getHaving(), used);
+        for (Expression<?> e : md.getGroupBy()) {
+            rv = rv && collect(e, used);
+        }
+        for (OrderSpecifier<?> o : md.getOrderBy()) {
+            rv = rv && collect(o.getTarget(), used);
+        }
+        return rv;
+    }
+
+    private static boolean collect(@Nullable Expression<?> expr, Set<SchemaAndTable> used) {
+        if (expr instanceof SubQueryExpression) {
+            return collect(((SubQueryExpression<?>) expr).getMetadata(), used);
+        } else if (expr instanceof Operation) {
+            for (Expression<?> arg : ((Operation<?>) expr).getArgs()) {
+                if (!collect(arg, used)) {
+                    return false;
+                }
+            }
+        } else if (expr instanceof FactoryExpression) {
+            for (Expression<?> arg : ((FactoryExpression<?>) expr).getArgs()) {
+                if (!collect(arg, used)) {
+                    return false;
+                }
+            }
+        } else if (expr instanceof TemplateExpression) {
+            for (Object arg : ((TemplateExpression<?>) expr).getArgs()) {
+                if (arg instanceof Expression && !collect((Expression<?>) arg, used)) {
+                    return false;
+                }
+            }
+        } else if (expr instanceof Path) {
+            Path<?> root = ((Path<?>) expr).getRoot();
+            if (root instanceof RelationalPath) {
+                used.add(((RelationalPath<?>) root).getSchemaAndTable());
+            }
+        }
+        return true;
+    }
+
+}
@@ -45,6 +45,8 @@ public abstract class SQLResultIterator<T> implements CloseableIterator<T> {
 
     private final SQLListenerContext context;
 
+    private long rows;
+
     public SQLResultIterator(Configuration conf, Statement stmt, ResultSet rs) {
         this(conf, stmt, rs, null, null);
     }
@@ -74,6 +76,7 @@ public abstract class SQLResultIterator<T> implements CloseableIterator<T> {
             throw configuration.translate(e);
         } finally {
             if (listener != null) {
+                context.setData(SQLListenerContext.ROW_COUNT, rows);
                 listener.end(context);
             }
         }
@@ -96,6 +99,7 @@ public abstract class SQLResultIterator<T> implements CloseableIterator<T> {
     public T next() {
         if (hasNext()) {
             next = null;
+            rows++;
             try {
                 return produceNext(rs);
             } catch (SQLException e) {
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.mysema.commons.lang.CloseableIterator;
+import com.querydsl.core.Fetchable;
+
+/**
+ * {@code SQLResultPublisher} is a Reactive Streams {@link Publisher} of query results
+ *
+ * <p>Each subscription executes the query on the given executor and reads the rows in chunks of at
+ * most the given size, bounded by the demand of the subscriber. The rows are read and mapped to the
+ * projection only in executor threads, and the statement and result set are closed on completion,
+ * error and cancellation.</p>
+ *
+ * <p>Usage:</p>
+ * <pre>
+ * Publisher&lt;Employee&gt; publisher = SQLResultPublisher.of(queryFactory.selectFrom(employee), executor);
+ * </pre>
+ *
+ * <p>The Reactive Streams API is an optional dependency, which is only required when this class
+ * is used.</p>
+ *
+ * @param <T> result type
+ */
+public class SQLResultPublisher<T> implements Publisher<T> {
+
+    private static final int DEFAULT_CHUNK_SIZE = 100;
+
+    /**
+     * Create a publisher for the projection of the given query
+     *
+     * <p>Each subscription executes a copy of the query on the given executor. The rows are read in
+     * chunks bounded by the demand of the subscriber and the fetch size of the statement options.</p>
+     *
+     * @param query query to publish the results of
+     * @param executor executor to read the results with
+     * @param <T> result type
+     * @return publisher
+     */
+    public static <T> SQLResultPublisher<T> of(AbstractSQLQuery<T, ?> query, Executor executor) {
+        Integer fetchSize = query.getStatementOptions().getFetchSize();
+        return new QueryPublisher<T>(copy(query), executor,
+                fetchSize != null && fetchSize > 0 ? fetchSize : DEFAULT_CHUNK_SIZE);
+    }
+
+    private static <T> AbstractSQLQuery<T, ?> copy(AbstractSQLQuery<T, ?> query) {
+        AbstractSQLQuery<T, ?> copy = query.clone();
+        copy.setStatementOptions(query.getStatementOptions());
+        return copy;
+    }
+
+    private static class QueryPublisher<T> extends SQLResultPublisher<T> {
+
+        private final AbstractSQLQuery<T, ?> query;
+
+        QueryPublisher(AbstractSQLQuery<T, ?> query, Executor executor, int chunkSize) {
+            super(query, executor, chunkSize);
+            this.query = query;
+        }
+
+        @Override
+        protected Fetchable<T> createQuery() {
+            // the query and its execution context are not shared between subscriptions
+            return copy(query);
+        }
+
+    }
+
+    private final Fetchable<T> query;
+
+    private final Executor executor;
+
+    private final int chunkSize;
+
+    /**
+     * Create a new SQLResultPublisher instance
+     *
+     * @param query query to execute for each subscription
+     * @param executor executor to use
+     * @param chunkSize maximum amount of rows to read per task
+     */
+    public SQLResultPublisher(Fetchable<T> query, Executor executor, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size needs to be positive, got " + chunkSize);
+        }
+        this.query = query;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("subscriber");
+        }
+        subscriber.onSubscribe(new ResultSubscription(createQuery(), subscriber));
+    }
+
+    /**
+     * Get the query to execute for a new subscription
+     *
+     * @return query
+     */
+    protected Fetchable<T> createQuery() {
+        return query;
+    }
+
+    private class ResultSubscription implements Subscription, Runnable {
+
+        private final Fetchable<T> query;
+
+        private final Subscriber<? super T> subscriber;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        // amount of signals not yet seen by the running task
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private volatile boolean cancelled;
+
+        @Nullable
+        private volatile IllegalArgumentException invalidRequest;
+
+        // only accessed by the running task
+        @Nullable
+        private CloseableIterator<T> iterator;
+
+        private boolean done;
+
+        ResultSubscription(Fetchable<T> query, Subscriber<? super T> subscriber) {
+            this.query = query;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Request needs to be positive, got " + n);
+            } else {
+                long current, next;
+                do {
+                    current = requested.get();
+                    next = current + n < 0 ? Long.MAX_VALUE : current + n;
+                } while (!requested.compareAndSet(current, next));
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            signal();
+        }
+
+        private void signal() {
+            if (pending.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            int seen = pending.get();
+            readChunk();
+            if (!done && !cancelled && requested.get() > 0) {
+                // continue with the next chunk in a new task
+                executor.execute(this);
+            } else if (pending.addAndGet(-seen) != 0) {
+                executor.execute(this);
+            }
+        }
+
+        private void readChunk() {
+            if (done) {
+                return;
+            } else if (cancelled) {
+                done = true;
+                close();
+                return;
+            } else if (invalidRequest != null) {
+                done = true;
+                close();
+                subscriber.onError(invalidRequest);
+                return;
+            }
+            try {
+                if (iterator == null) {
+                    iterator = query.iterate();
+                }
+                long limit = Math.min(requested.get(), chunkSize);
+                long emitted = 0;
+                while (emitted < limit && !cancelled && iterator.hasNext()) {
+                    subscriber.onNext(iterator.next());
+                    emitted++;
+                }
+                if (!cancelled && !iterator.hasNext()) {
+                    done = true;
+                    iterator.close();
+                    subscriber.onComplete();
+                } else if (requested.get() != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+            } catch (RuntimeException e) {
+                done = true;
+                close();
+                subscriber.onError(e);
+            }
+        }
+
+        private void close() {
+            if (iterator != null) {
+                try {
+                    iterator.close();
+                } catch (RuntimeException e) {
+                    // already failed or no longer of interest
+                }
+            }
+        }
+
+    }
+
+}
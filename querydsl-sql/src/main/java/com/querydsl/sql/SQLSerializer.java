@@ -33,6 +33,7 @@ import com.querydsl.core.types.*;
 import com.querydsl.core.types.Template.Element;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.sql.dml.SQLInsertBatch;
+import com.querydsl.sql.types.ArrayType;
 import com.querydsl.sql.types.Null;
 
 /**
@@ -48,7 +49,26 @@ public class SQLSerializer extends SerializerBase<SQLSerializer> {
 
     private static final String COMMA = ", ";
 
-    private final LinkedList<Path<?>> constantPaths = new LinkedList<Path<?>>();
+    /**
+     * In list which is staged in a temporary table before the execution of the statement
+     */
+    static final class TempInList {
+
+        final String table;
+
+        final Class<?> type;
+
+        final Collection<?> values;
+
+        TempInList(String table, Class<?> type, Collection<?> values) {
+            this.table = table;
+            this.type = type;
+            this.values = values;
+        }
+
+    }
+
+    private final List<Path<?>> constantPaths = new ArrayList<Path<?>>();
 
     private final List<Object> constants = new ArrayList<Object>();
 
@@ -76,6 +96,14 @@ public class SQLSerializer extends SerializerBase<SQLSerializer> {
 
     private boolean useLiterals = false;
 
+    private boolean useBoundInLists = false;
+
+    private boolean useTempInLists = true;
+
+    private int tempInListOffset = 0;
+
+    private final List<TempInList> tempInLists = new ArrayList<TempInList>();
+
     public SQLSerializer(Configuration conf) {
         this(conf, false);
     }
@@ -116,6 +144,10 @@ public class SQLSerializer extends SerializerBase<SQLSerializer> {
         return constantPaths;
     }
 
+    List<TempInList> getTempInLists() {
+        return tempInLists;
+    }
+
     /**
      * Return a list of expressions that can be used to uniquely define the query sources
      *
@@ -610,6 +642,28 @@ public class SQLSerializer extends SerializerBase<SQLSerializer> {
 
     }
 
+    public void serializeBulkLoad(RelationalPath<?> entity, List<Path<?>> columns) {
+        this.entity = entity;
+        templates.getBulkLoader().serialize(entity, columns, this);
+    }
+
+    void serializeForBulkLoad(String start, RelationalPath<?> entity, String afterTable,
+            List<Path<?>> columns, String end) {
+        append(start);
+        dmlWithSchema = true;
+        handle(entity);
+        dmlWithSchema = false;
+        append(afterTable);
+        if (!columns.isEmpty()) {
+            append(" (");
+            skipParent = true;
+            handle(COMMA, columns);
+            skipParent = false;
+            append(")");
+        }
+        append(end);
+    }
+
     public void serializeUpdate(QueryMetadata metadata, RelationalPath<?> entity,
             Map<Path<?>, Expression<?>> updates) {
         templates.serializeUpdate(metadata, entity, updates, this);
@@ -809,7 +863,7 @@ public class SQLSerializer extends SerializerBase<SQLSerializer> {
             append(")");
 
             int size = ((Collection) constant).size() - 1;
-            Path<?> lastPath = constantPaths.peekLast();
+            Path<?> lastPath = constantPaths.get(constantPaths.size() - 1);
             for (int i = 0; i < size; i++) {
                 constantPaths.add(lastPath);
             }
@@ -981,8 +1035,29 @@ public class SQLSerializer extends SerializerBase<SQLSerializer> {
             if (coll.isEmpty()) {
                 super.visitOperation(type, operator == Ops.IN ? Ops.EQ : Ops.NE,
                         ImmutableList.of(Expressions.ONE, Expressions.TWO));
+            } else if (!useLiterals && isStagedInTempTable(coll)) {
+                if (pathAdded) {
+                    constantPaths.remove(constantPaths.size() - 1);
+                }
+                String table = "qdsl_in_" + (tempInListOffset + tempInLists.size());
+                tempInLists.add(new TempInList(table, args.get(0).getType(), coll));
+                super.visitOperation(type, operator, ImmutableList.of(args.get(0),
+                        Expressions.template(Object.class, "(select v from " + table + ")")));
+            } else if (!useLiterals && useBoundInLists && templates.getInListStrategy() == InListStrategy.ARRAY
+                    && isArrayBindable(args.get(0).getType(), coll)) {
+                if (pathAdded) {
+                    constantPaths.remove(constantPaths.size() - 1);
+                }
+                Class<?> elementType = args.get(0).getType();
+                Object[] array = coll.toArray((Object[]) java.lang.reflect.Array.newInstance(elementType, coll.size()));
+                super.visitOperation(type, operator == Ops.IN ? SQLOps.IN_ARRAY : SQLOps.NOT_IN_ARRAY,
+                        ImmutableList.of(args.get(0), ConstantImpl.create(array),
+                        Expressions.constant(configuration.getTypeNameForCast(elementType))));
             } else {
                 if (templates.getListMaxSize() == 0 || coll.size() <= templates.getListMaxSize()) {
+                    if (!useLiterals && templates.getInListStrategy() == InListStrategy.PADDED) {
+                        args = ImmutableList.of(args.get(0), ConstantImpl.create(pad(coll, templates.getListMaxSize())));
+                    }
                     super.visitOperation(type, operator, args);
                 } else {
                     //The type of the path is compatible with the constant
@@ -990,7 +1065,7 @@ public class SQLSerializer extends SerializerBase<SQLSerializer> {
                     @SuppressWarnings("unchecked")
                     Expression<Object> path = (Expression<Object>) args.get(0);
                     if (pathAdded) {
-                        constantPaths.removeLast();
+                        constantPaths.remove(constantPaths.size() - 1);
                     }
                     Iterable<List<Object>> partitioned = Iterables
                             .partition(coll, templates.getListMaxSize());
@@ -1029,10 +1104,83 @@ public class SQLSerializer extends SerializerBase<SQLSerializer> {
         }
     }
 
+    private boolean isStagedInTempTable(Collection<?> coll) {
+        return useBoundInLists && useTempInLists
+            && templates.getInListTempTableThreshold() > 0
+            && coll.size() > templates.getInListTempTableThreshold()
+            && templates.getCreateTempTable() != null;
+    }
+
+    private boolean isArrayBindable(Class<?> elementType, Collection<?> coll) {
+        if (templates.getTemplate(SQLOps.IN_ARRAY) == null || !templates.isArraysSupported()
+            || elementType.isPrimitive() || elementType.isArray()) {
+            return false;
+        }
+        Class<?> arrayType = java.lang.reflect.Array.newInstance(elementType, 0).getClass();
+        if (!(configuration.getType(null, arrayType) instanceof ArrayType)) {
+            return false;
+        }
+        for (Object o : coll) {
+            if (!elementType.isInstance(o)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Object> pad(Collection<Object> coll, int maxSize) {
+        int size = coll.size();
+        int padded = Integer.highestOneBit(size);
+        if (padded < size) {
+            padded <<= 1;
+        }
+        if (maxSize > 0) {
+            padded = Math.min(padded, maxSize);
+        }
+        List<Object> rv = new ArrayList<Object>(padded);
+        rv.addAll(coll);
+        Object last = rv.get(size - 1);
+        while (rv.size() < padded) {
+            rv.add(last);
+        }
+        return rv;
+    }
+
     public void setUseLiterals(boolean useLiterals) {
         this.useLiterals = useLiterals;
     }
 
+    /**
+     * Set whether in lists may be bound as array parameters or staged in temporary tables (default: false)
+     *
+     * <p>The caller is responsible for creating the tables listed in {@link #getTempInLists()}
+     * before the execution of the statement.</p>
+     *
+     * @param useBoundInLists true to allow array binding and staging
+     */
+    void setUseBoundInLists(boolean useBoundInLists) {
+        this.useBoundInLists = useBoundInLists;
+    }
+
+    /**
+     * Set whether large in lists may be staged in temporary tables (default: true)
+     *
+     * @param useTempInLists true to allow staging
+     */
+    void setUseTempInLists(boolean useTempInLists) {
+        this.useTempInLists = useTempInLists;
+    }
+
+    /**
+     * Set the number of the first temporary table, so that the tables of statements executed
+     * together don't clash
+     *
+     * @param tempInListOffset number of the first temporary table
+     */
+    void setTempInListOffset(int tempInListOffset) {
+        this.tempInListOffset = tempInListOffset;
+    }
+
     protected void setSkipParent(boolean b) {
         skipParent = b;
     }
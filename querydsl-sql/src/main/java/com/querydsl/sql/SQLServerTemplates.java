@@ -73,6 +73,7 @@ public class SQLServerTemplates extends SQLTemplates {
         setForUpdateFlag(new QueryFlag(Position.BEFORE_FILTERS, FOR_UPDATE));
 
         setForShareSupported(true);
+        setMultipleStatementsSupported(true);
         setForShareFlag(new QueryFlag(Position.BEFORE_FILTERS, WITH_REPEATABLE_READ));
 
         setPrecedence(Precedence.ARITH_LOW, Ops.NEGATE);
@@ -22,6 +22,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 import com.google.common.base.CharMatcher;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
@@ -81,6 +83,11 @@ public class SQLTemplates extends Templates {
 
         protected char escape = '\\';
 
+        @Nullable
+        protected InListStrategy inListStrategy;
+
+        protected int inListTempTableThreshold;
+
         public Builder printSchema() {
             printSchema = true;
             return this;
@@ -101,6 +108,23 @@ public class SQLTemplates extends Templates {
             return this;
         }
 
+        public Builder inListStrategy(InListStrategy strategy) {
+            inListStrategy = strategy;
+            return this;
+        }
+
+        /**
+         * Stage in lists with more elements than the given threshold in a temporary table, if the
+         * templates support temporary tables
+         *
+         * @param threshold element count threshold
+         * @return builder
+         */
+        public Builder inListTempTableThreshold(int threshold) {
+            inListTempTableThreshold = threshold;
+            return this;
+        }
+
         protected abstract SQLTemplates build(char escape, boolean quote);
 
         public SQLTemplates build() {
@@ -109,6 +133,12 @@ public class SQLTemplates extends Templates {
                 templates.newLineToSingleSpace();
             }
             templates.setPrintSchema(printSchema);
+            if (inListStrategy != null) {
+                templates.setInListStrategy(inListStrategy);
+            }
+            if (inListTempTableThreshold > 0) {
+                templates.setInListTempTableThreshold(inListTempTableThreshold);
+            }
             return templates;
         }
 
@@ -212,6 +242,11 @@ public class SQLTemplates extends Templates {
 
     private String createUniqueIndex = "create unique index ";
 
+    @Nullable
+    private String createTempTable;
+
+    private String dropTempTable = "drop table ";
+
     private String nullsFirst = " nulls first";
 
     private String nullsLast = " nulls last";
@@ -238,8 +273,17 @@ public class SQLTemplates extends Templates {
 
     private boolean batchToBulkSupported = true;
 
+    private boolean multipleStatementsSupported = false;
+
+    @Nullable
+    private BulkLoader bulkLoader;
+
     private int listMaxSize = 0;
 
+    private InListStrategy inListStrategy = InListStrategy.EXPAND;
+
+    private int inListTempTableThreshold = 0;
+
     private boolean supportsUnquotedReservedWordsAsIdentifier = false;
 
     private int maxLimit = Integer.MAX_VALUE;
@@ -705,6 +749,15 @@ public class SQLTemplates extends Templates {
         return createTable;
     }
 
+    @Nullable
+    public final String getCreateTempTable() {
+        return createTempTable;
+    }
+
+    public final String getDropTempTable() {
+        return dropTempTable;
+    }
+
     public final String getWith() {
         return with;
     }
@@ -777,6 +830,14 @@ public class SQLTemplates extends Templates {
         return listMaxSize;
     }
 
+    public final InListStrategy getInListStrategy() {
+        return inListStrategy;
+    }
+
+    public final int getInListTempTableThreshold() {
+        return inListTempTableThreshold;
+    }
+
     public final boolean isSupportsUnquotedReservedWordsAsIdentifier() {
         return supportsUnquotedReservedWordsAsIdentifier;
     }
@@ -785,6 +846,15 @@ public class SQLTemplates extends Templates {
         return batchToBulkSupported;
     }
 
+    public final boolean isMultipleStatementsSupported() {
+        return multipleStatementsSupported;
+    }
+
+    @Nullable
+    public final BulkLoader getBulkLoader() {
+        return bulkLoader;
+    }
+
     public final QueryFlag getForShareFlag() {
         return forShareFlag;
     }
@@ -1144,6 +1214,14 @@ public class SQLTemplates extends Templates {
         this.createTable = createTable;
     }
 
+    protected void setCreateTempTable(String createTempTable) {
+        this.createTempTable = createTempTable;
+    }
+
+    protected void setDropTempTable(String dropTempTable) {
+        this.dropTempTable = dropTempTable;
+    }
+
     protected void setPrintSchema(boolean printSchema) {
         this.printSchema = printSchema;
     }
@@ -1196,6 +1274,14 @@ public class SQLTemplates extends Templates {
         listMaxSize = i;
     }
 
+    protected void setInListStrategy(InListStrategy strategy) {
+        this.inListStrategy = strategy;
+    }
+
+    protected void setInListTempTableThreshold(int i) {
+        this.inListTempTableThreshold = i;
+    }
+
     protected void setSupportsUnquotedReservedWordsAsIdentifier(boolean b) {
         this.supportsUnquotedReservedWordsAsIdentifier = b;
     }
@@ -1208,6 +1294,14 @@ public class SQLTemplates extends Templates {
         this.batchToBulkSupported = b;
     }
 
+    protected void setMultipleStatementsSupported(boolean b) {
+        this.multipleStatementsSupported = b;
+    }
+
+    protected void setBulkLoader(@Nullable BulkLoader bulkLoader) {
+        this.bulkLoader = bulkLoader;
+    }
+
     protected void setForShareFlag(QueryFlag flag) {
         forShareFlag = flag;
     }
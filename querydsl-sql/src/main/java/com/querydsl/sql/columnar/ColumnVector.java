@@ -0,0 +1,100 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.columnar;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+/**
+ * {@code ColumnVector} is the base class for growable column vectors
+ *
+ * <p>Null values are tracked in a bitmap, which is allocated when the first null value is added.</p>
+ */
+public abstract class ColumnVector {
+
+    private static final long[] NO_NULLS = new long[0];
+
+    protected static final int DEFAULT_CAPACITY = 16;
+
+    protected int size;
+
+    private long[] nulls = NO_NULLS;
+
+    private int nullCount;
+
+    /**
+     * Add a null value
+     */
+    public abstract void addNull();
+
+    /**
+     * Add the given value, which is unboxed or converted to the representation of this column
+     *
+     * @param value value to add
+     */
+    public abstract void addValue(@Nullable Object value);
+
+    /**
+     * Get the value at the given row as an object
+     *
+     * @param row row index
+     * @return value or null
+     */
+    @Nullable
+    public abstract Object getValue(int row);
+
+    public final int size() {
+        return size;
+    }
+
+    public final int getNullCount() {
+        return nullCount;
+    }
+
+    /**
+     * Get whether the given row contains null
+     *
+     * @param row row index
+     * @return true, if null
+     */
+    public final boolean isNull(int row) {
+        checkIndex(row);
+        int word = row >>> 6;
+        return word < nulls.length && (nulls[word] & (1L << row)) != 0;
+    }
+
+    /**
+     * Mark the row at the current size as null
+     */
+    protected final void markNull() {
+        int word = size >>> 6;
+        if (word >= nulls.length) {
+            nulls = Arrays.copyOf(nulls, Math.max(word + 1, nulls.length * 2));
+        }
+        nulls[word] |= 1L << size;
+        nullCount++;
+    }
+
+    protected final void checkIndex(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+        }
+    }
+
+    protected static int newCapacity(int capacity) {
+        return Math.max(DEFAULT_CAPACITY, capacity + (capacity >> 1));
+    }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.columnar;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.Primitives;
+import com.querydsl.core.types.Expression;
+import com.querydsl.sql.types.*;
+
+/**
+ * {@code ColumnarReader} reads result sets into column vectors
+ *
+ * <p>Long, integer, short, byte, double, float and string columns which use the default
+ * {@link Type} implementations are read via the primitive accessors of the result set. Other
+ * columns are read via their {@link Type}. The values of columns with a {@link BatchType} are
+ * converted once all rows have been read.</p>
+ */
+public final class ColumnarReader {
+
+    private static final int LONG = 0, INT = 1, DOUBLE = 2, STRING = 3, OBJECT = 4;
+
+    private final List<Expression<?>> expressions;
+
+    private final Type<?>[] types;
+
+    // column vector kinds
+    private final int[] columnKinds;
+
+    // read via primitive accessor, if true, otherwise via type
+    private final boolean[] direct;
+
+    /**
+     * Create a new ColumnarReader instance
+     *
+     * @param expressions projected expressions, one per result set column
+     * @param types types of the expressions
+     */
+    public ColumnarReader(List<? extends Expression<?>> expressions, List<? extends Type<?>> types) {
+        if (expressions.size() != types.size()) {
+            throw new IllegalArgumentException("Expected " + expressions.size() + " types, but got " + types.size());
+        }
+        this.expressions = ImmutableList.copyOf(expressions);
+        this.types = types.toArray(new Type<?>[types.size()]);
+        this.columnKinds = new int[this.types.length];
+        this.direct = new boolean[this.types.length];
+        for (int i = 0; i < columnKinds.length; i++) {
+            columnKinds[i] = getColumnKind(expressions.get(i).getType());
+            direct[i] = columnKinds[i] != OBJECT && columnKinds[i] == getTypeKind(this.types[i]);
+        }
+    }
+
+    private static int getColumnKind(Class<?> cl) {
+        Class<?> type = Primitives.wrap(cl);
+        if (type.equals(Long.class)) {
+            return LONG;
+        } else if (type.equals(Integer.class) || type.equals(Short.class) || type.equals(Byte.class)) {
+            return INT;
+        } else if (type.equals(Double.class) || type.equals(Float.class)) {
+            return DOUBLE;
+        } else if (type.equals(String.class)) {
+            return STRING;
+        } else {
+            return OBJECT;
+        }
+    }
+
+    private static int getTypeKind(Type<?> type) {
+        Class<?> cl = type.getClass();
+        if (cl == LongType.class) {
+            return LONG;
+        } else if (cl == IntegerType.class || cl == ShortType.class || cl == ByteType.class) {
+            return INT;
+        } else if (cl == DoubleType.class || cl == FloatType.class) {
+            return DOUBLE;
+        } else if (cl == StringType.class) {
+            return STRING;
+        } else {
+            return OBJECT;
+        }
+    }
+
+    private static ColumnVector createVector(int kind) {
+        switch (kind) {
+        case LONG: return new LongVector();
+        case INT: return new IntVector();
+        case DOUBLE: return new DoubleVector();
+        case STRING: return new StringVector();
+        default: return new ObjectVector<Object>(Object.class);
+        }
+    }
+
+    /**
+     * Read the remaining rows of the given result set
+     *
+     * @param rs result set
+     * @return columnar result
+     * @throws SQLException
+     */
+    public ColumnarResult read(ResultSet rs) throws SQLException {
+        ColumnVector[] columns = new ColumnVector[types.length];
+        // raw values of batch converted columns
+        List<Object>[] raw = newRawValues();
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = createVector(columnKinds[i]);
+        }
+        int rows = 0;
+        while (rs.next()) {
+            for (int i = 0; i < columns.length; i++) {
+                int index = i + 1;
+                if (raw[i] != null) {
+                    raw[i].add(((BatchType<?>) types[i]).getRawValue(rs, index));
+                    continue;
+                } else if (!direct[i]) {
+                    columns[i].addValue(types[i].getValue(rs, index));
+                    continue;
+                }
+                switch (columnKinds[i]) {
+                case LONG:
+                    long l = rs.getLong(index);
+                    if (rs.wasNull()) {
+                        columns[i].addNull();
+                    } else {
+                        ((LongVector) columns[i]).add(l);
+                    }
+                    break;
+                case INT:
+                    int n = rs.getInt(index);
+                    if (rs.wasNull()) {
+                        columns[i].addNull();
+                    } else {
+                        ((IntVector) columns[i]).add(n);
+                    }
+                    break;
+                case DOUBLE:
+                    double d = rs.getDouble(index);
+                    if (rs.wasNull()) {
+                        columns[i].addNull();
+                    } else {
+                        ((DoubleVector) columns[i]).add(d);
+                    }
+                    break;
+                case STRING:
+                    ((StringVector) columns[i]).add(rs.getString(index));
+                    break;
+                default:
+                    throw new IllegalStateException();
+                }
+            }
+            rows++;
+        }
+        List<ColumnVector> rv = new ArrayList<ColumnVector>(columns.length);
+        for (int i = 0; i < columns.length; i++) {
+            if (raw[i] != null) {
+                for (Object value : ((BatchType<?>) types[i]).convert(raw[i])) {
+                    columns[i].addValue(value);
+                }
+            }
+            rv.add(columns[i]);
+        }
+        return new ColumnarResult(expressions, rv, rows);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object>[] newRawValues() {
+        List<Object>[] raw = new List[types.length];
+        for (int i = 0; i < raw.length; i++) {
+            if (!direct[i] && types[i] instanceof BatchType) {
+                raw[i] = new ArrayList<Object>();
+            }
+        }
+        return raw;
+    }
+
+}
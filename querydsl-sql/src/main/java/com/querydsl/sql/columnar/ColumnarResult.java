@@ -0,0 +1,89 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.columnar;
+
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import com.querydsl.core.types.Expression;
+
+/**
+ * {@code ColumnarResult} contains query results as one column vector per projected expression
+ */
+public final class ColumnarResult {
+
+    private final List<Expression<?>> expressions;
+
+    private final List<ColumnVector> columns;
+
+    private final int size;
+
+    public ColumnarResult(List<? extends Expression<?>> expressions, List<? extends ColumnVector> columns, int size) {
+        this.expressions = ImmutableList.copyOf(expressions);
+        this.columns = ImmutableList.copyOf(columns);
+        this.size = size;
+    }
+
+    /**
+     * Get the amount of rows
+     *
+     * @return row count
+     */
+    public int size() {
+        return size;
+    }
+
+    public int getColumnCount() {
+        return columns.size();
+    }
+
+    public List<Expression<?>> getExpressions() {
+        return expressions;
+    }
+
+    public ColumnVector getColumn(int index) {
+        return columns.get(index);
+    }
+
+    /**
+     * Get the column of the given expression
+     *
+     * @param expr projected expression
+     * @return column
+     */
+    public ColumnVector getColumn(Expression<?> expr) {
+        int index = expressions.indexOf(expr);
+        if (index < 0) {
+            throw new IllegalArgumentException(expr + " is not part of the projection");
+        }
+        return columns.get(index);
+    }
+
+    /**
+     * Get the column of the given expression
+     *
+     * @param expr projected expression
+     * @param columnType expected column type
+     * @param <C> column type
+     * @return column
+     */
+    public <C extends ColumnVector> C getColumn(Expression<?> expr, Class<C> columnType) {
+        ColumnVector column = getColumn(expr);
+        if (!columnType.isInstance(column)) {
+            throw new IllegalArgumentException(expr + " is stored as " + column.getClass().getSimpleName());
+        }
+        return columnType.cast(column);
+    }
+
+}
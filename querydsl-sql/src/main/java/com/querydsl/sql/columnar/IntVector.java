@@ -0,0 +1,86 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.columnar;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+/**
+ * {@code IntVector} is a growable column vector of {@code int} values
+ */
+public final class IntVector extends ColumnVector {
+
+    private int[] values;
+
+    public IntVector() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntVector(int capacity) {
+        values = new int[capacity];
+    }
+
+    public void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, newCapacity(size));
+        }
+        values[size++] = value;
+    }
+
+    @Override
+    public void addNull() {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, newCapacity(size));
+        }
+        markNull();
+        values[size++] = 0;
+    }
+
+    @Override
+    public void addValue(@Nullable Object value) {
+        if (value == null) {
+            addNull();
+        } else {
+            add(((Number) value).intValue());
+        }
+    }
+
+    /**
+     * Get the value at the given row, null values are returned as zero
+     *
+     * @param row row index
+     * @return value
+     */
+    public int get(int row) {
+        checkIndex(row);
+        return values[row];
+    }
+
+    @Override
+    @Nullable
+    public Integer getValue(int row) {
+        return isNull(row) ? null : values[row];
+    }
+
+    /**
+     * Get a copy of the values, null values are contained as zero
+     *
+     * @return values
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+}
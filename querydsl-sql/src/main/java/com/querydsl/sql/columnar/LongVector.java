@@ -0,0 +1,86 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.columnar;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+/**
+ * {@code LongVector} is a growable column vector of {@code long} values
+ */
+public final class LongVector extends ColumnVector {
+
+    private long[] values;
+
+    public LongVector() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongVector(int capacity) {
+        values = new long[capacity];
+    }
+
+    public void add(long value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, newCapacity(size));
+        }
+        values[size++] = value;
+    }
+
+    @Override
+    public void addNull() {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, newCapacity(size));
+        }
+        markNull();
+        values[size++] = 0;
+    }
+
+    @Override
+    public void addValue(@Nullable Object value) {
+        if (value == null) {
+            addNull();
+        } else {
+            add(((Number) value).longValue());
+        }
+    }
+
+    /**
+     * Get the value at the given row, null values are returned as zero
+     *
+     * @param row row index
+     * @return value
+     */
+    public long get(int row) {
+        checkIndex(row);
+        return values[row];
+    }
+
+    @Override
+    @Nullable
+    public Long getValue(int row) {
+        return isNull(row) ? null : values[row];
+    }
+
+    /**
+     * Get a copy of the values, null values are contained as zero
+     *
+     * @return values
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+}
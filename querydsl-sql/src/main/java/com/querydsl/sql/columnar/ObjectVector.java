@@ -0,0 +1,77 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.columnar;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+/**
+ * {@code ObjectVector} is a column vector for values without a primitive representation
+ *
+ * @param <T> value type
+ */
+public final class ObjectVector<T> extends ColumnVector {
+
+    private final Class<T> type;
+
+    private Object[] values;
+
+    public ObjectVector(Class<T> type) {
+        this(type, DEFAULT_CAPACITY);
+    }
+
+    public ObjectVector(Class<T> type, int capacity) {
+        this.type = type;
+        this.values = new Object[capacity];
+    }
+
+    public void add(@Nullable T value) {
+        if (value == null) {
+            addNull();
+            return;
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, newCapacity(size));
+        }
+        values[size++] = value;
+    }
+
+    @Override
+    public void addNull() {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, newCapacity(size));
+        }
+        markNull();
+        values[size++] = null;
+    }
+
+    @Override
+    public void addValue(@Nullable Object value) {
+        add(type.cast(value));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    @Nullable
+    public T getValue(int row) {
+        checkIndex(row);
+        return (T) values[row];
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+}
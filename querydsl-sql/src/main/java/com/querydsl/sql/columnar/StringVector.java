@@ -0,0 +1,104 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.columnar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * {@code StringVector} is a dictionary encoded column vector of strings
+ *
+ * <p>Each distinct value is retained once, rows refer to it via its code.</p>
+ */
+public final class StringVector extends ColumnVector {
+
+    private int[] codes;
+
+    private final List<String> dictionary = new ArrayList<String>();
+
+    private final Map<String, Integer> index = new HashMap<String, Integer>();
+
+    public StringVector() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public StringVector(int capacity) {
+        codes = new int[capacity];
+    }
+
+    public void add(@Nullable String value) {
+        if (value == null) {
+            addNull();
+            return;
+        }
+        Integer code = index.get(value);
+        if (code == null) {
+            code = dictionary.size();
+            dictionary.add(value);
+            index.put(value, code);
+        }
+        if (size == codes.length) {
+            codes = Arrays.copyOf(codes, newCapacity(size));
+        }
+        codes[size++] = code;
+    }
+
+    @Override
+    public void addNull() {
+        if (size == codes.length) {
+            codes = Arrays.copyOf(codes, newCapacity(size));
+        }
+        markNull();
+        codes[size++] = -1;
+    }
+
+    @Override
+    public void addValue(@Nullable Object value) {
+        add(value != null ? value.toString() : null);
+    }
+
+    /**
+     * Get the dictionary code of the given row
+     *
+     * @param row row index
+     * @return code or -1 for null
+     */
+    public int getCode(int row) {
+        checkIndex(row);
+        return codes[row];
+    }
+
+    @Override
+    @Nullable
+    public String getValue(int row) {
+        int code = getCode(row);
+        return code < 0 ? null : dictionary.get(code);
+    }
+
+    /**
+     * Get the distinct values in the order of their codes
+     *
+     * @return dictionary
+     */
+    public List<String> getDictionary() {
+        return Collections.unmodifiableList(dictionary);
+    }
+
+}
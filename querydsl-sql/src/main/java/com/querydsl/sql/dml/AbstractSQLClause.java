@@ -56,6 +56,8 @@ public abstract class AbstractSQLClause<C extends AbstractSQLClause<C>> implemen
     @Nullable
     private Connection conn;
 
+    private boolean mdcPopulated;
+
     public AbstractSQLClause(Configuration configuration) {
         this.configuration = configuration;
         this.listeners = new SQLListeners(configuration.getListeners());
@@ -92,9 +94,12 @@ public abstract class AbstractSQLClause<C extends AbstractSQLClause<C>> implemen
      * @param connection the database connection
      * @param metadata   the meta data for that context
      * @param entity     the entity for that context
-     * @return the newly started context
+     * @return the newly started context or {@link SQLListenerContextImpl#DISABLED}, if no listeners are registered
      */
     protected SQLListenerContextImpl startContext(Connection connection, QueryMetadata metadata, RelationalPath<?> entity) {
+        if (listeners.isEmpty()) {
+            return SQLListenerContextImpl.DISABLED;
+        }
         SQLListenerContextImpl context = new SQLListenerContextImpl(metadata, connection, entity);
         listeners.start(context);
         return context;
@@ -231,13 +236,17 @@ public abstract class AbstractSQLClause<C extends AbstractSQLClause<C>> implemen
             String normalizedQuery = queryString.replace('\n', ' ');
             MDC.put(QueryBase.MDC_QUERY, normalizedQuery);
             MDC.put(QueryBase.MDC_PARAMETERS, String.valueOf(parameters));
+            mdcPopulated = true;
             logger.debug(normalizedQuery);
         }
     }
 
     protected void cleanupMDC() {
-        MDC.remove(QueryBase.MDC_QUERY);
-        MDC.remove(QueryBase.MDC_PARAMETERS);
+        if (mdcPopulated) {
+            MDC.remove(QueryBase.MDC_QUERY);
+            MDC.remove(QueryBase.MDC_PARAMETERS);
+            mdcPopulated = false;
+        }
     }
 
     protected void reset() {
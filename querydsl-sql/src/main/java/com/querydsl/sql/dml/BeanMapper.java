@@ -49,13 +49,13 @@ public class BeanMapper extends AbstractMapper<Object> {
     @Override
     public Map<Path<?>, Object> createMap(RelationalPath<?> entity, Object bean) {
         Map<Path<?>, Object> values = Maps.newLinkedHashMap();
+        // the introspection results of the bean class are cached by BeanMap
         Map<String, Object> map = new BeanMap(bean);
-        Map<String, Path<?>> columns = getColumns(entity);
         // populate in column order
-        for (Map.Entry<String, Path<?>> entry : columns.entrySet()) {
-            Path<?> path = entry.getValue();
-            if (map.containsKey(entry.getKey())) {
-                Object value = map.get(entry.getKey());
+        for (Path<?> path : entity.getColumns()) {
+            String name = path.getMetadata().getName();
+            if (map.containsKey(name)) {
+                Object value = map.get(name);
                 if (value != null) {
                     values.put(path, value);
                 } else if (withNullBindings && !isPrimaryKeyColumn(entity, path)) {
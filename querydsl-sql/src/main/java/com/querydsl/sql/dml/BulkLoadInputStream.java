@@ -0,0 +1,165 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.dml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.Charset;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.querydsl.core.types.Constant;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.ParamExpression;
+import com.querydsl.core.types.ParamNotSetException;
+import com.querydsl.core.types.Path;
+import com.querydsl.sql.BulkLoader;
+import com.querydsl.sql.Configuration;
+
+/**
+ * {@code BulkLoadInputStream} renders insert batches lazily into the text format of a {@link BulkLoader}
+ *
+ * <p>Values are bound through the {@link com.querydsl.sql.types.Type} conversions of the
+ * configuration into a capturing statement, so that the streamed values match the ones
+ * of a regular insert. Only one row is buffered at a time.</p>
+ */
+class BulkLoadInputStream extends InputStream {
+
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    private final Configuration configuration;
+
+    private final BulkLoader loader;
+
+    private final List<Path<?>> columns;
+
+    private final Iterator<SQLInsertBatch> batches;
+
+    private final Map<ParamExpression<?>, Object> params;
+
+    private final Object[] bound;
+
+    private final PreparedStatement capture;
+
+    private final StringBuilder row = new StringBuilder();
+
+    private byte[] buffer = new byte[0];
+
+    private int position;
+
+    BulkLoadInputStream(Configuration configuration, BulkLoader loader, List<Path<?>> columns,
+            List<SQLInsertBatch> batches, Map<ParamExpression<?>, Object> params) {
+        this.configuration = configuration;
+        this.loader = loader;
+        this.columns = columns;
+        this.batches = batches.iterator();
+        this.params = params;
+        this.bound = new Object[columns.size()];
+        this.capture = (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, new Capture(bound));
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (position == buffer.length && !nextRow()) {
+            return -1;
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (position == buffer.length && !nextRow()) {
+            return -1;
+        }
+        int count = Math.min(len, buffer.length - position);
+        System.arraycopy(buffer, position, b, off, count);
+        position += count;
+        return count;
+    }
+
+    private boolean nextRow() throws IOException {
+        if (!batches.hasNext()) {
+            return false;
+        }
+        List<Expression<?>> values = batches.next().getValues();
+        row.setLength(0);
+        try {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    row.append(BulkLoader.FIELD_SEPARATOR);
+                }
+                bound[i] = null;
+                configuration.set(capture, columns.get(i), i + 1, getValue(values.get(i)));
+                loader.appendValue(row, bound[i]);
+            }
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+        row.append(BulkLoader.ROW_SEPARATOR);
+        buffer = row.toString().getBytes(UTF8);
+        position = 0;
+        return true;
+    }
+
+    private Object getValue(Expression<?> value) {
+        if (value instanceof ParamExpression) {
+            if (!params.containsKey(value)) {
+                throw new ParamNotSetException((ParamExpression<?>) value);
+            }
+            return params.get(value);
+        } else {
+            return ((Constant<?>) value).getConstant();
+        }
+    }
+
+    /**
+     * Records the values bound via the setter methods of {@link PreparedStatement}
+     */
+    private static final class Capture implements InvocationHandler {
+
+        private final Object[] bound;
+
+        Capture(Object[] bound) {
+            this.bound = bound;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length > 1 && args[0] instanceof Integer) {
+                bound[(Integer) args[0] - 1] = name.equals("setNull") ? null : args[1];
+                return null;
+            } else if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            } else if (name.equals("equals")) {
+                return proxy == args[0];
+            } else if (name.equals("toString")) {
+                return "BulkLoadCapture";
+            }
+            throw new SQLException("Unsupported method for bulk load binding: " + name);
+        }
+
+    }
+
+}
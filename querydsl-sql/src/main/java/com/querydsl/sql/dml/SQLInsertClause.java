@@ -68,6 +68,8 @@ public class SQLInsertClause extends AbstractSQLClause<SQLInsertClause> implemen
 
     private transient boolean batchToBulk;
 
+    private transient boolean batchToBulkLoad;
+
     public SQLInsertClause(Connection connection, SQLTemplates templates, RelationalPath<?> entity) {
         this(connection, new Configuration(templates), entity);
     }
@@ -153,6 +155,18 @@ public class SQLInsertClause extends AbstractSQLClause<SQLInsertClause> implemen
         this.batchToBulk = b && configuration.getTemplates().isBatchToBulkSupported();
     }
 
+    /**
+     * Set whether batches should be streamed through the native bulk load protocol of the
+     * database, such as COPY FROM STDIN for PostgreSQL or LOAD DATA LOCAL INFILE for MySQL.
+     * Will revert to batches, if bulk load is not supported or the batches contain
+     * subqueries, non-constant values or columns not supported by the {@link BulkLoader}.
+     * {@link #getSQL()} then returns the bulk load statement without bindings, since the
+     * rows are streamed as data.
+     */
+    public void setBatchToBulkLoad(boolean b) {
+        this.batchToBulkLoad = b && configuration.getTemplates().getBulkLoader() != null;
+    }
+
     @Override
     public void clear() {
         batches.clear();
@@ -320,6 +334,47 @@ public class SQLInsertClause extends AbstractSQLClause<SQLInsertClause> implemen
         return stmts.values();
     }
 
+    private boolean isBulkLoadable() {
+        List<Path<?>> first = batches.get(0).getColumns();
+        BulkLoader loader = configuration.getTemplates().getBulkLoader();
+        for (Path<?> column : first) {
+            if (!loader.isSupported(column)) {
+                return false;
+            }
+        }
+        for (SQLInsertBatch batch : batches) {
+            if (batch.getSubQuery() != null || !batch.getColumns().equals(first)) {
+                return false;
+            }
+            for (Expression<?> value : batch.getValues()) {
+                if (!(value instanceof Constant<?>) && !(value instanceof ParamExpression<?>)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private long executeBulkLoad() throws SQLException {
+        BulkLoader loader = configuration.getTemplates().getBulkLoader();
+        List<Path<?>> batchColumns = batches.get(0).getColumns();
+        listeners.preRender(context);
+        SQLSerializer serializer = createSerializer();
+        serializer.serializeBulkLoad(entity, batchColumns);
+        queryString = serializer.toString();
+        constants = ImmutableList.of();
+        context.addSQL(queryString);
+        listeners.rendered(context);
+        logQuery(logger, queryString, constants);
+        listeners.notifyInserts(entity, metadata, batches);
+
+        listeners.preExecute(context);
+        long rc = loader.load(connection(), queryString, new BulkLoadInputStream(configuration,
+                loader, batchColumns, batches, metadata.getParams()));
+        listeners.executed(context);
+        return rc;
+    }
+
     private PreparedStatement prepareStatementAndSetParameters(SQLSerializer serializer,
             boolean withKeys) throws SQLException {
         listeners.prePrepare(context);
@@ -423,6 +478,8 @@ public class SQLInsertClause extends AbstractSQLClause<SQLInsertClause> implemen
                 int rc = stmt.executeUpdate();
                 listeners.executed(context);
                 return rc;
+            } else if (batchToBulkLoad && isBulkLoadable()) {
+                return executeBulkLoad();
             } else if (batchToBulk) {
                 stmt = createStatement(false);
                 listeners.notifyInserts(entity, metadata, batches);
@@ -461,6 +518,10 @@ public class SQLInsertClause extends AbstractSQLClause<SQLInsertClause> implemen
             SQLSerializer serializer = createSerializer();
             serializer.serializeInsert(metadata, entity, columns, values, subQuery);
             return ImmutableList.of(createBindings(metadata, serializer));
+        } else if (batchToBulkLoad && isBulkLoadable()) {
+            SQLSerializer serializer = createSerializer();
+            serializer.serializeBulkLoad(entity, batches.get(0).getColumns());
+            return ImmutableList.of(new SQLBindings(serializer.toString(), ImmutableList.of()));
         } else if (batchToBulk) {
             SQLSerializer serializer = createSerializer();
             serializer.serializeInsert(metadata, entity, batches);
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.metrics;
+
+/**
+ * {@code HistogramSnapshot} is an immutable copy of a {@link LatencyHistogram}
+ *
+ * <p>All durations are in nanoseconds. Percentiles are reported as the upper bound of the bucket
+ * containing the value, capped by the maximum.</p>
+ */
+public final class HistogramSnapshot {
+
+    private final long[] counts;
+
+    private final long count;
+
+    private final long total;
+
+    private final long min;
+
+    private final long max;
+
+    HistogramSnapshot(long[] counts, long total, long min, long max) {
+        long count = 0;
+        for (long c : counts) {
+            count += c;
+        }
+        this.counts = counts;
+        this.count = count;
+        this.total = total;
+        this.min = count > 0 ? min : 0L;
+        this.max = max;
+    }
+
+    /**
+     * Get the amount of recorded values
+     *
+     * @return count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Get the sum of the recorded values
+     *
+     * @return total
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Get the smallest recorded value
+     *
+     * @return min
+     */
+    public long getMin() {
+        return min;
+    }
+
+    /**
+     * Get the largest recorded value
+     *
+     * @return max
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Get the mean of the recorded values
+     *
+     * @return mean
+     */
+    public double getMean() {
+        return count > 0 ? (double) total / count : 0.0;
+    }
+
+    public long getMedian() {
+        return getValueAtPercentile(50.0);
+    }
+
+    public long getP90() {
+        return getValueAtPercentile(90.0);
+    }
+
+    public long getP99() {
+        return getValueAtPercentile(99.0);
+    }
+
+    public long getP999() {
+        return getValueAtPercentile(99.9);
+    }
+
+    /**
+     * Get the value at the given percentile
+     *
+     * @param percentile percentile between 0 and 100
+     * @return value at percentile
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.highestValue(i), max);
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + count + ", mean=" + (long) getMean() + ", p50=" + getMedian()
+                + ", p99=" + getP99() + ", max=" + max;
+    }
+
+}
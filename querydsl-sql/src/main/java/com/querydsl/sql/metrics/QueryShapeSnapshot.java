@@ -0,0 +1,91 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.metrics;
+
+/**
+ * {@code QueryShapeSnapshot} contains the metrics of a query shape at a point in time
+ *
+ * <p>The fetch phase covers reading the results, which for iterated queries includes the time
+ * spent by the caller until the iterator is closed.</p>
+ */
+public final class QueryShapeSnapshot {
+
+    private final String shape;
+
+    private final long executions, rows, exceptions;
+
+    private final HistogramSnapshot render, prepare, execute, fetch, total;
+
+    QueryShapeSnapshot(String shape, long executions, long rows, long exceptions,
+            HistogramSnapshot render, HistogramSnapshot prepare, HistogramSnapshot execute,
+            HistogramSnapshot fetch, HistogramSnapshot total) {
+        this.shape = shape;
+        this.executions = executions;
+        this.rows = rows;
+        this.exceptions = exceptions;
+        this.render = render;
+        this.prepare = prepare;
+        this.execute = execute;
+        this.fetch = fetch;
+        this.total = total;
+    }
+
+    public String getShape() {
+        return shape;
+    }
+
+    public long getExecutions() {
+        return executions;
+    }
+
+    /**
+     * Get the amount of rows read by the queries of this shape
+     *
+     * @return row count
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    public long getExceptions() {
+        return exceptions;
+    }
+
+    public HistogramSnapshot getRender() {
+        return render;
+    }
+
+    public HistogramSnapshot getPrepare() {
+        return prepare;
+    }
+
+    public HistogramSnapshot getExecute() {
+        return execute;
+    }
+
+    public HistogramSnapshot getFetch() {
+        return fetch;
+    }
+
+    public HistogramSnapshot getTotal() {
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        return shape + " [executions=" + executions + ", rows=" + rows + ", exceptions=" + exceptions
+                + ", total: " + total + "]";
+    }
+
+}
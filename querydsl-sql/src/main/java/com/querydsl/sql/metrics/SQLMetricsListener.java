@@ -0,0 +1,238 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.querydsl.sql.SQLBaseListener;
+import com.querydsl.sql.SQLListenerContext;
+
+/**
+ * {@code SQLMetricsListener} measures the render, prepare, execute and fetch phases of queries
+ * and groups the timings by query shape
+ *
+ * <p>The shape of a query is its SQL normalized via {@link SQLShapes}. At most {@code maxShapes}
+ * shapes are tracked, further shapes are counted under {@link #OTHER}.</p>
+ *
+ * <p>Usage:</p>
+ * <pre>
+ * SQLMetricsListener metrics = new SQLMetricsListener();
+ * configuration.addListener(metrics);
+ * // optionally
+ * ManagementFactory.getPlatformMBeanServer().registerMBean(metrics,
+ *     new ObjectName("com.querydsl:type=SQLMetrics"));
+ * </pre>
+ */
+public class SQLMetricsListener extends SQLBaseListener implements SQLMetricsMXBean {
+
+    /**
+     * Shape of the queries beyond the shape limit
+     */
+    public static final String OTHER = "(other)";
+
+    /**
+     * Shape of the queries failing before their SQL is rendered
+     */
+    public static final String UNKNOWN = "(unknown)";
+
+    private static final String TIMINGS = SQLMetricsListener.class.getName();
+
+    private static final Comparator<QueryShapeSnapshot> BY_TOTAL_TIME = new Comparator<QueryShapeSnapshot>() {
+        @Override
+        public int compare(QueryShapeSnapshot o1, QueryShapeSnapshot o2) {
+            long t1 = o1.getTotal().getTotal(), t2 = o2.getTotal().getTotal();
+            return t1 < t2 ? 1 : (t1 == t2 ? 0 : -1);
+        }
+    };
+
+    private static final class Timings {
+
+        final long start = System.nanoTime();
+
+        long mark, render, prepare, execute, executed;
+
+        boolean rendered, prepared, failed;
+
+    }
+
+    private final ConcurrentMap<String, ShapeMetrics> metrics = new ConcurrentHashMap<String, ShapeMetrics>();
+
+    private final ConcurrentMap<String, String> shapes = new ConcurrentHashMap<String, String>();
+
+    private final int maxShapes;
+
+    public SQLMetricsListener() {
+        this(500);
+    }
+
+    /**
+     * Create a new SQLMetricsListener instance
+     *
+     * @param maxShapes maximum amount of query shapes to track
+     */
+    public SQLMetricsListener(int maxShapes) {
+        this.maxShapes = maxShapes;
+    }
+
+    @Override
+    public void start(SQLListenerContext context) {
+        context.setData(TIMINGS, new Timings());
+    }
+
+    @Override
+    public void preRender(SQLListenerContext context) {
+        mark(context);
+    }
+
+    @Override
+    public void rendered(SQLListenerContext context) {
+        Timings timings = (Timings) context.getData(TIMINGS);
+        if (timings != null) {
+            timings.render += System.nanoTime() - timings.mark;
+            timings.rendered = true;
+        }
+    }
+
+    @Override
+    public void prePrepare(SQLListenerContext context) {
+        mark(context);
+    }
+
+    @Override
+    public void prepared(SQLListenerContext context) {
+        Timings timings = (Timings) context.getData(TIMINGS);
+        if (timings != null) {
+            timings.prepare += System.nanoTime() - timings.mark;
+            timings.prepared = true;
+        }
+    }
+
+    @Override
+    public void preExecute(SQLListenerContext context) {
+        mark(context);
+    }
+
+    @Override
+    public void executed(SQLListenerContext context) {
+        Timings timings = (Timings) context.getData(TIMINGS);
+        if (timings != null) {
+            timings.executed = System.nanoTime();
+            timings.execute += timings.executed - timings.mark;
+        }
+    }
+
+    @Override
+    public void exception(SQLListenerContext context) {
+        Timings timings = (Timings) context.getData(TIMINGS);
+        if (timings != null) {
+            timings.failed = true;
+        }
+    }
+
+    @Override
+    public void end(SQLListenerContext context) {
+        Timings timings = (Timings) context.getData(TIMINGS);
+        if (timings == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        ShapeMetrics shapeMetrics = getMetrics(context.getSQL());
+        if (timings.rendered) {
+            shapeMetrics.render.record(timings.render);
+        }
+        if (timings.prepared) {
+            shapeMetrics.prepare.record(timings.prepare);
+        }
+        if (timings.executed != 0) {
+            shapeMetrics.execute.record(timings.execute);
+            shapeMetrics.fetch.record(now - timings.executed);
+        }
+        shapeMetrics.total.record(now - timings.start);
+        Object rows = context.getData(SQLListenerContext.ROW_COUNT);
+        if (rows instanceof Number) {
+            shapeMetrics.rows.addAndGet(((Number) rows).longValue());
+        }
+        if (timings.failed) {
+            shapeMetrics.exceptions.incrementAndGet();
+        }
+    }
+
+    private void mark(SQLListenerContext context) {
+        Timings timings = (Timings) context.getData(TIMINGS);
+        if (timings != null) {
+            timings.mark = System.nanoTime();
+        }
+    }
+
+    private ShapeMetrics getMetrics(String sql) {
+        String shape = sql != null ? shapes.get(sql) : UNKNOWN;
+        if (shape == null) {
+            shape = SQLShapes.normalize(sql);
+            // statements with inlined literals are only normalized, but not remembered
+            if (shapes.size() < maxShapes * 4) {
+                shapes.put(sql, shape);
+            }
+        }
+        ShapeMetrics rv = metrics.get(shape);
+        if (rv == null) {
+            if (metrics.size() >= maxShapes) {
+                shape = OTHER;
+            }
+            rv = new ShapeMetrics(shape);
+            ShapeMetrics existing = metrics.putIfAbsent(shape, rv);
+            if (existing != null) {
+                rv = existing;
+            }
+        }
+        return rv;
+    }
+
+    /**
+     * Get the metrics of the given query shape
+     *
+     * @param shape normalized sql
+     * @return snapshot or null, if the shape is not tracked
+     */
+    public QueryShapeSnapshot getSnapshot(String shape) {
+        ShapeMetrics shapeMetrics = metrics.get(shape);
+        return shapeMetrics != null ? shapeMetrics.snapshot() : null;
+    }
+
+    @Override
+    public List<QueryShapeSnapshot> getSnapshot() {
+        List<QueryShapeSnapshot> rv = new ArrayList<QueryShapeSnapshot>(metrics.size());
+        for (ShapeMetrics shapeMetrics : metrics.values()) {
+            rv.add(shapeMetrics.snapshot());
+        }
+        Collections.sort(rv, BY_TOTAL_TIME);
+        return rv;
+    }
+
+    @Override
+    public int getShapeCount() {
+        return metrics.size();
+    }
+
+    @Override
+    public void reset() {
+        metrics.clear();
+        shapes.clear();
+    }
+
+}
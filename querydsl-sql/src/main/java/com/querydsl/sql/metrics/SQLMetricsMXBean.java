@@ -0,0 +1,42 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.metrics;
+
+import java.util.List;
+
+/**
+ * {@code SQLMetricsMXBean} is the JMX management interface of {@link SQLMetricsListener}
+ */
+public interface SQLMetricsMXBean {
+
+    /**
+     * Get the amount of tracked query shapes
+     *
+     * @return shape count
+     */
+    int getShapeCount();
+
+    /**
+     * Get the metrics of all tracked query shapes, ordered by descending total time
+     *
+     * @return snapshots
+     */
+    List<QueryShapeSnapshot> getSnapshot();
+
+    /**
+     * Discard all collected metrics
+     */
+    void reset();
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.metrics;
+
+import java.util.regex.Pattern;
+
+/**
+ * {@code SQLShapes} provides the normalization of SQL statements to query shapes
+ *
+ * <p>In the shape of a statement string and numeric literals are replaced with {@code ?}, IN lists
+ * of any length are collapsed to {@code in (?)}, comments are dropped and whitespace is collapsed.
+ * Quoted identifiers are kept as they are.</p>
+ */
+public final class SQLShapes {
+
+    private static final Pattern IN_LIST = Pattern.compile(
+            "(\\b[iI][nN] ?)\\( ?\\?(?: ?, ?\\?)* ?\\)");
+
+    /**
+     * Get the shape of the given SQL statement
+     *
+     * @param sql sql statement
+     * @return normalized statement
+     */
+    public static String normalize(String sql) {
+        int length = sql.length();
+        StringBuilder builder = new StringBuilder(length);
+        boolean whitespace = false;
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                whitespace = true;
+                i++;
+                continue;
+            } else if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+                int end = sql.indexOf('\n', i);
+                i = end < 0 ? length : end;
+                whitespace = true;
+                continue;
+            }
+            if (whitespace && builder.length() > 0) {
+                builder.append(' ');
+            }
+            whitespace = false;
+            if (c == '\'') {
+                i = skipString(sql, i + 1);
+                builder.append('?');
+            } else if (c == '"' || c == '`' || c == '[') {
+                int end = sql.indexOf(c == '[' ? ']' : c, i + 1);
+                end = end < 0 ? length : end + 1;
+                builder.append(sql, i, end);
+                i = end;
+            } else if (Character.isDigit(c) && !isIdentifierEnd(builder)) {
+                while (i < length && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                builder.append('?');
+            } else {
+                builder.append(c);
+                i++;
+            }
+        }
+        return IN_LIST.matcher(builder).replaceAll("$1(?)");
+    }
+
+    private static int skipString(String sql, int start) {
+        int i = start;
+        while (i < sql.length()) {
+            if (sql.charAt(i) == '\'') {
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == '\'') {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isIdentifierEnd(StringBuilder builder) {
+        if (builder.length() == 0) {
+            return false;
+        }
+        char last = builder.charAt(builder.length() - 1);
+        return Character.isLetterOrDigit(last) || last == '_' || last == '$';
+    }
+
+    private SQLShapes() { }
+
+}
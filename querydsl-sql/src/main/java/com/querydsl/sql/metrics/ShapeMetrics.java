@@ -0,0 +1,49 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code ShapeMetrics} collects the metrics of a single query shape
+ */
+final class ShapeMetrics {
+
+    final String shape;
+
+    final LatencyHistogram render = new LatencyHistogram();
+
+    final LatencyHistogram prepare = new LatencyHistogram();
+
+    final LatencyHistogram execute = new LatencyHistogram();
+
+    final LatencyHistogram fetch = new LatencyHistogram();
+
+    final LatencyHistogram total = new LatencyHistogram();
+
+    final AtomicLong rows = new AtomicLong();
+
+    final AtomicLong exceptions = new AtomicLong();
+
+    ShapeMetrics(String shape) {
+        this.shape = shape;
+    }
+
+    QueryShapeSnapshot snapshot() {
+        HistogramSnapshot totalSnapshot = total.snapshot();
+        return new QueryShapeSnapshot(shape, totalSnapshot.getCount(), rows.get(), exceptions.get(),
+                render.snapshot(), prepare.snapshot(), execute.snapshot(), fetch.snapshot(), totalSnapshot);
+    }
+
+}
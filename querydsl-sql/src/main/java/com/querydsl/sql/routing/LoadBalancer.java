@@ -0,0 +1,32 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.routing;
+
+/**
+ * {@code LoadBalancer} selects the replica to be used for a read
+ *
+ * @see LoadBalancers
+ */
+public interface LoadBalancer {
+
+    /**
+     * Select a replica
+     *
+     * @param outstanding amount of reads in progress per replica
+     * @param sequence sequence number of the read
+     * @return index of the replica
+     */
+    int select(int[] outstanding, long sequence);
+
+}
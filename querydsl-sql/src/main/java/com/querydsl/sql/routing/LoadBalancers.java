@@ -0,0 +1,49 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.routing;
+
+/**
+ * {@code LoadBalancers} provides the default {@link LoadBalancer} implementations
+ */
+public enum LoadBalancers implements LoadBalancer {
+
+    /**
+     * Use the replicas in turn
+     */
+    ROUND_ROBIN {
+        @Override
+        public int select(int[] outstanding, long sequence) {
+            return (int) (sequence % outstanding.length);
+        }
+    },
+
+    /**
+     * Use the replica with the least reads in progress, ties are resolved in turn
+     */
+    LEAST_OUTSTANDING {
+        @Override
+        public int select(int[] outstanding, long sequence) {
+            int offset = (int) (sequence % outstanding.length);
+            int rv = offset;
+            for (int i = 1; i < outstanding.length; i++) {
+                int index = (offset + i) % outstanding.length;
+                if (outstanding[index] < outstanding[rv]) {
+                    rv = index;
+                }
+            }
+            return rv;
+        }
+    }
+
+}
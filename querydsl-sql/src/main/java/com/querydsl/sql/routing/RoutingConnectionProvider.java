@@ -0,0 +1,371 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.routing;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+import javax.inject.Provider;
+
+import com.google.common.collect.ImmutableList;
+import com.querydsl.core.QueryException;
+
+/**
+ * {@code RoutingConnectionProvider} routes reads to replicas and everything else to the primary
+ *
+ * <p>Queries without {@code forUpdate()} or {@code forShare()} obtain their connection via
+ * {@link #read()}, which selects one of the replicas via the {@link LoadBalancer}.
+ * DML clauses, locking queries and all other callers of {@link #get()} use the primary.</p>
+ *
+ * <p>While a thread holds a primary connection with an open transaction, its reads use that
+ * connection, so that they see the uncommitted changes of the transaction. With a read-your-writes
+ * window, a thread keeps reading from the primary until the window has passed after it has
+ * committed a transaction or executed a write in auto-commit mode on a primary connection, so that
+ * its committed changes are visible despite replication lag. For this the primary connections are
+ * returned as proxies, which observe commits, writes and closing; a closed connection is forgotten
+ * right away.</p>
+ *
+ * <p>Usage:</p>
+ * <pre>
+ * SQLQueryFactory queryFactory = new SQLQueryFactory(configuration,
+ *     new RoutingConnectionProvider(primary, Arrays.asList(replica1, replica2),
+ *         LoadBalancers.LEAST_OUTSTANDING, 2, TimeUnit.SECONDS));
+ * </pre>
+ */
+public class RoutingConnectionProvider implements Provider<Connection> {
+
+    /**
+     * {@code Read} is a connection obtained via {@link RoutingConnectionProvider#read()}
+     */
+    public final class Read {
+
+        private final Connection connection;
+
+        @Nullable
+        private Acquisition acquisition;
+
+        private Read(Connection connection) {
+            this.connection = connection;
+        }
+
+        /**
+         * Get the connection of this read
+         *
+         * @return connection
+         */
+        public Connection getConnection() {
+            return connection;
+        }
+
+        /**
+         * Mark this read as completed, repeated calls are ignored
+         */
+        public void release() {
+            if (acquisition != null) {
+                RoutingConnectionProvider.this.release(acquisition);
+            }
+        }
+
+    }
+
+    // is enqueued, when the read is garbage collected without having been released
+    private static final class Acquisition extends WeakReference<Read> {
+
+        final int replica;
+
+        Acquisition(Read read, int replica, ReferenceQueue<Read> queue) {
+            super(read, queue);
+            this.replica = replica;
+        }
+
+    }
+
+    private final Provider<Connection> primary;
+
+    private final List<Provider<Connection>> replicas;
+
+    private final LoadBalancer loadBalancer;
+
+    private final long window;
+
+    /**
+     * Observes a primary connection of a thread
+     */
+    final class PrimaryConnection implements InvocationHandler {
+
+        final Connection connection;
+
+        final Connection proxy;
+
+        // primary connections of the owning thread, guarded by itself
+        private final List<PrimaryConnection> owner;
+
+        PrimaryConnection(Connection connection, List<PrimaryConnection> owner) {
+            this.connection = connection;
+            this.owner = owner;
+            this.proxy = (Connection) Proxy.newProxyInstance(RoutingConnectionProvider.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            } else if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            } else if (name.equals("close")) {
+                synchronized (owner) {
+                    owner.remove(this);
+                }
+            }
+            Object rv = invokeTarget(connection, method, args);
+            if (name.equals("commit") || (name.equals("setAutoCommit") && (Boolean) args[0])) {
+                pin();
+            } else if (rv instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                rv = Proxy.newProxyInstance(RoutingConnectionProvider.class.getClassLoader(),
+                        new Class<?>[]{method.getReturnType()}, new PrimaryStatement(this, (Statement) rv));
+            }
+            return rv;
+        }
+
+    }
+
+    /**
+     * Observes the writes of a statement of a primary connection
+     */
+    private final class PrimaryStatement implements InvocationHandler {
+
+        private final PrimaryConnection connection;
+
+        private final Statement statement;
+
+        PrimaryStatement(PrimaryConnection connection, Statement statement) {
+            this.connection = connection;
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            } else if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            } else if (name.equals("getConnection")) {
+                return connection.proxy;
+            }
+            Object rv = invokeTarget(statement, method, args);
+            boolean write = name.startsWith("executeUpdate") || name.startsWith("executeLarge")
+                    || name.equals("executeBatch") || (name.equals("execute") && Boolean.FALSE.equals(rv));
+            if (write && connection.connection.getAutoCommit()) {
+                pin();
+            }
+            return rv;
+        }
+
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    // primary connections of the current thread, which might still be in a transaction
+    private final ThreadLocal<List<PrimaryConnection>> primaryConnections = new ThreadLocal<List<PrimaryConnection>>() {
+        @Override
+        protected List<PrimaryConnection> initialValue() {
+            return new ArrayList<PrimaryConnection>();
+        }
+    };
+
+    private final ThreadLocal<Long> lastPrimaryWrite = new ThreadLocal<Long>();
+
+    private final ReferenceQueue<Read> abandoned = new ReferenceQueue<Read>();
+
+    // guarded by this
+    private final int[] outstanding;
+
+    // guarded by this
+    private final Set<Acquisition> acquisitions = new HashSet<Acquisition>();
+
+    // guarded by this
+    private long sequence;
+
+    public RoutingConnectionProvider(Provider<Connection> primary, List<? extends Provider<Connection>> replicas) {
+        this(primary, replicas, LoadBalancers.ROUND_ROBIN, 0, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Create a new RoutingConnectionProvider instance
+     *
+     * @param primary provider of primary connections
+     * @param replicas providers of replica connections
+     * @param loadBalancer load balancer for the replicas
+     * @param readYourWritesWindow duration after the writes of a thread have been committed, during
+     *                             which the same thread reads from the primary
+     * @param unit time unit of readYourWritesWindow
+     */
+    public RoutingConnectionProvider(Provider<Connection> primary, List<? extends Provider<Connection>> replicas,
+            LoadBalancer loadBalancer, long readYourWritesWindow, TimeUnit unit) {
+        this.primary = primary;
+        this.replicas = ImmutableList.copyOf(replicas);
+        this.loadBalancer = loadBalancer;
+        this.window = unit.toNanos(readYourWritesWindow);
+        this.outstanding = new int[replicas.size()];
+    }
+
+    /**
+     * Get a primary connection
+     *
+     * @return proxy of the connection, which observes its commits, writes and closing
+     */
+    @Override
+    public Connection get() {
+        List<PrimaryConnection> connections = primaryConnections.get();
+        checkPrimaryConnections(connections);
+        Connection conn = primary.get();
+        synchronized (connections) {
+            for (PrimaryConnection connection : connections) {
+                if (connection.connection == conn) {
+                    return connection.proxy;
+                }
+            }
+            PrimaryConnection connection = new PrimaryConnection(conn, connections);
+            connections.add(connection);
+            return connection.proxy;
+        }
+    }
+
+    /**
+     * Get a connection for a read which doesn't lock rows
+     *
+     * <p>The read needs to be released via {@link Read#release()}, when it has been completed.</p>
+     *
+     * @return read via the primary connection of the open transaction of the current thread,
+     *         via a primary connection, if the current thread is within its read-your-writes window
+     *         or no replicas are available, or else via a replica connection
+     */
+    public Read read() {
+        Connection transaction = checkPrimaryConnections(primaryConnections.get());
+        if (transaction != null) {
+            return new Read(transaction);
+        } else if (replicas.isEmpty() || isPinned()) {
+            return new Read(primary.get());
+        }
+        int replica;
+        synchronized (this) {
+            releaseAbandoned();
+            replica = loadBalancer.select(outstanding.clone(), sequence++);
+            outstanding[replica]++;
+        }
+        Read read = null;
+        try {
+            read = new Read(replicas.get(replica).get());
+            read.acquisition = new Acquisition(read, replica, abandoned);
+            synchronized (this) {
+                acquisitions.add(read.acquisition);
+            }
+            return read;
+        } finally {
+            if (read == null) {
+                synchronized (this) {
+                    outstanding[replica]--;
+                }
+            }
+        }
+    }
+
+    private synchronized void release(Acquisition acquisition) {
+        if (acquisitions.remove(acquisition)) {
+            outstanding[acquisition.replica]--;
+        }
+    }
+
+    // releases the reads, which have been garbage collected without having been released
+    private void releaseAbandoned() {
+        Reference<? extends Read> reference;
+        while ((reference = abandoned.poll()) != null) {
+            release((Acquisition) reference);
+        }
+    }
+
+    /**
+     * Get the amount of reads in progress for the given replica
+     *
+     * @param replica index of the replica
+     * @return outstanding reads
+     */
+    public synchronized int getOutstanding(int replica) {
+        releaseAbandoned();
+        return outstanding[replica];
+    }
+
+    /**
+     * Forget the primary connections of the current thread, which are no longer in a transaction
+     *
+     * @return connection of an open transaction or null, if there is none
+     */
+    @Nullable
+    private Connection checkPrimaryConnections(List<PrimaryConnection> connections) {
+        Connection transaction = null;
+        try {
+            synchronized (connections) {
+                Iterator<PrimaryConnection> iterator = connections.iterator();
+                while (iterator.hasNext()) {
+                    Connection conn = iterator.next().connection;
+                    if (conn.isClosed() || conn.getAutoCommit()) {
+                        iterator.remove();
+                    } else if (transaction == null) {
+                        transaction = conn;
+                    }
+                }
+            }
+            return transaction;
+        } catch (SQLException e) {
+            throw new QueryException(e);
+        }
+    }
+
+    // starts the read-your-writes window of the current thread
+    private void pin() {
+        if (window > 0) {
+            lastPrimaryWrite.set(System.nanoTime());
+        }
+    }
+
+    private boolean isPinned() {
+        Long last = lastPrimaryWrite.get();
+        return last != null && System.nanoTime() - last < window;
+    }
+
+}
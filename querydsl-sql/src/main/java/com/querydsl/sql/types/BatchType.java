@@ -0,0 +1,53 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.types;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * {@code BatchType} is implemented by types which convert the values of a whole column at once
+ *
+ * <p>When results are read column by column, e.g. via
+ * {@link com.querydsl.sql.AbstractSQLQuery#fetchColumns()}, the raw values of the column are
+ * collected via {@link #getRawValue(ResultSet, int)} and converted in one go via
+ * {@link #convert(List)} instead of calling {@link #getValue(ResultSet, int)} for each row.</p>
+ *
+ * @param <T> value type
+ */
+public interface BatchType<T> extends Type<T> {
+
+    /**
+     * Get the unconverted value from the result set
+     *
+     * @param rs result set
+     * @param startIndex column index in result set
+     * @return raw value or null
+     * @throws SQLException
+     */
+    @Nullable
+    Object getRawValue(ResultSet rs, int startIndex) throws SQLException;
+
+    /**
+     * Convert the given raw values
+     *
+     * @param values raw values, may contain nulls
+     * @return values in the order of the raw values, nulls for null values
+     */
+    List<T> convert(List<?> values);
+
+}
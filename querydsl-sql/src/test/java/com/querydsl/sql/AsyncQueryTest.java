@@ -0,0 +1,123 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql;
+
+import static com.querydsl.sql.Constants.employee;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Provider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.querydsl.core.AsyncFetchable;
+import com.querydsl.core.QueryResults;
+import com.querydsl.core.testutil.H2;
+
+@Category(H2.class)
+public class AsyncQueryTest {
+
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private final List<Connection> opened = new CopyOnWriteArrayList<Connection>();
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    private SQLQueryFactory queryFactory;
+
+    @Before
+    public void setUp() throws SQLException, ClassNotFoundException {
+        Connections.initH2();
+        Configuration configuration = new Configuration(H2Templates.DEFAULT);
+        queryFactory = new SQLQueryFactory(configuration, new Provider<Connection>() {
+            @Override
+            public Connection get() {
+                connections.incrementAndGet();
+                try {
+                    Connection conn = DriverManager.getConnection("jdbc:h2:./target/h2-test;LOCK_MODE=0", "sa", "");
+                    opened.add(conn);
+                    return conn;
+                } catch (SQLException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        });
+        queryFactory.setExecutor(executor);
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        executor.shutdownNow();
+        Connections.close();
+    }
+
+    @Test
+    public void fetchAsync() throws Exception {
+        SQLQuery<Integer> query = queryFactory.select(employee.id).from(employee).orderBy(employee.id.asc());
+        List<Integer> expected = query.clone(Connections.getConnection()).fetch();
+        assertEquals(expected, queryFactory.async(query).fetchAsync().get());
+        assertEquals(1, connections.get());
+        assertTrue(opened.get(0).isClosed());
+    }
+
+    @Test
+    public void fetchCountAsync() throws Exception {
+        SQLQuery<Integer> query = queryFactory.select(employee.id).from(employee);
+        long expected = query.clone(Connections.getConnection()).fetchCount();
+        assertEquals(Long.valueOf(expected), queryFactory.async(query).fetchCountAsync().get());
+    }
+
+    @Test
+    public void fetchResultsAsync() throws Exception {
+        SQLQuery<Integer> query = queryFactory.select(employee.id).from(employee)
+                .orderBy(employee.id.asc()).limit(3).offset(2);
+        QueryResults<Integer> expected = query.clone(Connections.getConnection()).fetchResults();
+        QueryResults<Integer> results = queryFactory.async(query).fetchResultsAsync().get();
+        assertEquals(expected.getResults(), results.getResults());
+        assertEquals(expected.getTotal(), results.getTotal());
+        assertEquals(3, results.getLimit());
+        assertEquals(2, results.getOffset());
+        // count and page on their own connections
+        assertEquals(2, connections.get());
+        for (Connection conn : opened) {
+            assertTrue(conn.isClosed());
+        }
+    }
+
+    @Test
+    public void independent_queries() throws Exception {
+        AsyncFetchable<Integer> ids = queryFactory.async(queryFactory.select(employee.id).from(employee));
+        AsyncFetchable<String> names = queryFactory.async(queryFactory.select(employee.firstname).from(employee));
+        assertEquals(ids.fetchAsync().get().size(), names.fetchAsync().get().size());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void executor_required() {
+        SQLQueryFactory factory = new SQLQueryFactory(H2Templates.DEFAULT, null);
+        factory.async(factory.select(employee.id).from(employee));
+    }
+
+}
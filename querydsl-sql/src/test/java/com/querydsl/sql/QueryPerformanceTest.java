@@ -128,6 +128,23 @@ public class QueryPerformanceTest {
         });
     }
 
+    @Test
+    public void querydsl16() throws Exception {
+        final Configuration listenerConf = new Configuration(templates);
+        listenerConf.addListener(new SQLBaseListener());
+        Runner.run("qdsl by id (with listener)", new Benchmark() {
+            @Override
+            public void run(int times) throws Exception {
+                for (int i = 0; i < times; i++) {
+                    QCompanies companies = QCompanies.companies;
+                    SQLQuery<?> query = new SQLQuery<Void>(conn, listenerConf);
+                    query.from(companies).where(companies.id.eq((long) i))
+                        .select(companies.name).fetch();
+                }
+            }
+        });
+    }
+
     @Test
     public void querydsl12() throws Exception {
         Runner.run("qdsl by id (iterated)", new Benchmark() {
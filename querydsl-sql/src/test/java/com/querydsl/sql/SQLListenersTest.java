@@ -1,7 +1,7 @@
 package com.querydsl.sql;
 
 import static org.easymock.EasyMock.*;
-import static org.junit.Assert.assertThat;
+import static org.junit.Assert.*;
 
 import java.util.List;
 import java.util.Map;
@@ -48,6 +48,18 @@ public class SQLListenersTest {
     }
 
 
+    @Test
+    public void isEmpty() {
+        SQLListeners parent = new SQLListeners();
+        SQLListeners listeners = new SQLListeners(parent);
+        assertTrue(parent.isEmpty());
+        assertTrue(listeners.isEmpty());
+
+        parent.add(new SQLBaseListener());
+        assertFalse(listeners.isEmpty());
+        assertFalse(new SQLListeners(createMock(SQLListener.class)).isEmpty());
+    }
+
     @Test
     public void notifyQuery_detailedListener_start() {
         SQLListenerContext sqlListenerContext = createMock(SQLListenerContext.class);
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql;
+
+import static org.easymock.EasyMock.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.querydsl.core.QueryException;
+import com.querydsl.sql.domain.QEmployee;
+import com.querydsl.sql.domain.QSurvey;
+
+public class SQLQueryBatchTest {
+
+    private final Configuration configuration = new Configuration(new PostgreSQLTemplates());
+
+    private final Connection connection = createMock(Connection.class);
+
+    private final DatabaseMetaData metaData = createMock(DatabaseMetaData.class);
+
+    private final PreparedStatement stmt = createMock(PreparedStatement.class);
+
+    @Test
+    public void fetch_combined() throws Exception {
+        QSurvey survey = QSurvey.survey;
+        QEmployee employee = QEmployee.employee;
+        ResultSet rs1 = createMock(ResultSet.class);
+        ResultSet rs2 = createMock(ResultSet.class);
+
+        expect(connection.getMetaData()).andReturn(metaData);
+        expect(metaData.supportsMultipleResultSets()).andReturn(true);
+        expect(connection.prepareStatement("select SURVEY.NAME\nfrom SURVEY SURVEY\nwhere SURVEY.ID = ?;\n"
+                + "select EMPLOYEE.ID\nfrom EMPLOYEE EMPLOYEE\nwhere EMPLOYEE.FIRSTNAME = ?")).andReturn(stmt);
+        stmt.setInt(1, 1);
+        stmt.setString(2, "Bob");
+        expect(stmt.execute()).andReturn(true);
+        expect(stmt.getResultSet()).andReturn(rs1).andReturn(rs2);
+        expect(stmt.getMoreResults()).andReturn(true).andReturn(false);
+        stmt.close();
+        expect(rs1.next()).andReturn(true).andReturn(false);
+        expect(rs1.getString(1)).andReturn("a");
+        rs1.close();
+        expect(rs2.next()).andReturn(true).andReturn(true).andReturn(false);
+        expect(rs2.getInt(1)).andReturn(1).andReturn(2);
+        expect(rs2.wasNull()).andReturn(false).times(2);
+        rs2.close();
+        replay(connection, metaData, stmt, rs1, rs2);
+
+        List<List<?>> results = new SQLQueryBatch(connection, configuration)
+                .add(new SQLQuery<Void>(configuration).select(survey.name).from(survey).where(survey.id.eq(1)))
+                .add(new SQLQuery<Void>(configuration).select(employee.id).from(employee).where(employee.firstname.eq("Bob")))
+                .fetch();
+        assertEquals(Arrays.asList(Arrays.asList("a"), Arrays.asList(1, 2)), results);
+        verify(connection, metaData, stmt, rs1, rs2);
+    }
+
+    @Test
+    public void fetch_sequential() throws Exception {
+        QSurvey survey = QSurvey.survey;
+        ResultSet rs = createMock(ResultSet.class);
+
+        expect(connection.getMetaData()).andReturn(metaData);
+        expect(metaData.supportsMultipleResultSets()).andReturn(false);
+        expect(connection.prepareStatement("select SURVEY.NAME\nfrom SURVEY SURVEY")).andReturn(stmt).times(2);
+        expect(stmt.executeQuery()).andReturn(rs).times(2);
+        stmt.close();
+        expectLastCall().times(2);
+        expect(rs.next()).andReturn(true).andReturn(false).andReturn(false);
+        expect(rs.getString(1)).andReturn("a");
+        rs.close();
+        expectLastCall().times(2);
+        replay(connection, metaData, stmt, rs);
+
+        List<List<?>> results = new SQLQueryBatch(connection, configuration)
+                .add(new SQLQuery<Void>(configuration).select(survey.name).from(survey))
+                .add(new SQLQuery<Void>(configuration).select(survey.name).from(survey))
+                .fetch();
+        assertEquals(Arrays.asList(Arrays.asList("a"), Arrays.asList()), results);
+        verify(connection, metaData, stmt, rs);
+    }
+
+    @Test
+    public void fetch_combined_runtime_exception() throws Exception {
+        QSurvey survey = QSurvey.survey;
+        final List<Exception> exceptions = new ArrayList<Exception>();
+        Configuration configuration = new Configuration(new PostgreSQLTemplates());
+        configuration.addListener(new SQLBaseListener() {
+            @Override
+            public void exception(SQLListenerContext context) {
+                exceptions.add(context.getException());
+            }
+        });
+
+        expect(connection.getMetaData()).andReturn(metaData);
+        expect(metaData.supportsMultipleResultSets()).andReturn(true);
+        expect(connection.prepareStatement("select SURVEY.NAME\nfrom SURVEY SURVEY;\n"
+                + "select SURVEY.NAME\nfrom SURVEY SURVEY")).andReturn(stmt);
+        // no result sets at all
+        expect(stmt.execute()).andReturn(false);
+        expect(stmt.getUpdateCount()).andReturn(-1);
+        stmt.close();
+        replay(connection, metaData, stmt);
+
+        try {
+            new SQLQueryBatch(connection, configuration)
+                    .add(new SQLQuery<Void>(configuration).select(survey.name).from(survey))
+                    .add(new SQLQuery<Void>(configuration).select(survey.name).from(survey))
+                    .fetch();
+            fail("Expected QueryException");
+        } catch (QueryException e) {
+            assertEquals(1, exceptions.size());
+            assertTrue(exceptions.get(0) == e);
+        }
+        verify(connection, metaData, stmt);
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql;
+
+import static org.easymock.EasyMock.*;
+import static org.junit.Assert.assertEquals;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.sql.domain.QSurvey;
+
+public class SQLQueryFetchByKeysTest {
+
+    private static final QSurvey survey = QSurvey.survey;
+
+    private final Configuration configuration = new Configuration(new H2Templates());
+
+    private final Connection connection = createMock(Connection.class);
+
+    private final PreparedStatement stmt1 = createMock(PreparedStatement.class);
+
+    private final PreparedStatement stmt2 = createMock(PreparedStatement.class);
+
+    private final ResultSet rs1 = createMock(ResultSet.class);
+
+    private final ResultSet rs2 = createMock(ResultSet.class);
+
+    private void expectChunks() throws Exception {
+        expect(connection.prepareStatement("select SURVEY.ID, SURVEY.NAME\nfrom SURVEY SURVEY\n"
+                + "where SURVEY.ID in (?, ?)")).andReturn(stmt1);
+        stmt1.setInt(1, 3);
+        stmt1.setInt(2, 1);
+        expect(stmt1.executeQuery()).andReturn(rs1);
+        stmt1.close();
+        // rows in a different order than the keys
+        expect(rs1.next()).andReturn(true).andReturn(true).andReturn(false);
+        expect(rs1.getInt(1)).andReturn(1).andReturn(3);
+        expect(rs1.getString(2)).andReturn("a").andReturn("c");
+        expect(rs1.wasNull()).andReturn(false).anyTimes();
+        rs1.close();
+
+        expect(connection.prepareStatement("select SURVEY.ID, SURVEY.NAME\nfrom SURVEY SURVEY\n"
+                + "where SURVEY.ID = ?")).andReturn(stmt2);
+        stmt2.setInt(1, 2);
+        expect(stmt2.executeQuery()).andReturn(rs2);
+        stmt2.close();
+        expect(rs2.next()).andReturn(true).andReturn(false);
+        expect(rs2.getInt(1)).andReturn(2);
+        expect(rs2.getString(2)).andReturn("b");
+        expect(rs2.wasNull()).andReturn(false).anyTimes();
+        rs2.close();
+        replay(connection, stmt1, stmt2, rs1, rs2);
+    }
+
+    @Test
+    public void fetchByKeys() throws Exception {
+        expectChunks();
+        List<String> names = new SQLQuery<Void>(connection, configuration)
+                .select(survey.name).from(survey)
+                .fetchByKeys(survey.id, Arrays.asList(3, 1, 2), 2, null);
+        assertEquals(Arrays.asList("c", "a", "b"), names);
+        verify(connection, stmt1, stmt2, rs1, rs2);
+    }
+
+    @Test
+    public void fetchByKeys_tuple() throws Exception {
+        expectChunks();
+        List<Tuple> rows = new SQLQuery<Void>(connection, configuration)
+                .select(survey.id, survey.name).from(survey)
+                .fetchByKeys(survey.id, Arrays.asList(3, 1, 2), 2, null);
+        assertEquals(3, rows.size());
+        assertEquals(Integer.valueOf(3), rows.get(0).get(survey.id));
+        assertEquals("c", rows.get(0).get(survey.name));
+        assertEquals("b", rows.get(2).get(survey.name));
+        verify(connection, stmt1, stmt2, rs1, rs2);
+    }
+
+    @Test
+    public void fetchByKeys_orderBy_not_applied() throws Exception {
+        expectChunks();
+        List<String> names = new SQLQuery<Void>(connection, configuration)
+                .select(survey.name).from(survey).orderBy(survey.name.asc())
+                .fetchByKeys(survey.id, Arrays.asList(3, 1, 2), 2, null);
+        assertEquals(Arrays.asList("c", "a", "b"), names);
+        verify(connection, stmt1, stmt2, rs1, rs2);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void fetchByKeys_limit() {
+        new SQLQuery<Void>(connection, configuration)
+                .select(survey.name).from(survey).limit(1)
+                .fetchByKeys(survey.id, Arrays.asList(3, 1, 2));
+    }
+
+    @Test
+    public void fetchByKeys_empty() {
+        replay(connection);
+        assertEquals(Collections.emptyList(), new SQLQuery<Void>(connection, configuration)
+                .select(survey.name).from(survey)
+                .fetchByKeys(survey.id, Collections.<Integer>emptyList()));
+        verify(connection);
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.mysema.commons.lang.CloseableIterator;
+import com.querydsl.core.QueryException;
+import com.querydsl.sql.domain.QSurvey;
+
+public class SQLQueryTempInListTest {
+
+    private static final QSurvey survey = QSurvey.survey;
+
+    private final Configuration configuration = new Configuration(H2Templates.builder()
+            .inListTempTableThreshold(2).build());
+
+    private Connection connection;
+
+    @Before
+    public void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:h2:mem:tempinlists", "sa", "");
+        execute("create table SURVEY (ID int, NAME varchar(30))");
+        execute("insert into SURVEY values (1, 'a'), (2, 'b'), (3, 'c')");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        execute("drop all objects");
+        connection.close();
+    }
+
+    private void execute(String sql) throws SQLException {
+        Statement stmt = connection.createStatement();
+        try {
+            stmt.execute(sql);
+        } finally {
+            stmt.close();
+        }
+    }
+
+    private boolean tempTableExists(String table) throws SQLException {
+        Statement stmt = connection.createStatement();
+        try {
+            stmt.executeQuery("select v from " + table).close();
+            return true;
+        } catch (SQLException e) {
+            return false;
+        } finally {
+            stmt.close();
+        }
+    }
+
+    private SQLQuery<String> query() {
+        return new SQLQuery<Void>(connection, configuration).select(survey.name).from(survey)
+                .where(survey.id.in(1, 2, 3)).orderBy(survey.id.asc());
+    }
+
+    @Test
+    public void fetch() throws SQLException {
+        assertEquals(Arrays.asList("a", "b", "c"), query().fetch());
+        assertFalse(tempTableExists("qdsl_in_0"));
+    }
+
+    @Test
+    public void iterate() throws SQLException {
+        CloseableIterator<String> it = query().iterate();
+        try {
+            assertEquals("a", it.next());
+            assertTrue(tempTableExists("qdsl_in_0"));
+        } finally {
+            it.close();
+        }
+        assertFalse(tempTableExists("qdsl_in_0"));
+    }
+
+    @Test
+    public void getResults() throws SQLException {
+        ResultSet rs = query().getResults();
+        try {
+            rs.next();
+            assertTrue(tempTableExists("qdsl_in_0"));
+        } finally {
+            rs.close();
+        }
+        assertFalse(tempTableExists("qdsl_in_0"));
+    }
+
+    @Test
+    public void failed_creation() throws SQLException {
+        // the values of the second in list can't be inserted
+        execute("create table QDSL_IN_1 (V varchar(30), W int not null)");
+        try {
+            new SQLQuery<Void>(connection, configuration).select(survey.name).from(survey)
+                    .where(survey.id.in(1, 2, 3), survey.name.in("a", "b", "c")).fetch();
+            fail("Expected QueryException");
+        } catch (QueryException e) {
+            assertFalse(tempTableExists("qdsl_in_0"));
+        }
+    }
+
+}
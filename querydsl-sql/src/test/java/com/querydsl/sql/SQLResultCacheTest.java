@@ -0,0 +1,184 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql;
+
+import static org.easymock.EasyMock.*;
+import static org.junit.Assert.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.Param;
+import com.querydsl.sql.domain.QEmployee;
+import com.querydsl.sql.domain.QSurvey;
+
+public class SQLResultCacheTest {
+
+    private static final QEmployee employee = QEmployee.employee;
+
+    private static final QSurvey survey = QSurvey.survey;
+
+    private final SQLResultCache cache = new SQLResultCache(100, 1, TimeUnit.MINUTES, employee);
+
+    private static QueryMetadata metadata(SQLQuery<?> query) {
+        return query.getMetadata();
+    }
+
+    private SQLResultCache.Key key(int id) {
+        return cache.createKey(metadata(SQLExpressions.select(employee.firstname)
+                .from(employee).where(employee.id.eq(id))), "select", Collections.<Object>singletonList(id));
+    }
+
+    @Test
+    public void createKey() {
+        assertNotNull(key(1));
+        assertEquals(key(1), key(1));
+        assertFalse(key(1).equals(key(2)));
+    }
+
+    @Test
+    public void createKey_other_table() {
+        assertNull(cache.createKey(metadata(SQLExpressions.select(employee.firstname)
+                .from(employee, survey)), "select", Collections.emptyList()));
+    }
+
+    @Test
+    public void createKey_subQuery() {
+        assertNull(cache.createKey(metadata(SQLExpressions.select(employee.firstname).from(employee)
+                .where(employee.firstname.in(SQLExpressions.select(survey.name).from(survey)))),
+                "select", Collections.emptyList()));
+        QEmployee employee2 = new QEmployee("employee2");
+        assertNotNull(cache.createKey(metadata(SQLExpressions.select(employee.firstname).from(employee)
+                .where(employee.id.in(SQLExpressions.select(employee2.id).from(employee2)))),
+                "select", Collections.emptyList()));
+    }
+
+    @Test
+    public void createKey_unknown_table() {
+        assertNull(cache.createKey(metadata(SQLExpressions.select(Expressions.ONE)
+                .from(Expressions.path(Object.class, "dual"))), "select", Collections.emptyList()));
+    }
+
+    @Test
+    public void get_and_put() {
+        assertNull(cache.get(key(1)));
+        cache.put(key(1), Arrays.asList("a", "b"));
+        List<String> results = cache.get(key(1));
+        assertEquals(Arrays.asList("a", "b"), results);
+        assertNull(cache.get(key(2)));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1, cache.getSize());
+    }
+
+    @Test
+    public void invalidate() {
+        cache.put(key(1), Arrays.asList("a"));
+        cache.notifyUpdate(new QEmployee("e"), metadata(SQLExpressions.selectOne()), null);
+        assertNull(cache.get(key(1)));
+        assertEquals(1, cache.getInvalidationCount());
+
+        cache.notifyDelete(survey, metadata(SQLExpressions.selectOne()));
+        assertEquals(1, cache.getInvalidationCount());
+    }
+
+    @Test
+    public void put_after_invalidation() {
+        SQLResultCache.Key key = key(1);
+        cache.invalidate(employee);
+        cache.put(key, Arrays.asList("a"));
+        assertNull(cache.get(key(1)));
+    }
+
+    @Test
+    public void fetch_with_params() throws Exception {
+        SQLResultCache cache = new SQLResultCache(100, 1, TimeUnit.MINUTES, survey);
+        Configuration configuration = new Configuration(new H2Templates());
+        configuration.setResultCache(cache);
+        Connection connection = createMock(Connection.class);
+        PreparedStatement stmt = createMock(PreparedStatement.class);
+        ResultSet rs = createMock(ResultSet.class);
+        expect(connection.getAutoCommit()).andReturn(true).anyTimes();
+        expect(connection.prepareStatement("select SURVEY.NAME\nfrom SURVEY SURVEY\nwhere SURVEY.ID = ?"))
+                .andReturn(stmt).times(2);
+        stmt.setInt(1, 1);
+        stmt.setInt(1, 2);
+        expect(stmt.executeQuery()).andReturn(rs).times(2);
+        stmt.close();
+        expectLastCall().times(2);
+        expect(rs.next()).andReturn(true).andReturn(false).andReturn(true).andReturn(false);
+        expect(rs.getString(1)).andReturn("a").andReturn("b");
+        rs.close();
+        expectLastCall().times(2);
+        replay(connection, stmt, rs);
+
+        Param<Integer> id = new Param<Integer>(Integer.class, "id");
+        SQLQuery<String> query = new SQLQuery<Void>(connection, configuration)
+                .select(survey.name).from(survey).where(survey.id.eq(id));
+        assertEquals(Arrays.asList("a"), query.clone().set(id, 1).fetch());
+        assertEquals(Arrays.asList("b"), query.clone().set(id, 2).fetch());
+        // served from the cache
+        assertEquals(Arrays.asList("a"), query.clone().set(id, 1).fetch());
+        assertEquals(1, cache.getHitCount());
+        verify(connection, stmt, rs);
+    }
+
+    @Test
+    public void setResultCache_replaces_listener() {
+        SQLResultCache other = new SQLResultCache(100, 1, TimeUnit.MINUTES, employee);
+        Configuration configuration = new Configuration(new H2Templates());
+        configuration.setResultCache(other);
+        configuration.setResultCache(cache);
+        configuration.setResultCache(cache);
+        configuration.getListeners().notifyDelete(employee, metadata(SQLExpressions.selectOne()));
+        assertEquals(0, other.getInvalidationCount());
+        assertEquals(1, cache.getInvalidationCount());
+
+        configuration.setResultCache(null);
+        configuration.getListeners().notifyDelete(employee, metadata(SQLExpressions.selectOne()));
+        assertEquals(1, cache.getInvalidationCount());
+    }
+
+    @Test
+    public void fetch_in_transaction() throws Exception {
+        Configuration configuration = new Configuration(new H2Templates());
+        configuration.setResultCache(cache);
+        Connection connection = createMock(Connection.class);
+        PreparedStatement stmt = createMock(PreparedStatement.class);
+        ResultSet rs = createMock(ResultSet.class);
+        expect(connection.getAutoCommit()).andReturn(false).anyTimes();
+        expect(connection.prepareStatement("select SURVEY.NAME\nfrom SURVEY SURVEY")).andReturn(stmt);
+        expect(stmt.executeQuery()).andReturn(rs);
+        stmt.close();
+        expect(rs.next()).andReturn(true).andReturn(false);
+        expect(rs.getString(1)).andReturn("a");
+        rs.close();
+        replay(connection, stmt, rs);
+
+        assertEquals(Arrays.asList("a"), new SQLQuery<Void>(connection, configuration)
+                .select(survey.name).from(survey).fetch());
+        assertEquals(0, cache.getSize());
+        verify(connection, stmt, rs);
+    }
+
+}
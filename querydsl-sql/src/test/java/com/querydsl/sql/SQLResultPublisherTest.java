@@ -0,0 +1,269 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql;
+
+import static org.junit.Assert.*;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.mysema.commons.lang.CloseableIterator;
+import com.querydsl.core.Fetchable;
+import com.querydsl.core.QueryResults;
+
+public class SQLResultPublisherTest {
+
+    private int tasks, closed;
+
+    private final Executor executor = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            tasks++;
+            command.run();
+        }
+    };
+
+    private class ListQuery implements Fetchable<Integer> {
+
+        private final List<Integer> list;
+
+        ListQuery(Integer... values) {
+            this.list = Arrays.asList(values);
+        }
+
+        @Override
+        public CloseableIterator<Integer> iterate() {
+            final Iterator<Integer> it = list.iterator();
+            return new CloseableIterator<Integer>() {
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public Integer next() {
+                    Integer next = it.next();
+                    if (next == null) {
+                        throw new IllegalStateException("null row");
+                    }
+                    return next;
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public void close() {
+                    closed++;
+                }
+            };
+        }
+
+        @Override
+        public List<Integer> fetch() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Integer fetchFirst() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Integer fetchOne() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public QueryResults<Integer> fetchResults() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long fetchCount() {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+    private final Set<Object> iterated = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+
+    private final CyclicBarrier barrier = new CyclicBarrier(2);
+
+    private class ConcurrentQuery extends SQLQuery<Integer> {
+
+        ConcurrentQuery() {
+            super(new Configuration(SQLTemplates.DEFAULT));
+        }
+
+        @Override
+        public CloseableIterator<Integer> iterate() {
+            synchronized (iterated) {
+                iterated.add(this);
+            }
+            try {
+                // both subscriptions execute at the same time
+                barrier.await(5, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return new ListQuery(1, 2, 3).iterate();
+        }
+
+        @Override
+        public SQLQuery<Integer> clone(Connection conn) {
+            return new ConcurrentQuery();
+        }
+
+    }
+
+    private static class RecordingSubscriber implements Subscriber<Integer> {
+
+        private final List<Integer> values = new ArrayList<Integer>();
+
+        private Subscription subscription;
+
+        private Throwable error;
+
+        private boolean completed;
+
+        private final CountDownLatch finished = new CountDownLatch(1);
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            subscription = s;
+        }
+
+        @Override
+        public void onNext(Integer value) {
+            values.add(value);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+            finished.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            finished.countDown();
+        }
+
+    }
+
+    @Test
+    public void backpressure() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        new SQLResultPublisher<Integer>(new ListQuery(1, 2, 3, 4, 5), executor, 10).subscribe(subscriber);
+        assertEquals(0, tasks);
+
+        subscriber.subscription.request(2);
+        assertEquals(Arrays.asList(1, 2), subscriber.values);
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(3);
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), subscriber.values);
+        assertTrue(subscriber.completed);
+        assertEquals(1, closed);
+    }
+
+    @Test
+    public void chunks() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        new SQLResultPublisher<Integer>(new ListQuery(1, 2, 3, 4, 5, 6, 7), executor, 3).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7), subscriber.values);
+        assertTrue(subscriber.completed);
+        assertEquals(3, tasks);
+    }
+
+    @Test
+    public void cancel() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        new SQLResultPublisher<Integer>(new ListQuery(1, 2, 3), executor, 10).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(1);
+        assertEquals(Arrays.asList(1), subscriber.values);
+        assertFalse(subscriber.completed);
+        assertEquals(1, closed);
+    }
+
+    @Test
+    public void error() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        new SQLResultPublisher<Integer>(new ListQuery(1, null, 3), executor, 10).subscribe(subscriber);
+        subscriber.subscription.request(3);
+        assertEquals(Arrays.asList(1), subscriber.values);
+        assertTrue(subscriber.error instanceof IllegalStateException);
+        assertEquals(1, closed);
+    }
+
+    @Test
+    public void invalid_request() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        new SQLResultPublisher<Integer>(new ListQuery(1, 2, 3), executor, 10).subscribe(subscriber);
+        subscriber.subscription.request(0);
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+        assertTrue(subscriber.values.isEmpty());
+    }
+
+    @Test
+    public void concurrent_subscribers() throws InterruptedException {
+        ExecutorService threads = Executors.newFixedThreadPool(2);
+        try {
+            ConcurrentQuery query = new ConcurrentQuery();
+            SQLResultPublisher<Integer> publisher = SQLResultPublisher.of(query, threads);
+            RecordingSubscriber subscriber1 = new RecordingSubscriber();
+            RecordingSubscriber subscriber2 = new RecordingSubscriber();
+            publisher.subscribe(subscriber1);
+            publisher.subscribe(subscriber2);
+            subscriber1.subscription.request(Long.MAX_VALUE);
+            subscriber2.subscription.request(Long.MAX_VALUE);
+            assertTrue(subscriber1.finished.await(10, TimeUnit.SECONDS));
+            assertTrue(subscriber2.finished.await(10, TimeUnit.SECONDS));
+
+            assertNull(subscriber1.error);
+            assertNull(subscriber2.error);
+            assertEquals(Arrays.asList(1, 2, 3), subscriber1.values);
+            assertEquals(Arrays.asList(1, 2, 3), subscriber2.values);
+            // each subscription executes its own copy of the query
+            assertEquals(2, iterated.size());
+            assertFalse(iterated.contains(query));
+        } finally {
+            threads.shutdown();
+        }
+    }
+
+}
@@ -14,8 +14,10 @@
 package com.querydsl.sql;
 
 import static com.querydsl.sql.SQLExpressions.*;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.sql.Connection;
 import java.util.ArrayList;
@@ -119,6 +121,91 @@ public class SQLSerializerTest {
         assertEquals(3, serializer.getConstants().size());
     }
 
+    @Test
+    public void in_padded() {
+        Configuration conf = new Configuration(H2Templates.builder()
+                .inListStrategy(InListStrategy.PADDED).build());
+        SQLSerializer serializer = new SQLSerializer(conf);
+        serializer.handle(employee.id.in(1, 2, 3, 4, 5));
+        assertEquals("EMPLOYEE.ID in (?, ?, ?, ?, ?, ?, ?, ?)", serializer.toString());
+        assertEquals(Arrays.<Object>asList(1, 2, 3, 4, 5, 5, 5, 5), serializer.getConstants());
+        assertEquals(8, serializer.getConstantPaths().size());
+
+        serializer = new SQLSerializer(conf);
+        serializer.handle(employee.id.notIn(1, 2, 3, 4));
+        assertEquals("EMPLOYEE.ID not in (?, ?, ?, ?)", serializer.toString());
+    }
+
+    @Test
+    public void in_array() {
+        Configuration conf = new Configuration(PostgreSQLTemplates.builder()
+                .inListStrategy(InListStrategy.ARRAY).build());
+        SQLSerializer serializer = new SQLSerializer(conf);
+        serializer.setUseBoundInLists(true);
+        serializer.handle(employee.id.in(1, 2, 3).and(employee.firstname.notIn("a", "b")));
+        assertEquals("EMPLOYEE.ID = any(?) and EMPLOYEE.FIRSTNAME <> all(?)", serializer.toString());
+        assertEquals(2, serializer.getConstants().size());
+        assertArrayEquals(new Integer[]{1, 2, 3}, (Object[]) serializer.getConstants().get(0));
+        assertEquals(Arrays.asList(null, null), serializer.getConstantPaths());
+    }
+
+    @Test
+    public void in_array_h2() {
+        Configuration conf = new Configuration(H2Templates.builder()
+                .inListStrategy(InListStrategy.ARRAY).build());
+        SQLSerializer serializer = new SQLSerializer(conf);
+        serializer.setUseBoundInLists(true);
+        serializer.handle(employee.id.in(1, 2, 3));
+        assertEquals("EMPLOYEE.ID in (select x from table(x integer = ?))", serializer.toString());
+    }
+
+    @Test
+    public void in_array_not_bound() {
+        Configuration conf = new Configuration(PostgreSQLTemplates.builder()
+                .inListStrategy(InListStrategy.ARRAY).build());
+        SQLSerializer serializer = new SQLSerializer(conf);
+        serializer.handle(employee.id.in(1, 2, 3));
+        assertEquals("EMPLOYEE.ID in (?, ?, ?)", serializer.toString());
+    }
+
+    @Test
+    public void in_temp_table() {
+        Configuration conf = new Configuration(H2Templates.builder()
+                .inListTempTableThreshold(2).build());
+        SQLSerializer serializer = new SQLSerializer(conf);
+        serializer.setUseBoundInLists(true);
+        serializer.handle(employee.id.in(1, 2, 3).and(employee.firstname.in("a", "b")));
+        assertEquals("EMPLOYEE.ID in (select v from qdsl_in_0) and EMPLOYEE.FIRSTNAME in (?, ?)",
+                serializer.toString());
+        assertEquals(Arrays.<Object>asList("a", "b"), serializer.getConstants());
+        assertEquals(Arrays.asList(employee.firstname, employee.firstname), serializer.getConstantPaths());
+        assertEquals(1, serializer.getTempInLists().size());
+        assertEquals(Arrays.asList(1, 2, 3), serializer.getTempInLists().get(0).values);
+    }
+
+    @Test
+    public void in_temp_table_offset() {
+        Configuration conf = new Configuration(H2Templates.builder()
+                .inListTempTableThreshold(2).build());
+        SQLSerializer serializer = new SQLSerializer(conf);
+        serializer.setUseBoundInLists(true);
+        serializer.setTempInListOffset(2);
+        serializer.handle(employee.id.in(1, 2, 3));
+        assertEquals("EMPLOYEE.ID in (select v from qdsl_in_2)", serializer.toString());
+    }
+
+    @Test
+    public void in_temp_table_disabled() {
+        Configuration conf = new Configuration(H2Templates.builder()
+                .inListTempTableThreshold(2).build());
+        SQLSerializer serializer = new SQLSerializer(conf);
+        serializer.setUseBoundInLists(true);
+        serializer.setUseTempInLists(false);
+        serializer.handle(employee.id.in(1, 2, 3));
+        assertEquals("EMPLOYEE.ID in (?, ?, ?)", serializer.toString());
+        assertTrue(serializer.getTempInLists().isEmpty());
+    }
+
     @Test
     public void fullJoinWithoutCodeGeneration() {
         SQLQuery<?> sqlQuery = queryForMYSQLTemplate();
@@ -25,6 +25,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 import org.joda.time.*;
 import org.junit.Assert;
@@ -44,6 +45,8 @@ import com.querydsl.core.testutil.IncludeIn;
 import com.querydsl.core.testutil.Serialization;
 import com.querydsl.core.types.*;
 import com.querydsl.core.types.dsl.*;
+import com.querydsl.core.util.StreamUtils;
+import com.querydsl.sql.columnar.*;
 import com.querydsl.sql.domain.*;
 
 public class SelectBase extends AbstractBaseTest {
@@ -299,6 +302,19 @@ public class SelectBase extends AbstractBaseTest {
 
     }
 
+    @Test
+    public void compactTuples() {
+        Configuration conf = new Configuration(configuration.getTemplates());
+        conf.setCompactTuples(true);
+        List<Tuple> expected = query().from(employee).orderBy(employee.id.asc())
+                .select(employee.id, employee.firstname).fetch();
+        List<Tuple> tuples = new SQLQuery<Void>(connection, conf).from(employee).orderBy(employee.id.asc())
+                .select(employee.id, employee.firstname).fetch();
+        assertTrue(tuples instanceof TupleList);
+        assertEquals(expected, tuples);
+        assertEquals(expected.get(0).get(employee.firstname), tuples.get(0).get(employee.firstname));
+    }
+
     @Test
     public void complex_boolean() {
         BooleanExpression first = employee.firstname.eq("Mike").and(employee.lastname.eq("Smith"));
@@ -747,6 +763,23 @@ public class SelectBase extends AbstractBaseTest {
         assertTrue(query().from(employee).groupBy(empBean).select(empBean).fetchFirst() != null);
     }
 
+    @Test
+    public void fetchColumns() {
+        List<Tuple> rows = query().from(employee).orderBy(employee.id.asc())
+                .select(employee.id, employee.firstname, employee.salary).fetch();
+        ColumnarResult result = query().from(employee).orderBy(employee.id.asc())
+                .select(employee.id, employee.firstname, employee.salary).fetchColumns();
+        assertEquals(rows.size(), result.size());
+        IntVector ids = result.getColumn(employee.id, IntVector.class);
+        StringVector firstnames = result.getColumn(employee.firstname, StringVector.class);
+        ColumnVector salaries = result.getColumn(employee.salary);
+        for (int i = 0; i < rows.size(); i++) {
+            assertEquals(rows.get(i).get(employee.id).intValue(), ids.get(i));
+            assertEquals(rows.get(i).get(employee.firstname), firstnames.getValue(i));
+            assertEquals(rows.get(i).get(employee.salary), salaries.getValue(i));
+        }
+    }
+
     @Test
     @ExcludeIn({H2, SQLITE, DERBY, CUBRID, MYSQL})
     public void full_join() throws SQLException {
@@ -895,6 +928,29 @@ public class SelectBase extends AbstractBaseTest {
         assertEquals(0, query().from(employee).where(employee.id.in(ImmutableList.<Integer>of())).fetchCount());
     }
 
+    @Test
+    @IncludeIn(H2)
+    public void in_long_list_temp_table() {
+        List<Integer> ids = Lists.newArrayList();
+        for (int i = 0; i < 20000; i++) {
+            ids.add(i);
+        }
+        Configuration conf = new Configuration(H2Templates.builder().inListTempTableThreshold(1000).build());
+        assertEquals(
+                query().from(employee).fetchCount(),
+                new SQLQuery<Void>(connection, conf).from(employee).where(employee.id.in(ids)).fetchCount());
+        assertEquals(0,
+                new SQLQuery<Void>(connection, conf).from(employee).where(employee.id.notIn(ids)).fetchCount());
+    }
+
+    @Test
+    @IncludeIn(H2)
+    public void in_padded() {
+        Configuration conf = new Configuration(H2Templates.builder().inListStrategy(InListStrategy.PADDED).build());
+        assertEquals(3, new SQLQuery<Void>(connection, conf).from(employee)
+                .where(employee.id.in(1, 2, 10)).fetchCount());
+    }
+
     @Test
     @ExcludeIn(DERBY)
     public void in_null() {
@@ -1435,6 +1491,28 @@ public class SelectBase extends AbstractBaseTest {
         names.close();
     }
 
+    @Test
+    public void stream() {
+        Stream<String> names = StreamUtils.stream(query().from(survey).select(survey.name));
+        try {
+            assertEquals(query().from(survey).fetchCount(), names.count());
+        } finally {
+            names.close();
+        }
+    }
+
+    @Test
+    public void queryBatch() {
+        List<List<?>> results = new SQLQueryBatch(connection, configuration)
+                .add(query().from(survey).select(survey.name))
+                .add(query().from(employee).where(employee.firstname.eq("Mike")).select(employee.id))
+                .fetch();
+        assertEquals(2, results.size());
+        assertEquals(query().from(survey).select(survey.name).fetch(), results.get(0));
+        assertEquals(query().from(employee).where(employee.firstname.eq("Mike")).select(employee.id).fetch(),
+                results.get(1));
+    }
+
     @Test
     public void qBeanUsage() {
         PathBuilder<Object[]> sq = new PathBuilder<Object[]>(Object[].class, "sq");
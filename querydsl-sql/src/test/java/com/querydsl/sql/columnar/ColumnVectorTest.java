@@ -0,0 +1,93 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.columnar;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class ColumnVectorTest {
+
+    @Test
+    public void longColumn() {
+        LongVector column = new LongVector(1);
+        for (long i = 0; i < 100; i++) {
+            column.add(i * 3);
+        }
+        column.addNull();
+        assertEquals(101, column.size());
+        assertEquals(1, column.getNullCount());
+        assertEquals(297L, column.get(99));
+        assertFalse(column.isNull(99));
+        assertTrue(column.isNull(100));
+        assertNull(column.getValue(100));
+        assertEquals(Long.valueOf(3L), column.getValue(1));
+        assertEquals(101, column.toArray().length);
+    }
+
+    @Test
+    public void intColumn_addValue() {
+        IntVector column = new IntVector();
+        column.addValue(1);
+        column.addValue(null);
+        column.addValue((short) 2);
+        assertEquals(3, column.size());
+        assertEquals(1, column.get(0));
+        assertTrue(column.isNull(1));
+        assertEquals(2, column.get(2));
+    }
+
+    @Test
+    public void doubleColumn() {
+        DoubleVector column = new DoubleVector();
+        column.add(1.5);
+        column.addNull();
+        assertEquals(1.5, column.get(0), 0.0);
+        assertNull(column.getValue(1));
+    }
+
+    @Test
+    public void stringColumn_dictionary() {
+        StringVector column = new StringVector();
+        for (String value : Arrays.asList("a", "b", null, "a", "b", "c")) {
+            column.add(value);
+        }
+        assertEquals(6, column.size());
+        assertEquals(Arrays.asList("a", "b", "c"), column.getDictionary());
+        assertEquals(0, column.getCode(3));
+        assertEquals(-1, column.getCode(2));
+        assertTrue(column.isNull(2));
+        assertEquals("c", column.getValue(5));
+    }
+
+    @Test
+    public void objectColumn() {
+        ObjectVector<String> column = new ObjectVector<String>(String.class);
+        column.add("x");
+        column.addNull();
+        assertEquals("x", column.getValue(0));
+        assertTrue(column.isNull(1));
+        assertFalse(column.isNull(0));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void out_of_bounds() {
+        LongVector column = new LongVector();
+        column.add(1);
+        column.get(1);
+    }
+
+}
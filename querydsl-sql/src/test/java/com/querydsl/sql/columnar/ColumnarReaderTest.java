@@ -0,0 +1,76 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.columnar;
+
+import static org.easymock.EasyMock.*;
+import static org.junit.Assert.assertEquals;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.sql.types.BatchType;
+import com.querydsl.sql.types.StringType;
+import com.querydsl.sql.types.Type;
+
+public class ColumnarReaderTest {
+
+    private static class UpperCaseType extends StringType implements BatchType<String> {
+
+        private int conversions;
+
+        @Override
+        public Object getRawValue(ResultSet rs, int startIndex) throws SQLException {
+            return rs.getString(startIndex);
+        }
+
+        @Override
+        public List<String> convert(List<?> values) {
+            conversions++;
+            List<String> rv = new ArrayList<String>(values.size());
+            for (Object value : values) {
+                rv.add(value != null ? value.toString().toUpperCase() : null);
+            }
+            return rv;
+        }
+
+    }
+
+    @Test
+    public void batchType() throws SQLException {
+        UpperCaseType type = new UpperCaseType();
+        Expression<String> name = Expressions.stringPath("name");
+        ResultSet rs = createMock(ResultSet.class);
+        expect(rs.next()).andReturn(true).times(3).andReturn(false);
+        expect(rs.getString(1)).andReturn("a").andReturn(null).andReturn("b");
+        replay(rs);
+
+        ColumnarReader reader = new ColumnarReader(Arrays.asList(name), Arrays.<Type<?>>asList(type));
+        ColumnarResult result = reader.read(rs);
+        ColumnVector column = result.getColumn(name);
+        assertEquals(3, result.size());
+        assertEquals(1, type.conversions);
+        assertEquals("A", column.getValue(0));
+        assertEquals(null, column.getValue(1));
+        assertEquals("B", column.getValue(2));
+        verify(rs);
+    }
+
+}
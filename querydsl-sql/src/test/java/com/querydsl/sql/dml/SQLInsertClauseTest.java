@@ -1,17 +1,56 @@
 package com.querydsl.sql.dml;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.easymock.EasyMock;
 import org.junit.Test;
 
 import com.google.common.collect.ImmutableList;
 import com.querydsl.core.QueryFlag;
+import com.querydsl.core.types.PathMetadataFactory;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.SimplePath;
+import com.querydsl.sql.ColumnMetadata;
 import com.querydsl.sql.KeyAccessorsTest.QEmployee;
+import com.querydsl.sql.MySQLLoadDataLoader;
+import com.querydsl.sql.PostgreSQLCopyLoader;
+import com.querydsl.sql.PostgreSQLTemplates;
+import com.querydsl.sql.RelationalPathBase;
 import com.querydsl.sql.SQLBindings;
 import com.querydsl.sql.SQLTemplates;
 
 public class SQLInsertClauseTest {
 
+    private static class QDocument extends RelationalPathBase<QDocument> {
+
+        public final NumberPath<Integer> id = createNumber("id", Integer.class);
+
+        public final SimplePath<byte[]> content = createSimple("content", byte[].class);
+
+        public final SimplePath<Object> checksum = createSimple("checksum", Object.class);
+
+        public QDocument(String path) {
+            super(QDocument.class, PathMetadataFactory.forVariable(path), "PUBLIC", "DOCUMENT");
+            addMetadata(id, ColumnMetadata.named("ID"));
+            addMetadata(content, ColumnMetadata.named("CONTENT"));
+            addMetadata(checksum, ColumnMetadata.named("CHECKSUM").ofType(Types.VARBINARY));
+        }
+
+    }
+
     @Test(expected = IllegalStateException.class)
     public void noConnection() {
         QEmployee emp1 = new QEmployee("emp1");
@@ -46,6 +85,91 @@ public class SQLInsertClauseTest {
 
     }
 
+    @Test
+    public void bulkLoad() {
+        final List<String> statements = new ArrayList<String>();
+        final List<List<String>> rows = new ArrayList<List<String>>();
+        final PostgreSQLCopyLoader loader = new PostgreSQLCopyLoader() {
+            @Override
+            public long load(Connection connection, String statement, InputStream data) throws SQLException {
+                statements.add(statement);
+                for (String line : read(data).split("\n")) {
+                    List<String> row = new ArrayList<String>();
+                    for (String field : line.split("\t", -1)) {
+                        row.add(field.equals("\\N") ? null : field.replace("\\t", "\t"));
+                    }
+                    rows.add(row);
+                }
+                return rows.size();
+            }
+        };
+        SQLTemplates templates = new PostgreSQLTemplates() { {
+            setBulkLoader(loader);
+        } };
+
+        com.querydsl.sql.domain.QEmployee emp = com.querydsl.sql.domain.QEmployee.employee;
+        SQLInsertClause insert = new SQLInsertClause(EasyMock.createNiceMock(Connection.class), templates, emp);
+        insert.set(emp.id, 1).set(emp.firstname, "John\tDoe").set(emp.salary, new BigDecimal("1.5")).addBatch();
+        insert.set(emp.id, 2).setNull(emp.firstname).setNull(emp.salary).addBatch();
+        insert.setBatchToBulkLoad(true);
+
+        assertEquals(2, insert.execute());
+        assertEquals(ImmutableList.of("copy EMPLOYEE (ID, FIRSTNAME, SALARY) from stdin"), statements);
+        assertEquals(Arrays.asList("1", "John\tDoe", "1.5"), rows.get(0));
+        assertEquals(Arrays.asList("2", null, null), rows.get(1));
+    }
+
+    @Test
+    public void bulkLoad_binary() {
+        MySQLLoadDataLoader loader = new MySQLLoadDataLoader();
+        QDocument document = new QDocument("document");
+        assertTrue(loader.isSupported(document.id));
+        assertFalse(loader.isSupported(document.content));
+        assertFalse(loader.isSupported(document.checksum));
+        assertTrue(new PostgreSQLCopyLoader().isSupported(document.content));
+    }
+
+    @Test
+    public void bulkLoad_getSQL() {
+        QEmployee emp1 = new QEmployee("emp1");
+        SQLInsertClause insert = new SQLInsertClause(null, new PostgreSQLTemplates(), emp1);
+        insert.set(emp1.id, 1);
+        insert.addBatch();
+        insert.set(emp1.id, 2);
+        insert.addBatch();
+        insert.setBatchToBulkLoad(true);
+        List<SQLBindings> sql = insert.getSQL();
+        assertEquals(1, sql.size());
+        assertEquals("copy EMPLOYEE (ID) from stdin", sql.get(0).getSQL());
+        assertTrue(sql.get(0).getBindings().isEmpty());
+    }
+
+    @Test
+    public void bulkLoad_notSupported() {
+        QEmployee emp1 = new QEmployee("emp1");
+        SQLInsertClause insert = new SQLInsertClause(null, SQLTemplates.DEFAULT, emp1);
+        insert.set(emp1.id, 1);
+        insert.addBatch();
+        insert.set(emp1.id, 2);
+        insert.addBatch();
+        insert.setBatchToBulkLoad(true);
+        assertEquals(2, insert.getSQL().size());
+    }
+
+    private static String read(InputStream in) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[7];
+            int count;
+            while ((count = in.read(buffer)) != -1) {
+                out.write(buffer, 0, count);
+            }
+            return new String(out.toByteArray(), "UTF-8");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     @Test
     public void getSQLWithPreservedColumnOrder() {
         com.querydsl.sql.domain.QEmployee emp1 = new com.querydsl.sql.domain.QEmployee("emp1");
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void index() {
+        long previous = -1;
+        for (int i = 0; i < LatencyHistogram.BUCKETS; i++) {
+            long highest = LatencyHistogram.highestValue(i);
+            assertTrue(highest > previous);
+            assertEquals(i, LatencyHistogram.index(highest));
+            assertEquals(i, LatencyHistogram.index(previous + 1));
+            previous = highest;
+        }
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.index(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void percentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(1000L, snapshot.getMin());
+        assertEquals(1000000L, snapshot.getMax());
+        assertEquals(500500.0, snapshot.getMean(), 0.1);
+        assertWithin(500000L, snapshot.getMedian());
+        assertWithin(990000L, snapshot.getP99());
+        assertEquals(1000000L, snapshot.getValueAtPercentile(100.0));
+    }
+
+    @Test
+    public void empty() {
+        HistogramSnapshot snapshot = new LatencyHistogram().snapshot();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getMin());
+        assertEquals(0, snapshot.getP99());
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(actual + " not within 6.25% of " + expected,
+                actual >= expected && actual <= expected * 1.0625);
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.metrics;
+
+import static org.junit.Assert.*;
+
+import java.lang.management.ManagementFactory;
+import java.sql.SQLException;
+import java.util.List;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import org.junit.Test;
+
+import com.querydsl.core.DefaultQueryMetadata;
+import com.querydsl.sql.SQLListenerContext;
+import com.querydsl.sql.SQLListenerContextImpl;
+
+public class SQLMetricsListenerTest {
+
+    private final SQLMetricsListener listener = new SQLMetricsListener(2);
+
+    private void execute(String sql, long rows) {
+        SQLListenerContextImpl context = new SQLListenerContextImpl(new DefaultQueryMetadata());
+        listener.start(context);
+        listener.preRender(context);
+        context.addSQL(sql);
+        listener.rendered(context);
+        listener.prePrepare(context);
+        listener.prepared(context);
+        listener.preExecute(context);
+        listener.executed(context);
+        context.setData(SQLListenerContext.ROW_COUNT, rows);
+        listener.end(context);
+    }
+
+    @Test
+    public void shapes() {
+        execute("select ID from EMPLOYEE where ID in (1, 2)", 2);
+        execute("select ID from EMPLOYEE where ID in (3)", 1);
+        QueryShapeSnapshot snapshot = listener.getSnapshot("select ID from EMPLOYEE where ID in (?)");
+        assertEquals(2, snapshot.getExecutions());
+        assertEquals(3, snapshot.getRows());
+        assertEquals(0, snapshot.getExceptions());
+        assertEquals(2, snapshot.getRender().getCount());
+        assertEquals(2, snapshot.getPrepare().getCount());
+        assertEquals(2, snapshot.getExecute().getCount());
+        assertEquals(2, snapshot.getFetch().getCount());
+        assertEquals(1, listener.getShapeCount());
+    }
+
+    @Test
+    public void exception() {
+        SQLListenerContextImpl context = new SQLListenerContextImpl(new DefaultQueryMetadata());
+        listener.start(context);
+        listener.preRender(context);
+        context.setException(new SQLException());
+        listener.exception(context);
+        listener.end(context);
+        QueryShapeSnapshot snapshot = listener.getSnapshot(SQLMetricsListener.UNKNOWN);
+        assertEquals(1, snapshot.getExecutions());
+        assertEquals(1, snapshot.getExceptions());
+        assertEquals(0, snapshot.getRender().getCount());
+    }
+
+    @Test
+    public void max_shapes() {
+        execute("select 1 from A", 1);
+        execute("select 1 from B", 1);
+        execute("select 1 from C", 1);
+        execute("select 1 from D", 1);
+        List<QueryShapeSnapshot> snapshots = listener.getSnapshot();
+        assertEquals(3, snapshots.size());
+        assertEquals(2, listener.getSnapshot(SQLMetricsListener.OTHER).getExecutions());
+    }
+
+    @Test
+    public void reset() {
+        execute("select 1 from A", 1);
+        listener.reset();
+        assertEquals(0, listener.getShapeCount());
+    }
+
+    @Test
+    public void jmx() throws Exception {
+        execute("select 1 from A", 1);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("com.querydsl:type=SQLMetrics,name=test");
+        server.registerMBean(listener, name);
+        try {
+            assertEquals(1, server.getAttribute(name, "ShapeCount"));
+            CompositeData[] snapshot = (CompositeData[]) server.getAttribute(name, "Snapshot");
+            assertEquals("select ? from A", snapshot[0].get("shape"));
+            assertEquals(1L, ((CompositeData) snapshot[0].get("total")).get("count"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+
+}
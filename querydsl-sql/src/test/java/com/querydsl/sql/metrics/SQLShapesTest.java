@@ -0,0 +1,47 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.metrics;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class SQLShapesTest {
+
+    @Test
+    public void literals() {
+        assertEquals("select e.ID from EMPLOYEE e where e.NAME = ? and e.SALARY > ?",
+                SQLShapes.normalize("select e.ID from EMPLOYEE e where e.NAME = 'O''Brien' and e.SALARY > 1000.5"));
+    }
+
+    @Test
+    public void whitespace_and_comments() {
+        assertEquals("select ID from EMPLOYEE where ID = ?",
+                SQLShapes.normalize("select ID\n  from EMPLOYEE -- all employees\n where ID = ?"));
+    }
+
+    @Test
+    public void in_lists() {
+        String expected = "select ID from EMPLOYEE where ID in (?) and NAME not in (?)";
+        assertEquals(expected, SQLShapes.normalize("select ID from EMPLOYEE where ID in (?, ?, ?) and NAME not in ('a')"));
+        assertEquals(expected, SQLShapes.normalize("select ID from EMPLOYEE where ID in (1,2) and NAME not in (?,?)"));
+    }
+
+    @Test
+    public void identifiers() {
+        assertEquals("select \"COL 1\", T2.ID from \"TABLE 1\" t, T2 limit ?",
+                SQLShapes.normalize("select \"COL 1\", T2.ID from \"TABLE 1\" t, T2 limit 10"));
+    }
+
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.routing;
+
+import static org.easymock.EasyMock.*;
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Provider;
+
+import org.junit.Test;
+
+public class RoutingConnectionProviderTest {
+
+    private static class FixedProvider implements Provider<Connection> {
+
+        private final Connection connection = createMock(Connection.class);
+
+        @Override
+        public Connection get() {
+            return connection;
+        }
+
+    }
+
+    private final FixedProvider primary = new FixedProvider();
+
+    private final FixedProvider replica1 = new FixedProvider();
+
+    private final FixedProvider replica2 = new FixedProvider();
+
+    private Connection read(RoutingConnectionProvider provider) {
+        return provider.read().getConnection();
+    }
+
+    private static Connection target(Connection connection) {
+        return ((RoutingConnectionProvider.PrimaryConnection) Proxy.getInvocationHandler(connection)).connection;
+    }
+
+    private void primaryState(boolean closed, boolean autoCommit) throws SQLException {
+        reset(primary.connection);
+        expect(primary.connection.isClosed()).andReturn(closed).anyTimes();
+        expect(primary.connection.getAutoCommit()).andReturn(autoCommit).anyTimes();
+        primary.connection.commit();
+        expectLastCall().anyTimes();
+        primary.connection.close();
+        expectLastCall().anyTimes();
+        replay(primary.connection);
+    }
+
+    @Test
+    public void roundRobin() throws SQLException {
+        primaryState(false, true);
+        RoutingConnectionProvider provider = new RoutingConnectionProvider(primary,
+                Arrays.asList(replica1, replica2));
+        assertSame(replica1.connection, read(provider));
+        assertSame(replica2.connection, read(provider));
+        assertSame(replica1.connection, read(provider));
+        assertSame(primary.connection, target(provider.get()));
+        // no read-your-writes window
+        assertSame(replica2.connection, read(provider));
+    }
+
+    @Test
+    public void leastOutstanding() {
+        RoutingConnectionProvider provider = new RoutingConnectionProvider(primary,
+                Arrays.asList(replica1, replica2), LoadBalancers.LEAST_OUTSTANDING, 0, TimeUnit.SECONDS);
+        RoutingConnectionProvider.Read read1 = provider.read();
+        RoutingConnectionProvider.Read read2 = provider.read();
+        RoutingConnectionProvider.Read read3 = provider.read();
+        assertSame(replica1.connection, read1.getConnection());
+        assertSame(replica2.connection, read2.getConnection());
+        assertSame(replica1.connection, read3.getConnection());
+        assertEquals(2, provider.getOutstanding(0));
+        assertEquals(1, provider.getOutstanding(1));
+
+        read1.release();
+        read3.release();
+        assertEquals(0, provider.getOutstanding(0));
+        // replica1 is idle
+        assertSame(replica1.connection, provider.read().getConnection());
+        assertSame(replica1.connection, provider.read().getConnection());
+    }
+
+    @Test
+    public void release_twice() {
+        RoutingConnectionProvider provider = new RoutingConnectionProvider(primary,
+                Arrays.asList(replica1, replica2), LoadBalancers.LEAST_OUTSTANDING, 0, TimeUnit.SECONDS);
+        RoutingConnectionProvider.Read read1 = provider.read();
+        provider.read();
+        read1.release();
+        read1.release();
+        assertEquals(0, provider.getOutstanding(0));
+        assertEquals(1, provider.getOutstanding(1));
+    }
+
+    @Test
+    public void abandoned_reads_are_released() throws InterruptedException {
+        RoutingConnectionProvider provider = new RoutingConnectionProvider(primary,
+                Arrays.asList(replica1), LoadBalancers.LEAST_OUTSTANDING, 0, TimeUnit.SECONDS);
+        provider.read();
+        for (int i = 0; i < 100 && provider.getOutstanding(0) > 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertEquals(0, provider.getOutstanding(0));
+    }
+
+    @Test
+    public void readYourWrites() throws SQLException {
+        RoutingConnectionProvider provider = new RoutingConnectionProvider(primary,
+                Arrays.asList(replica1), LoadBalancers.ROUND_ROBIN, 1, TimeUnit.HOURS);
+        assertSame(replica1.connection, read(provider));
+        primaryState(false, false);
+        Connection conn = provider.get();
+        assertSame(primary.connection, target(conn));
+        // transaction is still open
+        assertSame(primary.connection, read(provider));
+        conn.commit();
+        conn.close();
+        primaryState(true, false);
+        // committed and closed
+        assertSame(primary.connection, read(provider));
+        assertSame(primary.connection, read(provider));
+    }
+
+    @Test
+    public void readYourWrites_autoCommit() throws SQLException {
+        Statement stmt = createMock(Statement.class);
+        expect(stmt.executeUpdate("delete from SURVEY")).andReturn(1);
+        replay(stmt);
+        reset(primary.connection);
+        expect(primary.connection.getAutoCommit()).andReturn(true).anyTimes();
+        expect(primary.connection.isClosed()).andReturn(false).anyTimes();
+        expect(primary.connection.createStatement()).andReturn(stmt);
+        replay(primary.connection);
+
+        RoutingConnectionProvider provider = new RoutingConnectionProvider(primary,
+                Arrays.asList(replica1), LoadBalancers.ROUND_ROBIN, 1, TimeUnit.HOURS);
+        Connection conn = provider.get();
+        // no write yet
+        assertSame(replica1.connection, read(provider));
+        Statement proxy = conn.createStatement();
+        assertSame(conn, proxy.getConnection());
+        assertEquals(1, proxy.executeUpdate("delete from SURVEY"));
+        assertSame(primary.connection, read(provider));
+        verify(stmt);
+    }
+
+    @Test
+    public void no_window_without_commit() throws SQLException {
+        RoutingConnectionProvider provider = new RoutingConnectionProvider(primary,
+                Arrays.asList(replica1), LoadBalancers.ROUND_ROBIN, 1, TimeUnit.HOURS);
+        primaryState(false, false);
+        Connection conn = provider.get();
+        assertSame(primary.connection, read(provider));
+        // rolled back by closing
+        conn.close();
+        primaryState(true, false);
+        assertSame(replica1.connection, read(provider));
+    }
+
+    @Test
+    public void closed_connections_are_forgotten() throws SQLException {
+        RoutingConnectionProvider provider = new RoutingConnectionProvider(primary,
+                Arrays.asList(replica1));
+        primaryState(false, false);
+        provider.get().close();
+        // the pooled connection is still in a transaction, but no longer held by this thread
+        assertSame(replica1.connection, read(provider));
+    }
+
+    @Test
+    public void transaction_without_window() throws SQLException {
+        RoutingConnectionProvider provider = new RoutingConnectionProvider(primary,
+                Arrays.asList(replica1));
+        primaryState(false, false);
+        assertSame(primary.connection, target(provider.get()));
+        assertSame(primary.connection, read(provider));
+        primaryState(false, true);
+        assertSame(replica1.connection, read(provider));
+    }
+
+    @Test
+    public void transaction_is_per_thread() throws Exception {
+        final RoutingConnectionProvider provider = new RoutingConnectionProvider(primary,
+                Arrays.asList(replica1), LoadBalancers.ROUND_ROBIN, 1, TimeUnit.HOURS);
+        primaryState(false, false);
+        provider.get();
+        final Connection[] other = new Connection[1];
+        Thread thread = new Thread() {
+            @Override
+            public void run() {
+                other[0] = read(provider);
+            }
+        };
+        thread.start();
+        thread.join();
+        assertSame(replica1.connection, other[0]);
+    }
+
+    @Test
+    public void no_replicas() {
+        RoutingConnectionProvider provider = new RoutingConnectionProvider(primary,
+                Arrays.<Provider<Connection>>asList());
+        RoutingConnectionProvider.Read read = provider.read();
+        assertSame(primary.connection, read.getConnection());
+        read.release();
+    }
+
+}